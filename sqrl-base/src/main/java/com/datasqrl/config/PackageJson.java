@@ -53,6 +53,24 @@ public interface PackageJson {
     boolean isAddArguments();
 
     String getLogger();
+
+    /**
+     * The relative frequency of the API queries keyed by {@code Type.field}, e.g.
+     * {@code Query.orders}. Empty if no workload profile is configured.
+     */
+    Map<String, Double> getWorkload();
+
+    /**
+     * Whether compilation results are cached in the build directory and reused when the script
+     * and its dependencies are unchanged.
+     */
+    boolean isCache();
+
+    /**
+     * The number of threads the DAG planner uses to plan independent tables and queries
+     * concurrently, or 0 to use one thread per available processor.
+     */
+    int getPlanningThreads();
   }
 
   interface ExplainConfig {
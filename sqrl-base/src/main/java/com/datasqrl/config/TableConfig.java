@@ -73,6 +73,12 @@ public interface TableConfig {
     Optional<List<String>> getPartitionKey();
 
     Optional<List<String>> getPrimaryKey();
+
+    /** Estimated number of rows in the table, if known */
+    Optional<Long> getRowCount();
+
+    /** Minimum and maximum value of a single-column integer primary key, if known */
+    Optional<List<Long>> getPrimaryKeyRange();
   }
 
   interface TableConfigBuilder {
@@ -81,6 +87,7 @@ public interface TableConfig {
     TableConfigBuilder setWatermark(long milliseconds);
     TableConfigBuilder setMetadata(@NonNull String columnName, String type, String attribute) ;
     TableConfigBuilder setPrimaryKey(String[] pks);
+    TableConfigBuilder setRowCount(long rowCount);
     void setPartitionKey(List<String> partitionKeys);
 
     TableConfig build();
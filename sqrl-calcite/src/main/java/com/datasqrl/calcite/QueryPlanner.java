@@ -93,7 +93,14 @@ public class QueryPlanner {
     this.schema = framework.getSchema();
     this.metadataProvider = framework.getRelMetadataProvider();
     this.hintStrategyTable = framework.getHintStrategyTable();
-    this.planner = new VolcanoPlanner(null, Contexts.empty());
+    this.planner = createPlanner();
+    this.cluster = createCluster(planner);
+    this.convertletTable = new ConvertletTable();
+    this.defaultClassDir = new File("build/calcite/classes");
+  }
+
+  private static RelOptPlanner createPlanner() {
+    VolcanoPlanner planner = new VolcanoPlanner(null, Contexts.empty());
     planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
     planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
 
@@ -102,12 +109,27 @@ public class QueryPlanner {
 
     RelOptRules.MATERIALIZATION_RULES.forEach(planner::addRule);
     EnumerableRules.ENUMERABLE_RULES.forEach(planner::addRule);
+    return planner;
+  }
 
-    this.cluster = RelOptCluster.create(planner, new SqrlRexBuilder(framework.getTypeFactory()));
-    this.convertletTable = new ConvertletTable();
-    this.defaultClassDir = new File("build/calcite/classes");
+  /**
+   * Creates a cluster that is configured like the cluster of this planner but has its own planner
+   * and metadata cache. Clusters and planners are not thread-safe, so each thread that plans
+   * concurrently needs its own.
+   */
+  public RelOptCluster createCluster() {
+    return createCluster(createPlanner());
+  }
+
+  /**
+   * Creates a cluster that is configured like the cluster of this planner for the given planner.
+   * The cluster has its own trait set and metadata caches.
+   */
+  public RelOptCluster createCluster(RelOptPlanner planner) {
+    RelOptCluster cluster = RelOptCluster.create(planner, new SqrlRexBuilder(framework.getTypeFactory()));
     cluster.setMetadataProvider(this.metadataProvider);
     cluster.setHintStrategies(hintStrategyTable);
+    return cluster;
   }
 
   /* Parse */
@@ -387,7 +409,11 @@ public class QueryPlanner {
   }
 
   public RelBuilder getRelBuilder() {
-    return new RelBuilder(null, this.cluster, this.catalogReader){};
+    return getRelBuilder(this.cluster);
+  }
+
+  public RelBuilder getRelBuilder(RelOptCluster cluster) {
+    return new RelBuilder(null, cluster, this.catalogReader){};
   }
 
   public RexBuilder getRexBuilder() {
@@ -22,6 +22,14 @@ public enum IndexType {
     return this == PBTREE;
   }
 
+  /**
+   * A vector index supports approximate nearest neighbor search on a single vector column.
+   * @return
+   */
+  public boolean isVectorIndex() {
+    return this == VEC_COSINE || this == VEC_EUCLID;
+  }
+
   public static Optional<IndexType> fromName(String name) {
     for (IndexType indexType : IndexType.values()) {
       if (indexType.name().equalsIgnoreCase(name)) {
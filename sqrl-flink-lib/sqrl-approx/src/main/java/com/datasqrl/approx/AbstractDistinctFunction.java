@@ -0,0 +1,48 @@
+package com.datasqrl.approx;
+
+import org.apache.flink.table.functions.AggregateFunction;
+
+/**
+ * Base class of the aggregate functions that add values to a {@link HyperLogLog} sketch. Null
+ * values are ignored. The functions don't support retraction since values cannot be removed from
+ * a sketch.
+ */
+public abstract class AbstractDistinctFunction<T> extends AggregateFunction<T, DistinctAccumulator> {
+
+  @Override
+  public DistinctAccumulator createAccumulator() {
+    return new DistinctAccumulator();
+  }
+
+  public void accumulate(DistinctAccumulator acc, String value) {
+    if (value != null) {
+      acc.add(SketchHash.hash(value));
+    }
+  }
+
+  public void accumulate(DistinctAccumulator acc, Long value) {
+    if (value != null) {
+      acc.add(SketchHash.hash(value));
+    }
+  }
+
+  public void accumulate(DistinctAccumulator acc, Integer value) {
+    if (value != null) {
+      acc.add(SketchHash.hash(value.longValue()));
+    }
+  }
+
+  public void accumulate(DistinctAccumulator acc, Double value) {
+    if (value != null) {
+      acc.add(SketchHash.hash(value));
+    }
+  }
+
+  public void merge(DistinctAccumulator acc, Iterable<DistinctAccumulator> iter) {
+    acc.addAll(iter);
+  }
+
+  public void resetAccumulator(DistinctAccumulator acc) {
+    acc.reset();
+  }
+}
@@ -0,0 +1,12 @@
+package com.datasqrl.approx;
+
+/**
+ * Estimates the number of distinct values with a {@link HyperLogLog} sketch in constant space.
+ */
+public class ApproxCountDistinct extends AbstractDistinctFunction<Long> {
+
+  @Override
+  public Long getValue(DistinctAccumulator acc) {
+    return HyperLogLog.estimate(acc.registers);
+  }
+}
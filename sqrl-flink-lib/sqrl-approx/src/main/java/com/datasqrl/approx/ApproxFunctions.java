@@ -0,0 +1,29 @@
+package com.datasqrl.approx;
+
+import java.util.Set;
+import org.apache.flink.table.functions.FunctionDefinition;
+
+public class ApproxFunctions {
+
+  public static final ApproxCountDistinct APPROX_COUNT_DISTINCT = new ApproxCountDistinct();
+  public static final DistinctSketch DISTINCT_SKETCH = new DistinctSketch();
+  public static final MergeDistinctSketch MERGE_DISTINCT_SKETCH = new MergeDistinctSketch();
+  public static final DistinctSketchEstimate DISTINCT_SKETCH_ESTIMATE = new DistinctSketchEstimate();
+  public static final ApproxQuantile APPROX_QUANTILE = new ApproxQuantile();
+  public static final QuantileSketch QUANTILE_SKETCH = new QuantileSketch();
+  public static final MergeQuantileSketch MERGE_QUANTILE_SKETCH = new MergeQuantileSketch();
+  public static final QuantileSketchValue QUANTILE_SKETCH_VALUE = new QuantileSketchValue();
+  public static final ApproxTopK APPROX_TOP_K = new ApproxTopK();
+
+  public static final Set<FunctionDefinition> functions = Set.of(
+      APPROX_COUNT_DISTINCT,
+      DISTINCT_SKETCH,
+      MERGE_DISTINCT_SKETCH,
+      DISTINCT_SKETCH_ESTIMATE,
+      APPROX_QUANTILE,
+      QUANTILE_SKETCH,
+      MERGE_QUANTILE_SKETCH,
+      QUANTILE_SKETCH_VALUE,
+      APPROX_TOP_K
+  );
+}
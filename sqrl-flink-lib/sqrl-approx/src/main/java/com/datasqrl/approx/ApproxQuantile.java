@@ -0,0 +1,42 @@
+package com.datasqrl.approx;
+
+import org.apache.flink.table.functions.AggregateFunction;
+
+/**
+ * Estimates the value at the given quantile (between 0 and 1) with a t-digest in bounded space.
+ * The quantile is taken from the first row and should be a constant. Null values are ignored.
+ */
+public class ApproxQuantile extends AggregateFunction<Double, QuantileAccumulator> {
+
+  @Override
+  public QuantileAccumulator createAccumulator() {
+    return new QuantileAccumulator();
+  }
+
+  @Override
+  public Double getValue(QuantileAccumulator acc) {
+    if (acc.quantile == null) {
+      return null;
+    }
+    return acc.quantile(acc.quantile);
+  }
+
+  public void accumulate(QuantileAccumulator acc, Double value, Double quantile) {
+    if (acc.quantile == null) {
+      acc.quantile = quantile;
+    }
+    if (value != null) {
+      acc.add(value);
+    }
+  }
+
+  public void merge(QuantileAccumulator acc, Iterable<QuantileAccumulator> iter) {
+    for (QuantileAccumulator other : iter) {
+      acc.addAll(other);
+    }
+  }
+
+  public void resetAccumulator(QuantileAccumulator acc) {
+    acc.reset();
+  }
+}
@@ -0,0 +1,44 @@
+package com.datasqrl.approx;
+
+import org.apache.flink.table.functions.AggregateFunction;
+
+/**
+ * Returns the k most frequent items in descending order of their estimated frequency using a
+ * count-min sketch in bounded space. The number of items k is taken from the first row and should
+ * be a constant. Null items are ignored.
+ */
+public class ApproxTopK extends AggregateFunction<String[], TopKAccumulator> {
+
+  @Override
+  public TopKAccumulator createAccumulator() {
+    return new TopKAccumulator();
+  }
+
+  @Override
+  public String[] getValue(TopKAccumulator acc) {
+    return acc.topK();
+  }
+
+  public void accumulate(TopKAccumulator acc, String item, Integer k) {
+    if (acc.k == 0 && k != null) {
+      acc.k = Math.max(k, 0);
+    }
+    if (item != null) {
+      acc.add(item, 1);
+    }
+  }
+
+  public void accumulate(TopKAccumulator acc, Long item, Integer k) {
+    accumulate(acc, item == null ? null : item.toString(), k);
+  }
+
+  public void merge(TopKAccumulator acc, Iterable<TopKAccumulator> iter) {
+    for (TopKAccumulator other : iter) {
+      acc.addAll(other);
+    }
+  }
+
+  public void resetAccumulator(TopKAccumulator acc) {
+    acc.reset();
+  }
+}
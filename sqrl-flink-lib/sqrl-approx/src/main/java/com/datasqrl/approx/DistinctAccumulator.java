@@ -0,0 +1,24 @@
+package com.datasqrl.approx;
+
+/**
+ * Accumulator for the distinct count functions that holds the registers of a
+ * {@link HyperLogLog} sketch.
+ */
+public class DistinctAccumulator {
+
+  public byte[] registers = HyperLogLog.create();
+
+  public void add(long hash) {
+    HyperLogLog.add(registers, hash);
+  }
+
+  public void addAll(Iterable<DistinctAccumulator> others) {
+    for (DistinctAccumulator other : others) {
+      HyperLogLog.merge(registers, other.registers);
+    }
+  }
+
+  public void reset() {
+    registers = HyperLogLog.create();
+  }
+}
@@ -0,0 +1,14 @@
+package com.datasqrl.approx;
+
+/**
+ * Returns the {@link HyperLogLog} sketch of the distinct values as bytes. Sketches can be stored
+ * and merged with {@link MergeDistinctSketch} to compute distinct counts over multiple groups,
+ * and {@link DistinctSketchEstimate} returns the estimated count of a sketch.
+ */
+public class DistinctSketch extends AbstractDistinctFunction<byte[]> {
+
+  @Override
+  public byte[] getValue(DistinctAccumulator acc) {
+    return acc.registers.clone();
+  }
+}
@@ -0,0 +1,17 @@
+package com.datasqrl.approx;
+
+import org.apache.flink.table.functions.ScalarFunction;
+
+/**
+ * Returns the estimated number of distinct values of a {@link DistinctSketch} or null if the
+ * argument is not a valid sketch.
+ */
+public class DistinctSketchEstimate extends ScalarFunction {
+
+  public Long eval(byte[] sketch) {
+    if (!HyperLogLog.isValid(sketch)) {
+      return null;
+    }
+    return HyperLogLog.estimate(sketch);
+  }
+}
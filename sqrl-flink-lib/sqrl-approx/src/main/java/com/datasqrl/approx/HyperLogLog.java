@@ -0,0 +1,65 @@
+package com.datasqrl.approx;
+
+/**
+ * HyperLogLog sketch for estimating the number of distinct values. The sketch consists of
+ * 2^{@link #PRECISION} one-byte registers which makes it compact to store and cheap to merge:
+ * merging two sketches takes the maximum of each register. The standard error of the estimate is
+ * about 1.04/sqrt(2^PRECISION), i.e. 1.6%.
+ */
+public class HyperLogLog {
+
+  public static final int PRECISION = 12;
+  public static final int NUM_REGISTERS = 1 << PRECISION;
+
+  public static byte[] create() {
+    return new byte[NUM_REGISTERS];
+  }
+
+  public static void add(byte[] registers, long hash) {
+    int index = (int) (hash >>> (64 - PRECISION));
+    //Set a stop bit so the rank is bounded when all remaining bits are zero
+    long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+    byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+    if (rank > registers[index]) {
+      registers[index] = rank;
+    }
+  }
+
+  /**
+   * Merges the registers of the second sketch into the first one. Sketches that are null or
+   * don't have the expected size are ignored.
+   */
+  public static void merge(byte[] registers, byte[] other) {
+    if (!isValid(other)) {
+      return;
+    }
+    for (int i = 0; i < NUM_REGISTERS; i++) {
+      if (other[i] > registers[i]) {
+        registers[i] = other[i];
+      }
+    }
+  }
+
+  public static boolean isValid(byte[] registers) {
+    return registers != null && registers.length == NUM_REGISTERS;
+  }
+
+  public static long estimate(byte[] registers) {
+    double m = NUM_REGISTERS;
+    double sum = 0;
+    int zeros = 0;
+    for (byte register : registers) {
+      sum += Math.pow(2, -register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+    double alpha = 0.7213 / (1 + 1.079 / m);
+    double estimate = alpha * m * m / sum;
+    if (estimate <= 2.5 * m && zeros > 0) {
+      //Linear counting is more accurate for small cardinalities
+      estimate = m * Math.log(m / zeros);
+    }
+    return Math.round(estimate);
+  }
+}
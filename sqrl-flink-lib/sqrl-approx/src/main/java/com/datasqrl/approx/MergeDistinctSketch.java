@@ -0,0 +1,32 @@
+package com.datasqrl.approx;
+
+import org.apache.flink.table.functions.AggregateFunction;
+
+/**
+ * Merges {@link DistinctSketch}es into a single sketch which estimates the number of distinct
+ * values across all merged sketches.
+ */
+public class MergeDistinctSketch extends AggregateFunction<byte[], DistinctAccumulator> {
+
+  @Override
+  public DistinctAccumulator createAccumulator() {
+    return new DistinctAccumulator();
+  }
+
+  @Override
+  public byte[] getValue(DistinctAccumulator acc) {
+    return acc.registers.clone();
+  }
+
+  public void accumulate(DistinctAccumulator acc, byte[] sketch) {
+    HyperLogLog.merge(acc.registers, sketch);
+  }
+
+  public void merge(DistinctAccumulator acc, Iterable<DistinctAccumulator> iter) {
+    acc.addAll(iter);
+  }
+
+  public void resetAccumulator(DistinctAccumulator acc) {
+    acc.reset();
+  }
+}
@@ -0,0 +1,33 @@
+package com.datasqrl.approx;
+
+import org.apache.flink.table.functions.AggregateFunction;
+
+/**
+ * Merges {@link QuantileSketch}es into a single sketch of all values of the merged sketches.
+ */
+public class MergeQuantileSketch extends AggregateFunction<Double[], QuantileAccumulator> {
+
+  @Override
+  public QuantileAccumulator createAccumulator() {
+    return new QuantileAccumulator();
+  }
+
+  @Override
+  public Double[] getValue(QuantileAccumulator acc) {
+    return acc.size == 0 ? null : acc.toSketch();
+  }
+
+  public void accumulate(QuantileAccumulator acc, Double[] sketch) {
+    acc.addSketch(sketch);
+  }
+
+  public void merge(QuantileAccumulator acc, Iterable<QuantileAccumulator> iter) {
+    for (QuantileAccumulator other : iter) {
+      acc.addAll(other);
+    }
+  }
+
+  public void resetAccumulator(QuantileAccumulator acc) {
+    acc.reset();
+  }
+}
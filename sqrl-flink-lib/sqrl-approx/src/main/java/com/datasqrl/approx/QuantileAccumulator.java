@@ -0,0 +1,208 @@
+package com.datasqrl.approx;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Accumulator for the quantile functions that holds a merging t-digest: values are buffered as
+ * centroids of weight one and the buffer is compressed into a bounded number of centroids once it
+ * fills up. Centroids near the median absorb more weight than those at the tails, which keeps the
+ * error of extreme quantiles small.
+ * <p>
+ * The serialized sketch is an array of the form {@code [compression, min, max, mean1, weight1,
+ * mean2, weight2, ...]} with the centroids ordered by mean.
+ */
+public class QuantileAccumulator {
+
+  public static final double DEFAULT_COMPRESSION = 100;
+  private static final int HEADER_SIZE = 3;
+
+  public double compression = DEFAULT_COMPRESSION;
+  public double min = Double.POSITIVE_INFINITY;
+  public double max = Double.NEGATIVE_INFINITY;
+  public double[] means = new double[0];
+  public double[] weights = new double[0];
+  public int size = 0;
+  /**
+   * The quantile that is returned by {@link ApproxQuantile}, set by the first accumulated row
+   */
+  public Double quantile = null;
+
+  public void add(double mean, double weight) {
+    if (size == means.length) {
+      if (size >= bufferLimit()) {
+        compress();
+      }
+      if (size == means.length) {
+        int capacity = Math.max(16, means.length * 2);
+        means = Arrays.copyOf(means, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+      }
+    }
+    means[size] = mean;
+    weights[size] = weight;
+    size++;
+  }
+
+  public void add(double value) {
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    add(value, 1);
+  }
+
+  public void addAll(QuantileAccumulator other) {
+    compression = Math.max(compression, other.compression);
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    for (int i = 0; i < other.size; i++) {
+      add(other.means[i], other.weights[i]);
+    }
+    if (quantile == null) {
+      quantile = other.quantile;
+    }
+  }
+
+  /**
+   * Adds the centroids of a serialized sketch. Sketches that are null or malformed are ignored.
+   */
+  public void addSketch(Double[] sketch) {
+    if (!isValid(sketch)) {
+      return;
+    }
+    compression = Math.max(compression, sketch[0]);
+    min = Math.min(min, sketch[1]);
+    max = Math.max(max, sketch[2]);
+    for (int i = HEADER_SIZE; i < sketch.length; i += 2) {
+      add(sketch[i], sketch[i + 1]);
+    }
+  }
+
+  public static boolean isValid(Double[] sketch) {
+    if (sketch == null || sketch.length < HEADER_SIZE || (sketch.length - HEADER_SIZE) % 2 != 0) {
+      return false;
+    }
+    for (Double d : sketch) {
+      if (d == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static QuantileAccumulator of(Double[] sketch) {
+    QuantileAccumulator acc = new QuantileAccumulator();
+    acc.addSketch(sketch);
+    return acc;
+  }
+
+  public Double[] toSketch() {
+    compress();
+    Double[] sketch = new Double[HEADER_SIZE + 2 * size];
+    sketch[0] = compression;
+    sketch[1] = min;
+    sketch[2] = max;
+    for (int i = 0; i < size; i++) {
+      sketch[HEADER_SIZE + 2 * i] = means[i];
+      sketch[HEADER_SIZE + 2 * i + 1] = weights[i];
+    }
+    return sketch;
+  }
+
+  /**
+   * Merges neighboring centroids as long as the merged weight stays below
+   * 4 * total * q * (1 - q) / compression, where q is the quantile of the merged centroid.
+   */
+  public void compress() {
+    if (size <= 1) {
+      return;
+    }
+    Integer[] order = IntStream.range(0, size).boxed()
+        .sorted(Comparator.comparingDouble(i -> means[i])).toArray(Integer[]::new);
+    double total = totalWeight();
+    double[] newMeans = new double[means.length];
+    double[] newWeights = new double[weights.length];
+    int newSize = 0;
+    double soFar = 0;
+    double curMean = means[order[0]], curWeight = weights[order[0]];
+    for (int k = 1; k < order.length; k++) {
+      int i = order[k];
+      double proposed = curWeight + weights[i];
+      double q = (soFar + proposed / 2) / total;
+      if (proposed <= 4 * total * q * (1 - q) / compression) {
+        curMean += (means[i] - curMean) * weights[i] / proposed;
+        curWeight = proposed;
+      } else {
+        newMeans[newSize] = curMean;
+        newWeights[newSize] = curWeight;
+        newSize++;
+        soFar += curWeight;
+        curMean = means[i];
+        curWeight = weights[i];
+      }
+    }
+    newMeans[newSize] = curMean;
+    newWeights[newSize] = curWeight;
+    newSize++;
+    means = newMeans;
+    weights = newWeights;
+    size = newSize;
+  }
+
+  public double totalWeight() {
+    double total = 0;
+    for (int i = 0; i < size; i++) {
+      total += weights[i];
+    }
+    return total;
+  }
+
+  /**
+   * Estimates the value at the given quantile by interpolating between the centers of the
+   * centroids, and the minimum and maximum at the ends.
+   *
+   * @return the estimated value or null if the digest is empty
+   */
+  public Double quantile(double q) {
+    if (size == 0) {
+      return null;
+    }
+    compress();
+    q = Math.max(0, Math.min(1, q));
+    double total = totalWeight();
+    double index = q * total;
+    double prevPosition = 0, prevValue = min;
+    double position = 0;
+    for (int i = 0; i < size; i++) {
+      double center = position + weights[i] / 2;
+      if (index <= center) {
+        return interpolate(index, prevPosition, prevValue, center, means[i]);
+      }
+      position += weights[i];
+      prevPosition = center;
+      prevValue = means[i];
+    }
+    return interpolate(index, prevPosition, prevValue, total, max);
+  }
+
+  private static double interpolate(double x, double x0, double y0, double x1, double y1) {
+    if (x1 <= x0) {
+      return y1;
+    }
+    return y0 + (y1 - y0) * (x - x0) / (x1 - x0);
+  }
+
+  private int bufferLimit() {
+    return (int) Math.ceil(5 * compression);
+  }
+
+  public void reset() {
+    compression = DEFAULT_COMPRESSION;
+    min = Double.POSITIVE_INFINITY;
+    max = Double.NEGATIVE_INFINITY;
+    means = new double[0];
+    weights = new double[0];
+    size = 0;
+    quantile = null;
+  }
+}
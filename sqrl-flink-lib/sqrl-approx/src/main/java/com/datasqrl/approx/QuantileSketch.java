@@ -0,0 +1,37 @@
+package com.datasqrl.approx;
+
+import org.apache.flink.table.functions.AggregateFunction;
+
+/**
+ * Returns the t-digest of the values as an array (see {@link QuantileAccumulator} for the format).
+ * Sketches can be stored and merged with {@link MergeQuantileSketch} to compute quantiles over
+ * multiple groups, and {@link QuantileSketchValue} returns the value at a quantile of a sketch.
+ */
+public class QuantileSketch extends AggregateFunction<Double[], QuantileAccumulator> {
+
+  @Override
+  public QuantileAccumulator createAccumulator() {
+    return new QuantileAccumulator();
+  }
+
+  @Override
+  public Double[] getValue(QuantileAccumulator acc) {
+    return acc.size == 0 ? null : acc.toSketch();
+  }
+
+  public void accumulate(QuantileAccumulator acc, Double value) {
+    if (value != null) {
+      acc.add(value);
+    }
+  }
+
+  public void merge(QuantileAccumulator acc, Iterable<QuantileAccumulator> iter) {
+    for (QuantileAccumulator other : iter) {
+      acc.addAll(other);
+    }
+  }
+
+  public void resetAccumulator(QuantileAccumulator acc) {
+    acc.reset();
+  }
+}
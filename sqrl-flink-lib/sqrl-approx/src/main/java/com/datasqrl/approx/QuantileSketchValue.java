@@ -0,0 +1,17 @@
+package com.datasqrl.approx;
+
+import org.apache.flink.table.functions.ScalarFunction;
+
+/**
+ * Returns the estimated value at the given quantile (between 0 and 1) of a
+ * {@link QuantileSketch} or null if the sketch is empty or invalid.
+ */
+public class QuantileSketchValue extends ScalarFunction {
+
+  public Double eval(Double[] sketch, Double quantile) {
+    if (quantile == null || !QuantileAccumulator.isValid(sketch)) {
+      return null;
+    }
+    return QuantileAccumulator.of(sketch).quantile(quantile);
+  }
+}
@@ -0,0 +1,44 @@
+package com.datasqrl.approx;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64-bit hashing of the values that are added to sketches. The hash only depends on the value, so
+ * sketches that are computed independently (e.g. on different partitions or in different jobs)
+ * can be merged.
+ */
+public class SketchHash {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  public static long hash(String value) {
+    long hash = FNV_OFFSET;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= (b & 0xff);
+      hash *= FNV_PRIME;
+    }
+    return mix(hash);
+  }
+
+  public static long hash(long value) {
+    return mix(value);
+  }
+
+  public static long hash(double value) {
+    //Normalize -0.0 so that it hashes like 0.0
+    return mix(Double.doubleToLongBits(value == 0.0 ? 0.0 : value));
+  }
+
+  /**
+   * Finalizer of MurmurHash3 which spreads the bits of the input across the entire hash
+   */
+  static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
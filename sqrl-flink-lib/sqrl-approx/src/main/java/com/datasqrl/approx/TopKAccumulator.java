@@ -0,0 +1,101 @@
+package com.datasqrl.approx;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Accumulator for {@link ApproxTopK} which counts the frequency of items in a count-min sketch and
+ * keeps a bounded set of candidate items with the highest estimated frequencies. The count-min
+ * sketch overestimates frequencies by at most e/{@link #WIDTH} of the total count with high
+ * probability.
+ */
+public class TopKAccumulator {
+
+  public static final int DEPTH = 4;
+  public static final int WIDTH = 256;
+  private static final int MIN_CANDIDATES = 16;
+
+  public long[] counts = new long[DEPTH * WIDTH];
+  public String[] candidates = new String[0];
+  public int numCandidates = 0;
+  public int k = 0;
+
+  public void add(String item, long count) {
+    long hash = SketchHash.hash(item);
+    for (int d = 0; d < DEPTH; d++) {
+      counts[index(hash, d)] += count;
+    }
+    addCandidate(item);
+  }
+
+  public void addAll(TopKAccumulator other) {
+    k = Math.max(k, other.k);
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] += other.counts[i];
+    }
+    for (int i = 0; i < other.numCandidates; i++) {
+      addCandidate(other.candidates[i]);
+    }
+  }
+
+  public long estimate(String item) {
+    long hash = SketchHash.hash(item);
+    long estimate = Long.MAX_VALUE;
+    for (int d = 0; d < DEPTH; d++) {
+      estimate = Math.min(estimate, counts[index(hash, d)]);
+    }
+    return estimate;
+  }
+
+  /**
+   * @return the (up to) k candidates with the highest estimated frequency in descending order
+   */
+  public String[] topK() {
+    return IntStream.range(0, numCandidates).mapToObj(i -> candidates[i])
+        .sorted(Comparator.comparingLong(this::estimate).reversed()
+            .thenComparing(Comparator.naturalOrder()))
+        .limit(k).toArray(String[]::new);
+  }
+
+  private void addCandidate(String item) {
+    for (int i = 0; i < numCandidates; i++) {
+      if (candidates[i].equals(item)) {
+        return;
+      }
+    }
+    int capacity = Math.max(4 * k, MIN_CANDIDATES);
+    if (numCandidates < capacity) {
+      if (numCandidates == candidates.length) {
+        candidates = Arrays.copyOf(candidates, capacity);
+      }
+      candidates[numCandidates++] = item;
+      return;
+    }
+    //Replace the candidate with the lowest estimate if the new item is more frequent
+    int minIndex = 0;
+    long minEstimate = Long.MAX_VALUE;
+    for (int i = 0; i < numCandidates; i++) {
+      long estimate = estimate(candidates[i]);
+      if (estimate < minEstimate) {
+        minEstimate = estimate;
+        minIndex = i;
+      }
+    }
+    if (estimate(item) > minEstimate) {
+      candidates[minIndex] = item;
+    }
+  }
+
+  private static int index(long hash, int row) {
+    int h1 = (int) hash, h2 = (int) (hash >>> 32);
+    return row * WIDTH + Math.floorMod(h1 + row * h2, WIDTH);
+  }
+
+  public void reset() {
+    counts = new long[DEPTH * WIDTH];
+    candidates = new String[0];
+    numCandidates = 0;
+    k = 0;
+  }
+}
@@ -0,0 +1,126 @@
+package com.datasqrl.approx;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class ApproxFunctionsTest {
+
+  @Test
+  public void testCountDistinct() {
+    ApproxCountDistinct fct = new ApproxCountDistinct();
+    for (int n : new int[]{10, 1000, 100_000}) {
+      DistinctAccumulator acc = fct.createAccumulator();
+      for (int i = 0; i < n; i++) {
+        fct.accumulate(acc, "item" + i);
+        //Duplicates don't change the estimate
+        fct.accumulate(acc, "item" + i);
+      }
+      long estimate = fct.getValue(acc);
+      assertTrue(Math.abs(estimate - n) <= Math.max(1, 0.05 * n),
+          "Estimate " + estimate + " for " + n);
+    }
+  }
+
+  @Test
+  public void testMergeDistinctSketches() {
+    DistinctSketch sketchFct = new DistinctSketch();
+    DistinctAccumulator all = sketchFct.createAccumulator();
+    MergeDistinctSketch mergeFct = new MergeDistinctSketch();
+    DistinctAccumulator merged = mergeFct.createAccumulator();
+    for (int partition = 0; partition < 4; partition++) {
+      DistinctAccumulator acc = sketchFct.createAccumulator();
+      //Partitions overlap by half
+      for (long i = partition * 5000L; i < partition * 5000L + 10000; i++) {
+        sketchFct.accumulate(acc, i);
+        sketchFct.accumulate(all, i);
+      }
+      mergeFct.accumulate(merged, sketchFct.getValue(acc));
+    }
+    byte[] sketch = mergeFct.getValue(merged);
+    assertArrayEquals(sketchFct.getValue(all), sketch);
+    long estimate = new DistinctSketchEstimate().eval(sketch);
+    assertTrue(Math.abs(estimate - 25000) <= 0.05 * 25000, "Estimate " + estimate);
+    assertNull(new DistinctSketchEstimate().eval(new byte[]{1, 2}));
+  }
+
+  @Test
+  public void testQuantile() {
+    ApproxQuantile fct = new ApproxQuantile();
+    QuantileAccumulator acc = fct.createAccumulator();
+    assertNull(fct.getValue(acc));
+    Random random = new Random(7);
+    int n = 100_000;
+    for (int i = 0; i < n; i++) {
+      fct.accumulate(acc, random.nextDouble() * 1000, 0.99);
+    }
+    assertTrue(acc.size < 1000, "Digest is not compressed: " + acc.size);
+    assertEquals(990, fct.getValue(acc), 5);
+    assertEquals(500, acc.quantile(0.5), 10);
+    assertEquals(acc.min, acc.quantile(0), 0.0);
+    assertEquals(acc.max, acc.quantile(1), 0.0);
+  }
+
+  @Test
+  public void testSmallQuantileIsExact() {
+    ApproxQuantile fct = new ApproxQuantile();
+    QuantileAccumulator acc = fct.createAccumulator();
+    for (double value : new double[]{5, 1, 3}) {
+      fct.accumulate(acc, value, 0.5);
+    }
+    fct.accumulate(acc, null, 0.5);
+    assertEquals(3, fct.getValue(acc), 0.0);
+  }
+
+  @Test
+  public void testMergeQuantileSketches() {
+    QuantileSketch sketchFct = new QuantileSketch();
+    MergeQuantileSketch mergeFct = new MergeQuantileSketch();
+    QuantileAccumulator merged = mergeFct.createAccumulator();
+    assertNull(mergeFct.getValue(merged));
+    for (int partition = 0; partition < 10; partition++) {
+      QuantileAccumulator acc = sketchFct.createAccumulator();
+      for (int i = 0; i < 10_000; i++) {
+        sketchFct.accumulate(acc, (double) (partition * 10_000 + i));
+      }
+      mergeFct.accumulate(merged, sketchFct.getValue(acc));
+    }
+    Double[] sketch = mergeFct.getValue(merged);
+    QuantileSketchValue valueFct = new QuantileSketchValue();
+    assertEquals(50_000, valueFct.eval(sketch, 0.5), 500);
+    assertEquals(99_000, valueFct.eval(sketch, 0.99), 200);
+    assertEquals(0, valueFct.eval(sketch, 0.0), 0.0);
+    assertNull(valueFct.eval(new Double[]{100.0, 1.0}, 0.5));
+  }
+
+  @Test
+  public void testTopK() {
+    ApproxTopK fct = new ApproxTopK();
+    List<TopKAccumulator> partitions = Arrays.asList(fct.createAccumulator(),
+        fct.createAccumulator());
+    Random random = new Random(3);
+    for (int i = 0; i < 50_000; i++) {
+      TopKAccumulator acc = partitions.get(i < 25_000 ? 0 : 1);
+      //Items a, b, c are heavy hitters among a long tail of rare items
+      if (i % 10 < 4) {
+        fct.accumulate(acc, "a", 3);
+      } else if (i % 10 < 6) {
+        fct.accumulate(acc, "b", 3);
+      } else if (i % 10 < 7) {
+        fct.accumulate(acc, "c", 3);
+      } else {
+        fct.accumulate(acc, "rare" + random.nextInt(10_000), 3);
+      }
+    }
+    TopKAccumulator merged = fct.createAccumulator();
+    fct.merge(merged, partitions);
+    assertArrayEquals(new String[]{"a", "b", "c"}, fct.getValue(merged));
+    assertArrayEquals(new String[]{"a", "b", "c"}, fct.getValue(partitions.get(0)));
+  }
+}
@@ -0,0 +1,71 @@
+package com.datasqrl.benchmark;
+
+import com.datasqrl.type.FlinkArrayTypeUtil;
+import java.util.concurrent.TimeUnit;
+import org.apache.flink.table.data.binary.BinaryArrayData;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.DoubleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the elements handed to the driver for scalar array parameters: boxed elements as
+ * passed to {@link java.sql.Connection#createArrayOf} against the primitive arrays of
+ * {@link FlinkArrayTypeUtil#toPrimitiveArray} that {@code SqrlPostgresRowConverter} passes to
+ * PGJDBC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayParameterBenchmark {
+
+  @Param({"16", "1024"})
+  public int size;
+
+  private BinaryArrayData longs;
+  private BinaryArrayData doubles;
+
+  @Setup
+  public void setup() {
+    long[] longValues = new long[size];
+    double[] doubleValues = new double[size];
+    for (int i = 0; i < size; i++) {
+      longValues[i] = i * 31L;
+      doubleValues[i] = i / 7.0;
+    }
+    longs = BinaryArrayData.fromPrimitiveArray(longValues);
+    doubles = BinaryArrayData.fromPrimitiveArray(doubleValues);
+  }
+
+  @Benchmark
+  public Object boxedLongs() {
+    return longs.toObjectArray(new BigIntType());
+  }
+
+  @Benchmark
+  public Object primitiveLongs() {
+    return FlinkArrayTypeUtil.toPrimitiveArray(longs, new BigIntType());
+  }
+
+  @Benchmark
+  public Object boxedDoubles() {
+    return doubles.toObjectArray(new DoubleType());
+  }
+
+  @Benchmark
+  public Object primitiveDoubles() {
+    return FlinkArrayTypeUtil.toPrimitiveArray(doubles, new DoubleType());
+  }
+}
@@ -0,0 +1,86 @@
+package com.datasqrl.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.flink.util.jackson.JacksonMapperFactory;
+
+/**
+ * Compares two JMH JSON result files, e.g. of the base and head commit of a change, and prints the
+ * relative change of each benchmark. Exits with status 1 if any benchmark regressed by more than
+ * the threshold percentage (default 10) beyond the error margins of both runs.
+ *
+ * <pre>java -cp benchmarks.jar com.datasqrl.benchmark.CompareResults base.json head.json [threshold]</pre>
+ */
+public class CompareResults {
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: CompareResults <base.json> <head.json> [threshold-percent]");
+      System.exit(2);
+    }
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.1;
+    Map<String, JsonNode> base = read(new File(args[0]));
+    Map<String, JsonNode> head = read(new File(args[1]));
+
+    int regressions = 0;
+    for (Entry<String, JsonNode> entry : head.entrySet()) {
+      JsonNode baseMetric = base.get(entry.getKey());
+      JsonNode headMetric = entry.getValue();
+      if (baseMetric == null) {
+        System.out.printf("%-80s %14s  new%n", entry.getKey(), score(headMetric));
+        continue;
+      }
+      double baseScore = baseMetric.get("score").asDouble();
+      double headScore = headMetric.get("score").asDouble();
+      //Throughput improves with higher scores, all other modes measure time
+      boolean higherIsBetter = headMetric.get("scoreUnit").asText().startsWith("ops/");
+      double change = (headScore - baseScore) / baseScore;
+      double worse = higherIsBetter ? -change : change;
+      double margin = (errorOf(baseMetric) + errorOf(headMetric)) / baseScore;
+      boolean regressed = worse > threshold && worse > margin;
+      if (regressed) {
+        regressions++;
+      }
+      System.out.printf("%-80s %14s -> %14s  %+7.1f%%%s%n", entry.getKey(), score(baseMetric),
+          score(headMetric), change * 100, regressed ? "  REGRESSION" : "");
+    }
+    if (regressions > 0) {
+      System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions,
+          threshold * 100);
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, JsonNode> read(File file) throws IOException {
+    ObjectMapper mapper = JacksonMapperFactory.createObjectMapper();
+    Map<String, JsonNode> metrics = new LinkedHashMap<>();
+    for (JsonNode result : mapper.readTree(file)) {
+      StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+      JsonNode params = result.get("params");
+      if (params != null) {
+        for (Iterator<Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+          Entry<String, JsonNode> param = it.next();
+          key.append(':').append(param.getKey()).append('=').append(param.getValue().asText());
+        }
+      }
+      metrics.put(key.toString(), result.get("primaryMetric"));
+    }
+    return metrics;
+  }
+
+  private static double errorOf(JsonNode metric) {
+    double error = metric.path("scoreError").asDouble(0);
+    return Double.isNaN(error) ? 0 : error;
+  }
+
+  private static String score(JsonNode metric) {
+    return String.format("%.3f %s", metric.get("score").asDouble(),
+        metric.get("scoreUnit").asText());
+  }
+}
@@ -0,0 +1,120 @@
+package com.datasqrl.benchmark;
+
+import com.datasqrl.format.FlexibleJsonFormat;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.flink.api.common.serialization.DeserializationSchema;
+import org.apache.flink.api.common.serialization.DeserializationSchema.InitializationContext;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.connector.format.DecodingFormat;
+import org.apache.flink.table.connector.source.DynamicTableSource;
+import org.apache.flink.table.connector.source.DynamicTableSource.DataStructureConverter;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.DataType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.util.SimpleUserCodeClassLoader;
+import org.apache.flink.util.UserCodeClassLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the decoder of the {@code flexible-json} format, i.e. parsing, schema validation and
+ * conversion to {@link RowData}, on order messages with nested rows and arrays. The decoder is
+ * created through {@link FlexibleJsonFormat} the same way a Kafka source creates it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlexibleJsonBenchmark {
+
+  private static final int SIZE = 256;
+
+  private static final DataType ORDER_TYPE = DataTypes.ROW(
+      DataTypes.FIELD("id", DataTypes.BIGINT().notNull()),
+      DataTypes.FIELD("customerid", DataTypes.BIGINT().notNull()),
+      DataTypes.FIELD("time", DataTypes.TIMESTAMP_LTZ(3).notNull()),
+      DataTypes.FIELD("status", DataTypes.STRING()),
+      DataTypes.FIELD("address", DataTypes.ROW(
+          DataTypes.FIELD("street", DataTypes.STRING()),
+          DataTypes.FIELD("city", DataTypes.STRING()),
+          DataTypes.FIELD("zip", DataTypes.STRING()))),
+      DataTypes.FIELD("tags", DataTypes.ARRAY(DataTypes.STRING())),
+      DataTypes.FIELD("items", DataTypes.ARRAY(DataTypes.ROW(
+          DataTypes.FIELD("productid", DataTypes.BIGINT().notNull()),
+          DataTypes.FIELD("quantity", DataTypes.BIGINT().notNull()),
+          DataTypes.FIELD("unit_price", DataTypes.DOUBLE().notNull()),
+          DataTypes.FIELD("discount", DataTypes.DOUBLE())))));
+
+  private DeserializationSchema<RowData> decoder;
+  private byte[][] messages;
+  private int index;
+
+  @Setup
+  public void setup() throws Exception {
+    DecodingFormat<DeserializationSchema<RowData>> format = new FlexibleJsonFormat()
+        .createDecodingFormat(null, new Configuration());
+    decoder = format.createRuntimeDecoder(new SourceContext(), ORDER_TYPE);
+    decoder.open(new BenchmarkInitializationContext());
+
+    messages = new byte[SIZE][];
+    for (int i = 0; i < SIZE; i++) {
+      messages[i] = Payloads.ORDER_JSON
+          .replace("10007543", String.valueOf(10007543 + i))
+          .getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  @Benchmark
+  public RowData deserialize() throws Exception {
+    index = (index + 1) & (SIZE - 1);
+    return decoder.deserialize(messages[index]);
+  }
+
+  private static class SourceContext implements DynamicTableSource.Context {
+
+    @Override
+    public <T> TypeInformation<T> createTypeInformation(DataType producedDataType) {
+      return createTypeInformation(producedDataType.getLogicalType());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeInformation<T> createTypeInformation(LogicalType producedLogicalType) {
+      return (TypeInformation<T>) InternalTypeInfo.of(producedLogicalType);
+    }
+
+    @Override
+    public DataStructureConverter createDataStructureConverter(DataType producedDataType) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static class BenchmarkInitializationContext implements InitializationContext {
+
+    @Override
+    public MetricGroup getMetricGroup() {
+      return new UnregisteredMetricsGroup();
+    }
+
+    @Override
+    public UserCodeClassLoader getUserCodeClassLoader() {
+      return SimpleUserCodeClassLoader.create(getClass().getClassLoader());
+    }
+  }
+}
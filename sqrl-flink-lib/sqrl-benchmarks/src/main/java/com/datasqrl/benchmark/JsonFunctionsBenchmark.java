@@ -0,0 +1,120 @@
+package com.datasqrl.benchmark;
+
+import com.datasqrl.json.ArrayAgg;
+import com.datasqrl.json.FlinkJsonType;
+import com.datasqrl.json.JsonArray;
+import com.datasqrl.json.JsonArrayAgg;
+import com.datasqrl.json.JsonConcat;
+import com.datasqrl.json.JsonExists;
+import com.datasqrl.json.JsonExtract;
+import com.datasqrl.json.JsonExtractField;
+import com.datasqrl.json.JsonObject;
+import com.datasqrl.json.JsonQuery;
+import com.datasqrl.json.JsonToString;
+import com.datasqrl.json.ToJson;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the eval paths of the json functions on an order document with nested objects and
+ * arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonFunctionsBenchmark {
+
+  private static final int AGG_SIZE = 100;
+
+  private final ToJson toJson = new ToJson();
+  private final JsonToString jsonToString = new JsonToString();
+  private final JsonObject jsonObject = new JsonObject();
+  private final JsonArray jsonArray = new JsonArray();
+  private final JsonExtract jsonExtract = new JsonExtract();
+  private final JsonQuery jsonQuery = new JsonQuery();
+  private final JsonExists jsonExists = new JsonExists();
+  private final JsonConcat jsonConcat = new JsonConcat();
+  private final JsonExtractField jsonExtractField = new JsonExtractField();
+  private final JsonArrayAgg jsonArrayAgg = new JsonArrayAgg();
+
+  private FlinkJsonType order;
+  private FlinkJsonType address;
+
+  @Setup
+  public void setup() {
+    order = toJson.eval(Payloads.ORDER_JSON);
+    address = new FlinkJsonType(order.getJson().get("address"));
+  }
+
+  @Benchmark
+  public FlinkJsonType toJson() {
+    return toJson.eval(Payloads.ORDER_JSON);
+  }
+
+  @Benchmark
+  public String jsonToString() {
+    return jsonToString.eval(order);
+  }
+
+  @Benchmark
+  public FlinkJsonType jsonObject() {
+    return jsonObject.eval("id", 10007543L, "status", "shipped", "address", address);
+  }
+
+  @Benchmark
+  public FlinkJsonType jsonArray() {
+    return jsonArray.eval(1332L, 3571L, 7552L, "gift", address);
+  }
+
+  @Benchmark
+  public String jsonExtract() {
+    return jsonExtract.eval(order, "$.address.city");
+  }
+
+  @Benchmark
+  public Double jsonExtractArrayElement() {
+    return jsonExtract.eval(order, "$.items[2].unit_price", 0.0);
+  }
+
+  @Benchmark
+  public String jsonQuery() {
+    return jsonQuery.eval(order, "$.items[*].productid");
+  }
+
+  @Benchmark
+  public Boolean jsonExists() {
+    return jsonExists.eval(order, "$.address.zip");
+  }
+
+  @Benchmark
+  public FlinkJsonType jsonConcat() {
+    return jsonConcat.eval(order, address);
+  }
+
+  @Benchmark
+  public String jsonExtractField() {
+    return jsonExtractField.eval(order, "address", "city");
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public FlinkJsonType jsonArrayAgg() {
+    ArrayAgg accumulator = jsonArrayAgg.createAccumulator();
+    for (long i = 0; i < AGG_SIZE; i++) {
+      jsonArrayAgg.accumulate(accumulator, i);
+    }
+    return jsonArrayAgg.getValue(accumulator);
+  }
+}
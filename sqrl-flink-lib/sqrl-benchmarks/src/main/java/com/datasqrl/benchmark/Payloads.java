@@ -0,0 +1,62 @@
+package com.datasqrl.benchmark;
+
+import java.util.Random;
+
+/**
+ * Realistic inputs shared by the benchmarks. All of them are generated from fixed seeds so that
+ * runs of different commits measure the same data.
+ */
+class Payloads {
+
+  static final String ORDER_JSON = "{\"id\":10007543,\"customerid\":1000107,"
+      + "\"time\":\"2023-05-19T01:29:39.553244Z\",\"status\":\"shipped\","
+      + "\"address\":{\"street\":\"1200 Main St\",\"city\":\"Portland\",\"zip\":\"97205\"},"
+      + "\"tags\":[\"priority\",\"gift\"],"
+      + "\"items\":[{\"productid\":1332,\"quantity\":8,\"unit_price\":8.49,\"discount\":null},"
+      + "{\"productid\":3571,\"quantity\":1,\"unit_price\":41.95,\"discount\":0.0},"
+      + "{\"productid\":7552,\"quantity\":3,\"unit_price\":25.5,\"discount\":15.0}]}";
+
+  static final String TEXT = "The quick brown fox jumps over the lazy dog while the farmer "
+      + "watches from the porch and drinks his morning coffee before heading out to the fields "
+      + "to check on the wheat and the corn that he planted in early spring";
+
+  private static final String[] WORDS = TEXT.split(" ");
+
+  private Payloads() {
+  }
+
+  static double[] vector(int dimensions, long seed) {
+    Random random = new Random(seed);
+    double[] vector = new double[dimensions];
+    for (int i = 0; i < dimensions; i++) {
+      vector[i] = random.nextGaussian();
+    }
+    return vector;
+  }
+
+  static float[] floatVector(int dimensions, long seed) {
+    double[] vector = vector(dimensions, seed);
+    float[] result = new float[dimensions];
+    for (int i = 0; i < dimensions; i++) {
+      result[i] = (float) vector[i];
+    }
+    return result;
+  }
+
+  /** Sentences of random words from {@link #TEXT} */
+  static String[] sentences(int count, int words, long seed) {
+    Random random = new Random(seed);
+    String[] sentences = new String[count];
+    for (int i = 0; i < count; i++) {
+      StringBuilder sentence = new StringBuilder();
+      for (int j = 0; j < words; j++) {
+        if (j > 0) {
+          sentence.append(' ');
+        }
+        sentence.append(WORDS[random.nextInt(WORDS.length)]);
+      }
+      sentences[i] = sentence.toString();
+    }
+    return sentences;
+  }
+}
@@ -0,0 +1,56 @@
+package com.datasqrl.benchmark;
+
+import com.datasqrl.secure.RandomID;
+import com.datasqrl.secure.Ulid;
+import com.datasqrl.secure.Uuid;
+import com.datasqrl.secure.UuidV7;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the id generating functions with several threads, as the subtasks of a job call them
+ * concurrently, to compare the secure random variants with the time-ordered ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class SecureFunctionsBenchmark {
+
+  private final RandomID randomId = new RandomID();
+  private final Uuid uuid = new Uuid();
+  private final UuidV7 uuidV7 = new UuidV7();
+  private final Ulid ulid = new Ulid();
+
+  @Benchmark
+  public String randomId() {
+    return randomId.eval(16L);
+  }
+
+  @Benchmark
+  public String uuid() {
+    return uuid.eval();
+  }
+
+  @Benchmark
+  public String uuidV7() {
+    return uuidV7.eval();
+  }
+
+  @Benchmark
+  public String ulid() {
+    return ulid.eval();
+  }
+}
@@ -0,0 +1,84 @@
+package com.datasqrl.benchmark;
+
+import com.datasqrl.text.BannedWordsFilter;
+import com.datasqrl.text.Format;
+import com.datasqrl.text.Split;
+import com.datasqrl.text.TextSearch;
+import com.datasqrl.text.TextSearchBm25;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the eval paths of the text functions over a fixed set of sentences, with the query of a
+ * search being constant as it is in a generated search query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextFunctionsBenchmark {
+
+  private static final int SIZE = 1024;
+  private static final String QUERY = "brown fox farmer coffee";
+
+  private final TextSearch textSearch = new TextSearch();
+  private final TextSearchBm25 textSearchBm25 = new TextSearchBm25();
+  private final BannedWordsFilter bannedWordsFilter = new BannedWordsFilter();
+  private final Split split = new Split();
+  private final Format format = new Format();
+
+  private String[] sentences;
+  private int index;
+
+  @Setup
+  public void setup() throws Exception {
+    sentences = Payloads.sentences(SIZE, 40, 7);
+    bannedWordsFilter.open(null);
+  }
+
+  private String next() {
+    index = (index + 1) & (SIZE - 1);
+    return sentences[index];
+  }
+
+  @Benchmark
+  public Double textSearch() {
+    return textSearch.eval(QUERY, next());
+  }
+
+  @Benchmark
+  public Double textSearchMultipleTexts() {
+    return textSearch.eval(QUERY, next(), Payloads.TEXT);
+  }
+
+  @Benchmark
+  public Double textSearchBm25() {
+    return textSearchBm25.eval(QUERY, next());
+  }
+
+  @Benchmark
+  public Boolean bannedWordsFilter() {
+    return bannedWordsFilter.eval(next());
+  }
+
+  @Benchmark
+  public String[] split() {
+    return split.eval(next(), " ");
+  }
+
+  @Benchmark
+  public String format() {
+    return format.eval("Order %s shipped to %s", "10007543", "Portland");
+  }
+}
@@ -0,0 +1,138 @@
+package com.datasqrl.benchmark;
+
+import com.datasqrl.time.AtZone;
+import com.datasqrl.time.EndOfDay;
+import com.datasqrl.time.EndOfHour;
+import com.datasqrl.time.EndOfMinute;
+import com.datasqrl.time.EndOfMonth;
+import com.datasqrl.time.EndOfSecond;
+import com.datasqrl.time.EndOfWeek;
+import com.datasqrl.time.EndOfYear;
+import com.datasqrl.time.ParseTimestamp;
+import com.datasqrl.time.TimestampToEpochMilli;
+import com.datasqrl.time.TimestampToString;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time window functions that the planner generates for windowed aggregations as well
+ * as the timestamp conversion functions, over a fixed set of instants spread across several years.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeFunctionsBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private final EndOfSecond endOfSecond = new EndOfSecond();
+  private final EndOfMinute endOfMinute = new EndOfMinute();
+  private final EndOfHour endOfHour = new EndOfHour();
+  private final EndOfDay endOfDay = new EndOfDay();
+  private final EndOfWeek endOfWeek = new EndOfWeek();
+  private final EndOfMonth endOfMonth = new EndOfMonth();
+  private final EndOfYear endOfYear = new EndOfYear();
+  private final AtZone atZone = new AtZone();
+  private final TimestampToEpochMilli timestampToEpochMilli = new TimestampToEpochMilli();
+  private final ParseTimestamp parseTimestamp = new ParseTimestamp();
+  private final TimestampToString timestampToString = new TimestampToString();
+
+  private Instant[] instants;
+  private String[] strings;
+  private int index;
+
+  @Setup
+  public void setup() {
+    instants = new Instant[SIZE];
+    strings = new String[SIZE];
+    long start = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+    for (int i = 0; i < SIZE; i++) {
+      instants[i] = Instant.ofEpochMilli(start + i * 97_654_321L);
+      strings[i] = instants[i].toString();
+    }
+  }
+
+  private Instant next() {
+    index = (index + 1) & (SIZE - 1);
+    return instants[index];
+  }
+
+  @Benchmark
+  public Instant endOfSecond() {
+    return endOfSecond.eval(next(), 10L, 200L);
+  }
+
+  @Benchmark
+  public Instant endOfMinute() {
+    return endOfMinute.eval(next());
+  }
+
+  @Benchmark
+  public Instant endOfHourMultiple() {
+    return endOfHour.eval(next(), 4L, 30L);
+  }
+
+  @Benchmark
+  public Instant endOfDay() {
+    return endOfDay.eval(next());
+  }
+
+  @Benchmark
+  public Instant endOfDayMultiple() {
+    return endOfDay.eval(next(), 10L, 2L);
+  }
+
+  @Benchmark
+  public Instant endOfWeek() {
+    return endOfWeek.eval(next());
+  }
+
+  @Benchmark
+  public Instant endOfMonth() {
+    return endOfMonth.eval(next());
+  }
+
+  @Benchmark
+  public Instant endOfYear() {
+    return endOfYear.eval(next());
+  }
+
+  @Benchmark
+  public Object atZone() {
+    return atZone.eval(next(), "America/Los_Angeles");
+  }
+
+  @Benchmark
+  public Long timestampToEpochMilli() {
+    return timestampToEpochMilli.eval(next());
+  }
+
+  @Benchmark
+  public Instant parseTimestamp() {
+    index = (index + 1) & (SIZE - 1);
+    return parseTimestamp.eval(strings[index]);
+  }
+
+  @Benchmark
+  public Instant parseTimestampPattern() {
+    return parseTimestamp.eval("2023-09-26 11:45:12", "yyyy-MM-dd HH:mm:ss");
+  }
+
+  @Benchmark
+  public String timestampToString() {
+    return timestampToString.eval(next());
+  }
+}
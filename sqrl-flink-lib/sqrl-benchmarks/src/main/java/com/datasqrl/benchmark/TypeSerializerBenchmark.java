@@ -0,0 +1,95 @@
+package com.datasqrl.benchmark;
+
+import com.datasqrl.json.FlinkJsonType;
+import com.datasqrl.json.FlinkJsonTypeSerializer;
+import com.datasqrl.json.ToJson;
+import com.datasqrl.vector.FlinkFloatVectorType;
+import com.datasqrl.vector.FlinkFloatVectorTypeSerializer;
+import com.datasqrl.vector.FlinkQuantizedVectorType;
+import com.datasqrl.vector.FlinkQuantizedVectorTypeSerializer;
+import com.datasqrl.vector.FlinkVectorType;
+import com.datasqrl.vector.FlinkVectorTypeSerializer;
+import com.datasqrl.vector.QuantizeVector;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a serialize and deserialize round trip of the raw types through their
+ * {@link TypeSerializer}, which is what Flink does whenever a value is written to state or sent
+ * over the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeSerializerBenchmark {
+
+  @Param({"384", "1536"})
+  public int dimensions;
+
+  private final FlinkJsonTypeSerializer jsonSerializer = new FlinkJsonTypeSerializer();
+  private final FlinkVectorTypeSerializer vectorSerializer = new FlinkVectorTypeSerializer();
+  private final FlinkFloatVectorTypeSerializer floatVectorSerializer =
+      new FlinkFloatVectorTypeSerializer();
+  private final FlinkQuantizedVectorTypeSerializer quantizedVectorSerializer =
+      new FlinkQuantizedVectorTypeSerializer();
+
+  private final DataOutputSerializer output = new DataOutputSerializer(4096);
+  private final DataInputDeserializer input = new DataInputDeserializer();
+
+  private FlinkJsonType json;
+  private FlinkVectorType vector;
+  private FlinkFloatVectorType floatVector;
+  private FlinkQuantizedVectorType quantizedVector;
+
+  @Setup
+  public void setup() {
+    json = new ToJson().eval(Payloads.ORDER_JSON);
+    vector = new FlinkVectorType(Payloads.vector(dimensions, 1));
+    floatVector = new FlinkFloatVectorType(Payloads.floatVector(dimensions, 1));
+    quantizedVector = new QuantizeVector().eval(vector);
+  }
+
+  private <T> T roundTrip(TypeSerializer<T> serializer, T value) throws IOException {
+    output.clear();
+    serializer.serialize(value, output);
+    input.setBuffer(output.getSharedBuffer(), 0, output.length());
+    return serializer.deserialize(input);
+  }
+
+  @Benchmark
+  public FlinkJsonType json() throws IOException {
+    return roundTrip(jsonSerializer, json);
+  }
+
+  @Benchmark
+  public FlinkVectorType vector() throws IOException {
+    return roundTrip(vectorSerializer, vector);
+  }
+
+  @Benchmark
+  public FlinkFloatVectorType floatVector() throws IOException {
+    return roundTrip(floatVectorSerializer, floatVector);
+  }
+
+  @Benchmark
+  public FlinkQuantizedVectorType quantizedVector() throws IOException {
+    return roundTrip(quantizedVectorSerializer, quantizedVector);
+  }
+}
@@ -0,0 +1,141 @@
+package com.datasqrl.benchmark;
+
+import com.datasqrl.vector.Center;
+import com.datasqrl.vector.CenterAccumulator;
+import com.datasqrl.vector.CosineDistance;
+import com.datasqrl.vector.CosineSimilarity;
+import com.datasqrl.vector.DoubleToVector;
+import com.datasqrl.vector.EuclideanDistance;
+import com.datasqrl.vector.FlinkFloatVectorType;
+import com.datasqrl.vector.FlinkQuantizedVectorType;
+import com.datasqrl.vector.FlinkVectorType;
+import com.datasqrl.vector.FloatToVector;
+import com.datasqrl.vector.QuantizeVector;
+import com.datasqrl.vector.VectorToDouble;
+import com.datasqrl.vector.VectorToFloat;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the eval paths of the vector functions for the dimensions of common embedding models.
+ * The onnx embedding functions are not covered since they depend on a model file and their cost
+ * is dominated by the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorFunctionsBenchmark {
+
+  @Param({"384", "1536"})
+  public int dimensions;
+
+  private final CosineSimilarity cosineSimilarity = new CosineSimilarity();
+  private final CosineDistance cosineDistance = new CosineDistance();
+  private final EuclideanDistance euclideanDistance = new EuclideanDistance();
+  private final VectorToDouble vectorToDouble = new VectorToDouble();
+  private final DoubleToVector doubleToVector = new DoubleToVector();
+  private final VectorToFloat vectorToFloat = new VectorToFloat();
+  private final FloatToVector floatToVector = new FloatToVector();
+  private final QuantizeVector quantizeVector = new QuantizeVector();
+  private final Center center = new Center();
+
+  private double[] array;
+  private FlinkVectorType vectorA;
+  private FlinkVectorType vectorB;
+  private FlinkFloatVectorType floatVectorA;
+  private FlinkFloatVectorType floatVectorB;
+  private FlinkQuantizedVectorType quantizedVectorA;
+  private FlinkQuantizedVectorType quantizedVectorB;
+
+  @Setup
+  public void setup() {
+    array = Payloads.vector(dimensions, 1);
+    vectorA = new FlinkVectorType(array);
+    vectorB = new FlinkVectorType(Payloads.vector(dimensions, 2));
+    floatVectorA = new FlinkFloatVectorType(Payloads.floatVector(dimensions, 1));
+    floatVectorB = new FlinkFloatVectorType(Payloads.floatVector(dimensions, 2));
+    quantizedVectorA = quantizeVector.eval(vectorA);
+    quantizedVectorB = quantizeVector.eval(vectorB);
+  }
+
+  @Benchmark
+  public double cosineSimilarity() {
+    return cosineSimilarity.eval(vectorA, vectorB);
+  }
+
+  @Benchmark
+  public double cosineSimilarityFloat() {
+    return cosineSimilarity.eval(floatVectorA, floatVectorB);
+  }
+
+  @Benchmark
+  public double cosineSimilarityQuantized() {
+    return cosineSimilarity.eval(quantizedVectorA, quantizedVectorB);
+  }
+
+  @Benchmark
+  public double cosineDistance() {
+    return cosineDistance.eval(vectorA, vectorB);
+  }
+
+  @Benchmark
+  public double euclideanDistance() {
+    return euclideanDistance.eval(vectorA, vectorB);
+  }
+
+  @Benchmark
+  public double euclideanDistanceFloat() {
+    return euclideanDistance.eval(floatVectorA, floatVectorB);
+  }
+
+  @Benchmark
+  public double euclideanDistanceQuantized() {
+    return euclideanDistance.eval(quantizedVectorA, quantizedVectorB);
+  }
+
+  @Benchmark
+  public double[] vectorToDouble() {
+    return vectorToDouble.eval(vectorA);
+  }
+
+  @Benchmark
+  public FlinkVectorType doubleToVector() {
+    return doubleToVector.eval(array);
+  }
+
+  @Benchmark
+  public FlinkFloatVectorType vectorToFloat() {
+    return vectorToFloat.eval(vectorA);
+  }
+
+  @Benchmark
+  public FlinkVectorType floatToVector() {
+    return floatToVector.eval(floatVectorA);
+  }
+
+  @Benchmark
+  public FlinkQuantizedVectorType quantizeVector() {
+    return quantizeVector.eval(vectorA);
+  }
+
+  @Benchmark
+  public FlinkVectorType center() {
+    CenterAccumulator accumulator = center.createAccumulator();
+    center.accumulate(accumulator, vectorA);
+    center.accumulate(accumulator, vectorB);
+    return center.getValue(accumulator);
+  }
+}
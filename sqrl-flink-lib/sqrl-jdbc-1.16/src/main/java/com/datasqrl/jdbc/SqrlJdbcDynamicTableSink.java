@@ -0,0 +1,47 @@
+package com.datasqrl.jdbc;
+
+import com.datasqrl.jdbc.SqrlJdbcConnectorOptions.WriteMode;
+import org.apache.flink.connector.jdbc.JdbcExecutionOptions;
+import org.apache.flink.connector.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.flink.connector.jdbc.internal.connection.SimpleJdbcConnectionProvider;
+import org.apache.flink.connector.jdbc.internal.GenericJdbcSinkFunction;
+import org.apache.flink.connector.jdbc.internal.options.JdbcConnectorOptions;
+import org.apache.flink.connector.jdbc.internal.options.JdbcDmlOptions;
+import org.apache.flink.connector.jdbc.table.JdbcDynamicTableSink;
+import org.apache.flink.table.connector.sink.DynamicTableSink;
+import org.apache.flink.table.connector.sink.SinkFunctionProvider;
+import org.apache.flink.table.types.DataType;
+
+/**
+ * The {@link AbstractSqrlJdbcDynamicTableSink} for the JDBC connector of Flink 1.16.
+ */
+public class SqrlJdbcDynamicTableSink
+    extends AbstractSqrlJdbcDynamicTableSink<JdbcConnectorOptions> {
+
+  public SqrlJdbcDynamicTableSink(JdbcConnectorOptions jdbcOptions,
+      JdbcExecutionOptions executionOptions, JdbcDmlOptions dmlOptions,
+      DataType physicalRowDataType, WriteMode writeMode, boolean binaryTransfer) {
+    super(jdbcOptions, executionOptions, dmlOptions, physicalRowDataType, writeMode,
+        binaryTransfer,
+        new JdbcDynamicTableSink(jdbcOptions, executionOptions, dmlOptions, physicalRowDataType));
+  }
+
+  @Override
+  public SinkRuntimeProvider getSinkRuntimeProvider(Context context) {
+    JdbcConnectionProvider connectionProvider = binaryTransfer
+        ? new SqrlPostgresConnectionProvider(jdbcOptions)
+        : new SimpleJdbcConnectionProvider(jdbcOptions);
+    BufferedStatementExecutorFactory executors = getExecutorFactory();
+    SqrlJdbcOutputFormat outputFormat = new SqrlJdbcOutputFormat(connectionProvider,
+        executionOptions,
+        ctx -> executors.create(ctx.getExecutionConfig().isObjectReuseEnabled()));
+    return SinkFunctionProvider.of(new GenericJdbcSinkFunction<>(outputFormat),
+        jdbcOptions.getParallelism());
+  }
+
+  @Override
+  public DynamicTableSink copy() {
+    return new SqrlJdbcDynamicTableSink(jdbcOptions, executionOptions, dmlOptions,
+        physicalRowDataType, writeMode, binaryTransfer);
+  }
+}
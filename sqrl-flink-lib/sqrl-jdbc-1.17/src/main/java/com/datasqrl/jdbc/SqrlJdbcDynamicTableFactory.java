@@ -18,106 +18,49 @@
 
 package com.datasqrl.jdbc;
 
+import com.datasqrl.jdbc.SqrlJdbcConnectorOptions.WriteMode;
 import org.apache.flink.annotation.Internal;
-import org.apache.flink.configuration.ConfigOption;
-import org.apache.flink.configuration.ConfigOptions;
 import org.apache.flink.configuration.ReadableConfig;
 import org.apache.flink.connector.jdbc.JdbcExecutionOptions;
 import org.apache.flink.connector.jdbc.dialect.JdbcDialect;
-import org.apache.flink.connector.jdbc.dialect.JdbcDialectLoader;
 import org.apache.flink.connector.jdbc.internal.options.InternalJdbcConnectionOptions;
 import org.apache.flink.connector.jdbc.internal.options.JdbcDmlOptions;
+import org.apache.flink.connector.jdbc.internal.options.JdbcReadOptions;
 import org.apache.flink.connector.jdbc.table.JdbcDynamicTableSink;
 import org.apache.flink.connector.jdbc.table.JdbcDynamicTableSource;
 import org.apache.flink.table.connector.sink.DynamicTableSink;
-import org.apache.flink.table.connector.source.lookup.LookupOptions;
-import org.apache.flink.table.connector.source.lookup.cache.DefaultLookupCache;
+import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.lookup.cache.LookupCache;
-import org.apache.flink.table.factories.DynamicTableSinkFactory;
-import org.apache.flink.table.factories.FactoryUtil;
 import org.apache.flink.table.types.DataType;
-import org.apache.flink.table.types.logical.RowType;
-import org.apache.flink.util.Preconditions;
 
 import javax.annotation.Nullable;
 
-import java.time.Duration;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
 import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.DRIVER;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.LOOKUP_CACHE_MAX_ROWS;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.LOOKUP_CACHE_MISSING_KEY;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.LOOKUP_CACHE_TTL;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.LOOKUP_MAX_RETRIES;
 import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.MAX_RETRY_TIMEOUT;
 import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.PASSWORD;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_AUTO_COMMIT;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_FETCH_SIZE;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_PARTITION_COLUMN;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_PARTITION_LOWER_BOUND;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_PARTITION_NUM;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_PARTITION_UPPER_BOUND;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SINK_BUFFER_FLUSH_INTERVAL;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SINK_BUFFER_FLUSH_MAX_ROWS;
-import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SINK_MAX_RETRIES;
 import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SINK_PARALLELISM;
 import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.TABLE_NAME;
 import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.URL;
 import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.USERNAME;
 
 /**
- * Factory for creating configured instances of {@link JdbcDynamicTableSource} and {@link
- * JdbcDynamicTableSink}.
+ * Factory for creating configured instances of {@link JdbcDynamicTableSource}, {@link
+ * JdbcDynamicTableSink} and {@link SqrlJdbcDynamicTableSink} with the JDBC connector of Flink
+ * 1.17. Options and validation are shared in {@link AbstractSqrlJdbcDynamicTableFactory}.
  */
 @Internal
-public class SqrlJdbcDynamicTableFactory implements DynamicTableSinkFactory {
-
-    public static final String IDENTIFIER = "jdbc-sqrl";
+public class SqrlJdbcDynamicTableFactory
+    extends AbstractSqrlJdbcDynamicTableFactory<InternalJdbcConnectionOptions> {
 
     @Override
-    public DynamicTableSink createDynamicTableSink(Context context) {
-        final FactoryUtil.TableFactoryHelper helper =
-            FactoryUtil.createTableFactoryHelper(this, context);
-        final ReadableConfig config = helper.getOptions();
-
-        helper.validate();
-        validateConfigOptions(config, context.getClassLoader());
-        validateDataTypeWithJdbcDialect(
-            context.getPhysicalRowDataType(), config.get(URL), context.getClassLoader());
-        InternalJdbcConnectionOptions jdbcOptions =
-            getJdbcOptions(config, context.getClassLoader());
-
-        return new JdbcDynamicTableSink(
-            jdbcOptions,
-            getJdbcExecutionOptions(config),
-            getJdbcDmlOptions(
-                jdbcOptions,
-                context.getPhysicalRowDataType(),
-                context.getPrimaryKeyIndexes()),
-            context.getPhysicalRowDataType());
-    }
-
-    private static void validateDataTypeWithJdbcDialect(
-            DataType dataType, String url, ClassLoader classLoader) {
-        JdbcDialect dialect = loadDialect(url, classLoader);
-
-        dialect.validate((RowType) dataType.getLogicalType());
-    }
-
-    private InternalJdbcConnectionOptions getJdbcOptions(
-        ReadableConfig readableConfig, ClassLoader classLoader) {
-        final String url = readableConfig.get(URL);
+    protected InternalJdbcConnectionOptions createJdbcOptions(ReadableConfig readableConfig,
+        JdbcDialect dialect, ClassLoader classLoader) {
         final InternalJdbcConnectionOptions.Builder builder =
             InternalJdbcConnectionOptions.builder()
                 .setClassLoader(classLoader)
-                .setDBUrl(url)
+                .setDBUrl(readableConfig.get(URL))
                 .setTableName(readableConfig.get(TABLE_NAME))
-                .setDialect(loadDialect(url, classLoader))
+                .setDialect(dialect)
                 .setParallelism(readableConfig.getOptional(SINK_PARALLELISM).orElse(null))
                 .setConnectionCheckTimeoutSeconds(
                     (int) readableConfig.get(MAX_RETRY_TIMEOUT).getSeconds());
@@ -128,169 +71,27 @@ public class SqrlJdbcDynamicTableFactory implements DynamicTableSinkFactory {
         return builder.build();
     }
 
-    private static JdbcDialect loadDialect(String url, ClassLoader classLoader) {
-        JdbcDialect dialect = JdbcDialectLoader.load(url, classLoader);
-        //sqrl: standard postgres dialect with extended dialect
-        if (dialect.dialectName().equalsIgnoreCase("PostgreSQL")) {
-            return new SqrlPostgresDialect();
-        }
-        return dialect;
-    }
-
-    private JdbcExecutionOptions getJdbcExecutionOptions(ReadableConfig config) {
-        final JdbcExecutionOptions.Builder builder = new JdbcExecutionOptions.Builder();
-        builder.withBatchSize(config.get(SINK_BUFFER_FLUSH_MAX_ROWS));
-        builder.withBatchIntervalMs(config.get(SINK_BUFFER_FLUSH_INTERVAL).toMillis());
-        builder.withMaxRetries(config.get(SINK_MAX_RETRIES));
-        return builder.build();
-    }
-
-    private JdbcDmlOptions getJdbcDmlOptions(
-        InternalJdbcConnectionOptions jdbcOptions, DataType dataType, int[] primaryKeyIndexes) {
-
-        String[] keyFields =
-            Arrays.stream(primaryKeyIndexes)
-                .mapToObj(i -> DataType.getFieldNames(dataType).get(i))
-                .toArray(String[]::new);
-
-        return JdbcDmlOptions.builder()
-            .withTableName(jdbcOptions.getTableName())
-            .withDialect(jdbcOptions.getDialect())
-            .withFieldNames(DataType.getFieldNames(dataType).toArray(new String[0]))
-            .withKeyFields(keyFields.length > 0 ? keyFields : null)
-            .build();
-    }
-
-    @Override
-    public String factoryIdentifier() {
-        return IDENTIFIER;
-    }
-
     @Override
-    public Set<ConfigOption<?>> requiredOptions() {
-        Set<ConfigOption<?>> requiredOptions = new HashSet<>();
-        requiredOptions.add(URL);
-        requiredOptions.add(TABLE_NAME);
-        return requiredOptions;
+    protected DynamicTableSource createTableSource(InternalJdbcConnectionOptions jdbcOptions,
+        JdbcReadOptions readOptions, int lookupMaxRetries, @Nullable LookupCache cache,
+        DataType physicalRowDataType) {
+        return new JdbcDynamicTableSource(jdbcOptions, readOptions, lookupMaxRetries, cache,
+            physicalRowDataType);
     }
 
     @Override
-    public Set<ConfigOption<?>> optionalOptions() {
-        Set<ConfigOption<?>> optionalOptions = new HashSet<>();
-        optionalOptions.add(DRIVER);
-        optionalOptions.add(USERNAME);
-        optionalOptions.add(PASSWORD);
-        optionalOptions.add(SCAN_PARTITION_COLUMN);
-        optionalOptions.add(SCAN_PARTITION_LOWER_BOUND);
-        optionalOptions.add(SCAN_PARTITION_UPPER_BOUND);
-        optionalOptions.add(SCAN_PARTITION_NUM);
-        optionalOptions.add(SCAN_FETCH_SIZE);
-        optionalOptions.add(SCAN_AUTO_COMMIT);
-        optionalOptions.add(LOOKUP_CACHE_MAX_ROWS);
-        optionalOptions.add(LOOKUP_CACHE_TTL);
-        optionalOptions.add(LOOKUP_MAX_RETRIES);
-        optionalOptions.add(LOOKUP_CACHE_MISSING_KEY);
-        optionalOptions.add(SINK_BUFFER_FLUSH_MAX_ROWS);
-        optionalOptions.add(SINK_BUFFER_FLUSH_INTERVAL);
-        optionalOptions.add(SINK_MAX_RETRIES);
-        optionalOptions.add(SINK_PARALLELISM);
-        optionalOptions.add(MAX_RETRY_TIMEOUT);
-        optionalOptions.add(LookupOptions.CACHE_TYPE);
-        optionalOptions.add(LookupOptions.PARTIAL_CACHE_EXPIRE_AFTER_ACCESS);
-        optionalOptions.add(LookupOptions.PARTIAL_CACHE_EXPIRE_AFTER_WRITE);
-        optionalOptions.add(LookupOptions.PARTIAL_CACHE_MAX_ROWS);
-        optionalOptions.add(LookupOptions.PARTIAL_CACHE_CACHE_MISSING_KEY);
-        optionalOptions.add(LookupOptions.MAX_RETRIES);
-        return optionalOptions;
+    protected DynamicTableSink createJdbcTableSink(InternalJdbcConnectionOptions jdbcOptions,
+        JdbcExecutionOptions executionOptions, JdbcDmlOptions dmlOptions,
+        DataType physicalRowDataType) {
+        return new JdbcDynamicTableSink(jdbcOptions, executionOptions, dmlOptions,
+            physicalRowDataType);
     }
 
     @Override
-    public Set<ConfigOption<?>> forwardOptions() {
-        return Stream.of(
-                URL,
-                TABLE_NAME,
-                USERNAME,
-                PASSWORD,
-                DRIVER,
-                SINK_BUFFER_FLUSH_MAX_ROWS,
-                SINK_BUFFER_FLUSH_INTERVAL,
-                SINK_MAX_RETRIES,
-                MAX_RETRY_TIMEOUT,
-                SCAN_FETCH_SIZE,
-                SCAN_AUTO_COMMIT)
-            .collect(Collectors.toSet());
-    }
-
-    private void validateConfigOptions(ReadableConfig config, ClassLoader classLoader) {
-        String jdbcUrl = config.get(URL);
-//        JdbcDialectLoader.load(jdbcUrl, classLoader);
-
-        checkAllOrNone(config, new ConfigOption[] {USERNAME, PASSWORD});
-
-        checkAllOrNone(
-            config,
-            new ConfigOption[] {
-                SCAN_PARTITION_COLUMN,
-                SCAN_PARTITION_NUM,
-                SCAN_PARTITION_LOWER_BOUND,
-                SCAN_PARTITION_UPPER_BOUND
-            });
-
-        if (config.getOptional(SCAN_PARTITION_LOWER_BOUND).isPresent()
-            && config.getOptional(SCAN_PARTITION_UPPER_BOUND).isPresent()) {
-            long lowerBound = config.get(SCAN_PARTITION_LOWER_BOUND);
-            long upperBound = config.get(SCAN_PARTITION_UPPER_BOUND);
-            if (lowerBound > upperBound) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        "'%s'='%s' must not be larger than '%s'='%s'.",
-                        SCAN_PARTITION_LOWER_BOUND.key(),
-                        lowerBound,
-                        SCAN_PARTITION_UPPER_BOUND.key(),
-                        upperBound));
-            }
-        }
-
-        checkAllOrNone(config, new ConfigOption[] {LOOKUP_CACHE_MAX_ROWS, LOOKUP_CACHE_TTL});
-
-        if (config.get(LOOKUP_MAX_RETRIES) < 0) {
-            throw new IllegalArgumentException(
-                String.format(
-                    "The value of '%s' option shouldn't be negative, but is %s.",
-                    LOOKUP_MAX_RETRIES.key(), config.get(LOOKUP_MAX_RETRIES)));
-        }
-
-        if (config.get(SINK_MAX_RETRIES) < 0) {
-            throw new IllegalArgumentException(
-                String.format(
-                    "The value of '%s' option shouldn't be negative, but is %s.",
-                    SINK_MAX_RETRIES.key(), config.get(SINK_MAX_RETRIES)));
-        }
-
-        if (config.get(MAX_RETRY_TIMEOUT).getSeconds() <= 0) {
-            throw new IllegalArgumentException(
-                String.format(
-                    "The value of '%s' option must be in second granularity and shouldn't be smaller than 1 second, but is %s.",
-                    MAX_RETRY_TIMEOUT.key(),
-                    config.get(
-                        ConfigOptions.key(MAX_RETRY_TIMEOUT.key())
-                            .stringType()
-                            .noDefaultValue())));
-        }
-    }
-
-    private void checkAllOrNone(ReadableConfig config, ConfigOption<?>[] configOptions) {
-        int presentCount = 0;
-        for (ConfigOption configOption : configOptions) {
-            if (config.getOptional(configOption).isPresent()) {
-                presentCount++;
-            }
-        }
-        String[] propertyNames =
-            Arrays.stream(configOptions).map(ConfigOption::key).toArray(String[]::new);
-        Preconditions.checkArgument(
-            configOptions.length == presentCount || presentCount == 0,
-            "Either all or none of the following options should be provided:\n"
-                + String.join("\n", propertyNames));
+    protected DynamicTableSink createSqrlTableSink(InternalJdbcConnectionOptions jdbcOptions,
+        JdbcExecutionOptions executionOptions, JdbcDmlOptions dmlOptions,
+        DataType physicalRowDataType, WriteMode writeMode, boolean binaryTransfer) {
+        return new SqrlJdbcDynamicTableSink(jdbcOptions, executionOptions, dmlOptions,
+            physicalRowDataType, writeMode, binaryTransfer);
     }
 }
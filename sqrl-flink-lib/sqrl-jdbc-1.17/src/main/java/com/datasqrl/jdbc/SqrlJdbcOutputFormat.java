@@ -0,0 +1,49 @@
+package com.datasqrl.jdbc;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import org.apache.flink.connector.jdbc.JdbcExecutionOptions;
+import org.apache.flink.connector.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.flink.connector.jdbc.internal.JdbcOutputFormat;
+import org.apache.flink.table.data.RowData;
+
+/**
+ * Output format that bounds its buffer by the number of rows the next flush writes, not by the
+ * number of records received, see {@link CompactedBufferLimit}. Retries, the flush interval and
+ * the flush on checkpoints work as in Flink's output format.
+ */
+public class SqrlJdbcOutputFormat
+    extends JdbcOutputFormat<RowData, RowData, BufferedStatementExecutor> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final CompactedBufferLimit bufferLimit;
+
+  public SqrlJdbcOutputFormat(JdbcConnectionProvider connectionProvider,
+      JdbcExecutionOptions executionOptions,
+      StatementExecutorFactory<BufferedStatementExecutor> executorFactory) {
+    this(connectionProvider, executionOptions, executorFactory,
+        new CompactedBufferLimit(executionOptions));
+  }
+
+  private SqrlJdbcOutputFormat(JdbcConnectionProvider connectionProvider,
+      JdbcExecutionOptions executionOptions,
+      StatementExecutorFactory<BufferedStatementExecutor> executorFactory,
+      CompactedBufferLimit bufferLimit) {
+    super(connectionProvider, CompactedBufferLimit.withoutRecordLimit(executionOptions),
+        ctx -> bufferLimit.track(executorFactory.apply(ctx)), RecordExtractor.identity());
+    this.bufferLimit = bufferLimit;
+  }
+
+  @Override
+  protected void addToBatch(RowData original, RowData extracted) throws SQLException {
+    super.addToBatch(original, extracted);
+    if (bufferLimit.isReached()) {
+      try {
+        flush();
+      } catch (IOException e) {
+        throw new SQLException("Flushing the full buffer failed", e);
+      }
+    }
+  }
+}
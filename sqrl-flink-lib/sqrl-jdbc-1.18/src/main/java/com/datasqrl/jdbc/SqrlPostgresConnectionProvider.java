@@ -0,0 +1,29 @@
+package com.datasqrl.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.apache.flink.connector.jdbc.JdbcConnectionOptions;
+import org.apache.flink.connector.jdbc.internal.connection.SimpleJdbcConnectionProvider;
+
+/**
+ * Connection provider that enables binary parameter transfer for SQRL's custom Postgres types on
+ * every connection it opens, see {@link SqrlPostgresRowConverter#enableBinaryTransfer}.
+ */
+public class SqrlPostgresConnectionProvider extends SimpleJdbcConnectionProvider {
+
+  private static final long serialVersionUID = 1L;
+
+  public SqrlPostgresConnectionProvider(JdbcConnectionOptions jdbcOptions) {
+    super(jdbcOptions);
+  }
+
+  @Override
+  public Connection getOrEstablishConnection() throws SQLException, ClassNotFoundException {
+    return SqrlPostgresRowConverter.enableBinaryTransfer(super.getOrEstablishConnection());
+  }
+
+  @Override
+  public Connection reestablishConnection() throws SQLException, ClassNotFoundException {
+    return SqrlPostgresRowConverter.enableBinaryTransfer(super.reestablishConnection());
+  }
+}
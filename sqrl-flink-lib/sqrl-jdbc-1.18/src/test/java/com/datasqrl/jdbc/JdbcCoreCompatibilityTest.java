@@ -0,0 +1,8 @@
+package com.datasqrl.jdbc;
+
+/**
+ * Runs the sqrl-jdbc-core classes against the JDBC connector of Flink 1.18.
+ */
+public class JdbcCoreCompatibilityTest extends AbstractJdbcCoreCompatibilityTest {
+
+}
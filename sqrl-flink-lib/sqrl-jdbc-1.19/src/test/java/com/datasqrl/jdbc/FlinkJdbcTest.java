@@ -1,12 +1,22 @@
 package com.datasqrl.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.datasqrl.json.FlinkJsonType;
+import com.datasqrl.json.FlinkJsonTypeSerializer;
+import com.datasqrl.type.PostgresJsonbObject;
+import com.datasqrl.vector.FlinkVectorType;
+import com.datasqrl.vector.FlinkVectorTypeSerializer;
+import com.datasqrl.vector.PostgresVectorObject;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.List;
+import org.apache.flink.connector.jdbc.JdbcConnectionOptions;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.api.EnvironmentSettings;
 import org.apache.flink.table.api.ResultKind;
 import org.apache.flink.table.api.TableResult;
@@ -14,8 +24,10 @@ import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
 import org.apache.flink.test.junit5.MiniClusterExtension;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.postgresql.core.BaseConnection;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.junit.jupiter.api.Test;
+import org.testcontainers.utility.DockerImageName;
 
 @ExtendWith(MiniClusterExtension.class)
 public class FlinkJdbcTest {
@@ -136,4 +148,143 @@ public class FlinkJdbcTest {
             connection.close();
         }
     }
+
+    @Test
+    public void testCopyUpsertToPostgres() throws Exception {
+        try (PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>("postgres:14")) {
+            postgresContainer.start();
+            try (Connection conn = DriverManager.getConnection(postgresContainer.getJdbcUrl(), postgresContainer.getUsername(), postgresContainer.getPassword());
+                Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("CREATE TABLE test_table (" +
+                    "\"id\" BIGINT NOT NULL, \"name\" TEXT, \"amount\" NUMERIC, \"tags\" TEXT[], " +
+                    "\"ts\" TIMESTAMP WITH TIME ZONE, PRIMARY KEY (\"id\"))");
+            }
+
+            StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+            StreamTableEnvironment tEnv = StreamTableEnvironment.create(env);
+
+            tEnv.executeSql("CREATE TABLE jdbc_sink (" +
+                "id BIGINT, name STRING, amount DECIMAL(10,3), tags ARRAY<STRING>, ts TIMESTAMP_LTZ(3), " +
+                "PRIMARY KEY (id) NOT ENFORCED" +
+                ") WITH (" +
+                "'connector' = 'jdbc-sqrl'," +
+                "'url' = '" + postgresContainer.getJdbcUrl() + "'," +
+                "'table-name' = 'test_table'," +
+                "'username' = '" + postgresContainer.getUsername() + "'," +
+                "'password' = '" + postgresContainer.getPassword() + "'," +
+                "'sink.write-mode' = 'copy'," +
+                "'sink.buffer-flush.max-rows' = '2'" +
+                ")"
+            );
+            tEnv.executeSql("CREATE TEMPORARY VIEW changes AS SELECT k, CAST(n AS STRING) AS n, x " +
+                "FROM (VALUES (1, 'a', 1.5), (2, 'b', -2.25), (1, 'c', 10.125), (3, 'd', 0.001)) AS v(k, n, x)");
+
+            // Keys with more than one change are deleted again, key 3 is upserted
+            tEnv.executeSql("INSERT INTO jdbc_sink SELECT CAST(k AS BIGINT), LAST_VALUE(n), " +
+                    "CAST(SUM(x) AS DECIMAL(10,3)), ARRAY[LAST_VALUE(n), 'x'], TO_TIMESTAMP_LTZ(1700000000123, 3) " +
+                    "FROM changes GROUP BY k HAVING COUNT(*) = 1")
+                .await();
+
+            try (Connection connection = postgresContainer.createConnection("");
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                    "SELECT id, name, amount, array_to_string(tags, ','), " +
+                        "EXTRACT(EPOCH FROM ts) * 1000 FROM test_table ORDER BY id")) {
+                assertEquals(true, resultSet.next());
+                assertEquals(2, resultSet.getLong(1));
+                assertEquals("b", resultSet.getString(2));
+                assertEquals("-2.250", resultSet.getString(3));
+                assertEquals("b,x", resultSet.getString(4));
+                assertEquals(1700000000123L, resultSet.getBigDecimal(5).longValue());
+                assertEquals(true, resultSet.next());
+                assertEquals(3, resultSet.getLong(1));
+                assertEquals("0.001", resultSet.getString(3));
+                assertEquals(false, resultSet.next());
+            }
+        }
+    }
+
+    @Test
+    public void testBinaryVectorAndJsonRoundTrip() throws Exception {
+        testVectorAndJsonRoundTrip(true);
+    }
+
+    @Test
+    public void testTextVectorAndJsonRoundTrip() throws Exception {
+        testVectorAndJsonRoundTrip(false);
+    }
+
+    private void testVectorAndJsonRoundTrip(boolean binaryTransfer) throws Exception {
+        DockerImageName image = DockerImageName.parse("pgvector/pgvector:pg14")
+            .asCompatibleSubstituteFor("postgres");
+        try (PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>(image)) {
+            postgresContainer.start();
+            try (Connection conn = DriverManager.getConnection(postgresContainer.getJdbcUrl(), postgresContainer.getUsername(), postgresContainer.getPassword());
+                Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("CREATE EXTENSION IF NOT EXISTS vector");
+                stmt.executeUpdate("CREATE TABLE test_table (" +
+                    "\"id\" BIGINT NOT NULL, \"embedding\" VECTOR(3), \"payload\" JSONB, " +
+                    "PRIMARY KEY (\"id\"))");
+            }
+
+            StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+            StreamTableEnvironment tEnv = StreamTableEnvironment.create(env);
+
+            String vectorType = DataTypes.RAW(FlinkVectorType.class, new FlinkVectorTypeSerializer())
+                .getLogicalType().asSerializableString();
+            String jsonType = DataTypes.RAW(FlinkJsonType.class, new FlinkJsonTypeSerializer())
+                .getLogicalType().asSerializableString();
+            tEnv.executeSql("CREATE TEMPORARY FUNCTION IF NOT EXISTS `tojson` AS 'com.datasqrl.json.ToJson' LANGUAGE JAVA");
+            tEnv.executeSql("CREATE TEMPORARY FUNCTION IF NOT EXISTS `doubletovector` AS 'com.datasqrl.vector.DoubleToVector' LANGUAGE JAVA");
+            tEnv.executeSql("CREATE TABLE jdbc_sink (" +
+                "id BIGINT, embedding " + vectorType + ", payload " + jsonType + ", " +
+                "PRIMARY KEY (id) NOT ENFORCED" +
+                ") WITH (" +
+                "'connector' = 'jdbc-sqrl'," +
+                "'url' = '" + postgresContainer.getJdbcUrl() + "'," +
+                "'table-name' = 'test_table'," +
+                "'username' = '" + postgresContainer.getUsername() + "'," +
+                "'password' = '" + postgresContainer.getPassword() + "'," +
+                "'sink.binary-transfer' = '" + binaryTransfer + "'" +
+                ")"
+            );
+
+            tEnv.executeSql("INSERT INTO jdbc_sink SELECT CAST(1 AS BIGINT), " +
+                    "doubletovector(ARRAY[CAST(1.5 AS DOUBLE), CAST(-2.25 AS DOUBLE), CAST(3 AS DOUBLE)]), " +
+                    "tojson('{\"a\": [1, 2], \"b\": \"x\"}')")
+                .await();
+
+            try (Connection connection = postgresContainer.createConnection("");
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                    "SELECT embedding::text, payload::text, payload->'a'->>1 FROM test_table")) {
+                assertEquals(true, resultSet.next());
+                assertEquals("[1.5,-2.25,3]", resultSet.getString(1));
+                assertEquals("{\"a\": [1, 2], \"b\": \"x\"}", resultSet.getString(2));
+                assertEquals("2", resultSet.getString(3));
+                assertEquals(false, resultSet.next());
+            }
+
+            if (binaryTransfer) {
+                //The sink's connection provider enables binary send for both types at once
+                SqrlPostgresConnectionProvider provider = new SqrlPostgresConnectionProvider(
+                    new JdbcConnectionOptions.JdbcConnectionOptionsBuilder()
+                        .withUrl(postgresContainer.getJdbcUrl())
+                        .withDriverName(postgresContainer.getDriverClassName())
+                        .withUsername(postgresContainer.getUsername())
+                        .withPassword(postgresContainer.getPassword())
+                        .build());
+                try {
+                    BaseConnection connection = provider.getOrEstablishConnection()
+                        .unwrap(BaseConnection.class);
+                    for (String type : List.of(PostgresVectorObject.TYPE, PostgresJsonbObject.TYPE)) {
+                        int oid = connection.getTypeInfo().getPGType(type);
+                        assertTrue(connection.binaryTransferSend(oid), type);
+                    }
+                } finally {
+                    provider.closeConnection();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package com.datasqrl.jdbc;
+
+import com.datasqrl.jdbc.SqrlJdbcConnectorOptions.WriteMode;
+import java.util.Objects;
+import org.apache.flink.connector.jdbc.JdbcConnectionOptions;
+import org.apache.flink.connector.jdbc.JdbcExecutionOptions;
+import org.apache.flink.connector.jdbc.internal.options.JdbcDmlOptions;
+import org.apache.flink.table.connector.ChangelogMode;
+import org.apache.flink.table.connector.sink.DynamicTableSink;
+import org.apache.flink.table.types.DataType;
+import org.apache.flink.table.types.logical.LogicalType;
+
+/**
+ * JDBC sink for Postgres that writes buffered batches either with prepared statements, like
+ * Flink's JDBC sink, or with {@link PostgresCopyStatementExecutor}. Unless
+ * {@code sink.binary-transfer} is disabled, connections are opened through the
+ * {@code SqrlPostgresConnectionProvider} so SQRL's custom types are sent in binary. Changes are
+ * compacted per primary key by the {@link UpsertCompactionBuffer} and the
+ * {@code SqrlJdbcOutputFormat} bounds the buffer by its compacted size, see
+ * {@link CompactedBufferLimit}. Flush intervals, retries and the flush on checkpoint work as for
+ * Flink's JDBC sink, which this sink delegates to for changelog mode validation.
+ *
+ * Each Flink version adapter creates the connection provider, output format and sink function of
+ * its connector version in {@link #getSinkRuntimeProvider}.
+ *
+ * @param <O> the connection options type of the connector version
+ */
+public abstract class AbstractSqrlJdbcDynamicTableSink<O extends JdbcConnectionOptions>
+    implements DynamicTableSink {
+
+  protected final O jdbcOptions;
+  protected final JdbcExecutionOptions executionOptions;
+  protected final JdbcDmlOptions dmlOptions;
+  protected final DataType physicalRowDataType;
+  protected final WriteMode writeMode;
+  protected final boolean binaryTransfer;
+  private final DynamicTableSink delegate;
+
+  /**
+   * @param delegate Flink's JDBC sink for the same options
+   */
+  protected AbstractSqrlJdbcDynamicTableSink(O jdbcOptions,
+      JdbcExecutionOptions executionOptions, JdbcDmlOptions dmlOptions,
+      DataType physicalRowDataType, WriteMode writeMode, boolean binaryTransfer,
+      DynamicTableSink delegate) {
+    this.jdbcOptions = jdbcOptions;
+    this.executionOptions = executionOptions;
+    this.dmlOptions = dmlOptions;
+    this.physicalRowDataType = physicalRowDataType;
+    this.writeMode = writeMode;
+    this.binaryTransfer = binaryTransfer;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public ChangelogMode getChangelogMode(ChangelogMode requestedMode) {
+    return delegate.getChangelogMode(requestedMode);
+  }
+
+  /**
+   * The factory for the statement executors of the output format.
+   */
+  protected BufferedStatementExecutorFactory getExecutorFactory() {
+    LogicalType[] fieldTypes = DataType.getFieldDataTypes(physicalRowDataType).stream()
+        .map(DataType::getLogicalType)
+        .toArray(LogicalType[]::new);
+    return new BufferedStatementExecutorFactory(writeMode, dmlOptions, fieldTypes);
+  }
+
+  @Override
+  public String asSummaryString() {
+    return (writeMode == WriteMode.COPY ? "JDBC COPY:" : "JDBC:")
+        + dmlOptions.getDialect().dialectName();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AbstractSqrlJdbcDynamicTableSink<?> that = (AbstractSqrlJdbcDynamicTableSink<?>) o;
+    return Objects.equals(jdbcOptions, that.jdbcOptions)
+        && Objects.equals(executionOptions, that.executionOptions)
+        && Objects.equals(dmlOptions, that.dmlOptions)
+        && Objects.equals(physicalRowDataType, that.physicalRowDataType)
+        && writeMode == that.writeMode
+        && binaryTransfer == that.binaryTransfer;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(jdbcOptions, executionOptions, dmlOptions, physicalRowDataType, writeMode,
+        binaryTransfer);
+  }
+}
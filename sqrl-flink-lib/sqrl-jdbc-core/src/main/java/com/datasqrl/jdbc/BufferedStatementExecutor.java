@@ -0,0 +1,13 @@
+package com.datasqrl.jdbc;
+
+import org.apache.flink.connector.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.flink.table.data.RowData;
+
+/**
+ * A statement executor that buffers rows until the batch is executed and reports how many rows it
+ * holds, so that {@link CompactedBufferLimit} can bound the buffer by its compacted size.
+ */
+public interface BufferedStatementExecutor extends JdbcBatchStatementExecutor<RowData> {
+
+  int getBufferedRows();
+}
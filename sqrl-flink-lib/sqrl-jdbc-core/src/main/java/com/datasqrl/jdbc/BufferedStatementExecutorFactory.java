@@ -0,0 +1,38 @@
+package com.datasqrl.jdbc;
+
+import com.datasqrl.jdbc.SqrlJdbcConnectorOptions.WriteMode;
+import java.io.Serializable;
+import org.apache.flink.connector.jdbc.internal.options.JdbcDmlOptions;
+import org.apache.flink.table.types.logical.LogicalType;
+
+/**
+ * Creates the statement executor of the configured write mode. The Flink version adapters wrap it
+ * in the statement executor factory of their connector version, which passes the runtime context
+ * to the factory in some versions and not in others.
+ */
+public class BufferedStatementExecutorFactory implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final WriteMode writeMode;
+  private final JdbcDmlOptions dmlOptions;
+  private final LogicalType[] fieldTypes;
+
+  public BufferedStatementExecutorFactory(WriteMode writeMode, JdbcDmlOptions dmlOptions,
+      LogicalType[] fieldTypes) {
+    this.writeMode = writeMode;
+    this.dmlOptions = dmlOptions;
+    this.fieldTypes = fieldTypes;
+  }
+
+  /**
+   * @param objectReuse whether Flink reuses row objects, in which case buffered rows are copied.
+   * Connector versions that don't expose the runtime context pass true.
+   */
+  public BufferedStatementExecutor create(boolean objectReuse) {
+    if (writeMode == WriteMode.COPY) {
+      return new PostgresCopyStatementExecutor(dmlOptions, fieldTypes, objectReuse);
+    }
+    return CompactingStatementExecutor.create(dmlOptions, fieldTypes, objectReuse);
+  }
+}
@@ -0,0 +1,49 @@
+package com.datasqrl.jdbc;
+
+import java.io.Serializable;
+import org.apache.flink.connector.jdbc.JdbcExecutionOptions;
+
+/**
+ * Bounds the buffer of the {@code SqrlJdbcOutputFormat} by the number of rows the next flush
+ * writes, not by the number of records received.
+ *
+ * Flink's JDBC output format flushes after {@code sink.buffer-flush.max-rows} records, so a hot key
+ * that is updated on every record triggers a flush every {@code max-rows} records although the
+ * {@link UpsertCompactionBuffer} reduces them to a single row. Here {@code max-rows} bounds the
+ * compacted buffer instead: the output format passes {@link #withoutRecordLimit} to its parent,
+ * keeps a reference to the executor the parent creates through {@link #track} and flushes once
+ * {@link #isReached()}, in addition to the flush interval and checkpoints.
+ */
+public class CompactedBufferLimit implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int maxBufferedRows;
+  private transient BufferedStatementExecutor executor;
+
+  public CompactedBufferLimit(JdbcExecutionOptions executionOptions) {
+    this.maxBufferedRows = executionOptions.getBatchSize();
+  }
+
+  /**
+   * The execution options without the record count limit, so that the parent output format only
+   * flushes on the interval and on checkpoints.
+   */
+  public static JdbcExecutionOptions withoutRecordLimit(JdbcExecutionOptions executionOptions) {
+    return JdbcExecutionOptions.builder()
+        .withBatchSize(0)
+        .withBatchIntervalMs(executionOptions.getBatchIntervalMs())
+        .withMaxRetries(executionOptions.getMaxRetries())
+        .build();
+  }
+
+  public BufferedStatementExecutor track(BufferedStatementExecutor executor) {
+    this.executor = executor;
+    return executor;
+  }
+
+  public boolean isReached() {
+    return maxBufferedRows > 0 && executor != null
+        && executor.getBufferedRows() >= maxBufferedRows;
+  }
+}
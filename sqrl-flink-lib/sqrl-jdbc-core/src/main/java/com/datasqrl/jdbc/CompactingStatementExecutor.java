@@ -0,0 +1,111 @@
+package com.datasqrl.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.apache.flink.connector.jdbc.dialect.JdbcDialect;
+import org.apache.flink.connector.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.flink.connector.jdbc.internal.executor.TableSimpleStatementExecutor;
+import org.apache.flink.connector.jdbc.internal.options.JdbcDmlOptions;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+
+/**
+ * Writes the rows of an {@link UpsertCompactionBuffer} with prepared statements: inserts or upserts
+ * with the first executor, deletes by key with the second. Replaces Flink's
+ * {@code TableBufferReducedStatementExecutor} and {@code TableBufferedStatementExecutor}, which
+ * don't expose their buffer size.
+ */
+public class CompactingStatementExecutor implements BufferedStatementExecutor {
+
+  private final UpsertCompactionBuffer buffer;
+  private final JdbcBatchStatementExecutor<RowData> upsertExecutor;
+  private final JdbcBatchStatementExecutor<RowData> deleteExecutor;
+
+  /**
+   * @param deleteExecutor executor for the deletes by key, may be null if the buffer has no key
+   */
+  public CompactingStatementExecutor(UpsertCompactionBuffer buffer,
+      JdbcBatchStatementExecutor<RowData> upsertExecutor,
+      JdbcBatchStatementExecutor<RowData> deleteExecutor) {
+    this.buffer = buffer;
+    this.upsertExecutor = upsertExecutor;
+    this.deleteExecutor = deleteExecutor;
+  }
+
+  /**
+   * Creates an executor with the statements of Flink's JdbcOutputFormatBuilder: upserts and deletes
+   * by key when the table has a primary key, plain inserts otherwise. The statements are prepared
+   * with {@link SqrlFieldNamedPreparedStatementImpl} so that array columns can be bound.
+   *
+   * @param copyRows whether buffered rows are copied, see {@link UpsertCompactionBuffer}
+   */
+  public static CompactingStatementExecutor create(JdbcDmlOptions dmlOptions,
+      LogicalType[] fieldTypes, boolean copyRows) {
+    JdbcDialect dialect = dmlOptions.getDialect();
+    String tableName = dmlOptions.getTableName();
+    String[] fieldNames = dmlOptions.getFieldNames();
+    UpsertCompactionBuffer buffer = new UpsertCompactionBuffer(fieldNames,
+        dmlOptions.getKeyFields().orElse(new String[0]), fieldTypes, copyRows);
+    if (!buffer.hasKey()) {
+      return new CompactingStatementExecutor(buffer, createSimpleRowExecutor(dialect, fieldNames,
+          fieldTypes, dialect.getInsertIntoStatement(tableName, fieldNames)), null);
+    }
+
+    String[] keyFields = buffer.getKeyFields();
+    String upsertSql = dialect.getUpsertStatement(tableName, fieldNames, keyFields)
+        .orElseThrow(() -> new IllegalStateException(
+            "Dialect does not support upserts: " + dialect.dialectName()));
+    return new CompactingStatementExecutor(buffer,
+        createSimpleRowExecutor(dialect, fieldNames, fieldTypes, upsertSql),
+        createSimpleRowExecutor(dialect, keyFields, buffer.getKeyTypes(),
+            dialect.getDeleteStatement(tableName, keyFields)));
+  }
+
+  private static TableSimpleStatementExecutor createSimpleRowExecutor(JdbcDialect dialect,
+      String[] fieldNames, LogicalType[] fieldTypes, String sql) {
+    return new TableSimpleStatementExecutor(
+        connection -> SqrlFieldNamedPreparedStatementImpl.prepareStatement(connection, sql,
+            fieldNames),
+        dialect.getRowConverter(RowType.of(fieldTypes)));
+  }
+
+  @Override
+  public void prepareStatements(Connection connection) throws SQLException {
+    upsertExecutor.prepareStatements(connection);
+    if (deleteExecutor != null) {
+      deleteExecutor.prepareStatements(connection);
+    }
+  }
+
+  @Override
+  public void addToBatch(RowData record) {
+    buffer.add(record);
+  }
+
+  @Override
+  public void executeBatch() throws SQLException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    buffer.forEach(upsertExecutor::addToBatch, key -> deleteExecutor.addToBatch(key));
+    upsertExecutor.executeBatch();
+    if (deleteExecutor != null) {
+      deleteExecutor.executeBatch();
+    }
+    buffer.clear();
+  }
+
+  @Override
+  public void closeStatements() throws SQLException {
+    upsertExecutor.closeStatements();
+    if (deleteExecutor != null) {
+      deleteExecutor.closeStatements();
+    }
+  }
+
+  @Override
+  public int getBufferedRows() {
+    return buffer.size();
+  }
+}
@@ -0,0 +1,423 @@
+package com.datasqrl.jdbc;
+
+import com.datasqrl.format.SqrlRowDataToJsonConverters;
+import com.datasqrl.json.FlinkJsonType;
+import com.datasqrl.vector.FlinkFloatVectorType;
+import com.datasqrl.vector.FlinkVectorType;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.Value;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.formats.common.TimestampFormat;
+import org.apache.flink.formats.json.JsonFormatOptions.MapNullKeyMode;
+import org.apache.flink.formats.json.RowDataToJsonConverters.RowDataToJsonConverter;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.flink.table.data.ArrayData;
+import org.apache.flink.table.data.ArrayData.ElementGetter;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.RawValueData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.RowData.FieldGetter;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.types.logical.ArrayType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.LogicalTypeFamily;
+import org.apache.flink.table.types.logical.LogicalTypeRoot;
+import org.apache.flink.table.types.logical.RawType;
+
+/**
+ * Encodes rows in the binary format of PostgreSQL's {@code COPY ... FROM STDIN (FORMAT binary)}.
+ *
+ * The binary format has to match the column types of the table exactly, so the encoder of each
+ * field is chosen by the PostgreSQL column type (as read from the catalog) and converts the Flink
+ * value of the field's logical type to it.
+ */
+public class PostgresBinaryCopyWriter {
+
+  private static final byte[] HEADER = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n',
+      0};
+  private static final long POSTGRES_EPOCH_MICROS = 946_684_800_000_000L;
+  private static final int POSTGRES_EPOCH_DAYS = 10_957;
+
+  /**
+   * The type of a table column in the PostgreSQL catalog. For array types, the element type name
+   * and oid are set.
+   */
+  @Value
+  public static class ColumnType {
+
+    String typeName;
+    String elementTypeName;
+    int elementOid;
+
+    public boolean isArray() {
+      return elementOid != 0;
+    }
+  }
+
+  private interface ValueEncoder {
+
+    /** Writes the length prefixed binary representation of the non-null value */
+    void encode(Object value, DataOutputSerializer out) throws IOException;
+  }
+
+  private final FieldGetter[] getters;
+  private final ValueEncoder[] encoders;
+  private final DataOutputSerializer out = new DataOutputSerializer(4096);
+
+  public PostgresBinaryCopyWriter(LogicalType[] fieldTypes, ColumnType[] columnTypes,
+      String[] fieldNames) throws SQLFeatureNotSupportedException {
+    this.getters = new FieldGetter[fieldTypes.length];
+    this.encoders = new ValueEncoder[fieldTypes.length];
+    List<String> unsupported = new ArrayList<>();
+    for (int i = 0; i < fieldTypes.length; i++) {
+      getters[i] = RowData.createFieldGetter(fieldTypes[i], i);
+      encoders[i] = createEncoder(fieldTypes[i], columnTypes[i]);
+      if (encoders[i] == null) {
+        unsupported.add(fieldNames[i] + " " + fieldTypes[i] + " -> " + columnTypes[i].getTypeName());
+      }
+    }
+    if (!unsupported.isEmpty()) {
+      throw new SQLFeatureNotSupportedException(
+          "COPY write mode does not support the columns: " + unsupported);
+    }
+  }
+
+  /**
+   * Encodes the rows and returns the COPY payload. The returned stream is backed by a buffer that
+   * is reused on the next call.
+   */
+  public InputStream write(Collection<RowData> rows) throws IOException {
+    out.clear();
+    out.write(HEADER);
+    out.writeInt(0); //flags
+    out.writeInt(0); //header extension length
+    for (RowData row : rows) {
+      out.writeShort(getters.length);
+      for (int i = 0; i < getters.length; i++) {
+        Object value = getters[i].getFieldOrNull(row);
+        if (value == null) {
+          out.writeInt(-1);
+        } else {
+          encoders[i].encode(value, out);
+        }
+      }
+    }
+    out.writeShort(-1);
+    return new ByteArrayInputStream(out.getSharedBuffer(), 0, out.length());
+  }
+
+  private static ValueEncoder createEncoder(LogicalType type, ColumnType column) {
+    if (column.isArray()) {
+      if (type.getTypeRoot() != LogicalTypeRoot.ARRAY) {
+        return null;
+      }
+      LogicalType elementType = ((ArrayType) type).getElementType();
+      ValueEncoder elementEncoder = elementType.getTypeRoot() == LogicalTypeRoot.ARRAY ? null
+          : createEncoder(elementType, new ColumnType(column.getElementTypeName(), null, 0));
+      if (elementEncoder == null) {
+        return null;
+      }
+      return arrayEncoder(ArrayData.createElementGetter(elementType), elementEncoder,
+          column.getElementOid());
+    }
+    switch (column.getTypeName()) {
+      case "int2":
+      case "int4":
+      case "int8":
+      case "float4":
+      case "float8":
+      case "numeric":
+        if (!type.is(LogicalTypeFamily.NUMERIC)) {
+          return null;
+        }
+    }
+    switch (column.getTypeName()) {
+      case "bool":
+        if (type.getTypeRoot() != LogicalTypeRoot.BOOLEAN) {
+          return null;
+        }
+        return (value, out) -> {
+          out.writeInt(1);
+          out.writeBoolean((Boolean) value);
+        };
+      case "int2":
+        return (value, out) -> {
+          out.writeInt(2);
+          out.writeShort(toNumber(value).shortValue());
+        };
+      case "int4":
+        return (value, out) -> {
+          out.writeInt(4);
+          out.writeInt(toNumber(value).intValue());
+        };
+      case "int8":
+        return (value, out) -> {
+          out.writeInt(8);
+          out.writeLong(toNumber(value).longValue());
+        };
+      case "float4":
+        return (value, out) -> {
+          out.writeInt(4);
+          out.writeFloat(toNumber(value).floatValue());
+        };
+      case "float8":
+        return (value, out) -> {
+          out.writeInt(8);
+          out.writeDouble(toNumber(value).doubleValue());
+        };
+      case "numeric":
+        return (value, out) -> writeNumeric(toBigDecimal(value), out);
+      case "text":
+      case "varchar":
+      case "bpchar":
+      case "name":
+        return textEncoder(type, false);
+      case "json":
+        return textEncoder(type, false);
+      case "jsonb":
+        return textEncoder(type, true);
+      case "bytea":
+        if (type.getTypeRoot() != LogicalTypeRoot.BINARY
+            && type.getTypeRoot() != LogicalTypeRoot.VARBINARY) {
+          return null;
+        }
+        return (value, out) -> {
+          byte[] bytes = (byte[]) value;
+          out.writeInt(bytes.length);
+          out.write(bytes);
+        };
+      case "date":
+        if (type.getTypeRoot() != LogicalTypeRoot.DATE) {
+          return null;
+        }
+        return (value, out) -> {
+          out.writeInt(4);
+          out.writeInt((Integer) value - POSTGRES_EPOCH_DAYS);
+        };
+      case "time":
+        if (type.getTypeRoot() != LogicalTypeRoot.TIME_WITHOUT_TIME_ZONE) {
+          return null;
+        }
+        return (value, out) -> {
+          out.writeInt(8);
+          out.writeLong((Integer) value * 1000L);
+        };
+      case "timestamp":
+      case "timestamptz":
+        if (type.getTypeRoot() != LogicalTypeRoot.TIMESTAMP_WITHOUT_TIME_ZONE
+            && type.getTypeRoot() != LogicalTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE) {
+          return null;
+        }
+        return (value, out) -> {
+          TimestampData timestamp = (TimestampData) value;
+          out.writeInt(8);
+          out.writeLong(timestamp.getMillisecond() * 1000L
+              + timestamp.getNanoOfMillisecond() / 1000 - POSTGRES_EPOCH_MICROS);
+        };
+      case "vector":
+        return vectorEncoder(type);
+      default:
+        return null;
+    }
+  }
+
+  private static ValueEncoder arrayEncoder(ElementGetter elementGetter,
+      ValueEncoder elementEncoder, int elementOid) {
+    return (value, out) -> {
+      ArrayData array = (ArrayData) value;
+      int size = array.size();
+      boolean hasNull = false;
+      for (int i = 0; i < size && !hasNull; i++) {
+        hasNull = array.isNullAt(i);
+      }
+      int start = startLength(out);
+      out.writeInt(size == 0 ? 0 : 1); //dimensions
+      out.writeInt(hasNull ? 1 : 0);
+      out.writeInt(elementOid);
+      if (size > 0) {
+        out.writeInt(size);
+        out.writeInt(1); //lower bound
+        for (int i = 0; i < size; i++) {
+          Object element = elementGetter.getElementOrNull(array, i);
+          if (element == null) {
+            out.writeInt(-1);
+          } else {
+            elementEncoder.encode(element, out);
+          }
+        }
+      }
+      endLength(out, start);
+    };
+  }
+
+  private static ValueEncoder textEncoder(LogicalType type, boolean jsonb) {
+    TextConverter converter = textConverter(type);
+    return (value, out) -> {
+      byte[] bytes = converter.toText(value).getBytes(StandardCharsets.UTF_8);
+      if (jsonb) {
+        out.writeInt(bytes.length + 1);
+        out.writeByte(1); //jsonb version
+      } else {
+        out.writeInt(bytes.length);
+      }
+      out.write(bytes);
+    };
+  }
+
+  private interface TextConverter {
+
+    String toText(Object value) throws IOException;
+  }
+
+  private static TextConverter textConverter(LogicalType type) {
+    switch (type.getTypeRoot()) {
+      case RAW:
+        RawType<?> rawType = (RawType<?>) type;
+        return value -> {
+          Object object = toObject(value, rawType);
+          if (object instanceof FlinkJsonType) {
+            return ((FlinkJsonType) object).getJson().toString();
+          }
+          return String.valueOf(object);
+        };
+      case ROW:
+      case ARRAY:
+      case MAP:
+        ObjectMapper mapper = new ObjectMapper();
+        RowDataToJsonConverter converter = new SqrlRowDataToJsonConverters(TimestampFormat.SQL,
+            MapNullKeyMode.DROP, "null").createConverter(type);
+        return value -> converter.convert(mapper, null, value).toString();
+      default:
+        return String::valueOf;
+    }
+  }
+
+  private static ValueEncoder vectorEncoder(LogicalType type) {
+    if (type.getTypeRoot() == LogicalTypeRoot.RAW) {
+      RawType<?> rawType = (RawType<?>) type;
+      if (rawType.getOriginatingClass() == FlinkVectorType.class) {
+        return (value, out) -> writeVector(
+            ((FlinkVectorType) toObject(value, rawType)).getValue(), out);
+      } else if (rawType.getOriginatingClass() == FlinkFloatVectorType.class) {
+        return (value, out) -> writeVector(
+            ((FlinkFloatVectorType) toObject(value, rawType)).getValue(), out);
+      }
+    } else if (type.getTypeRoot() == LogicalTypeRoot.ARRAY) {
+      switch (((ArrayType) type).getElementType().getTypeRoot()) {
+        case DOUBLE:
+          return (value, out) -> writeVector(((ArrayData) value).toDoubleArray(), out);
+        case FLOAT:
+          return (value, out) -> writeVector(((ArrayData) value).toFloatArray(), out);
+      }
+    }
+    return null;
+  }
+
+  private static void writeVector(double[] vector, DataOutputSerializer out) throws IOException {
+    out.writeInt(4 + 4 * vector.length);
+    out.writeShort(vector.length);
+    out.writeShort(0); //unused
+    for (double v : vector) {
+      out.writeFloat((float) v);
+    }
+  }
+
+  private static void writeVector(float[] vector, DataOutputSerializer out) throws IOException {
+    out.writeInt(4 + 4 * vector.length);
+    out.writeShort(vector.length);
+    out.writeShort(0); //unused
+    for (float v : vector) {
+      out.writeFloat(v);
+    }
+  }
+
+  /**
+   * Writes a numeric as base 10000 digits with the weight of the first digit, the sign and the
+   * display scale.
+   */
+  static void writeNumeric(BigDecimal value, DataOutputSerializer out) throws IOException {
+    int displayScale = Math.max(value.scale(), 0);
+    BigInteger unscaled = value.unscaledValue().abs();
+    int scale = value.scale();
+    if (scale < 0) {
+      unscaled = unscaled.multiply(BigInteger.TEN.pow(-scale));
+      scale = 0;
+    }
+    int padding = (4 - scale % 4) % 4;
+    unscaled = unscaled.multiply(BigInteger.TEN.pow(padding));
+    scale += padding;
+
+    //base 10000 digits, least significant first
+    List<Short> digits = new ArrayList<>();
+    BigInteger base = BigInteger.valueOf(10000);
+    while (unscaled.signum() > 0) {
+      BigInteger[] divRem = unscaled.divideAndRemainder(base);
+      digits.add(divRem[1].shortValue());
+      unscaled = divRem[0];
+    }
+    int weight = digits.size() - scale / 4 - 1;
+    int lsd = 0;
+    while (lsd < digits.size() && digits.get(lsd) == 0) {
+      lsd++;
+    }
+    int numDigits = digits.size() - lsd;
+
+    int start = startLength(out);
+    out.writeShort(numDigits);
+    out.writeShort(numDigits == 0 ? 0 : weight);
+    out.writeShort(value.signum() < 0 ? 0x4000 : 0x0000);
+    out.writeShort(displayScale);
+    for (int i = digits.size() - 1; i >= lsd; i--) {
+      out.writeShort(digits.get(i));
+    }
+    endLength(out, start);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T toObject(Object value, RawType<T> type) {
+    return ((RawValueData<T>) value).toObject(type.getTypeSerializer());
+  }
+
+  private static Number toNumber(Object value) {
+    if (value instanceof DecimalData) {
+      return ((DecimalData) value).toBigDecimal();
+    }
+    return (Number) value;
+  }
+
+  private static BigDecimal toBigDecimal(Object value) {
+    if (value instanceof DecimalData) {
+      return ((DecimalData) value).toBigDecimal();
+    } else if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    } else if (value instanceof Double || value instanceof Float) {
+      return BigDecimal.valueOf(((Number) value).doubleValue());
+    }
+    return BigDecimal.valueOf(((Number) value).longValue());
+  }
+
+  /** Reserves the length prefix of a variable length value and returns its position */
+  private static int startLength(DataOutputSerializer out) throws IOException {
+    int start = out.length();
+    out.writeInt(0);
+    return start;
+  }
+
+  private static void endLength(DataOutputSerializer out, int start) {
+    int length = out.length() - start - 4;
+    byte[] buffer = out.getSharedBuffer();
+    buffer[start] = (byte) (length >>> 24);
+    buffer[start + 1] = (byte) (length >>> 16);
+    buffer[start + 2] = (byte) (length >>> 8);
+    buffer[start + 3] = (byte) length;
+  }
+}
@@ -0,0 +1,189 @@
+package com.datasqrl.jdbc;
+
+import com.datasqrl.jdbc.PostgresBinaryCopyWriter.ColumnType;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.flink.connector.jdbc.dialect.JdbcDialect;
+import org.apache.flink.connector.jdbc.internal.executor.TableSimpleStatementExecutor;
+import org.apache.flink.connector.jdbc.internal.options.JdbcDmlOptions;
+import org.apache.flink.connector.jdbc.statement.FieldNamedPreparedStatement;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Writes buffered batches to PostgreSQL with {@code COPY ... FROM STDIN (FORMAT binary)}.
+ *
+ * For tables with a primary key, changes are reduced to the last change per key by the
+ * {@link UpsertCompactionBuffer}, the upserted rows are copied into a temporary
+ * staging table and merged into the target with a single
+ * {@code INSERT ... SELECT ... ON CONFLICT DO UPDATE}, and deleted keys are removed with batched
+ * DELETE statements. Tables without a primary key are append-only and copied into directly.
+ *
+ * Each batch is written in a single transaction so a failed flush leaves no partial batch behind
+ * and can be retried by the output format.
+ */
+public class PostgresCopyStatementExecutor implements BufferedStatementExecutor {
+
+  private static final String COLUMN_TYPE_QUERY =
+      "SELECT a.attname, t.typname, e.typname, COALESCE(e.oid, 0) "
+          + "FROM pg_attribute a JOIN pg_type t ON t.oid = a.atttypid "
+          + "LEFT JOIN pg_type e ON e.oid = t.typelem AND t.typcategory = 'A' "
+          + "WHERE a.attrelid = CAST(? AS regclass) AND a.attnum > 0 AND NOT a.attisdropped";
+
+  private final JdbcDialect dialect;
+  private final String tableName;
+  private final String[] fieldNames;
+  private final LogicalType[] fieldTypes;
+  private final String[] keyFields;
+  private final RowType keyType;
+  private final UpsertCompactionBuffer buffer;
+
+  private Connection connection;
+  private CopyManager copyManager;
+  private PostgresBinaryCopyWriter writer;
+  private TableSimpleStatementExecutor deleteExecutor;
+  private String copySql;
+  private String mergeSql;
+
+  /**
+   * @param copyRows whether buffered rows are copied, see {@link UpsertCompactionBuffer}
+   */
+  public PostgresCopyStatementExecutor(JdbcDmlOptions dmlOptions, LogicalType[] fieldTypes,
+      boolean copyRows) {
+    this.dialect = dmlOptions.getDialect();
+    this.tableName = dmlOptions.getTableName();
+    this.fieldNames = dmlOptions.getFieldNames();
+    this.fieldTypes = fieldTypes;
+    this.buffer = new UpsertCompactionBuffer(fieldNames,
+        dmlOptions.getKeyFields().orElse(new String[0]), fieldTypes, copyRows);
+    this.keyFields = buffer.getKeyFields();
+    this.keyType = RowType.of(buffer.getKeyTypes(), keyFields);
+  }
+
+  private boolean hasKey() {
+    return buffer.hasKey();
+  }
+
+  @Override
+  public void prepareStatements(Connection connection) throws SQLException {
+    this.connection = connection;
+    this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+    this.writer = new PostgresBinaryCopyWriter(fieldTypes, readColumnTypes(connection),
+        fieldNames);
+    String columns = Arrays.stream(fieldNames)
+        .map(dialect::quoteIdentifier)
+        .collect(Collectors.joining(", "));
+    String target = dialect.quoteIdentifier(tableName);
+    if (hasKey()) {
+      String staging = dialect.quoteIdentifier("sqrl_stage_" + tableName);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("CREATE TEMPORARY TABLE IF NOT EXISTS " + staging
+            + " (LIKE " + target + " INCLUDING DEFAULTS) ON COMMIT DELETE ROWS");
+      }
+      copySql = "COPY " + staging + " (" + columns + ") FROM STDIN (FORMAT binary)";
+      mergeSql = "INSERT INTO " + target + " (" + columns + ") SELECT " + columns + " FROM "
+          + staging + " ON CONFLICT ("
+          + Arrays.stream(keyFields).map(dialect::quoteIdentifier).collect(Collectors.joining(", "))
+          + ") DO UPDATE SET "
+          + Arrays.stream(fieldNames)
+              .map(f -> dialect.quoteIdentifier(f) + "=EXCLUDED." + dialect.quoteIdentifier(f))
+              .collect(Collectors.joining(", "));
+      String deleteSql = dialect.getDeleteStatement(tableName, keyFields);
+      deleteExecutor = new TableSimpleStatementExecutor(
+          conn -> FieldNamedPreparedStatement.prepareStatement(conn, deleteSql, keyFields),
+          dialect.getRowConverter(keyType));
+      deleteExecutor.prepareStatements(connection);
+    } else {
+      copySql = "COPY " + target + " (" + columns + ") FROM STDIN (FORMAT binary)";
+    }
+  }
+
+  private ColumnType[] readColumnTypes(Connection connection) throws SQLException {
+    Map<String, ColumnType> columns = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(COLUMN_TYPE_QUERY)) {
+      statement.setString(1, dialect.quoteIdentifier(tableName));
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          columns.put(rs.getString(1),
+              new ColumnType(rs.getString(2), rs.getString(3), rs.getInt(4)));
+        }
+      }
+    }
+    ColumnType[] types = new ColumnType[fieldNames.length];
+    for (int i = 0; i < fieldNames.length; i++) {
+      types[i] = columns.get(fieldNames[i]);
+      if (types[i] == null) {
+        throw new SQLException(
+            String.format("Column [%s] does not exist in table [%s]", fieldNames[i], tableName));
+      }
+    }
+    return types;
+  }
+
+  @Override
+  public void addToBatch(RowData record) {
+    buffer.add(record);
+  }
+
+  @Override
+  public int getBufferedRows() {
+    return buffer.size();
+  }
+
+  @Override
+  public void executeBatch() throws SQLException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    List<RowData> rows = new ArrayList<>(buffer.size());
+    buffer.forEach(rows::add, key -> deleteExecutor.addToBatch(key));
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try {
+      if (!rows.isEmpty()) {
+        copyManager.copyIn(copySql, writer.write(rows));
+        if (hasKey()) {
+          try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(mergeSql);
+          }
+        }
+      }
+      if (hasKey()) {
+        deleteExecutor.executeBatch();
+      }
+      connection.commit();
+    } catch (SQLException | IOException | RuntimeException e) {
+      try {
+        connection.rollback();
+      } catch (SQLException rollbackException) {
+        e.addSuppressed(rollbackException);
+      }
+      throw e instanceof SQLException ? (SQLException) e
+          : new SQLException("Failed to COPY batch into " + tableName, e);
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+    buffer.clear();
+  }
+
+  @Override
+  public void closeStatements() throws SQLException {
+    if (deleteExecutor != null) {
+      deleteExecutor.closeStatements();
+      deleteExecutor = null;
+    }
+  }
+}
@@ -8,7 +8,9 @@ import static org.apache.flink.table.types.logical.LogicalTypeRoot.ROW;
 import static org.apache.flink.table.types.logical.LogicalTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE;
 
 import java.sql.Array;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.LocalDateTime;
@@ -104,9 +106,9 @@ public abstract class SqrlBaseJdbcRowConverter extends AbstractJdbcRowConverter
       FieldNamedPreparedStatement statement);
   @SneakyThrows
   public void setArray(LogicalType type, RowData val, int index, FieldNamedPreparedStatement statement) {
-    SqrlFieldNamedPreparedStatementImpl flinkPreparedStatement = (SqrlFieldNamedPreparedStatementImpl) statement;
+    SqrlFieldNamedPreparedStatementImpl flinkPreparedStatement = SqrlFieldNamedPreparedStatementImpl.unwrap(statement);
+    ArrayData arrayData = val.getArray(index);
     for (int idx : flinkPreparedStatement.getIndexMapping()[index]) {
-      ArrayData arrayData = val.getArray(index);
       createSqlArrayObject(type, arrayData, idx, flinkPreparedStatement.getStatement());
     }
   }
@@ -116,17 +118,7 @@ public abstract class SqrlBaseJdbcRowConverter extends AbstractJdbcRowConverter
       PreparedStatement statement) {
     //Scalar arrays of any dimension are one array call
     if (isScalarArray(type)) {
-      Object[] boxed;
-      if (data instanceof GenericArrayData) {
-        boxed = ((GenericArrayData)data).toObjectArray();
-      } else if (data instanceof BinaryArrayData) {
-        boxed = ((BinaryArrayData)data).toObjectArray(getBaseFlinkArrayType(type));
-      } else {
-        throw new RuntimeException("Unsupported ArrayData type: " + data.getClass());
-      }
-      Array array = statement.getConnection()
-          .createArrayOf(getArrayScalarName(type), boxed);
-      statement.setArray(idx, array);
+      statement.setArray(idx, createScalarArray(statement.getConnection(), type, data));
     } else {
       // If it is not a scalar array (e.g. row type), use an empty byte array.
       Array array = statement.getConnection()
@@ -135,6 +127,23 @@ public abstract class SqrlBaseJdbcRowConverter extends AbstractJdbcRowConverter
     }
   }
 
+  /**
+   * Creates the JDBC array for a scalar array of any dimension. The elements are boxed, dialects
+   * override this to pass arrays of primitives to their driver without boxing.
+   */
+  protected Array createScalarArray(Connection connection, LogicalType type, ArrayData data)
+      throws SQLException {
+    Object[] boxed;
+    if (data instanceof GenericArrayData) {
+      boxed = ((GenericArrayData)data).toObjectArray();
+    } else if (data instanceof BinaryArrayData) {
+      boxed = ((BinaryArrayData)data).toObjectArray(getBaseFlinkArrayType(type));
+    } else {
+      throw new RuntimeException("Unsupported ArrayData type: " + data.getClass());
+    }
+    return connection.createArrayOf(getArrayScalarName(type), boxed);
+  }
+
   protected abstract String getArrayType();
 
   public abstract JdbcDeserializationConverter createArrayConverter(ArrayType arrayType);
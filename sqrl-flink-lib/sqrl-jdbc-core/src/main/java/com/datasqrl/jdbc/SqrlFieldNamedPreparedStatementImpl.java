@@ -189,6 +189,20 @@ public class SqrlFieldNamedPreparedStatementImpl implements FieldNamedPreparedSt
 
     // ----------------------------------------------------------------------------------------
 
+    /**
+     * Returns the statement as a {@link SqrlFieldNamedPreparedStatementImpl}, which the SQRL row
+     * converters need to bind arrays and rows to the underlying {@link PreparedStatement}.
+     */
+    public static SqrlFieldNamedPreparedStatementImpl unwrap(FieldNamedPreparedStatement statement) {
+        if (statement instanceof SqrlFieldNamedPreparedStatementImpl) {
+            return (SqrlFieldNamedPreparedStatementImpl) statement;
+        }
+        throw new UnsupportedOperationException(String.format(
+            "Arrays and rows can only be written with statements prepared by %s, but got %s",
+            SqrlFieldNamedPreparedStatementImpl.class.getSimpleName(),
+            statement.getClass().getName()));
+    }
+
     public static FieldNamedPreparedStatement prepareStatement(
             Connection connection, String sql, String[] fieldNames) throws SQLException {
         checkNotNull(connection, "connection must not be null.");
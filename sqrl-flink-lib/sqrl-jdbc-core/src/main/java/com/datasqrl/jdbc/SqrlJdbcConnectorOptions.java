@@ -0,0 +1,37 @@
+package com.datasqrl.jdbc;
+
+import org.apache.flink.configuration.ConfigOption;
+import org.apache.flink.configuration.ConfigOptions;
+
+/**
+ * SQRL specific options of the {@link AbstractSqrlJdbcDynamicTableFactory} in addition to Flink's
+ * {@link org.apache.flink.connector.jdbc.table.JdbcConnectorOptions}.
+ */
+public class SqrlJdbcConnectorOptions {
+
+  public enum WriteMode {
+    /** Writes each buffered batch with batched INSERT ... ON CONFLICT and DELETE statements. */
+    STATEMENT,
+    /**
+     * Streams each buffered batch with a binary COPY into a temporary staging table and merges it
+     * into the target table with a single INSERT ... SELECT ... ON CONFLICT (PostgreSQL only).
+     */
+    COPY
+  }
+
+  public static final ConfigOption<WriteMode> SINK_WRITE_MODE =
+      ConfigOptions.key("sink.write-mode")
+          .enumType(WriteMode.class)
+          .defaultValue(WriteMode.STATEMENT)
+          .withDescription(
+              "How the sink writes buffered rows: 'statement' for batched prepared statements, "
+                  + "'copy' for COPY into a staging table that is merged into the target table.");
+
+  public static final ConfigOption<Boolean> SINK_BINARY_TRANSFER =
+      ConfigOptions.key("sink.binary-transfer")
+          .booleanType()
+          .defaultValue(true)
+          .withDescription(
+              "Whether vector and JSON values are sent to PostgreSQL in their binary format. "
+                  + "When disabled, they are sent as text.");
+}
@@ -0,0 +1,72 @@
+package com.datasqrl.jdbc;
+
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.LOOKUP_CACHE_MAX_ROWS;
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.LOOKUP_CACHE_MISSING_KEY;
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.LOOKUP_CACHE_TTL;
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_AUTO_COMMIT;
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_FETCH_SIZE;
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_PARTITION_COLUMN;
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_PARTITION_LOWER_BOUND;
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_PARTITION_NUM;
+import static org.apache.flink.connector.jdbc.table.JdbcConnectorOptions.SCAN_PARTITION_UPPER_BOUND;
+
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.apache.flink.configuration.ReadableConfig;
+import org.apache.flink.connector.jdbc.internal.options.JdbcReadOptions;
+import org.apache.flink.table.connector.source.lookup.LookupOptions;
+import org.apache.flink.table.connector.source.lookup.LookupOptions.LookupCacheType;
+import org.apache.flink.table.connector.source.lookup.cache.DefaultLookupCache;
+import org.apache.flink.table.connector.source.lookup.cache.LookupCache;
+
+/**
+ * Translates the scan and lookup options of the {@link AbstractSqrlJdbcDynamicTableFactory} into the
+ * read options and lookup cache of the JDBC table source. Shared by all Flink version adapters.
+ */
+public final class SqrlJdbcSourceOptions {
+
+  private SqrlJdbcSourceOptions() {
+  }
+
+  /**
+   * Builds the read options. If a partition column is configured, the scan is split into
+   * {@code scan.partition.num} ranges of the column which are read in parallel.
+   */
+  public static JdbcReadOptions getJdbcReadOptions(ReadableConfig config) {
+    final Optional<String> partitionColumnName = config.getOptional(SCAN_PARTITION_COLUMN);
+    final JdbcReadOptions.Builder builder = JdbcReadOptions.builder();
+    if (partitionColumnName.isPresent()) {
+      builder.setPartitionColumnName(partitionColumnName.get());
+      builder.setPartitionLowerBound(config.get(SCAN_PARTITION_LOWER_BOUND));
+      builder.setPartitionUpperBound(config.get(SCAN_PARTITION_UPPER_BOUND));
+      builder.setNumPartitions(config.get(SCAN_PARTITION_NUM));
+    }
+    config.getOptional(SCAN_FETCH_SIZE).ifPresent(builder::setFetchSize);
+    builder.setAutoCommit(config.get(SCAN_AUTO_COMMIT));
+    return builder.build();
+  }
+
+  /**
+   * Creates the lookup cache for lookup joins, or null if caching is disabled. Flink wraps the
+   * lookup function in a caching function that reports the cache hit, miss and load counts in the
+   * {@code cache} metric group of the lookup join operator.
+   */
+  @Nullable
+  public static LookupCache getLookupCache(ReadableConfig config) {
+    LookupCache cache = null;
+    // Legacy cache options
+    if (config.get(LOOKUP_CACHE_MAX_ROWS) > 0
+        && config.get(LOOKUP_CACHE_TTL).compareTo(Duration.ZERO) > 0) {
+      cache = DefaultLookupCache.newBuilder()
+          .maximumSize(config.get(LOOKUP_CACHE_MAX_ROWS))
+          .expireAfterWrite(config.get(LOOKUP_CACHE_TTL))
+          .cacheMissingKey(config.get(LOOKUP_CACHE_MISSING_KEY))
+          .build();
+    }
+    if (config.get(LookupOptions.CACHE_TYPE) == LookupCacheType.PARTIAL) {
+      cache = DefaultLookupCache.fromConfig(config);
+    }
+    return cache;
+  }
+}
@@ -18,19 +18,30 @@
 
 package com.datasqrl.jdbc;
 
+import static com.datasqrl.type.PostgresArrayTypeConverter.getArrayScalarName;
+
+import com.datasqrl.type.FlinkArrayTypeUtil;
 import com.datasqrl.type.JdbcTypeSerializer;
+import com.datasqrl.type.PostgresBinaryObject;
 import java.lang.reflect.Type;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.apache.flink.connector.jdbc.statement.FieldNamedPreparedStatement;
+import org.apache.flink.table.data.ArrayData;
 import org.apache.flink.table.data.GenericArrayData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.logical.ArrayType;
 import org.apache.flink.table.types.logical.LogicalType;
 import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.table.types.logical.utils.LogicalTypeUtils;
+import org.postgresql.PGConnection;
 import org.postgresql.jdbc.PgArray;
 
 /**
@@ -46,6 +57,11 @@ public class SqrlPostgresRowConverter extends SqrlBaseJdbcRowConverter {
     public static final Map<Type, JdbcTypeSerializer<JdbcDeserializationConverter,
         JdbcSerializationConverter>> sqrlSerializers = discoverSerializers();
 
+    //Sorted so that every connection enables the types in the same order
+    private static final Set<String> binaryTypeNames = sqrlSerializers.values().stream()
+        .map(JdbcTypeSerializer::dialectTypeName)
+        .collect(Collectors.toCollection(TreeSet::new));
+
     private static Map<Type, JdbcTypeSerializer<JdbcDeserializationConverter, JdbcSerializationConverter>> discoverSerializers() {
         return ServiceLoader.load(JdbcTypeSerializer.class)
             .stream()
@@ -54,6 +70,17 @@ public class SqrlPostgresRowConverter extends SqrlBaseJdbcRowConverter {
             .collect(Collectors.toMap(JdbcTypeSerializer::getConversionClass, t->t));
     }
 
+    /**
+     * Enables binary parameter transfer for the Postgres types written by the discovered
+     * {@link JdbcTypeSerializer}s (e.g. jsonb and pgvector), so that their
+     * {@link PostgresBinaryObject} values are sent in the binary wire format. Connection providers
+     * call this for every connection they open.
+     */
+    public static Connection enableBinaryTransfer(Connection connection) throws SQLException {
+        PostgresBinaryObject.enableBinarySend(connection, binaryTypeNames);
+        return connection;
+    }
+
     @Override
     public String converterName() {
         return "PostgreSQL";
@@ -66,7 +93,7 @@ public class SqrlPostgresRowConverter extends SqrlBaseJdbcRowConverter {
     @SneakyThrows
     public void setRow(LogicalType type, RowData val, int index,
         FieldNamedPreparedStatement statement) {
-        SqrlFieldNamedPreparedStatementImpl flinkPreparedStatement = (SqrlFieldNamedPreparedStatementImpl) statement;
+        SqrlFieldNamedPreparedStatementImpl flinkPreparedStatement = SqrlFieldNamedPreparedStatementImpl.unwrap(statement);
         for (int idx : flinkPreparedStatement.getIndexMapping()[index]) {
 //            RowData row = val.getRow(index, ((RowType) type).getFieldCount());
 //            java.sql.Array sqlArray = flinkPreparedStatement.getStatement()
@@ -107,6 +134,22 @@ public class SqrlPostgresRowConverter extends SqrlBaseJdbcRowConverter {
         }
     }
 
+    /**
+     * One-dimensional arrays of numbers and booleans are handed to the driver as primitive arrays,
+     * which PGJDBC encodes in the binary array format without boxing the elements.
+     */
+    @Override
+    protected Array createScalarArray(Connection connection, LogicalType type, ArrayData data)
+        throws SQLException {
+        Object primitives = FlinkArrayTypeUtil.toPrimitiveArray(data,
+            ((ArrayType) type).getElementType());
+        if (primitives != null && connection.isWrapperFor(PGConnection.class)) {
+            return connection.unwrap(PGConnection.class)
+                .createArrayOf(getArrayScalarName(type), primitives);
+        }
+        return super.createScalarArray(connection, type, data);
+    }
+
     @Override
     protected String getArrayType() {
         return "bytea";
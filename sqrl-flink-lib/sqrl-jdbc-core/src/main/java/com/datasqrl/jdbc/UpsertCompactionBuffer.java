@@ -0,0 +1,137 @@
+package com.datasqrl.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.RowData.FieldGetter;
+import org.apache.flink.table.runtime.typeutils.InternalSerializers;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
+
+/**
+ * Buffers the changes written to a table between two flushes.
+ *
+ * For tables with a primary key only the latest change per key is kept: an insert or update
+ * replaces the buffered row and a delete (or update-before) replaces it with a delete of the key.
+ * A key that changes many times between flushes is therefore written once, and the final state of
+ * each key is the same as if every change had been applied in order. Keys keep the position of
+ * their first change. Tables without a primary key are append-only and buffer every row.
+ *
+ * When object reuse is enabled, the upstream operator reuses the row instances it emits, so rows
+ * are copied with the row serializer before they are buffered, like Flink's
+ * {@code TableBufferReducedStatementExecutor} does.
+ */
+public class UpsertCompactionBuffer {
+
+  @FunctionalInterface
+  public interface RowConsumer<E extends Exception> {
+
+    void accept(RowData row) throws E;
+  }
+
+  private final String[] keyFields;
+  private final LogicalType[] keyTypes;
+  private final FieldGetter[] keyGetters;
+  private final Function<RowData, RowData> valueTransform;
+
+  private final List<RowData> appendBuffer = new ArrayList<>();
+  private final Map<RowData, Tuple2<Boolean, RowData>> reduceBuffer = new LinkedHashMap<>();
+
+  public UpsertCompactionBuffer(String[] fieldNames, String[] keyFields,
+      LogicalType[] fieldTypes) {
+    this(fieldNames, keyFields, fieldTypes, false);
+  }
+
+  /**
+   * @param copyRows whether rows are copied before they are buffered, must be set when object
+   *                 reuse is enabled
+   */
+  public UpsertCompactionBuffer(String[] fieldNames, String[] keyFields,
+      LogicalType[] fieldTypes, boolean copyRows) {
+    this.keyFields = keyFields;
+    if (copyRows) {
+      TypeSerializer<RowData> serializer = InternalSerializers.create(RowType.of(fieldTypes));
+      this.valueTransform = serializer::copy;
+    } else {
+      this.valueTransform = Function.identity();
+    }
+    this.keyTypes = new LogicalType[keyFields.length];
+    this.keyGetters = new FieldGetter[keyFields.length];
+    List<String> names = Arrays.asList(fieldNames);
+    for (int i = 0; i < keyFields.length; i++) {
+      int index = names.indexOf(keyFields[i]);
+      keyTypes[i] = fieldTypes[index];
+      keyGetters[i] = RowData.createFieldGetter(fieldTypes[index], index);
+    }
+  }
+
+  public boolean hasKey() {
+    return keyFields.length > 0;
+  }
+
+  public String[] getKeyFields() {
+    return keyFields;
+  }
+
+  public LogicalType[] getKeyTypes() {
+    return keyTypes;
+  }
+
+  public void add(RowData record) {
+    record = valueTransform.apply(record);
+    if (!hasKey()) {
+      appendBuffer.add(record);
+      return;
+    }
+    GenericRowData key = new GenericRowData(keyGetters.length);
+    for (int i = 0; i < keyGetters.length; i++) {
+      key.setField(i, keyGetters[i].getFieldOrNull(record));
+    }
+    boolean upsert = record.getRowKind() == RowKind.INSERT
+        || record.getRowKind() == RowKind.UPDATE_AFTER;
+    reduceBuffer.put(key, Tuple2.of(upsert, record));
+  }
+
+  /**
+   * @return the number of rows that the next flush writes
+   */
+  public int size() {
+    return appendBuffer.size() + reduceBuffer.size();
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Passes every buffered row that is inserted or upserted to the first consumer and the key of
+   * every deleted row to the second. The buffer is left unchanged so that a failed write can be
+   * retried.
+   */
+  public <E extends Exception> void forEach(RowConsumer<E> upserts, RowConsumer<E> deletes)
+      throws E {
+    for (RowData row : appendBuffer) {
+      upserts.accept(row);
+    }
+    for (Map.Entry<RowData, Tuple2<Boolean, RowData>> entry : reduceBuffer.entrySet()) {
+      if (entry.getValue().f0) {
+        upserts.accept(entry.getValue().f1);
+      } else {
+        deletes.accept(entry.getKey());
+      }
+    }
+  }
+
+  public void clear() {
+    appendBuffer.clear();
+    reduceBuffer.clear();
+  }
+}
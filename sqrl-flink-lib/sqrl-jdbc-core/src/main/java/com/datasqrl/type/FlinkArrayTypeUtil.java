@@ -0,0 +1,92 @@
+package com.datasqrl.type;
+
+import org.apache.flink.table.data.ArrayData;
+import org.apache.flink.table.data.GenericArrayData;
+import org.apache.flink.table.types.logical.ArrayType;
+import org.apache.flink.table.types.logical.LogicalType;
+
+public class FlinkArrayTypeUtil {
+
+  public static LogicalType getBaseFlinkArrayType(LogicalType type) {
+    if (type instanceof ArrayType) {
+      return getBaseFlinkArrayType(((ArrayType) type).getElementType());
+    }
+    return type;
+  }
+
+  public static boolean isScalarArray(LogicalType type) {
+    if (type instanceof ArrayType) {
+      LogicalType elementType = ((ArrayType) type).getElementType();
+      return isScalar(elementType) || isScalarArray(elementType);
+    }
+    return false;
+  }
+
+  /**
+   * Copies a one-dimensional array with a numeric or boolean element type into the corresponding
+   * Java primitive array (e.g. {@code long[]} for BIGINT), which avoids boxing every element.
+   * Returns null if the elements have no primitive representation, the array contains nulls or is
+   * a {@link GenericArrayData} of already boxed elements.
+   */
+  public static Object toPrimitiveArray(ArrayData data, LogicalType elementType) {
+    if (data instanceof GenericArrayData && !((GenericArrayData) data).isPrimitiveArray()) {
+      return null;
+    }
+    switch (elementType.getTypeRoot()) {
+      case BOOLEAN:
+      case SMALLINT:
+      case INTEGER:
+      case BIGINT:
+      case FLOAT:
+      case DOUBLE:
+        break;
+      default:
+        return null;
+    }
+    for (int i = 0; i < data.size(); i++) {
+      if (data.isNullAt(i)) {
+        return null;
+      }
+    }
+    switch (elementType.getTypeRoot()) {
+      case BOOLEAN:
+        return data.toBooleanArray();
+      case SMALLINT:
+        return data.toShortArray();
+      case INTEGER:
+        return data.toIntArray();
+      case BIGINT:
+        return data.toLongArray();
+      case FLOAT:
+        return data.toFloatArray();
+      default:
+        return data.toDoubleArray();
+    }
+  }
+
+  public static boolean isScalar(LogicalType type) {
+    switch (type.getTypeRoot()) {
+      case BOOLEAN:
+      case TINYINT:
+      case SMALLINT:
+      case INTEGER:
+      case BIGINT:
+      case FLOAT:
+      case DOUBLE:
+      case CHAR:
+      case VARCHAR:
+      case BINARY:
+      case VARBINARY:
+      case DATE:
+      case TIME_WITHOUT_TIME_ZONE:
+      case TIMESTAMP_WITH_TIME_ZONE:
+      case TIMESTAMP_WITHOUT_TIME_ZONE:
+      case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+      case DECIMAL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+}
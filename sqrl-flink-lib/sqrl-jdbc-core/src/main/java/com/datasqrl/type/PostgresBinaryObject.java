@@ -0,0 +1,97 @@
+package com.datasqrl.type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.Oid;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+/**
+ * A {@link PGobject} that pgjdbc sends in the binary wire format of its type, so values are
+ * written straight into the bind message instead of being formatted as text and parsed again by
+ * the server. If binary transfer isn't enabled for the type on the connection, pgjdbc falls back to
+ * the text representation returned by {@link #getValue()}.
+ *
+ * These objects are only used to send parameters, never to read results.
+ */
+public abstract class PostgresBinaryObject extends PGobject implements PGBinaryObject {
+
+  private static final int[] BUILTIN_OIDS = Arrays.stream(Oid.class.getFields())
+      .filter(f -> Modifier.isStatic(f.getModifiers()) && f.getType() == int.class)
+      .mapToInt(PostgresBinaryObject::getOid)
+      .toArray();
+
+  protected PostgresBinaryObject(String type) {
+    this.type = type;
+  }
+
+  protected abstract String toText();
+
+  @Override
+  public String getValue() {
+    return toText();
+  }
+
+  @Override
+  public void setValue(String value) throws SQLException {
+    throw new SQLFeatureNotSupportedException(getClass().getSimpleName() + " is write only");
+  }
+
+  @Override
+  public void setByteValue(byte[] value, int offset) throws SQLException {
+    throw new SQLFeatureNotSupportedException(getClass().getSimpleName() + " is write only");
+  }
+
+  /**
+   * pgjdbc only sends built-in types in binary by default and can't be configured by type name
+   * for extension types like pgvector whose OID differs per database. This enables binary send for
+   * the given types on a pgjdbc connection. pgjdbc replaces the whole set of binary send OIDs, so
+   * the OIDs of all types are collected first and set once, together with the built-in and given
+   * types that are already enabled.
+   *
+   * @return the names of the given types whose values are sent in binary on this connection
+   */
+  public static Set<String> enableBinarySend(Connection connection, Collection<String> typeNames)
+      throws SQLException {
+    if (!connection.isWrapperFor(BaseConnection.class)) {
+      return Set.of();
+    }
+    BaseConnection baseConnection = connection.unwrap(BaseConnection.class);
+    Map<String, Integer> typeOids = new LinkedHashMap<>();
+    for (String typeName : typeNames) {
+      int oid = baseConnection.getTypeInfo().getPGType(typeName);
+      if (oid != Oid.UNSPECIFIED) {
+        typeOids.put(typeName, oid);
+      }
+    }
+    boolean allEnabled = typeOids.values().stream().allMatch(baseConnection::binaryTransferSend);
+    if (!allEnabled) {
+      Set<Integer> oids = new TreeSet<>(typeOids.values());
+      for (int builtinOid : BUILTIN_OIDS) {
+        if (baseConnection.binaryTransferSend(builtinOid)) {
+          oids.add(builtinOid);
+        }
+      }
+      baseConnection.getQueryExecutor().setBinarySendOids(oids);
+    }
+    return typeOids.keySet();
+  }
+
+  private static int getOid(Field field) {
+    try {
+      return field.getInt(null);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
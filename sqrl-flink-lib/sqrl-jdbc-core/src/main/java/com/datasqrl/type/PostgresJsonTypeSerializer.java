@@ -4,9 +4,9 @@ import com.datasqrl.json.FlinkJsonType;
 import com.datasqrl.json.FlinkJsonTypeSerializer;
 import org.apache.flink.connector.jdbc.converter.AbstractJdbcRowConverter.JdbcDeserializationConverter;
 import org.apache.flink.connector.jdbc.converter.AbstractJdbcRowConverter.JdbcSerializationConverter;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.flink.table.data.RawValueData;
 import org.apache.flink.table.types.logical.LogicalType;
-import org.postgresql.util.PGobject;
 
 public class PostgresJsonTypeSerializer
     implements JdbcTypeSerializer<JdbcDeserializationConverter, JdbcSerializationConverter> {
@@ -23,7 +23,7 @@ public class PostgresJsonTypeSerializer
 
   @Override
   public String dialectTypeName() {
-    return "jsonb";
+    return PostgresJsonbObject.TYPE;
   }
 
   @Override
@@ -38,18 +38,16 @@ public class PostgresJsonTypeSerializer
   public GenericSerializationConverter<JdbcSerializationConverter> getSerializerConverter(
       LogicalType type) {
     FlinkJsonTypeSerializer typeSerializer = new FlinkJsonTypeSerializer();
+    ObjectMapper mapper = new ObjectMapper();
 
     return ()-> (val, index, statement) -> {
       if (val != null && !val.isNullAt(index)) {
-        PGobject pgObject = new PGobject();
-        pgObject.setType("json");
         RawValueData<FlinkJsonType> object = val.getRawValue(index);
-        FlinkJsonType vec = object.toObject(typeSerializer);
-        if (vec == null) {
+        FlinkJsonType json = object.toObject(typeSerializer);
+        if (json == null) {
           statement.setObject(index, null);
         } else {
-          pgObject.setValue(vec.getJson().toString());
-          statement.setObject(index, pgObject);
+          statement.setObject(index, PostgresJsonbObject.of(mapper, json.getJson()));
         }
       } else {
         statement.setObject(index, null);
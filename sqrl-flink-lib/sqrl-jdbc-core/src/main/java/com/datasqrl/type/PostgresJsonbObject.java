@@ -0,0 +1,52 @@
+package com.datasqrl.type;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A jsonb parameter holding UTF-8 encoded JSON. The binary format (version 1) is the version byte
+ * followed by the JSON text.
+ */
+public class PostgresJsonbObject extends PostgresBinaryObject {
+
+  public static final String TYPE = "jsonb";
+
+  private static final byte JSONB_VERSION = 1;
+
+  private final byte[] json;
+
+  public PostgresJsonbObject(byte[] json) {
+    super(TYPE);
+    this.json = json;
+  }
+
+  /**
+   * Serializes the JSON straight to UTF-8 bytes without an intermediate string.
+   */
+  public static PostgresJsonbObject of(ObjectMapper mapper, JsonNode json) throws SQLException {
+    try {
+      return new PostgresJsonbObject(mapper.writeValueAsBytes(json));
+    } catch (JsonProcessingException e) {
+      throw new SQLException("Could not serialize JSON value", e);
+    }
+  }
+
+  @Override
+  protected String toText() {
+    return new String(json, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public int lengthInBytes() {
+    return json.length + 1;
+  }
+
+  @Override
+  public void toBytes(byte[] bytes, int offset) {
+    bytes[offset] = JSONB_VERSION;
+    System.arraycopy(json, 0, bytes, offset + 1, json.length);
+  }
+}
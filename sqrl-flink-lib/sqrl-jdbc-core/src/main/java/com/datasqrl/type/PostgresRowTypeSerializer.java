@@ -5,13 +5,11 @@ import org.apache.flink.connector.jdbc.converter.AbstractJdbcRowConverter.JdbcDe
 import org.apache.flink.connector.jdbc.converter.AbstractJdbcRowConverter.JdbcSerializationConverter;
 import org.apache.flink.formats.common.TimestampFormat;
 import org.apache.flink.formats.json.JsonFormatOptions.MapNullKeyMode;
+import org.apache.flink.formats.json.RowDataToJsonConverters.RowDataToJsonConverter;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ObjectNode;
-import org.apache.flink.table.types.logical.ArrayType;
 import org.apache.flink.table.types.logical.LogicalType;
 import org.apache.flink.types.Row;
-import org.postgresql.util.PGobject;
 
 public class PostgresRowTypeSerializer
     implements JdbcTypeSerializer<JdbcDeserializationConverter, JdbcSerializationConverter> {
@@ -28,7 +26,7 @@ public class PostgresRowTypeSerializer
 
   @Override
   public String dialectTypeName() {
-    return "jsonb";
+    return PostgresJsonbObject.TYPE;
   }
 
   @Override
@@ -42,20 +40,14 @@ public class PostgresRowTypeSerializer
   public GenericSerializationConverter<JdbcSerializationConverter> getSerializerConverter(
       LogicalType type) {
     ObjectMapper mapper = new ObjectMapper();
+    //The converter tree only depends on the type, build it once and not per row
+    RowDataToJsonConverter converter = new SqrlRowDataToJsonConverters(
+        TimestampFormat.SQL, MapNullKeyMode.DROP, "null")
+        .createConverter(type);
     return ()-> (val, index, statement) -> {
       if (val != null && !val.isNullAt(index)) {
-        SqrlRowDataToJsonConverters rowDataToJsonConverter = new SqrlRowDataToJsonConverters(
-            TimestampFormat.SQL, MapNullKeyMode.DROP, "null");
-
-        ArrayType arrayType = (ArrayType) type;
-        ObjectNode objectNode = mapper.createObjectNode();
-        JsonNode convert = rowDataToJsonConverter.createConverter(arrayType.getElementType())
-            .convert(mapper, objectNode, val);
-
-        PGobject pgObject = new PGobject();
-        pgObject.setType("json");
-        pgObject.setValue(convert.toString());
-        statement.setObject(index, pgObject);
+        JsonNode json = converter.convert(mapper, null, val.getArray(index));
+        statement.setObject(index, PostgresJsonbObject.of(mapper, json));
       } else {
         statement.setObject(index, null);
       }
@@ -0,0 +1,185 @@
+package com.datasqrl.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datasqrl.jdbc.SqrlJdbcConnectorOptions.WriteMode;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.jdbc.JdbcExecutionOptions;
+import org.apache.flink.connector.jdbc.internal.options.JdbcDmlOptions;
+import org.apache.flink.table.data.GenericArrayData;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.types.logical.ArrayType;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.VarCharType;
+import org.apache.flink.types.RowKind;
+import org.junit.jupiter.api.Test;
+
+/**
+ * sqrl-jdbc-core is compiled against the oldest supported JDBC connector. Each sqrl-jdbc-1.x module
+ * extends this test to run the core classes against its connector version without a database, so
+ * that a connector API change surfaces as a test failure instead of a linkage error at runtime.
+ */
+public abstract class AbstractJdbcCoreCompatibilityTest {
+
+  private static final String[] FIELDS = {"id", "name", "tags"};
+  private static final LogicalType[] TYPES = {new BigIntType(false),
+      new VarCharType(VarCharType.MAX_LENGTH), new ArrayType(new BigIntType())};
+
+  @Test
+  public void testConnectorTypesAreImplemented() {
+    for (Class<?> clazz : List.of(SqrlPostgresDialect.class, SqrlPostgresRowConverter.class,
+        SqrlFieldNamedPreparedStatementImpl.class, CompactingStatementExecutor.class,
+        PostgresCopyStatementExecutor.class)) {
+      for (Method method : clazz.getMethods()) {
+        assertFalse(Modifier.isAbstract(method.getModifiers()),
+            () -> clazz.getSimpleName() + " does not implement " + method);
+      }
+    }
+  }
+
+  @Test
+  public void testDialect() {
+    SqrlPostgresDialect dialect = new SqrlPostgresDialect();
+    dialect.validate(RowType.of(TYPES, FIELDS));
+    assertNotNull(dialect.getRowConverter(RowType.of(TYPES, FIELDS)));
+    assertTrue(dialect.getUpsertStatement("t", FIELDS, new String[]{"id"}).isPresent());
+    assertNotNull(SqrlJdbcSourceOptions.getJdbcReadOptions(new Configuration()));
+  }
+
+  @Test
+  public void testUpsertExecutor() throws Exception {
+    List<String> calls = executeBatch(new String[]{"id"});
+    assertTrue(calls.contains("setLong(1, 1)"), calls::toString);
+    assertTrue(calls.contains("setArray"), calls::toString);
+    //One batch for the upserts and one for the deletes
+    assertEquals(2, calls.stream().filter("executeBatch"::equals).count(), calls::toString);
+  }
+
+  @Test
+  public void testAppendExecutor() throws Exception {
+    List<String> calls = executeBatch(new String[0]);
+    assertEquals(2, calls.stream().filter("addBatch"::equals).count(), calls::toString);
+    assertEquals(1, calls.stream().filter("executeBatch"::equals).count(), calls::toString);
+  }
+
+  @Test
+  public void testCopyExecutor() {
+    new PostgresCopyStatementExecutor(dmlOptions(new String[]{"id"}), TYPES, true);
+  }
+
+  @Test
+  public void testCompactedBufferLimit() throws Exception {
+    JdbcExecutionOptions executionOptions = JdbcExecutionOptions.builder()
+        .withBatchSize(2)
+        .withBatchIntervalMs(100)
+        .withMaxRetries(1)
+        .build();
+    JdbcExecutionOptions parentOptions = CompactedBufferLimit.withoutRecordLimit(executionOptions);
+    assertEquals(0, parentOptions.getBatchSize());
+    assertEquals(100, parentOptions.getBatchIntervalMs());
+
+    CompactedBufferLimit limit = new CompactedBufferLimit(executionOptions);
+    assertFalse(limit.isReached());
+    BufferedStatementExecutor executor = limit.track(new BufferedStatementExecutorFactory(
+        WriteMode.STATEMENT, dmlOptions(new String[]{"id"}), TYPES).create(false));
+    executor.prepareStatements(connection(new ArrayList<>()));
+    for (int i = 0; i < 3; i++) {
+      //Updates of the same key are compacted into one buffered row
+      executor.addToBatch(GenericRowData.ofKind(RowKind.UPDATE_AFTER, 1L,
+          StringData.fromString("a" + i), null));
+    }
+    assertFalse(limit.isReached());
+    executor.addToBatch(GenericRowData.ofKind(RowKind.INSERT, 2L, StringData.fromString("b"),
+        null));
+    assertTrue(limit.isReached());
+  }
+
+  private static List<String> executeBatch(String[] keyFields) throws Exception {
+    List<String> calls = new ArrayList<>();
+    CompactingStatementExecutor executor = CompactingStatementExecutor.create(
+        dmlOptions(keyFields), TYPES, true);
+    executor.prepareStatements(connection(calls));
+    executor.addToBatch(GenericRowData.ofKind(RowKind.INSERT, 1L, StringData.fromString("a"),
+        new GenericArrayData(new long[]{1, 2})));
+    executor.addToBatch(GenericRowData.ofKind(RowKind.DELETE, 2L, StringData.fromString("b"),
+        null));
+    executor.executeBatch();
+    executor.closeStatements();
+    return calls;
+  }
+
+  private static JdbcDmlOptions dmlOptions(String[] keyFields) {
+    return JdbcDmlOptions.builder()
+        .withTableName("t")
+        .withDialect(new SqrlPostgresDialect())
+        .withFieldNames(FIELDS)
+        .withKeyFields(keyFields.length > 0 ? keyFields : null)
+        .build();
+  }
+
+  /**
+   * A connection whose prepared statements record the parameters that are set on them.
+   */
+  private static Connection connection(List<String> calls) {
+    return proxy(Connection.class, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "prepareStatement":
+          return statement(calls, (Connection) proxy);
+        case "createArrayOf":
+          return proxy(Array.class, (p, m, a) -> null);
+        default:
+          return defaultValue(method);
+      }
+    });
+  }
+
+  private static PreparedStatement statement(List<String> calls, Connection connection) {
+    return proxy(PreparedStatement.class, (proxy, method, args) -> {
+      String name = method.getName();
+      if (name.equals("getConnection")) {
+        return connection;
+      } else if (name.equals("executeBatch")) {
+        calls.add(name);
+        return new int[0];
+      } else if (name.equals("setArray") || args == null) {
+        calls.add(name);
+      } else if (name.startsWith("set") && args.length == 2) {
+        calls.add(name + "(" + args[0] + ", " + args[1] + ")");
+      }
+      return defaultValue(method);
+    });
+  }
+
+  private static Object defaultValue(Method method) {
+    Class<?> type = method.getReturnType();
+    if (type == boolean.class) {
+      return false;
+    } else if (type == int.class) {
+      return 0;
+    } else if (type == long.class) {
+      return 0L;
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return (T) Proxy.newProxyInstance(AbstractJdbcCoreCompatibilityTest.class.getClassLoader(),
+        new Class<?>[]{type}, handler);
+  }
+}
@@ -0,0 +1,75 @@
+package com.datasqrl.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.VarCharType;
+import org.apache.flink.types.RowKind;
+import org.junit.jupiter.api.Test;
+
+public class UpsertCompactionBufferTest {
+
+  private static final String[] FIELDS = {"id", "name"};
+  private static final LogicalType[] TYPES = {new BigIntType(), new VarCharType()};
+
+  @Test
+  public void testKeepsLatestChangePerKey() {
+    UpsertCompactionBuffer buffer = new UpsertCompactionBuffer(FIELDS, new String[]{"id"}, TYPES);
+    buffer.add(row(RowKind.INSERT, 1, "a"));
+    buffer.add(row(RowKind.INSERT, 2, "b"));
+    buffer.add(row(RowKind.UPDATE_BEFORE, 1, "a"));
+    buffer.add(row(RowKind.UPDATE_AFTER, 1, "c"));
+    buffer.add(row(RowKind.DELETE, 2, "b"));
+    buffer.add(row(RowKind.INSERT, 3, "d"));
+    buffer.add(row(RowKind.DELETE, 3, "d"));
+    buffer.add(row(RowKind.INSERT, 3, "e"));
+    assertEquals(3, buffer.size());
+
+    List<String> upserts = new ArrayList<>();
+    List<Long> deletes = new ArrayList<>();
+    buffer.forEach(r -> upserts.add(r.getLong(0) + r.getString(1).toString()),
+        k -> deletes.add(k.getLong(0)));
+    assertEquals(List.of("1c", "3e"), upserts);
+    assertEquals(List.of(2L), deletes);
+
+    //forEach doesn't consume the buffer so a failed flush can be retried
+    assertEquals(3, buffer.size());
+    buffer.clear();
+    assertTrue(buffer.isEmpty());
+  }
+
+  @Test
+  public void testAppendOnly() {
+    UpsertCompactionBuffer buffer = new UpsertCompactionBuffer(FIELDS, new String[0], TYPES);
+    buffer.add(row(RowKind.INSERT, 1, "a"));
+    buffer.add(row(RowKind.INSERT, 1, "a"));
+    assertEquals(2, buffer.size());
+  }
+
+  @Test
+  public void testCopiesReusedRows() {
+    UpsertCompactionBuffer buffer = new UpsertCompactionBuffer(FIELDS, new String[]{"id"}, TYPES,
+        true);
+    GenericRowData reused = GenericRowData.ofKind(RowKind.INSERT, 1L, StringData.fromString("a"));
+    buffer.add(reused);
+    reused.setField(0, 2L);
+    reused.setField(1, StringData.fromString("b"));
+    buffer.add(reused);
+    assertEquals(2, buffer.size());
+
+    List<String> upserts = new ArrayList<>();
+    buffer.forEach(r -> upserts.add(r.getLong(0) + r.getString(1).toString()), k -> { });
+    assertEquals(List.of("1a", "2b"), upserts);
+  }
+
+  private static RowData row(RowKind kind, long id, String name) {
+    return GenericRowData.ofKind(kind, id, StringData.fromString(name));
+  }
+}
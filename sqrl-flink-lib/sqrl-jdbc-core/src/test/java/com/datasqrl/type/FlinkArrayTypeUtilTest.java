@@ -0,0 +1,51 @@
+package com.datasqrl.type;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.flink.table.data.GenericArrayData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.binary.BinaryArrayData;
+import org.apache.flink.table.data.writer.BinaryArrayWriter;
+import org.apache.flink.table.types.logical.ArrayType;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.DoubleType;
+import org.apache.flink.table.types.logical.FloatType;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.VarCharType;
+import org.junit.jupiter.api.Test;
+
+class FlinkArrayTypeUtilTest {
+
+  @Test
+  public void testToPrimitiveArray() {
+    assertArrayEquals(new long[]{1L, -2L, 3L}, (long[]) FlinkArrayTypeUtil.toPrimitiveArray(
+        BinaryArrayData.fromPrimitiveArray(new long[]{1L, -2L, 3L}), new BigIntType()));
+    assertArrayEquals(new int[]{4, 5}, (int[]) FlinkArrayTypeUtil.toPrimitiveArray(
+        new GenericArrayData(new int[]{4, 5}), new IntType()));
+    assertArrayEquals(new double[]{1.5, 2.25}, (double[]) FlinkArrayTypeUtil.toPrimitiveArray(
+        new GenericArrayData(new double[]{1.5, 2.25}), new DoubleType()));
+    assertArrayEquals(new float[]{0.5f}, (float[]) FlinkArrayTypeUtil.toPrimitiveArray(
+        BinaryArrayData.fromPrimitiveArray(new float[]{0.5f}), new FloatType()));
+    assertArrayEquals(new boolean[]{true, false}, (boolean[]) FlinkArrayTypeUtil.toPrimitiveArray(
+        BinaryArrayData.fromPrimitiveArray(new boolean[]{true, false}), new BooleanType()));
+  }
+
+  @Test
+  public void testNoPrimitiveArray() {
+    //Nulls, boxed, non-primitive and nested elements are passed as boxed elements
+    BinaryArrayData withNull = new BinaryArrayData();
+    BinaryArrayWriter writer = new BinaryArrayWriter(withNull, 2, 8);
+    writer.writeLong(0, 1L);
+    writer.setNullLong(1);
+    writer.complete();
+    assertNull(FlinkArrayTypeUtil.toPrimitiveArray(withNull, new BigIntType()));
+    assertNull(FlinkArrayTypeUtil.toPrimitiveArray(
+        new GenericArrayData(new Long[]{1L, 2L}), new BigIntType()));
+    assertNull(FlinkArrayTypeUtil.toPrimitiveArray(
+        new GenericArrayData(new Object[]{StringData.fromString("a")}), new VarCharType()));
+    assertNull(FlinkArrayTypeUtil.toPrimitiveArray(
+        new GenericArrayData(new double[][]{{1.0}}), new ArrayType(new DoubleType())));
+  }
+}
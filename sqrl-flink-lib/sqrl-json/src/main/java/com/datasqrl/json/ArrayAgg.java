@@ -1,21 +1,86 @@
 package com.datasqrl.json;
 
+import java.util.ArrayList;
 import java.util.List;
-import lombok.Value;
+import lombok.SneakyThrows;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
-import org.apache.flink.table.annotation.DataTypeHint;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.NullNode;
+import org.apache.flink.table.api.dataview.ListView;
 
-@Value
+/**
+ * Accumulator for {@link JsonArrayAgg}. Elements are kept in a {@link ListView} which the state
+ * backend stores as list state, so that appending an element only writes that element instead of
+ * re-serializing the entire accumulator. Retracting an element still reads and rewrites the whole
+ * list, since list state cannot remove single elements. Elements are serialized with the
+ * {@link FlinkJsonTypeSerializer}.
+ *
+ * Null values are stored as JSON null nodes since list state does not support null elements.
+ */
 public class ArrayAgg {
 
-  @DataTypeHint(value = "RAW")
-  private List<JsonNode> objects;
+  public ListView<FlinkJsonType> objects = new ListView<>();
+  public int size = 0;
 
+  /**
+   * Appends the value unless the accumulator already holds {@code maxSize} elements. A
+   * {@code maxSize} of zero or less means the accumulator is unbounded.
+   */
+  @SneakyThrows
+  public void add(JsonNode value, int maxSize) {
+    if (maxSize > 0 && size >= maxSize) {
+      return;
+    }
+    objects.add(new FlinkJsonType(nullToNode(value)));
+    size++;
+  }
+
+  @SneakyThrows
   public void add(JsonNode value) {
-    objects.add(value);
+    add(value, 0);
   }
 
+  @SneakyThrows
   public void remove(JsonNode value) {
-    objects.remove(value);
+    if (objects.remove(new FlinkJsonType(nullToNode(value)))) {
+      size--;
+    }
+  }
+
+  /**
+   * Appends all elements of the other accumulator, subject to the same {@code maxSize} cap as
+   * {@link #add(JsonNode, int)}.
+   */
+  @SneakyThrows
+  public void addAll(ArrayAgg other, int maxSize) {
+    for (FlinkJsonType value : other.objects.get()) {
+      if (maxSize > 0 && size >= maxSize) {
+        return;
+      }
+      objects.add(value);
+      size++;
+    }
+  }
+
+  @SneakyThrows
+  public void addAll(ArrayAgg other) {
+    addAll(other, 0);
+  }
+
+  @SneakyThrows
+  public List<JsonNode> toList() {
+    List<JsonNode> result = new ArrayList<>(size);
+    for (FlinkJsonType value : objects.get()) {
+      result.add(value.getJson());
+    }
+    return result;
+  }
+
+  public void clear() {
+    objects.clear();
+    size = 0;
+  }
+
+  static JsonNode nullToNode(JsonNode value) {
+    return value == null ? NullNode.getInstance() : value;
   }
 }
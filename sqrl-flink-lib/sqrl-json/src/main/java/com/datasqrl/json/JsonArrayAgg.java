@@ -1,58 +1,64 @@
 package com.datasqrl.json;
 
-import java.util.ArrayList;
 import lombok.SneakyThrows;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ArrayNode;
-import org.apache.flink.table.annotation.DataTypeHint;
-import org.apache.flink.table.annotation.FunctionHint;
 import org.apache.flink.table.functions.AggregateFunction;
+import org.apache.flink.table.functions.FunctionContext;
 import org.apache.flink.util.jackson.JacksonMapperFactory;
 
 /**
  * Aggregation function that aggregates JSON objects into a JSON array.
+ *
+ * The number of aggregated elements can be capped with the {@value #MAX_SIZE_PARAMETER} job
+ * parameter. Elements beyond the cap are dropped.
  */
 public class JsonArrayAgg extends AggregateFunction<FlinkJsonType, ArrayAgg> {
 
+  public static final String MAX_SIZE_PARAMETER = "sqrl.json.arrayagg.max-size";
+
   private static final ObjectMapper mapper = JacksonMapperFactory.createObjectMapper();
 
+  private int maxSize = 0;
+
+  @Override
+  public void open(FunctionContext context) throws Exception {
+    maxSize = Integer.parseInt(context.getJobParameter(MAX_SIZE_PARAMETER, "0"));
+  }
+
   @Override
   public ArrayAgg createAccumulator() {
-    return new ArrayAgg(new ArrayList<>());
+    return new ArrayAgg();
   }
 
   public void accumulate(ArrayAgg accumulator, String value) {
-    accumulator.add(mapper.getNodeFactory().textNode(value));
+    accumulator.add(mapper.getNodeFactory().textNode(value), maxSize);
   }
 
-  @SneakyThrows
   public void accumulate(ArrayAgg accumulator, FlinkJsonType value) {
     if (value != null) {
-      accumulator.add(value.json);
+      accumulator.add(value.json, maxSize);
     } else {
-      accumulator.add(null);
+      accumulator.add(null, maxSize);
     }
   }
 
   public void accumulate(ArrayAgg accumulator, Double value) {
-    accumulator.add(mapper.getNodeFactory().numberNode(value));
+    accumulator.add(mapper.getNodeFactory().numberNode(value), maxSize);
   }
 
   public void accumulate(ArrayAgg accumulator, Long value) {
-    accumulator.add(mapper.getNodeFactory().numberNode(value));
+    accumulator.add(mapper.getNodeFactory().numberNode(value), maxSize);
   }
 
   public void accumulate(ArrayAgg accumulator, Integer value) {
-    accumulator.add(mapper.getNodeFactory().numberNode(value));
+    accumulator.add(mapper.getNodeFactory().numberNode(value), maxSize);
   }
 
   public void retract(ArrayAgg accumulator, String value) {
     accumulator.remove(mapper.getNodeFactory().textNode(value));
   }
 
-  @SneakyThrows
   public void retract(ArrayAgg accumulator, FlinkJsonType value) {
     if (value != null) {
       accumulator.remove(value.json);
@@ -74,19 +80,22 @@ public class JsonArrayAgg extends AggregateFunction<FlinkJsonType, ArrayAgg> {
   }
 
   public void merge(ArrayAgg accumulator, java.lang.Iterable<ArrayAgg> iterable) {
-    iterable.forEach(o->accumulator.getObjects().addAll(o.getObjects()));
+    for (ArrayAgg other : iterable) {
+      accumulator.addAll(other, maxSize);
+    }
+  }
+
+  public void resetAccumulator(ArrayAgg accumulator) {
+    accumulator.clear();
   }
 
   @Override
+  @SneakyThrows
   public FlinkJsonType getValue(ArrayAgg accumulator) {
     ArrayNode arrayNode = mapper.createArrayNode();
-    for (Object o : accumulator.getObjects()) {
-      if (o instanceof FlinkJsonType) {
-        arrayNode.add(((FlinkJsonType) o).json);
-      } else {
-        arrayNode.addPOJO(o);
-      }
+    for (FlinkJsonType o : accumulator.objects.get()) {
+      arrayNode.add(o.json);
     }
     return new FlinkJsonType(arrayNode);
   }
-}
\ No newline at end of file
+}
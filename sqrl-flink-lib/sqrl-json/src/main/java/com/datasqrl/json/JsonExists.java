@@ -13,10 +13,19 @@ public class JsonExists extends ScalarFunction {
       return null;
     }
     try {
-      return SqlJsonUtils.jsonExists(json.json.toString(), path);
+      if (hasPathMode(path)) {
+        // SQL/JSON path modes are only understood by Flink's implementation
+        return SqlJsonUtils.jsonExists(json.json.toString(), path);
+      }
+      return JsonPathCache.exists(json.getJson(), path);
     } catch (Exception e) {
       return false;
     }
   }
 
-}
\ No newline at end of file
+  private static boolean hasPathMode(String path) {
+    String trimmed = path.trim();
+    return trimmed.startsWith("lax ") || trimmed.startsWith("strict ");
+  }
+
+}
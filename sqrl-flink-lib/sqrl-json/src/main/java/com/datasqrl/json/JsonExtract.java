@@ -1,9 +1,5 @@
 package com.datasqrl.json;
 
-import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.ReadContext;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.flink.table.functions.ScalarFunction;
 
 /**
@@ -18,9 +14,7 @@ public class JsonExtract extends ScalarFunction {
       return null;
     }
     try {
-      JsonNode jsonNode = input.getJson();
-      ReadContext ctx = JsonPath.parse(jsonNode.toString());
-      Object value = ctx.read(pathSpec);
+      Object value = JsonPathCache.read(input.getJson(), pathSpec);
       if (value == null) {
         return null;
       }
@@ -31,52 +25,27 @@ public class JsonExtract extends ScalarFunction {
   }
 
   public String eval(FlinkJsonType input, String pathSpec, String defaultValue) {
-    if (input == null) {
-      return null;
-    }
-    try {
-      ReadContext ctx = JsonPath.parse(input.getJson().toString());
-      JsonPath parse = JsonPath.compile(pathSpec);
-      return ctx.read(parse, String.class);
-    } catch (Exception e) {
-      return defaultValue;
-    }
+    return read(input, pathSpec, String.class, defaultValue);
   }
 
   public Boolean eval(FlinkJsonType input, String pathSpec, Boolean defaultValue) {
-    if (input == null) {
-      return null;
-    }
-    try {
-      ReadContext ctx = JsonPath.parse(input.getJson().toString());
-      JsonPath parse = JsonPath.compile(pathSpec);
-      return ctx.read(parse, Boolean.class);
-    } catch (Exception e) {
-      return defaultValue;
-    }
+    return read(input, pathSpec, Boolean.class, defaultValue);
   }
 
   public Double eval(FlinkJsonType input, String pathSpec, Double defaultValue) {
-    if (input == null) {
-      return null;
-    }
-    try {
-      ReadContext ctx = JsonPath.parse(input.getJson().toString());
-      JsonPath parse = JsonPath.compile(pathSpec);
-      return ctx.read(parse, Double.class);
-    } catch (Exception e) {
-      return defaultValue;
-    }
+    return read(input, pathSpec, Double.class, defaultValue);
   }
 
   public Integer eval(FlinkJsonType input, String pathSpec, Integer defaultValue) {
+    return read(input, pathSpec, Integer.class, defaultValue);
+  }
+
+  private static <T> T read(FlinkJsonType input, String pathSpec, Class<T> type, T defaultValue) {
     if (input == null) {
       return null;
     }
     try {
-      ReadContext ctx = JsonPath.parse(input.getJson().toString());
-      JsonPath parse = JsonPath.compile(pathSpec);
-      return ctx.read(parse, Integer.class);
+      return JsonPathCache.read(input.getJson(), pathSpec, type);
     } catch (Exception e) {
       return defaultValue;
     }
@@ -0,0 +1,90 @@
+package com.datasqrl.json;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.table.functions.ScalarFunction;
+
+/**
+ * Specialized variant of {@link JsonExtract} for JSON paths that only access object fields. The
+ * planner rewrites {@code jsonExtract} calls with literal paths like {@code $.a.b} to this function
+ * with the pre-parsed field names, so that no JSON path is compiled or evaluated at runtime.
+ *
+ * The typed variants take the default value before the field names and return the value with the
+ * type of the default without converting through a string.
+ */
+public class JsonExtractField extends ScalarFunction {
+
+  public String eval(FlinkJsonType input, String... fieldNames) {
+    if (input == null) {
+      return null;
+    }
+    JsonNode node = JsonFieldPath.walk(input.getJson(), fieldNames);
+    if (node == null || node.isNull()) {
+      return null;
+    }
+    return node.isValueNode() ? node.asText() : node.toString();
+  }
+
+  public Boolean eval(FlinkJsonType input, Boolean defaultValue, String... fieldNames) {
+    if (input == null) {
+      return null;
+    }
+    JsonNode node = JsonFieldPath.walk(input.getJson(), fieldNames);
+    if (node == null) {
+      return defaultValue;
+    } else if (node.isNull()) {
+      return null;
+    } else if (node.isBoolean()) {
+      return node.booleanValue();
+    } else if (node.isTextual()) {
+      return Boolean.valueOf(node.textValue());
+    }
+    return defaultValue;
+  }
+
+  public Double eval(FlinkJsonType input, Double defaultValue, String... fieldNames) {
+    if (input == null) {
+      return null;
+    }
+    JsonNode node = JsonFieldPath.walk(input.getJson(), fieldNames);
+    if (node == null) {
+      return defaultValue;
+    } else if (node.isNull()) {
+      return null;
+    } else if (node.isNumber()) {
+      return node.doubleValue();
+    } else if (node.isTextual()) {
+      try {
+        return Double.valueOf(node.textValue());
+      } catch (NumberFormatException e) {
+        return defaultValue;
+      }
+    }
+    return defaultValue;
+  }
+
+  public Long eval(FlinkJsonType input, Long defaultValue, String... fieldNames) {
+    if (input == null) {
+      return null;
+    }
+    JsonNode node = JsonFieldPath.walk(input.getJson(), fieldNames);
+    if (node == null) {
+      return defaultValue;
+    } else if (node.isNull()) {
+      return null;
+    } else if (node.isNumber()) {
+      return node.longValue();
+    } else if (node.isTextual()) {
+      try {
+        return Long.valueOf(node.textValue());
+      } catch (NumberFormatException e) {
+        return defaultValue;
+      }
+    }
+    return defaultValue;
+  }
+
+  public Integer eval(FlinkJsonType input, Integer defaultValue, String... fieldNames) {
+    Long value = eval(input, defaultValue == null ? null : defaultValue.longValue(), fieldNames);
+    return value == null ? null : value.intValue();
+  }
+}
@@ -0,0 +1,82 @@
+package com.datasqrl.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A JSON path that consists only of object field accesses, e.g. {@code $.a.b} or
+ * {@code $['a'].b}. Such paths can be resolved by walking the field names directly without a JSON
+ * path engine.
+ */
+public class JsonFieldPath {
+
+  /**
+   * Parses the given JSON path into its field names.
+   *
+   * @return the field names or empty if the path uses anything other than field accesses
+   * (array indexes, wildcards, filters, deep scans, functions)
+   */
+  public static Optional<String[]> parse(String path) {
+    if (path == null) {
+      return Optional.empty();
+    }
+    String p = path.trim();
+    if (!p.startsWith("$")) {
+      return Optional.empty();
+    }
+    List<String> fields = new ArrayList<>();
+    int i = 1;
+    while (i < p.length()) {
+      char c = p.charAt(i);
+      if (c == '.') {
+        int start = ++i;
+        while (i < p.length() && isFieldChar(p.charAt(i))) {
+          i++;
+        }
+        if (i == start) {
+          return Optional.empty(); // deep scan '..' or wildcard
+        }
+        fields.add(p.substring(start, i));
+      } else if (c == '[' && p.startsWith("['", i)) {
+        int end = p.indexOf("']", i + 2);
+        if (end < 0) {
+          return Optional.empty();
+        }
+        String field = p.substring(i + 2, end);
+        if (field.isEmpty() || field.indexOf('\'') >= 0 || field.indexOf('\\') >= 0) {
+          return Optional.empty();
+        }
+        fields.add(field);
+        i = end + 2;
+      } else {
+        return Optional.empty();
+      }
+    }
+    if (fields.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(fields.toArray(new String[0]));
+  }
+
+  private static boolean isFieldChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+  }
+
+  /**
+   * Walks the given field names starting at the provided node.
+   *
+   * @return the node at the end of the path or null if any field does not exist
+   */
+  public static JsonNode walk(JsonNode json, String... fieldNames) {
+    JsonNode node = json;
+    for (String fieldName : fieldNames) {
+      if (node == null || !node.isObject()) {
+        return null;
+      }
+      node = node.get(fieldName);
+    }
+    return node;
+  }
+}
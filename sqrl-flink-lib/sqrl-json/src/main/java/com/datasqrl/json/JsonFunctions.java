@@ -19,6 +19,7 @@ public class JsonFunctions {
   public static final JsonArrayAgg JSON_ARRAYAGG = new JsonArrayAgg();
   public static final JsonObjectAgg JSON_OBJECTAGG = new JsonObjectAgg();
   public static final JsonConcat JSON_CONCAT = new JsonConcat();
+  public static final JsonExtractField JSON_EXTRACT_FIELD = new JsonExtractField();
 
 
   public static ArgumentTypeStrategy createJsonArgumentTypeStrategy(DataTypeFactory typeFactory) {
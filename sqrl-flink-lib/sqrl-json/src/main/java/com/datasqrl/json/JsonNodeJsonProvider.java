@@ -0,0 +1,252 @@
+package com.datasqrl.json;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.JsonPathException;
+import com.jayway.jsonpath.TypeRef;
+import com.jayway.jsonpath.spi.json.AbstractJsonProvider;
+import com.jayway.jsonpath.spi.mapper.MappingException;
+import com.jayway.jsonpath.spi.mapper.MappingProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JavaType;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.flink.util.jackson.JacksonMapperFactory;
+
+/**
+ * JSONPath provider that evaluates paths directly against Flink's shaded Jackson {@link JsonNode}
+ * trees, so that {@link FlinkJsonType} values never have to be serialized to a string and
+ * re-parsed for a path lookup.
+ *
+ * The json-path library ships a Jackson provider, but it is bound to the unshaded Jackson classes
+ * and can't be used with the nodes held by {@link FlinkJsonType}.
+ */
+public class JsonNodeJsonProvider extends AbstractJsonProvider implements MappingProvider {
+
+  private static final ObjectMapper mapper = JacksonMapperFactory.createObjectMapper();
+
+  public static final JsonNodeJsonProvider INSTANCE = new JsonNodeJsonProvider();
+
+  public static final Configuration CONFIGURATION = Configuration.builder()
+      .jsonProvider(INSTANCE)
+      .mappingProvider(INSTANCE)
+      .build();
+
+  @Override
+  public Object parse(String json) throws InvalidJsonException {
+    try {
+      return mapper.readTree(json);
+    } catch (IOException e) {
+      throw new InvalidJsonException(e, json);
+    }
+  }
+
+  @Override
+  public Object parse(InputStream jsonStream, String charset) throws InvalidJsonException {
+    try {
+      return mapper.readTree(jsonStream);
+    } catch (IOException e) {
+      throw new InvalidJsonException(e);
+    }
+  }
+
+  @Override
+  public String toJson(Object obj) {
+    if (obj instanceof JsonNode) {
+      return obj.toString();
+    }
+    try {
+      return mapper.writeValueAsString(obj);
+    } catch (JsonProcessingException e) {
+      throw new JsonPathException(e);
+    }
+  }
+
+  @Override
+  public Object createArray() {
+    return JsonNodeFactory.instance.arrayNode();
+  }
+
+  @Override
+  public Object createMap() {
+    return JsonNodeFactory.instance.objectNode();
+  }
+
+  @Override
+  public Object unwrap(Object o) {
+    if (!(o instanceof JsonNode)) {
+      return o;
+    }
+    JsonNode node = (JsonNode) o;
+    if (node.isContainerNode()) {
+      return node;
+    } else if (node.isTextual()) {
+      return node.textValue();
+    } else if (node.isBoolean()) {
+      return node.booleanValue();
+    } else if (node.isNumber()) {
+      return node.numberValue();
+    } else if (node.isNull() || node.isMissingNode()) {
+      return null;
+    }
+    return node;
+  }
+
+  @Override
+  public boolean isArray(Object obj) {
+    return obj instanceof ArrayNode;
+  }
+
+  @Override
+  public boolean isMap(Object obj) {
+    return obj instanceof ObjectNode;
+  }
+
+  @Override
+  public Object getArrayIndex(Object obj, int idx) {
+    return unwrap(toArrayNode(obj).get(idx));
+  }
+
+  @Override
+  public void setArrayIndex(Object array, int index, Object newValue) {
+    if (!(array instanceof ArrayNode)) {
+      throw new UnsupportedOperationException();
+    }
+    ArrayNode arrayNode = (ArrayNode) array;
+    if (index == arrayNode.size()) {
+      arrayNode.add(wrap(newValue));
+    } else {
+      arrayNode.set(index, wrap(newValue));
+    }
+  }
+
+  @Override
+  public Object getMapValue(Object obj, String key) {
+    JsonNode value = toObjectNode(obj).get(key);
+    if (value == null) {
+      return UNDEFINED;
+    }
+    return unwrap(value);
+  }
+
+  @Override
+  public void setProperty(Object obj, Object key, Object value) {
+    if (obj instanceof ArrayNode) {
+      ArrayNode arrayNode = (ArrayNode) obj;
+      if (key == null) {
+        arrayNode.add(wrap(value));
+      } else {
+        int index = key instanceof Integer ? (Integer) key : Integer.parseInt(key.toString());
+        setArrayIndex(arrayNode, index, value);
+      }
+    } else {
+      toObjectNode(obj).set(key.toString(), wrap(value));
+    }
+  }
+
+  @Override
+  public void removeProperty(Object obj, Object key) {
+    if (obj instanceof ArrayNode) {
+      int index = key instanceof Integer ? (Integer) key : Integer.parseInt(key.toString());
+      ((ArrayNode) obj).remove(index);
+    } else {
+      toObjectNode(obj).remove(key.toString());
+    }
+  }
+
+  @Override
+  public Collection<String> getPropertyKeys(Object obj) {
+    List<String> keys = new ArrayList<>();
+    Iterator<String> fieldNames = toObjectNode(obj).fieldNames();
+    while (fieldNames.hasNext()) {
+      keys.add(fieldNames.next());
+    }
+    return keys;
+  }
+
+  @Override
+  public int length(Object obj) {
+    if (obj instanceof JsonNode) {
+      return ((JsonNode) obj).size();
+    }
+    return super.length(obj);
+  }
+
+  @Override
+  public Iterable<?> toIterable(Object obj) {
+    List<Object> values = new ArrayList<>();
+    for (JsonNode node : toArrayNode(obj)) {
+      values.add(unwrap(node));
+    }
+    return values;
+  }
+
+  @Override
+  public <T> T map(Object source, Class<T> targetType, Configuration configuration) {
+    if (source == null) {
+      return null;
+    }
+    if (targetType.isInstance(source)) {
+      return targetType.cast(source);
+    }
+    try {
+      if (targetType == String.class) {
+        return targetType.cast(source.toString());
+      } else if (targetType == Boolean.class && source instanceof String) {
+        return targetType.cast(Boolean.valueOf((String) source));
+      } else if (Number.class.isAssignableFrom(targetType)) {
+        Number number = source instanceof Number ? (Number) source
+            : Double.valueOf(source.toString());
+        if (targetType == Double.class) {
+          return targetType.cast(number.doubleValue());
+        } else if (targetType == Integer.class) {
+          return targetType.cast(number.intValue());
+        } else if (targetType == Long.class) {
+          return targetType.cast(number.longValue());
+        } else if (targetType == Float.class) {
+          return targetType.cast(number.floatValue());
+        }
+      }
+      return mapper.convertValue(wrap(source), targetType);
+    } catch (RuntimeException e) {
+      throw new MappingException(e);
+    }
+  }
+
+  @Override
+  public <T> T map(Object source, TypeRef<T> targetType, Configuration configuration) {
+    if (source == null) {
+      return null;
+    }
+    JavaType type = mapper.getTypeFactory().constructType(targetType.getType());
+    try {
+      return mapper.convertValue(wrap(source), type);
+    } catch (RuntimeException e) {
+      throw new MappingException(e);
+    }
+  }
+
+  private JsonNode wrap(Object value) {
+    if (value instanceof JsonNode) {
+      return (JsonNode) value;
+    }
+    return mapper.valueToTree(value);
+  }
+
+  private ArrayNode toArrayNode(Object obj) {
+    return (ArrayNode) obj;
+  }
+
+  private ObjectNode toObjectNode(Object obj) {
+    return (ObjectNode) obj;
+  }
+}
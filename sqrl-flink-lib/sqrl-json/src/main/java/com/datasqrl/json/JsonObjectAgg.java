@@ -1,8 +1,7 @@
 package com.datasqrl.json;
 
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.Map.Entry;
+import lombok.SneakyThrows;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.flink.table.annotation.DataTypeHint;
@@ -15,15 +14,27 @@ import org.apache.flink.util.jackson.JacksonMapperFactory;
 /**
  * Aggregation function that merges JSON objects into a single JSON object. If two JSON objects
  * share the same field name, the value of the later one is used in the aggregated result.
+ *
+ * The number of fields can be capped with the {@value #MAX_SIZE_PARAMETER} job parameter. Values
+ * for new field names are dropped once the cap is reached.
  */
 @FunctionHint(output = @DataTypeHint(value= "RAW", bridgedTo = FlinkJsonType.class, rawSerializer = FlinkJsonTypeSerializer.class))
 public class JsonObjectAgg extends AggregateFunction<Object, ObjectAgg> {
 
+  public static final String MAX_SIZE_PARAMETER = "sqrl.json.objectagg.max-size";
+
   private static final ObjectMapper mapper = JacksonMapperFactory.createObjectMapper();
 
+  private int maxSize = 0;
+
+  @Override
+  public void open(FunctionContext context) throws Exception {
+    maxSize = Integer.parseInt(context.getJobParameter(MAX_SIZE_PARAMETER, "0"));
+  }
+
   @Override
   public ObjectAgg createAccumulator() {
-    return new ObjectAgg(new LinkedHashMap<>());
+    return new ObjectAgg();
   }
 
   public void accumulate(ObjectAgg accumulator, String key, String value) {
@@ -32,9 +43,9 @@ public class JsonObjectAgg extends AggregateFunction<Object, ObjectAgg> {
 
   public void accumulate(ObjectAgg accumulator, String key, @DataTypeHint(inputGroup = InputGroup.ANY) Object value) {
     if (value instanceof FlinkJsonType) {
-      accumulateObject(accumulator, key, ((FlinkJsonType)value).getJson());
+      accumulator.add(key, ((FlinkJsonType) value).getJson(), maxSize);
     } else {
-      accumulator.add(key, mapper.getNodeFactory().pojoNode(value));
+      accumulateObject(accumulator, key, value);
     }
   }
 
@@ -51,7 +62,7 @@ public class JsonObjectAgg extends AggregateFunction<Object, ObjectAgg> {
   }
 
   public void accumulateObject(ObjectAgg accumulator, String key, Object value) {
-    accumulator.add(key, mapper.getNodeFactory().pojoNode(value));
+    accumulator.add(key, mapper.valueToTree(value), maxSize);
   }
 
   public void retract(ObjectAgg accumulator, String key, String value) {
@@ -79,14 +90,23 @@ public class JsonObjectAgg extends AggregateFunction<Object, ObjectAgg> {
   }
 
   public void merge(ObjectAgg accumulator, java.lang.Iterable<ObjectAgg> iterable) {
-    iterable.forEach(o->accumulator.getObjects().putAll(o.getObjects()));
+    for (ObjectAgg other : iterable) {
+      accumulator.addAll(other, maxSize);
+    }
+  }
+
+  public void resetAccumulator(ObjectAgg accumulator) {
+    accumulator.clear();
   }
 
   @Override
+  @SneakyThrows
   public FlinkJsonType getValue(ObjectAgg accumulator) {
     ObjectNode objectNode = mapper.createObjectNode();
-    accumulator.getObjects().forEach(objectNode::putPOJO);
+    for (Entry<String, FlinkJsonType> entry : accumulator.objects.entries()) {
+      objectNode.set(entry.getKey(), entry.getValue().getJson());
+    }
     return new FlinkJsonType(objectNode);
   }
 
-}
\ No newline at end of file
+}
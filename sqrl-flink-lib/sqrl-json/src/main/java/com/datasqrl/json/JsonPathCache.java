@@ -0,0 +1,66 @@
+package com.datasqrl.json;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Caches compiled {@link JsonPath}s by their path literal and evaluates them directly against
+ * {@link JsonNode}s via the {@link JsonNodeJsonProvider}.
+ *
+ * Path arguments are almost always literals in SQRL scripts, so the cache is shared across all
+ * function instances in the task manager. The cache is cleared once it exceeds
+ * {@link #MAX_CACHED_PATHS} entries to bound memory when paths are computed per row.
+ */
+public class JsonPathCache {
+
+  public static final int MAX_CACHED_PATHS = 1024;
+
+  private static final Map<String, JsonPath> paths = new ConcurrentHashMap<>();
+
+  public static JsonPath compile(String pathSpec) {
+    JsonPath path = paths.get(pathSpec);
+    if (path == null) {
+      path = JsonPath.compile(pathSpec);
+      if (paths.size() >= MAX_CACHED_PATHS) {
+        paths.clear();
+      }
+      paths.put(pathSpec, path);
+    }
+    return path;
+  }
+
+  /**
+   * Reads the value at the given path. Scalar values are unwrapped to their Java representation,
+   * objects and arrays are returned as {@link JsonNode}s.
+   *
+   * @throws PathNotFoundException if the path does not exist in the given JSON
+   */
+  public static <T> T read(JsonNode json, String pathSpec) {
+    return compile(pathSpec).read(json, JsonNodeJsonProvider.CONFIGURATION);
+  }
+
+  public static <T> T read(JsonNode json, String pathSpec, Class<T> type) {
+    Object value = read(json, pathSpec);
+    return JsonNodeJsonProvider.INSTANCE.map(value, type, JsonNodeJsonProvider.CONFIGURATION);
+  }
+
+  /**
+   * Returns true if the path exists in the given JSON. For indefinite paths (wildcards, filters,
+   * deep scans) the path exists if it matches at least one element.
+   */
+  public static boolean exists(JsonNode json, String pathSpec) {
+    JsonPath path = compile(pathSpec);
+    try {
+      Object value = path.read(json, JsonNodeJsonProvider.CONFIGURATION);
+      if (!path.isDefinite() && value instanceof JsonNode) {
+        return ((JsonNode) value).size() > 0;
+      }
+      return true;
+    } catch (PathNotFoundException e) {
+      return false;
+    }
+  }
+}
@@ -1,8 +1,5 @@
 package com.datasqrl.json;
 
-import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.ReadContext;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.flink.table.functions.ScalarFunction;
 import org.apache.flink.util.jackson.JacksonMapperFactory;
@@ -18,13 +15,11 @@ public class JsonQuery extends ScalarFunction {
       return null;
     }
     try {
-      JsonNode jsonNode = input.getJson();
-      ReadContext ctx = JsonPath.parse(jsonNode.toString());
-      Object result = ctx.read(pathSpec);
+      Object result = JsonPathCache.read(input.getJson(), pathSpec);
       return mapper.writeValueAsString(result); // Convert the result back to JSON string
     } catch (Exception e) {
       return null;
     }
   }
 
-}
\ No newline at end of file
+}
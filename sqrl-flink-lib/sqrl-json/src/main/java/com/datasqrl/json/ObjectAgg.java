@@ -1,27 +1,89 @@
 package com.datasqrl.json;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
-import lombok.Getter;
-import lombok.Value;
+import java.util.Map.Entry;
+import lombok.SneakyThrows;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
-import org.apache.flink.table.annotation.DataTypeHint;
+import org.apache.flink.table.api.dataview.MapView;
 
-@Value
+/**
+ * Accumulator for {@link JsonObjectAgg}. Fields are kept in a {@link MapView} which the state
+ * backend stores as map state, so that adding or retracting a field only touches that field
+ * instead of re-serializing the entire accumulator. Values are serialized with the
+ * {@link FlinkJsonTypeSerializer}.
+ *
+ * The order of the fields is not guaranteed: fields keep their insertion order while the view is
+ * held on the heap, but map state iterates in the order of the state backend.
+ */
 public class ObjectAgg {
 
-  @DataTypeHint(value = "RAW")
-  @Getter
-  Map<String, JsonNode> objects;
+  public MapView<String, FlinkJsonType> objects = new MapView<>();
+  public int size = 0;
 
-  public void add(String key, JsonNode value) {
-    if (key != null) {
-      objects.put(key, value);
+  public ObjectAgg() {
+    //Keep insertion order while the view is not backed by state
+    objects.setMap(new LinkedHashMap<>());
+  }
+
+  /**
+   * Sets the value for the key. New keys are ignored once the accumulator holds {@code maxSize}
+   * keys; a {@code maxSize} of zero or less means the accumulator is unbounded.
+   */
+  @SneakyThrows
+  public void add(String key, JsonNode value, int maxSize) {
+    if (key == null) {
+      return;
     }
+    if (!objects.contains(key)) {
+      if (maxSize > 0 && size >= maxSize) {
+        return;
+      }
+      size++;
+    }
+    objects.put(key, new FlinkJsonType(ArrayAgg.nullToNode(value)));
   }
 
+  @SneakyThrows
+  public void add(String key, JsonNode value) {
+    add(key, value, 0);
+  }
+
+  @SneakyThrows
   public void remove(String key) {
-    if (key != null) {
+    if (key != null && objects.contains(key)) {
       objects.remove(key);
+      size--;
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Adds all keys of the other accumulator, subject to the same {@code maxSize} cap as
+   * {@link #add(String, JsonNode, int)}.
+   */
+  @SneakyThrows
+  public void addAll(ObjectAgg other, int maxSize) {
+    for (Entry<String, FlinkJsonType> entry : other.objects.entries()) {
+      add(entry.getKey(), entry.getValue().getJson(), maxSize);
+    }
+  }
+
+  @SneakyThrows
+  public void addAll(ObjectAgg other) {
+    addAll(other, 0);
+  }
+
+  @SneakyThrows
+  public Map<String, JsonNode> toMap() {
+    Map<String, JsonNode> result = new LinkedHashMap<>();
+    for (Entry<String, FlinkJsonType> entry : objects.entries()) {
+      result.put(entry.getKey(), entry.getValue().getJson());
+    }
+    return result;
+  }
+
+  public void clear() {
+    objects.clear();
+    size = 0;
+  }
+}
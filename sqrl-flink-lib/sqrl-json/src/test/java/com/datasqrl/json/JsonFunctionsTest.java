@@ -2,6 +2,10 @@ package com.datasqrl.json;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.TypeRef;
+import java.util.List;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
@@ -196,6 +200,81 @@ class JsonFunctionsTest {
       String result = JsonFunctions.JSON_EXTRACT.eval(json, "$.nonexistentKey");
       assertNull(result);
     }
+
+    @Test
+    void testNestedObjectPath() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"a\": {\"b\": {\"c\": 1}}}"));
+      assertEquals("{\"c\":1}", JsonFunctions.JSON_EXTRACT.eval(json, "$.a.b"));
+      assertEquals("1", JsonFunctions.JSON_EXTRACT.eval(json, "$.a.b.c"));
+    }
+
+    @Test
+    void testArrayIndexPath() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"a\": [{\"b\": \"x\"}, {\"b\": \"y\"}]}"));
+      assertEquals("y", JsonFunctions.JSON_EXTRACT.eval(json, "$.a[1].b"));
+      assertEquals("[\"x\",\"y\"]", JsonFunctions.JSON_EXTRACT.eval(json, "$.a[*].b"));
+    }
+
+    @Test
+    void testTypeConversionWithDefaultValue() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"key\": 12, \"text\": \"abc\"}"));
+      assertEquals("12", JsonFunctions.JSON_EXTRACT.eval(json, "$.key", "default"));
+      assertEquals(12.0, JsonFunctions.JSON_EXTRACT.eval(json, "$.key", 1.0));
+      assertEquals(7, JsonFunctions.JSON_EXTRACT.eval(json, "$.text", 7));
+    }
+
+    @Test
+    void testInputIsNotModified() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"a\": [1, 2, 3]}"));
+      JsonFunctions.JSON_EXTRACT.eval(json, "$.a[*]");
+      assertEquals("{\"a\":[1,2,3]}", json.getJson().toString());
+    }
+  }
+
+  @Nested
+  class JsonExtractFieldTest {
+
+    @Test
+    void testParseFieldPath() {
+      assertArrayEquals(new String[]{"a", "b"}, JsonFieldPath.parse("$.a.b").get());
+      assertArrayEquals(new String[]{"a b", "c"}, JsonFieldPath.parse("$['a b'].c").get());
+      assertTrue(JsonFieldPath.parse("$.a[0]").isEmpty());
+      assertTrue(JsonFieldPath.parse("$..a").isEmpty());
+      assertTrue(JsonFieldPath.parse("$.a.*").isEmpty());
+      assertTrue(JsonFieldPath.parse("$").isEmpty());
+    }
+
+    @Test
+    void testExtractField() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"a\": {\"b\": \"value\", \"c\": {\"d\": 1}}}"));
+      assertEquals("value", JsonFunctions.JSON_EXTRACT_FIELD.eval(json, "a", "b"));
+      assertEquals("{\"d\":1}", JsonFunctions.JSON_EXTRACT_FIELD.eval(json, "a", "c"));
+      assertNull(JsonFunctions.JSON_EXTRACT_FIELD.eval(json, "a", "x"));
+      assertNull(JsonFunctions.JSON_EXTRACT_FIELD.eval(json, "a", "b", "c"));
+    }
+
+    @Test
+    void testTypedExtractField() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"a\": {\"n\": 12, \"d\": 1.5, \"b\": true, \"s\": \"abc\", \"z\": null}}"));
+      assertEquals(12L, JsonFunctions.JSON_EXTRACT_FIELD.eval(json, 0L, "a", "n"));
+      assertEquals(12, JsonFunctions.JSON_EXTRACT_FIELD.eval(json, 0, "a", "n"));
+      assertEquals(1.5, JsonFunctions.JSON_EXTRACT_FIELD.eval(json, 0.0, "a", "d"));
+      assertEquals(true, JsonFunctions.JSON_EXTRACT_FIELD.eval(json, false, "a", "b"));
+      assertEquals(7L, JsonFunctions.JSON_EXTRACT_FIELD.eval(json, 7L, "a", "s"));
+      assertEquals(7L, JsonFunctions.JSON_EXTRACT_FIELD.eval(json, 7L, "a", "missing"));
+      assertNull(JsonFunctions.JSON_EXTRACT_FIELD.eval(json, 7L, "a", "z"));
+    }
+
+    @Test
+    void testMatchesJsonExtract() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"a\": {\"b\": 1.23, \"c\": true}}"));
+      assertEquals(JsonFunctions.JSON_EXTRACT.eval(json, "$.a.b"),
+          JsonFunctions.JSON_EXTRACT_FIELD.eval(json, "a", "b"));
+      assertEquals(JsonFunctions.JSON_EXTRACT.eval(json, "$.a.c", false),
+          JsonFunctions.JSON_EXTRACT_FIELD.eval(json, false, "a", "c"));
+      assertEquals(JsonFunctions.JSON_EXTRACT.eval(json, "$.a.x", 2.0),
+          JsonFunctions.JSON_EXTRACT_FIELD.eval(json, 2.0, "a", "x"));
+    }
   }
 
   @Nested
@@ -223,6 +302,13 @@ class JsonFunctionsTest {
       String result = JsonFunctions.JSON_QUERY.eval(json, "$.invalidKey");
       assertNull(result);
     }
+
+    @Test
+    void testObjectQuery() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"key1\": {\"key2\": [1, true]}}"));
+      String result = JsonFunctions.JSON_QUERY.eval(json, "$.key1");
+      assertEquals("{\"key2\":[1,true]}", result);
+    }
   }
 
   @Nested
@@ -261,6 +347,20 @@ class JsonFunctionsTest {
       Boolean result = JsonFunctions.JSON_EXISTS.eval(null, "$.key");
       assertNull(result);
     }
+
+    @Test
+    void testIndefinitePath() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"a\": [{\"b\": 1}, {\"c\": 2}]}"));
+      assertTrue(JsonFunctions.JSON_EXISTS.eval(json, "$.a[*].c"));
+      assertFalse(JsonFunctions.JSON_EXISTS.eval(json, "$.a[*].d"));
+    }
+
+    @Test
+    void testPathMode() {
+      FlinkJsonType json = new FlinkJsonType(readTree("{\"key\": \"value\"}"));
+      assertTrue(JsonFunctions.JSON_EXISTS.eval(json, "lax $.key"));
+      assertFalse(JsonFunctions.JSON_EXISTS.eval(json, "strict $.nonexistentKey"));
+    }
   }
 
   @Nested
@@ -382,6 +482,41 @@ class JsonFunctionsTest {
       assertNotNull(result);
       assertEquals("[{\"key\":\"value1\"}]", result.getJson().toString());
     }
+
+    @Test
+    void testMaxSize() {
+      ArrayAgg accumulator = JsonFunctions.JSON_ARRAYAGG.createAccumulator();
+      for (int i = 0; i < 5; i++) {
+        accumulator.add(readTree(String.valueOf(i)), 3);
+      }
+      accumulator.remove(readTree("0"));
+      accumulator.add(readTree("5"), 3);
+      FlinkJsonType result = JsonFunctions.JSON_ARRAYAGG.getValue(accumulator);
+      assertEquals("[1,2,5]", result.getJson().toString());
+    }
+
+    @Test
+    void testMerge() {
+      ArrayAgg acc1 = JsonFunctions.JSON_ARRAYAGG.createAccumulator();
+      ArrayAgg acc2 = JsonFunctions.JSON_ARRAYAGG.createAccumulator();
+      JsonFunctions.JSON_ARRAYAGG.accumulate(acc1, 1);
+      JsonFunctions.JSON_ARRAYAGG.accumulate(acc2, "a");
+      JsonFunctions.JSON_ARRAYAGG.merge(acc1, List.of(acc2));
+      assertEquals(2, acc1.size);
+      assertEquals("[1,\"a\"]", JsonFunctions.JSON_ARRAYAGG.getValue(acc1).getJson().toString());
+    }
+
+    @Test
+    void testMergeMaxSize() {
+      ArrayAgg acc1 = JsonFunctions.JSON_ARRAYAGG.createAccumulator();
+      ArrayAgg acc2 = JsonFunctions.JSON_ARRAYAGG.createAccumulator();
+      acc1.add(readTree("1"), 2);
+      acc2.add(readTree("2"));
+      acc2.add(readTree("3"));
+      acc1.addAll(acc2, 2);
+      assertEquals(2, acc1.size);
+      assertEquals("[1,2]", JsonFunctions.JSON_ARRAYAGG.getValue(acc1).getJson().toString());
+    }
   }
 
   @Nested
@@ -475,5 +610,53 @@ class JsonFunctionsTest {
       assertNotNull(result);
       assertEquals("{\"key1\":{\"nestedKey1\":\"nestedValue1\"}}", result.getJson().toString());
     }
+
+    @Test
+    void testMaxSize() {
+      ObjectAgg accumulator = JsonFunctions.JSON_OBJECTAGG.createAccumulator();
+      accumulator.add("key1", readTree("1"), 2);
+      accumulator.add("key2", readTree("2"), 2);
+      accumulator.add("key3", readTree("3"), 2);
+      accumulator.add("key1", readTree("4"), 2);
+      FlinkJsonType result = JsonFunctions.JSON_OBJECTAGG.getValue(accumulator);
+      assertEquals("{\"key1\":4,\"key2\":2}", result.getJson().toString());
+      assertEquals(2, accumulator.size);
+    }
+
+    @Test
+    void testMergeMaxSize() {
+      ObjectAgg acc1 = JsonFunctions.JSON_OBJECTAGG.createAccumulator();
+      ObjectAgg acc2 = JsonFunctions.JSON_OBJECTAGG.createAccumulator();
+      acc1.add("key1", readTree("1"), 2);
+      acc2.add("key1", readTree("2"));
+      acc2.add("key2", readTree("3"));
+      acc2.add("key3", readTree("4"));
+      acc1.addAll(acc2, 2);
+      FlinkJsonType result = JsonFunctions.JSON_OBJECTAGG.getValue(acc1);
+      assertEquals("{\"key1\":2,\"key2\":3}", result.getJson().toString());
+      assertEquals(2, acc1.size);
+    }
+  }
+
+  @Nested
+  class JsonNodeJsonProviderTest {
+
+    @Test
+    void testMapToTypeRef() {
+      List<Integer> result = JsonPath.parse(readTree("{\"a\": [1, 2, 3]}"),
+              JsonNodeJsonProvider.CONFIGURATION)
+          .read("$.a", new TypeRef<List<Integer>>() {});
+      assertEquals(List.of(1, 2, 3), result);
+    }
+
+    @Test
+    void testMapNestedToTypeRef() {
+      Map<String, List<String>> result = JsonNodeJsonProvider.INSTANCE.map(
+          readTree("{\"a\": [\"x\"], \"b\": []}"), new TypeRef<Map<String, List<String>>>() {},
+          JsonNodeJsonProvider.CONFIGURATION);
+      assertEquals(Map.of("a", List.of("x"), "b", List.of()), result);
+      assertNull(JsonNodeJsonProvider.INSTANCE.map(null, new TypeRef<List<Integer>>() {},
+          JsonNodeJsonProvider.CONFIGURATION));
+    }
   }
 }
\ No newline at end of file
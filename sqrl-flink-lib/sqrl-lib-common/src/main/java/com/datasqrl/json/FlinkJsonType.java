@@ -1,5 +1,6 @@
 package com.datasqrl.json;
 
+import java.util.Objects;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.flink.table.annotation.DataTypeHint;
 
@@ -15,4 +16,20 @@ public class FlinkJsonType {
   public JsonNode getJson() {
     return json;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof FlinkJsonType)) {
+      return false;
+    }
+    return Objects.equals(json, ((FlinkJsonType) o).json);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(json);
+  }
 }
@@ -0,0 +1,21 @@
+package com.datasqrl.vector;
+
+import org.apache.flink.table.annotation.DataTypeHint;
+
+/**
+ * A vector with single precision (float32) elements. Takes half the space of
+ * {@link FlinkVectorType} in state and on the wire which is sufficient precision for most
+ * embedding models.
+ */
+@DataTypeHint(value = "RAW", bridgedTo = FlinkFloatVectorType.class, rawSerializer = FlinkFloatVectorTypeSerializer.class)
+public class FlinkFloatVectorType {
+  public float[] value;
+
+  public FlinkFloatVectorType(float[] value) {
+    this.value = value;
+  }
+
+  public float[] getValue() {
+    return value;
+  }
+}
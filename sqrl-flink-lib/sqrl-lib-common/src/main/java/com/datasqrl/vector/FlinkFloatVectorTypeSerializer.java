@@ -0,0 +1,89 @@
+package com.datasqrl.vector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+public class FlinkFloatVectorTypeSerializer extends TypeSerializer<FlinkFloatVectorType> {
+
+  @Override
+  public boolean isImmutableType() {
+    return true;
+  }
+
+  @Override
+  public FlinkFloatVectorType createInstance() {
+    return new FlinkFloatVectorType(null);
+  }
+
+  @Override
+  public FlinkFloatVectorType copy(FlinkFloatVectorType from) {
+    return new FlinkFloatVectorType(from.getValue());
+  }
+
+  @Override
+  public FlinkFloatVectorType copy(FlinkFloatVectorType from, FlinkFloatVectorType reuse) {
+    return copy(from);
+  }
+
+  @Override
+  public int getLength() {
+    return -1; // indicates that this serializer does not have a fixed length
+  }
+
+  @Override
+  public void serialize(FlinkFloatVectorType record, DataOutputView target) throws IOException {
+    float[] value = record.getValue();
+    target.writeInt(value.length);
+    byte[] bytes = new byte[value.length * Float.BYTES];
+    ByteBuffer.wrap(bytes).asFloatBuffer().put(value);
+    target.write(bytes);
+  }
+
+  @Override
+  public FlinkFloatVectorType deserialize(DataInputView source) throws IOException {
+    int length = source.readInt();
+    byte[] bytes = new byte[length * Float.BYTES];
+    source.readFully(bytes);
+    float[] array = new float[length];
+    ByteBuffer.wrap(bytes).asFloatBuffer().get(array);
+    return new FlinkFloatVectorType(array);
+  }
+
+  @Override
+  public FlinkFloatVectorType deserialize(FlinkFloatVectorType reuse, DataInputView source)
+      throws IOException {
+    return deserialize(source);
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int length = source.readInt();
+    target.writeInt(length);
+    target.write(source, length * Float.BYTES);
+  }
+
+  @Override
+  public TypeSerializer<FlinkFloatVectorType> duplicate() {
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof FlinkFloatVectorTypeSerializer;
+  }
+
+  @Override
+  public int hashCode() {
+    return FlinkFloatVectorTypeSerializer.class.hashCode();
+  }
+
+  @Override
+  public TypeSerializerSnapshot<FlinkFloatVectorType> snapshotConfiguration() {
+    return new FlinkFloatVectorTypeSerializerSnapshot();
+  }
+
+}
@@ -0,0 +1,27 @@
+package com.datasqrl.vector;
+
+import org.apache.flink.table.annotation.DataTypeHint;
+
+/**
+ * A vector that is symmetrically quantized to int8 elements: the original value of element
+ * {@code i} is approximately {@code value[i] * scale}. Takes an eighth of the space of
+ * {@link FlinkVectorType}.
+ */
+@DataTypeHint(value = "RAW", bridgedTo = FlinkQuantizedVectorType.class, rawSerializer = FlinkQuantizedVectorTypeSerializer.class)
+public class FlinkQuantizedVectorType {
+  public byte[] value;
+  public float scale;
+
+  public FlinkQuantizedVectorType(byte[] value, float scale) {
+    this.value = value;
+    this.scale = scale;
+  }
+
+  public byte[] getValue() {
+    return value;
+  }
+
+  public float getScale() {
+    return scale;
+  }
+}
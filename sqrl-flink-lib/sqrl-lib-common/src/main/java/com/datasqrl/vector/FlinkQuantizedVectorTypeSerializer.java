@@ -0,0 +1,88 @@
+package com.datasqrl.vector;
+
+import java.io.IOException;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+public class FlinkQuantizedVectorTypeSerializer extends TypeSerializer<FlinkQuantizedVectorType> {
+
+  @Override
+  public boolean isImmutableType() {
+    return true;
+  }
+
+  @Override
+  public FlinkQuantizedVectorType createInstance() {
+    return new FlinkQuantizedVectorType(null, 1.0f);
+  }
+
+  @Override
+  public FlinkQuantizedVectorType copy(FlinkQuantizedVectorType from) {
+    return new FlinkQuantizedVectorType(from.getValue(), from.getScale());
+  }
+
+  @Override
+  public FlinkQuantizedVectorType copy(FlinkQuantizedVectorType from,
+      FlinkQuantizedVectorType reuse) {
+    return copy(from);
+  }
+
+  @Override
+  public int getLength() {
+    return -1; // indicates that this serializer does not have a fixed length
+  }
+
+  @Override
+  public void serialize(FlinkQuantizedVectorType record, DataOutputView target)
+      throws IOException {
+    target.writeInt(record.getValue().length);
+    target.writeFloat(record.getScale());
+    target.write(record.getValue());
+  }
+
+  @Override
+  public FlinkQuantizedVectorType deserialize(DataInputView source) throws IOException {
+    int length = source.readInt();
+    float scale = source.readFloat();
+    byte[] array = new byte[length];
+    source.readFully(array);
+    return new FlinkQuantizedVectorType(array, scale);
+  }
+
+  @Override
+  public FlinkQuantizedVectorType deserialize(FlinkQuantizedVectorType reuse,
+      DataInputView source) throws IOException {
+    return deserialize(source);
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int length = source.readInt();
+    target.writeInt(length);
+    target.writeFloat(source.readFloat());
+    target.write(source, length);
+  }
+
+  @Override
+  public TypeSerializer<FlinkQuantizedVectorType> duplicate() {
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof FlinkQuantizedVectorTypeSerializer;
+  }
+
+  @Override
+  public int hashCode() {
+    return FlinkQuantizedVectorTypeSerializer.class.hashCode();
+  }
+
+  @Override
+  public TypeSerializerSnapshot<FlinkQuantizedVectorType> snapshotConfiguration() {
+    return new FlinkQuantizedVectorTypeSerializerSnapshot();
+  }
+
+}
@@ -5,6 +5,7 @@ import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 public class FlinkVectorTypeSerializer extends TypeSerializer<FlinkVectorType> {
 
@@ -35,19 +36,21 @@ public class FlinkVectorTypeSerializer extends TypeSerializer<FlinkVectorType> {
 
   @Override
   public void serialize(FlinkVectorType record, DataOutputView target) throws IOException {
-    target.writeInt(record.getValue().length); // First write the length of the array
-    for (double v : record.getValue()) {
-      target.writeDouble(v); // Write each double value
-    }
+    double[] value = record.getValue();
+    target.writeInt(value.length); // First write the length of the array
+    // Write all values in one block, same big-endian layout as DataOutput#writeDouble
+    byte[] bytes = new byte[value.length * Double.BYTES];
+    ByteBuffer.wrap(bytes).asDoubleBuffer().put(value);
+    target.write(bytes);
   }
 
   @Override
   public FlinkVectorType deserialize(DataInputView source) throws IOException {
     int length = source.readInt();
+    byte[] bytes = new byte[length * Double.BYTES];
+    source.readFully(bytes);
     double[] array = new double[length];
-    for (int i = 0; i < length; i++) {
-      array[i] = source.readDouble();
-    }
+    ByteBuffer.wrap(bytes).asDoubleBuffer().get(array);
     return new FlinkVectorType(array);
   }
 
@@ -59,7 +62,9 @@ public class FlinkVectorTypeSerializer extends TypeSerializer<FlinkVectorType> {
 
   @Override
   public void copy(DataInputView source, DataOutputView target) throws IOException {
-    target.writeUTF(source.readUTF());
+    int length = source.readInt();
+    target.writeInt(length);
+    target.write(source, length * Double.BYTES);
   }
 
   @Override
@@ -0,0 +1,69 @@
+package com.datasqrl.secure;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Generates the timestamp and random bits of time-ordered ids. Within the same millisecond, and
+ * when the clock moves backwards, the random bits of the previous id are incremented so that the
+ * ids of a generator are strictly increasing. If the random bits overflow, the timestamp is
+ * advanced by a millisecond.
+ *
+ * <p>A generator is not thread-safe. Each thread uses its own generator that is seeded once from
+ * {@link SecureRandom}, so generating an id neither locks nor draws from the entropy source.
+ */
+class MonotonicIdGenerator {
+
+  private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+  private final SplittableRandom random;
+  private final long highMask;
+
+  private long millis = Long.MIN_VALUE;
+  private long high;
+  private long low;
+
+  /**
+   * @param randomBits the number of random bits per id, between 65 and 127
+   */
+  MonotonicIdGenerator(int randomBits) {
+    this.random = new SplittableRandom(SEED_SOURCE.nextLong());
+    this.highMask = (1L << (randomBits - 64)) - 1;
+  }
+
+  static ThreadLocal<MonotonicIdGenerator> perThread(int randomBits) {
+    return ThreadLocal.withInitial(() -> new MonotonicIdGenerator(randomBits));
+  }
+
+  /** Advances to the next id, which is then available through the accessors */
+  void next() {
+    long now = System.currentTimeMillis();
+    if (now > millis) {
+      millis = now;
+      randomize();
+    } else if (++low == 0 && (high = (high + 1) & highMask) == 0) {
+      millis++;
+      randomize();
+    }
+  }
+
+  private void randomize() {
+    high = random.nextLong() & highMask;
+    low = random.nextLong();
+  }
+
+  /** Unix epoch milliseconds of the current id */
+  long millis() {
+    return millis;
+  }
+
+  /** The random bits of the current id above the lower 64 */
+  long high() {
+    return high;
+  }
+
+  /** The lower 64 random bits of the current id */
+  long low() {
+    return low;
+  }
+}
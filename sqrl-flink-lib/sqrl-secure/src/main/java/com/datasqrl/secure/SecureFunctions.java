@@ -4,5 +4,7 @@ public class SecureFunctions {
 
   public static RandomID RANDOM_ID = new RandomID();
   public static Uuid UUID = new Uuid();
+  public static UuidV7 UUID_V7 = new UuidV7();
+  public static Ulid ULID = new Ulid();
 
 }
@@ -0,0 +1,57 @@
+package com.datasqrl.secure;
+
+import java.util.Optional;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.catalog.DataTypeFactory;
+import org.apache.flink.table.functions.ScalarFunction;
+import org.apache.flink.table.types.inference.TypeInference;
+
+/**
+ * Generates a ULID, i.e. a 48 bit millisecond timestamp followed by 80 random bits encoded as 26
+ * characters in Crockford's base32. ULIDs sort lexicographically by time and the ULIDs generated
+ * by a task are strictly increasing. The random bits are not cryptographically secure, use
+ * {@link RandomID} for ids that must not be guessable.
+ */
+public class Ulid extends ScalarFunction {
+
+  private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  private static final ThreadLocal<MonotonicIdGenerator> generator =
+      MonotonicIdGenerator.perThread(80);
+
+  public String eval() {
+    MonotonicIdGenerator id = generator.get();
+    id.next();
+    char[] chars = new char[26];
+    long millis = id.millis();
+    for (int i = 0; i < 10; i++) {
+      chars[i] = ALPHABET[(int) (millis >>> (45 - 5 * i)) & 31];
+    }
+    long high = id.high();
+    long low = id.low();
+    for (int i = 0; i < 16; i++) {
+      int shift = 75 - 5 * i;
+      long bits;
+      if (shift >= 64) {
+        bits = high >>> (shift - 64);
+      } else if (shift > 59) {
+        bits = high << (64 - shift) | low >>> shift;
+      } else {
+        bits = low >>> shift;
+      }
+      chars[10 + i] = ALPHABET[(int) bits & 31];
+    }
+    return new String(chars);
+  }
+
+  @Override
+  public TypeInference getTypeInference(DataTypeFactory typeFactory) {
+    return TypeInference.newBuilder().typedArguments()
+        .outputTypeStrategy(callContext -> Optional.of(DataTypes.CHAR(26).notNull())).build();
+  }
+
+  @Override
+  public boolean isDeterministic() {
+    return false;
+  }
+}
@@ -0,0 +1,41 @@
+package com.datasqrl.secure;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.catalog.DataTypeFactory;
+import org.apache.flink.table.functions.ScalarFunction;
+import org.apache.flink.table.types.inference.TypeInference;
+
+/**
+ * Generates a time-ordered version 7 UUID string (RFC 9562) with a millisecond timestamp followed
+ * by 74 random bits. The UUIDs generated by a task are strictly increasing. The random bits are not
+ * cryptographically secure, use {@link Uuid} for UUIDs that must not be guessable.
+ */
+public class UuidV7 extends ScalarFunction {
+
+  private static final ThreadLocal<MonotonicIdGenerator> generator =
+      MonotonicIdGenerator.perThread(74);
+
+  public String eval() {
+    MonotonicIdGenerator id = generator.get();
+    id.next();
+    //12 bits of rand_a followed by 62 bits of rand_b
+    long randA = id.high() << 2 | id.low() >>> 62;
+    long randB = id.low() & 0x3FFFFFFFFFFFFFFFL;
+    long mostSigBits = id.millis() << 16 | 0x7000L | randA;
+    long leastSigBits = 0x8000000000000000L | randB;
+    return new UUID(mostSigBits, leastSigBits).toString();
+  }
+
+  @Override
+  public TypeInference getTypeInference(DataTypeFactory typeFactory) {
+    return TypeInference.newBuilder().typedArguments()
+        .outputTypeStrategy(callContext -> Optional.of(DataTypes.CHAR(36).notNull())).build();
+  }
+
+  @Override
+  public boolean isDeterministic() {
+    return false;
+  }
+}
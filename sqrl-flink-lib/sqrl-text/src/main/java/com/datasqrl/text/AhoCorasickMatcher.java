@@ -0,0 +1,131 @@
+package com.datasqrl.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton that finds whole-word occurrences of a fixed set of words or phrases in
+ * a single pass over a text. Matching ignores case, and a match must be delimited by whitespace or
+ * the boundaries of the text.
+ */
+public class AhoCorasickMatcher {
+
+  private static final int[] NO_OUTPUT = new int[0];
+
+  /** Sorted transition characters and their target states per state */
+  private final char[][] edgeChars;
+  private final int[][] edgeTargets;
+  private final int[] fail;
+  /** Lengths of the words that end in each state, including those of its suffix states */
+  private final int[][] outputs;
+
+  public AhoCorasickMatcher(Collection<String> words) {
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<int[]> wordLengths = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    wordLengths.add(NO_OUTPUT);
+    for (String word : words) {
+      String normalized = word.trim().toLowerCase();
+      if (normalized.isEmpty()) {
+        continue;
+      }
+      int state = 0;
+      for (int i = 0; i < normalized.length(); i++) {
+        Integer next = trie.get(state).get(normalized.charAt(i));
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          wordLengths.add(NO_OUTPUT);
+          trie.get(state).put(normalized.charAt(i), next);
+        }
+        state = next;
+      }
+      wordLengths.set(state, new int[]{normalized.length()});
+    }
+
+    int size = trie.size();
+    edgeChars = new char[size][];
+    edgeTargets = new int[size][];
+    for (int state = 0; state < size; state++) {
+      TreeMap<Character, Integer> edges = trie.get(state);
+      edgeChars[state] = new char[edges.size()];
+      edgeTargets[state] = new int[edges.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+        edgeChars[state][i] = edge.getKey();
+        edgeTargets[state][i] = edge.getValue();
+        i++;
+      }
+    }
+
+    //Breadth-first, so that the failure state of a state is complete before its children
+    fail = new int[size];
+    outputs = new int[size][];
+    outputs[0] = NO_OUTPUT;
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int child : edgeTargets[0]) {
+      fail[child] = 0;
+      outputs[child] = wordLengths.get(child);
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int i = 0; i < edgeChars[state].length; i++) {
+        char c = edgeChars[state][i];
+        int child = edgeTargets[state][i];
+        int f = fail[state];
+        int next;
+        while ((next = transition(f, c)) < 0 && f != 0) {
+          f = fail[f];
+        }
+        fail[child] = next < 0 ? 0 : next;
+        outputs[child] = concat(wordLengths.get(child), outputs[fail[child]]);
+        queue.add(child);
+      }
+    }
+  }
+
+  /** Returns true if any of the words occurs as a whole word or phrase in the text */
+  public boolean matches(String text) {
+    int state = 0;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = Character.toLowerCase(text.charAt(i));
+      int next;
+      while ((next = transition(state, c)) < 0 && state != 0) {
+        state = fail[state];
+      }
+      state = next < 0 ? 0 : next;
+      for (int wordLength : outputs[state]) {
+        int start = i - wordLength + 1;
+        if ((start == 0 || QueryTerms.isDelimiter(text.charAt(start - 1)))
+            && (i + 1 == length || QueryTerms.isDelimiter(text.charAt(i + 1)))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private int transition(int state, char c) {
+    int idx = Arrays.binarySearch(edgeChars[state], c);
+    return idx < 0 ? -1 : edgeTargets[state][idx];
+  }
+
+  private static int[] concat(int[] a, int[] b) {
+    if (b.length == 0) {
+      return a;
+    } else if (a.length == 0) {
+      return b;
+    }
+    int[] result = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, result, a.length, b.length);
+    return result;
+  }
+}
@@ -8,10 +8,9 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.StringTokenizer;
+import java.util.List;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.catalog.DataTypeFactory;
 import org.apache.flink.table.functions.FunctionContext;
@@ -19,39 +18,34 @@ import org.apache.flink.table.functions.ScalarFunction;
 import org.apache.flink.table.types.inference.TypeInference;
 
 /**
- * Returns false if the given text contains a banned word, else true
+ * Returns false if the given text contains a banned word or phrase, else true
  */
 public class BannedWordsFilter extends ScalarFunction {
 
   private static final String BANNED_WORDS_FILENAME = "banned_words_list.txt";
 
-  private Set<String> bannedWords;
+  private transient AhoCorasickMatcher bannedWords;
 
   @Override
   public void open(FunctionContext context) throws Exception {
-    bannedWords = new HashSet<>();
+    List<String> words = new ArrayList<>();
     try (InputStream inputStream = getClass().getResourceAsStream(BANNED_WORDS_FILENAME);
         BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
       String currentLine;
       while ((currentLine = reader.readLine()) != null) {
-        bannedWords.add(currentLine);
+        words.add(currentLine);
       }
     } catch (IOException | NullPointerException e) {
       throw new RuntimeException(e);
     }
+    bannedWords = new AhoCorasickMatcher(words);
   }
 
   public Boolean eval(String text) {
     if (text == null) {
       return null;
     }
-    StringTokenizer tokenizer = new StringTokenizer(text);
-    while (tokenizer.hasMoreTokens()) {
-      if (bannedWords.contains(tokenizer.nextToken().trim().toLowerCase())) {
-        return false;
-      }
-    }
-    return true;
+    return !bannedWords.matches(text);
   }
 
   @Override
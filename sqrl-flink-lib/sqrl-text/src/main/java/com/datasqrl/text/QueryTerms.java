@@ -0,0 +1,113 @@
+package com.datasqrl.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The lower-cased whitespace separated terms of a query. Tokens of a text are matched against the
+ * terms in place, without creating a string per token. The tokenization is equivalent to
+ * {@link java.util.StringTokenizer} with the default delimiters.
+ */
+class QueryTerms {
+
+  private final String query;
+  /** Distinct terms, bucketed by {@link #firstTermByLength} */
+  private final String[] terms;
+  /** Number of times each distinct term occurs in the query */
+  private final int[] occurrences;
+  private final int size;
+  /** Index of the first term of a length, terms of the same length are adjacent */
+  private final int[] firstTermByLength;
+  private final int[] termCount;
+
+  private QueryTerms(String query, List<String> tokens) {
+    this.query = query;
+    this.size = tokens.size();
+    List<String> distinct = new ArrayList<>();
+    for (String token : tokens) {
+      if (!distinct.contains(token)) {
+        distinct.add(token);
+      }
+    }
+    distinct.sort((a, b) -> Integer.compare(a.length(), b.length()));
+    this.terms = distinct.toArray(new String[0]);
+    this.occurrences = new int[terms.length];
+    for (String token : tokens) {
+      occurrences[distinct.indexOf(token)]++;
+    }
+    int maxLength = terms.length == 0 ? 0 : terms[terms.length - 1].length();
+    this.firstTermByLength = new int[maxLength + 1];
+    this.termCount = new int[maxLength + 1];
+    for (int i = terms.length - 1; i >= 0; i--) {
+      firstTermByLength[terms[i].length()] = i;
+      termCount[terms[i].length()]++;
+    }
+  }
+
+  static QueryTerms of(String query) {
+    List<String> tokens = new ArrayList<>();
+    int pos = 0;
+    while ((pos = nextTokenStart(query, pos)) < query.length()) {
+      int end = tokenEnd(query, pos);
+      tokens.add(query.substring(pos, end).toLowerCase());
+      pos = end;
+    }
+    return new QueryTerms(query, tokens);
+  }
+
+  boolean isQuery(String query) {
+    return this.query.equals(query);
+  }
+
+  /** The total number of terms in the query, including duplicates */
+  int size() {
+    return size;
+  }
+
+  int distinctSize() {
+    return terms.length;
+  }
+
+  String term(int term) {
+    return terms[term];
+  }
+
+  int occurrences(int term) {
+    return occurrences[term];
+  }
+
+  /**
+   * Returns the index of the term that equals the token {@code text[start, end)} ignoring case,
+   * or -1 if the token is not a query term.
+   */
+  int indexOf(String text, int start, int end) {
+    int length = end - start;
+    if (length >= termCount.length) {
+      return -1;
+    }
+    for (int i = firstTermByLength[length], last = i + termCount[length]; i < last; i++) {
+      if (text.regionMatches(true, start, terms[i], 0, length)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static boolean isDelimiter(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+  }
+
+  static int nextTokenStart(String text, int pos) {
+    while (pos < text.length() && isDelimiter(text.charAt(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  static int tokenEnd(String text, int pos) {
+    while (pos < text.length() && !isDelimiter(text.charAt(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+}
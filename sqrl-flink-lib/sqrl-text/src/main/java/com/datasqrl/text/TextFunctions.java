@@ -5,6 +5,7 @@ public class TextFunctions {
   public static Split SPLIT = new Split();
   public static Format FORMAT = new Format();
   public static TextSearch TEXT_SEARCH = new TextSearch();
+  public static TextSearchBm25 TEXT_SEARCH_BM25 = new TextSearchBm25();
   public static BannedWordsFilter BANNED_WORDS_FILTER = new BannedWordsFilter();
 
 }
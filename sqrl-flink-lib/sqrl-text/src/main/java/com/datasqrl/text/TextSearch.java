@@ -2,12 +2,8 @@ package com.datasqrl.text;
 
 import com.datasqrl.function.FlinkTypeUtil;
 import com.datasqrl.function.FlinkTypeUtil.VariableArguments;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 import java.util.StringTokenizer;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.catalog.DataTypeFactory;
@@ -27,26 +23,54 @@ public class TextSearch extends ScalarFunction {
     }
   }
 
+  private transient QueryTerms queryTerms;
+  private transient boolean[] matched;
+
   public Double eval(String query, String... texts) {
     if (query == null) {
       return null;
     }
-    List<String> queryWords = new ArrayList<>();
-    tokenizeTo(query, queryWords);
-    if (queryWords.isEmpty()) {
+    QueryTerms terms = getQueryTerms(query);
+    if (terms.size() == 0) {
       return 1.0;
     }
 
-    Set<String> searchWords = new HashSet<>();
-    Arrays.stream(texts).forEach(text -> tokenizeTo(text, searchWords));
+    boolean[] matched = this.matched;
+    Arrays.fill(matched, false);
+    for (String text : texts) {
+      if (text == null) {
+        continue;
+      }
+      int pos = 0;
+      while ((pos = QueryTerms.nextTokenStart(text, pos)) < text.length()) {
+        int end = QueryTerms.tokenEnd(text, pos);
+        int term = terms.indexOf(text, pos, end);
+        if (term >= 0) {
+          matched[term] = true;
+        }
+        pos = end;
+      }
+    }
 
     double score = 0;
-    for (String queryWord : queryWords) {
-      if (searchWords.contains(queryWord)) {
-        score += 1.0;
+    for (int i = 0; i < matched.length; i++) {
+      if (matched[i]) {
+        score += terms.occurrences(i);
       }
     }
-    return score / queryWords.size();
+    return score / terms.size();
+  }
+
+  /**
+   * The query is usually a literal or a parameter that is the same for many rows, so the terms of
+   * the last query are cached.
+   */
+  private QueryTerms getQueryTerms(String query) {
+    if (queryTerms == null || !queryTerms.isQuery(query)) {
+      queryTerms = QueryTerms.of(query);
+      matched = new boolean[queryTerms.distinctSize()];
+    }
+    return queryTerms;
   }
 
   @Override
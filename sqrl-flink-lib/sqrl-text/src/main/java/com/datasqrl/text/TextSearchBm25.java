@@ -0,0 +1,73 @@
+package com.datasqrl.text;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.flink.table.functions.ScalarFunction;
+
+/**
+ * Returns the Okapi BM25 relevance score of the given text for the query. Optionally takes the
+ * document frequencies of the (lower-cased) terms, the number of documents, and the average
+ * number of terms per document of the searched table to weigh rare terms higher and normalize by
+ * document length. Without those statistics all terms have the same weight. Returns 0 if there is
+ * no match.
+ */
+public class TextSearchBm25 extends ScalarFunction {
+
+  public static final double K1 = 1.2;
+  public static final double B = 0.75;
+
+  private transient QueryTerms queryTerms;
+  private transient int[] termFrequencies;
+
+  public Double eval(String query, String text) {
+    return eval(query, text, null, null, null);
+  }
+
+  public Double eval(String query, String text, Map<String, Long> documentFrequencies,
+      Long documentCount, Double averageDocumentLength) {
+    if (query == null || text == null) {
+      return null;
+    }
+    QueryTerms terms = getQueryTerms(query);
+    int[] tf = termFrequencies;
+    Arrays.fill(tf, 0);
+    int documentLength = 0;
+    int pos = 0;
+    while ((pos = QueryTerms.nextTokenStart(text, pos)) < text.length()) {
+      int end = QueryTerms.tokenEnd(text, pos);
+      int term = terms.indexOf(text, pos, end);
+      if (term >= 0) {
+        tf[term]++;
+      }
+      documentLength++;
+      pos = end;
+    }
+
+    double lengthNorm = 1.0;
+    if (averageDocumentLength != null && averageDocumentLength > 0) {
+      lengthNorm = 1 - B + B * documentLength / averageDocumentLength;
+    }
+    double score = 0;
+    for (int i = 0; i < tf.length; i++) {
+      if (tf[i] == 0) {
+        continue;
+      }
+      double idf = 1.0;
+      if (documentFrequencies != null && documentCount != null) {
+        Long df = documentFrequencies.get(terms.term(i));
+        double n = df == null ? 0 : df;
+        idf = Math.log(1 + (documentCount - n + 0.5) / (n + 0.5));
+      }
+      score += terms.occurrences(i) * idf * tf[i] * (K1 + 1) / (tf[i] + K1 * lengthNorm);
+    }
+    return score;
+  }
+
+  private QueryTerms getQueryTerms(String query) {
+    if (queryTerms == null || !queryTerms.isQuery(query)) {
+      queryTerms = QueryTerms.of(query);
+      termFrequencies = new int[queryTerms.distinctSize()];
+    }
+    return queryTerms;
+  }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datasqrl.text.TextFunctions;
+import com.datasqrl.text.TextSearchBm25;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +27,25 @@ public class StdTextLibraryTest {
     assertEquals(2.0/3, TextFunctions.TEXT_SEARCH.eval("one two THREE", "we are counting", "one two four five six"));
     assertEquals(1.0, TextFunctions.TEXT_SEARCH.eval("one two THREE", "we are counting", "one two four five six", "three forty fiv"));
     assertEquals(0, TextFunctions.TEXT_SEARCH.eval("one two THREE", "what a world we live in, john!"," Hello john"));
+    assertEquals(2.0/3, TextFunctions.TEXT_SEARCH.eval("one one two", "one three"));
+    assertEquals(1.0, TextFunctions.TEXT_SEARCH.eval("  ", "one three"));
+  }
+
+  @Test
+  public void testSearchBm25() {
+    TextSearchBm25 bm25 = TextFunctions.TEXT_SEARCH_BM25;
+    assertEquals(0.0, bm25.eval("hello", "goodbye world"));
+    assertEquals(1.0, bm25.eval("Hello", "hello world"), 1e-9);
+    //term frequency saturates
+    assertTrue(bm25.eval("hello", "hello hello world") > bm25.eval("hello", "hello world"));
+    assertTrue(bm25.eval("hello", "hello hello world") < 2 * bm25.eval("hello", "hello world"));
+    //rare terms weigh more
+    Map<String, Long> df = Map.of("hello", 90L, "world", 2L);
+    assertTrue(bm25.eval("hello world", "world peace", df, 100L, 2.0)
+        > bm25.eval("hello world", "hello there", df, 100L, 2.0));
+    //longer documents score lower
+    assertTrue(bm25.eval("hello", "hello world", df, 100L, 2.0)
+        > bm25.eval("hello", "hello big wide world", df, 100L, 2.0));
   }
 
   @SneakyThrows
@@ -33,6 +54,8 @@ public class StdTextLibraryTest {
     TextFunctions.BANNED_WORDS_FILTER.open(null);
     assertTrue(TextFunctions.BANNED_WORDS_FILTER.eval("Hello World"));
     assertFalse(TextFunctions.BANNED_WORDS_FILTER.eval("Can you tell me WTF is going on?"));
+    assertTrue(TextFunctions.BANNED_WORDS_FILTER.eval("a classic assessment"));
+    assertFalse(TextFunctions.BANNED_WORDS_FILTER.eval("what a load of bull shit"));
   }
 
 
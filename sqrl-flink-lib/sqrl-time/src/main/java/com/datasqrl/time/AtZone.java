@@ -4,6 +4,8 @@ import com.datasqrl.function.FlinkTypeUtil;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.catalog.DataTypeFactory;
@@ -16,8 +18,22 @@ import org.apache.flink.table.types.inference.TypeInference;
  */
 public class AtZone extends ScalarFunction {
 
+  /**
+   * Parsed zones by zone id. A zone resolves its rules when it is parsed, so this avoids the
+   * parsing and rule lookup per row. The set of zone ids is small.
+   */
+  private transient Map<String, ZoneId> zones;
+
   public ZonedDateTime eval(Instant instant, String zoneId) {
-    return instant.atZone(ZoneId.of(zoneId));
+    if (zones == null) {
+      zones = new HashMap<>();
+    }
+    ZoneId zone = zones.get(zoneId);
+    if (zone == null) {
+      zone = ZoneId.of(zoneId);
+      zones.put(zoneId, zone);
+    }
+    return instant.atZone(zone);
   }
 
   @Override
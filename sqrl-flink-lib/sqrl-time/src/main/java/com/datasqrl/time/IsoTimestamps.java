@@ -0,0 +1,191 @@
+package com.datasqrl.time;
+
+import java.time.Instant;
+
+/**
+ * Hand-written parser and formatter for the common ISO-8601 / RFC 3339 timestamp shapes that
+ * avoid the overhead of {@link java.time.format.DateTimeFormatter}. Inputs outside of these shapes
+ * are left to the {@link java.time} implementations.
+ */
+public final class IsoTimestamps {
+
+  private static final long SECONDS_PER_DAY = 86400;
+  private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000,
+      10_000_000, 100_000_000};
+
+  private IsoTimestamps() {
+  }
+
+  /**
+   * Parses timestamps of the form {@code yyyy-MM-dd'T'HH:mm[:ss[.S{1,9}]]} followed by {@code Z}
+   * or an offset {@code +HH:mm} or {@code -HH:mm}. The date and time may also be separated by a
+   * space or a lower-case {@code t}, and the UTC designator may be a lower-case {@code z}.
+   *
+   * @return the parsed instant or null if the text does not have one of these shapes
+   */
+  public static Instant parse(CharSequence s) {
+    int length = s.length();
+    if (length < 17 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(13) != ':') {
+      return null;
+    }
+    char separator = s.charAt(10);
+    if (separator != 'T' && separator != 't' && separator != ' ') {
+      return null;
+    }
+    int year = digits(s, 0, 4);
+    int month = digits(s, 5, 2);
+    int day = digits(s, 8, 2);
+    int hour = digits(s, 11, 2);
+    int minute = digits(s, 14, 2);
+    if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+        || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+      return null;
+    }
+    int pos = 16;
+    int second = 0;
+    int nanos = 0;
+    if (pos < length && s.charAt(pos) == ':') {
+      second = digits(s, pos + 1, 2);
+      //Leap seconds are left to java.time
+      if (second < 0 || second > 59) {
+        return null;
+      }
+      pos += 3;
+      if (pos < length && s.charAt(pos) == '.') {
+        int start = ++pos;
+        while (pos < length && pos - start < 9 && isDigit(s.charAt(pos))) {
+          nanos = nanos * 10 + (s.charAt(pos) - '0');
+          pos++;
+        }
+        int fractionDigits = pos - start;
+        if (fractionDigits == 0) {
+          return null;
+        }
+        nanos *= POWERS_OF_TEN[9 - fractionDigits];
+      }
+    }
+    if (pos >= length) {
+      return null;
+    }
+    int offsetSeconds;
+    char zone = s.charAt(pos);
+    if (zone == 'Z' || zone == 'z') {
+      offsetSeconds = 0;
+      pos++;
+    } else if ((zone == '+' || zone == '-') && pos + 6 == length && s.charAt(pos + 3) == ':') {
+      int offsetHours = digits(s, pos + 1, 2);
+      int offsetMinutes = digits(s, pos + 4, 2);
+      if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+        return null;
+      }
+      offsetSeconds = offsetHours * 3600 + offsetMinutes * 60;
+      if (zone == '-') {
+        offsetSeconds = -offsetSeconds;
+      }
+      pos += 6;
+    } else {
+      return null;
+    }
+    if (pos != length) {
+      return null;
+    }
+    long epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY
+        + hour * 3600 + minute * 60 + second - offsetSeconds;
+    return Instant.ofEpochSecond(epochSecond, nanos);
+  }
+
+  /**
+   * Formats the instant exactly like {@link Instant#toString()}, i.e. with zero, three, six or nine
+   * fractional digits as needed.
+   */
+  public static String format(Instant instant) {
+    long epochSecond = instant.getEpochSecond();
+    long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+    //Civil date from epoch day, see H. Hinnant's date algorithms
+    long z = epochDay + 719468;
+    long era = Math.floorDiv(z, 146097);
+    long dayOfEra = z - era * 146097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long mp = (5 * dayOfYear + 2) / 153;
+    int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+    int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    if (year < 0 || year > 9999) {
+      return instant.toString();
+    }
+
+    int nanos = instant.getNano();
+    int fractionDigits = nanos == 0 ? 0 : nanos % 1_000_000 == 0 ? 3 : nanos % 1000 == 0 ? 6 : 9;
+    char[] chars = new char[20 + (fractionDigits == 0 ? 0 : fractionDigits + 1)];
+    writeDigits(chars, 0, (int) year, 4);
+    chars[4] = '-';
+    writeDigits(chars, 5, month, 2);
+    chars[7] = '-';
+    writeDigits(chars, 8, day, 2);
+    chars[10] = 'T';
+    writeDigits(chars, 11, secondOfDay / 3600, 2);
+    chars[13] = ':';
+    writeDigits(chars, 14, secondOfDay / 60 % 60, 2);
+    chars[16] = ':';
+    writeDigits(chars, 17, secondOfDay % 60, 2);
+    int pos = 19;
+    if (fractionDigits > 0) {
+      chars[pos++] = '.';
+      writeDigits(chars, pos, nanos / POWERS_OF_TEN[9 - fractionDigits], fractionDigits);
+      pos += fractionDigits;
+    }
+    chars[pos] = 'Z';
+    return new String(chars);
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /** Returns the value of the digits at the position or -1 if any of them is not a digit */
+  private static int digits(CharSequence s, int pos, int count) {
+    int value = 0;
+    for (int i = pos; i < pos + count; i++) {
+      char c = s.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static void writeDigits(char[] chars, int pos, int value, int count) {
+    for (int i = pos + count - 1; i >= pos; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /** Days since 1970-01-01 of the given civil date, see H. Hinnant's date algorithms */
+  private static long epochDay(int year, int month, int day) {
+    long y = month <= 2 ? year - 1 : year;
+    long era = Math.floorDiv(y, 400);
+    long yearOfEra = y - era * 400;
+    long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - 719468;
+  }
+}
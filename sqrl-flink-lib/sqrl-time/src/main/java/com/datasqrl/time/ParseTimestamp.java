@@ -6,33 +6,133 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.api.ValidationException;
 import org.apache.flink.table.catalog.DataTypeFactory;
 import org.apache.flink.table.functions.ScalarFunction;
+import org.apache.flink.table.functions.SpecializedFunction;
+import org.apache.flink.table.functions.UserDefinedFunction;
+import org.apache.flink.table.types.inference.CallContext;
 import org.apache.flink.table.types.inference.TypeInference;
 
 /**
  * Parses a timestamp from an ISO timestamp string.
  */
 @Slf4j
-public class ParseTimestamp extends ScalarFunction {
+public class ParseTimestamp extends ScalarFunction implements SpecializedFunction {
+
+  private static final long WARNING_INTERVAL_MILLIS = 60_000;
+
+  /** The pattern of the call if it is a literal, set when the planner specializes the function */
+  private final String literalPattern;
+
+  private transient DateTimeFormatter literalFormatter;
+  private transient Map<String, DateTimeFormatter> formatters;
+  private transient long lastWarningMillis;
+  private transient long suppressedWarnings;
+
+  public ParseTimestamp() {
+    this(null);
+  }
+
+  private ParseTimestamp(String literalPattern) {
+    this.literalPattern = literalPattern;
+  }
 
   public Instant eval(String s) {
-    return Instant.parse(s);
+    if (s == null) {
+      return null;
+    }
+    Instant instant = IsoTimestamps.parse(s);
+    if (instant != null) {
+      return instant;
+    }
+    try {
+      return Instant.parse(s);
+    } catch (Exception e) {
+      warnParseFailure(e);
+      return null;
+    }
   }
 
   public Instant eval(String s, String format) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format, Locale.US);
+    if (s == null || format == null) {
+      return null;
+    }
+    DateTimeFormatter formatter = getFormatter(format);
     try {
       return LocalDateTime.parse(s, formatter).atZone(ZoneId.systemDefault()).toInstant();
     } catch (Exception e) {
-      log.warn(e.getMessage());
+      warnParseFailure(e);
       return null;
     }
   }
 
+  private DateTimeFormatter getFormatter(String format) {
+    if (format.equals(literalPattern)) {
+      if (literalFormatter == null) {
+        literalFormatter = DateTimeFormatter.ofPattern(format, Locale.US);
+      }
+      return literalFormatter;
+    }
+    if (formatters == null) {
+      formatters = new HashMap<>();
+    }
+    DateTimeFormatter formatter = formatters.get(format);
+    if (formatter == null) {
+      formatter = DateTimeFormatter.ofPattern(format, Locale.US);
+      formatters.put(format, formatter);
+    }
+    return formatter;
+  }
+
+  /**
+   * Malformed timestamps tend to come in bulk, so failures are logged at most once per
+   * {@link #WARNING_INTERVAL_MILLIS} together with the number of suppressed failures.
+   */
+  private void warnParseFailure(Exception e) {
+    long now = System.currentTimeMillis();
+    if (now - lastWarningMillis < WARNING_INTERVAL_MILLIS) {
+      suppressedWarnings++;
+      return;
+    }
+    if (suppressedWarnings > 0) {
+      log.warn("{} (suppressed {} similar warnings)", e.getMessage(), suppressedWarnings);
+    } else {
+      log.warn(e.getMessage());
+    }
+    lastWarningMillis = now;
+    suppressedWarnings = 0;
+  }
+
+  /**
+   * Pre-compiles a literal pattern when the planner generates the call, which also fails planning
+   * for invalid patterns instead of every row at runtime.
+   */
+  @Override
+  public UserDefinedFunction specialize(SpecializedContext context) {
+    CallContext callContext = context.getCallContext();
+    if (callContext.getArgumentDataTypes().size() != 2 || !callContext.isArgumentLiteral(1)) {
+      return this;
+    }
+    Optional<String> pattern = callContext.getArgumentValue(1, String.class);
+    if (pattern.isEmpty()) {
+      return this;
+    }
+    try {
+      DateTimeFormatter.ofPattern(pattern.get(), Locale.US);
+    } catch (IllegalArgumentException e) {
+      throw new ValidationException(
+          String.format("Invalid timestamp pattern '%s': %s", pattern.get(), e.getMessage()), e);
+    }
+    return new ParseTimestamp(pattern.get());
+  }
+
   @Override
   public TypeInference getTypeInference(DataTypeFactory typeFactory) {
     return TypeInference.newBuilder().inputTypeStrategy(
@@ -42,4 +142,3 @@ public class ParseTimestamp extends ScalarFunction {
         .build();
   }
 }
-
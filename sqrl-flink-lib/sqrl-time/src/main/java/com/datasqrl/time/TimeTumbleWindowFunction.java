@@ -9,18 +9,38 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
-import lombok.AllArgsConstructor;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.catalog.DataTypeFactory;
 import org.apache.flink.table.functions.ScalarFunction;
 import org.apache.flink.table.types.inference.TypeInference;
 
-@AllArgsConstructor
 public abstract class TimeTumbleWindowFunction extends ScalarFunction implements
     TimeTumbleWindowFunctionEval {
 
+  private static final long MILLIS_PER_DAY = 24 * 3600 * 1000L;
+
   protected final ChronoUnit timeUnit;
   protected final ChronoUnit offsetUnit;
+  /**
+   * Width of the time and offset units in milliseconds if both have a fixed width (i.e. are at
+   * most a day in UTC) and are whole milliseconds, else -1
+   */
+  private final long timeUnitMillis;
+  private final long offsetUnitMillis;
+
+  protected TimeTumbleWindowFunction(ChronoUnit timeUnit, ChronoUnit offsetUnit) {
+    this.timeUnit = timeUnit;
+    this.offsetUnit = offsetUnit;
+    this.timeUnitMillis = fixedWidthMillis(timeUnit);
+    this.offsetUnitMillis = fixedWidthMillis(offsetUnit);
+  }
+
+  private static long fixedWidthMillis(ChronoUnit unit) {
+    if (unit.compareTo(ChronoUnit.MILLIS) < 0 || unit.compareTo(ChronoUnit.DAYS) > 0) {
+      return -1;
+    }
+    return unit.getDuration().toMillis();
+  }
 
   public ChronoUnit getTimeUnit() {
     return timeUnit;
@@ -55,6 +75,10 @@ public abstract class TimeTumbleWindowFunction extends ScalarFunction implements
 //        offsetUnit.getDuration().multipliedBy(offset).compareTo(timeUnit.getDuration()) < 0,
 //        "Offset of %s %s is larger than %s", offset, offsetUnit, timeUnit);
 
+    if (timeUnitMillis > 0 && offsetUnitMillis > 0) {
+      return evalFixedWidth(instant.toEpochMilli(), multiple, offset * offsetUnitMillis);
+    }
+
     ZonedDateTime time = ZonedDateTime.ofInstant(instant, ZoneOffset.UTC);
     ZonedDateTime truncated = time.minus(offset, offsetUnit).truncatedTo(timeUnit);
 
@@ -76,4 +100,54 @@ public abstract class TimeTumbleWindowFunction extends ScalarFunction implements
     return truncated.plus(multipleToAdd, timeUnit).plus(offset, offsetUnit).minusNanos(1)
         .toInstant();
   }
+
+  /**
+   * Epoch millisecond arithmetic equivalent to the calendar computation in {@link #eval} for time
+   * units of fixed width. Since the unit and offset are whole milliseconds, truncating the epoch
+   * millisecond of the instant yields the same window as truncating the instant itself.
+   */
+  private Instant evalFixedWidth(long epochMilli, long multiple, long offsetMillis) {
+    long truncated = Math.floorDiv(epochMilli - offsetMillis, timeUnitMillis) * timeUnitMillis;
+
+    long multipleToAdd = 1;
+    if (multiple > 1) {
+      long truncatedBase = startOfYear(truncated);
+      long timeBase = startOfYear(epochMilli);
+      if (timeBase != truncatedBase) {
+        //We slipped into the prior base unit (i.e. year) due to offset.
+        return endBefore(timeBase + offsetMillis);
+      }
+      long numberToBase = (truncated - truncatedBase) / timeUnitMillis;
+      multipleToAdd = multiple - (numberToBase % multiple);
+    }
+    return endBefore(truncated + multipleToAdd * timeUnitMillis + offsetMillis);
+  }
+
+  /** Returns the instant one nanosecond before the given epoch millisecond */
+  private static Instant endBefore(long epochMilli) {
+    return Instant.ofEpochSecond(Math.floorDiv(epochMilli, 1000),
+        Math.floorMod(epochMilli, 1000) * 1_000_000L - 1);
+  }
+
+  /**
+   * Returns the epoch millisecond at the start of the UTC year of the given epoch millisecond,
+   * using the civil calendar algorithms of H. Hinnant instead of allocating date objects.
+   */
+  static long startOfYear(long epochMilli) {
+    long epochDay = Math.floorDiv(epochMilli, MILLIS_PER_DAY);
+    //Shift the epoch to 0000-03-01, so that leap days are at the end of a year
+    long z = epochDay + 719468;
+    long era = Math.floorDiv(z, 146097);
+    long dayOfEra = z - era * 146097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    //Days from March 1st of the shifted year to January 1st of the civil year
+    long januaryFirst = dayOfYear >= 306 ? 306 : 306 - 365 - (isLeapYear(era * 400 + yearOfEra) ? 1 : 0);
+    long startDay = epochDay - dayOfYear + januaryFirst;
+    return startDay * MILLIS_PER_DAY;
+  }
+
+  private static boolean isLeapYear(long year) {
+    return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+  }
 }
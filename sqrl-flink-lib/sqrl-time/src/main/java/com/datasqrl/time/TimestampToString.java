@@ -13,7 +13,7 @@ import org.apache.flink.table.types.inference.TypeInference;
 public class TimestampToString extends ScalarFunction {
 
   public String eval(Instant instant) {
-    return instant.toString();
+    return IsoTimestamps.format(instant);
   }
 
   @Override
@@ -0,0 +1,97 @@
+package com.datasqrl.vector;
+
+import static com.datasqrl.vector.VectorFunctions.convert;
+
+import com.datasqrl.vector.OnnxEmbed.CachedModel;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.LoadingCache;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.catalog.DataTypeFactory;
+import org.apache.flink.table.functions.AsyncScalarFunction;
+import org.apache.flink.table.functions.FunctionContext;
+import org.apache.flink.table.types.inference.TypeInference;
+
+/**
+ * Asynchronous variant of {@link OnnxEmbed} that groups the texts of concurrent invocations into
+ * micro-batches and embeds each batch with a single ONNX inference.
+ *
+ * The batching is configured through the job parameters {@value #BATCH_SIZE_KEY} (default
+ * {@value #DEFAULT_BATCH_SIZE}), {@value #MAX_WAIT_KEY} in milliseconds (default
+ * {@value #DEFAULT_MAX_WAIT_MS}), {@value #INTRA_OP_THREADS_KEY} (default 0 for the ONNX runtime
+ * default) and {@value #CACHE_SIZE_KEY} for the number of recent text embeddings to cache (default
+ * 0, disabled). The number of texts in flight is bounded by Flink's
+ * {@code table.exec.async-scalar.buffer-capacity} which should be at least the batch size.
+ */
+public class AsyncOnnxEmbed extends AsyncScalarFunction {
+
+  public static final String BATCH_SIZE_KEY = "sqrl.vector.onnx.batch-size";
+  public static final String MAX_WAIT_KEY = "sqrl.vector.onnx.max-wait-ms";
+  public static final String INTRA_OP_THREADS_KEY = "sqrl.vector.onnx.intra-op-threads";
+  public static final String CACHE_SIZE_KEY = "sqrl.vector.onnx.cache-size";
+
+  public static final int DEFAULT_BATCH_SIZE = 32;
+  public static final long DEFAULT_MAX_WAIT_MS = 10;
+
+  private transient LoadingCache<String, CachedModel> models;
+  private transient Map<String, EmbeddingBatcher> batchers;
+  private transient int batchSize;
+  private transient long maxWaitMs;
+  private transient long cacheSize;
+
+  @Override
+  public void open(FunctionContext context) throws Exception {
+    batchSize = Integer.parseInt(
+        context.getJobParameter(BATCH_SIZE_KEY, String.valueOf(DEFAULT_BATCH_SIZE)));
+    maxWaitMs = Long.parseLong(
+        context.getJobParameter(MAX_WAIT_KEY, String.valueOf(DEFAULT_MAX_WAIT_MS)));
+    cacheSize = Long.parseLong(context.getJobParameter(CACHE_SIZE_KEY, "0"));
+    int intraOpThreads = Integer.parseInt(context.getJobParameter(INTRA_OP_THREADS_KEY, "0"));
+    models = CacheBuilder.newBuilder().maximumSize(100)
+        .build(new CacheLoaderImpl(intraOpThreads));
+    batchers = new ConcurrentHashMap<>();
+  }
+
+  public void eval(CompletableFuture<FlinkVectorType> result, String text, String modelPath) {
+    if (text == null || modelPath == null) {
+      result.complete(null);
+      return;
+    }
+    EmbeddingBatcher batcher;
+    try {
+      batcher = batchers.computeIfAbsent(modelPath, path -> new EmbeddingBatcher(
+          models.getUnchecked(path)::embedd, batchSize, maxWaitMs, cacheSize));
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+      return;
+    }
+    batcher.embed(text).whenComplete((vector, error) -> {
+      if (error != null) {
+        result.completeExceptionally(error);
+      } else {
+        result.complete(convert(vector));
+      }
+    });
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (batchers != null) {
+      for (EmbeddingBatcher batcher : batchers.values()) {
+        batcher.close();
+      }
+      batchers.clear();
+    }
+  }
+
+  @Override
+  public TypeInference getTypeInference(DataTypeFactory typeFactory) {
+    return TypeInference.newBuilder()
+        .typedArguments(DataTypes.STRING(), DataTypes.STRING())
+        .outputTypeStrategy(callContext -> Optional.of(DataTypes.of(FlinkVectorType.class).toDataType(typeFactory)))
+        .build();
+  }
+}
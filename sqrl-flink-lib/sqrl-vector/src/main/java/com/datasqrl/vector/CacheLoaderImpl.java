@@ -12,6 +12,16 @@ import org.tribuo.interop.onnx.extractors.Tokenizer;
 public class CacheLoaderImpl extends CacheLoader<String, CachedModel> implements Serializable {
   public static final String TOKENIZER_FILENAME = "tokenizer.json";
 
+  private final int intraOpThreads;
+
+  public CacheLoaderImpl() {
+    this(0);
+  }
+
+  public CacheLoaderImpl(int intraOpThreads) {
+    this.intraOpThreads = intraOpThreads;
+  }
+
     @Override
     public CachedModel load(String s) throws IllegalArgumentException {
       Path modelPath = Paths.get(s);
@@ -23,7 +33,7 @@ public class CacheLoaderImpl extends CacheLoader<String, CachedModel> implements
       OnnxRunner runner;
       Tokenizer tokenizer;
       try {
-        runner = new OnnxRunner(modelPath);
+        runner = new OnnxRunner(modelPath, intraOpThreads);
       } catch (Exception e) {
         throw new IllegalArgumentException("Could not instantiate ONNX model: " + modelPath,e);
       }
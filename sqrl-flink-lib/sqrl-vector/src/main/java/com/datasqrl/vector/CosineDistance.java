@@ -9,4 +9,12 @@ public class CosineDistance extends CosineSimilarity {
     return 1 - super.eval(vectorA, vectorB);
   }
 
-}
\ No newline at end of file
+  public double eval(FlinkFloatVectorType vectorA, FlinkFloatVectorType vectorB) {
+    return 1 - super.eval(vectorA, vectorB);
+  }
+
+  public double eval(FlinkQuantizedVectorType vectorA, FlinkQuantizedVectorType vectorB) {
+    return 1 - super.eval(vectorA, vectorB);
+  }
+
+}
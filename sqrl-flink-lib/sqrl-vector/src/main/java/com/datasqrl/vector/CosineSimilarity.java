@@ -1,9 +1,5 @@
 package com.datasqrl.vector;
 
-import static com.datasqrl.vector.VectorFunctions.VEC_TO_DOUBLE;
-
-import org.apache.commons.math3.linear.ArrayRealVector;
-import org.apache.commons.math3.linear.RealVector;
 import org.apache.flink.table.functions.ScalarFunction;
 
 /**
@@ -12,14 +8,14 @@ import org.apache.flink.table.functions.ScalarFunction;
 public class CosineSimilarity extends ScalarFunction {
 
   public double eval(FlinkVectorType vectorA, FlinkVectorType vectorB) {
-    // Create RealVectors from the input arrays
-    RealVector vA = new ArrayRealVector(VEC_TO_DOUBLE.eval(vectorA), false);
-    RealVector vB = new ArrayRealVector(VEC_TO_DOUBLE.eval(vectorB), false);
+    return VectorKernels.cosineSimilarity(vectorA.getValue(), vectorB.getValue());
+  }
 
-    // Calculate the cosine similarity
-    double dotProduct = vA.dotProduct(vB);
-    double normalization = vA.getNorm() * vB.getNorm();
+  public double eval(FlinkFloatVectorType vectorA, FlinkFloatVectorType vectorB) {
+    return VectorKernels.cosineSimilarity(vectorA.getValue(), vectorB.getValue());
+  }
 
-    return dotProduct / normalization;
+  public double eval(FlinkQuantizedVectorType vectorA, FlinkQuantizedVectorType vectorB) {
+    return VectorKernels.cosineSimilarity(vectorA, vectorB);
   }
 }
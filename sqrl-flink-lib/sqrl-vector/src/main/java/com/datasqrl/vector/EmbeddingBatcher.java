@@ -0,0 +1,170 @@
+package com.datasqrl.vector;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+
+/**
+ * Collects embedding requests into micro-batches and computes each batch with a single model
+ * inference on a dedicated thread. A batch is run once it reaches the batch size or once the
+ * oldest request has waited for the maximum wait time, whichever comes first.
+ *
+ * Optionally caches the most recent results keyed by a hash of the text content so that
+ * repeated texts skip inference altogether.
+ */
+public class EmbeddingBatcher implements AutoCloseable {
+
+  @FunctionalInterface
+  public interface BatchEmbedding {
+
+    double[][] embed(List<String> texts) throws Exception;
+  }
+
+  @Value
+  private static class Request {
+
+    String text;
+    HashCode key;
+    CompletableFuture<double[]> result;
+  }
+
+  private final BatchEmbedding model;
+  private final int batchSize;
+  private final long maxWaitNanos;
+  private final Cache<HashCode, double[]> cache;
+  private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+  private final Thread worker;
+  //Guards running so that no request is enqueued after close() drained the queue
+  private final Object lock = new Object();
+  private volatile boolean running = true;
+
+  /**
+   * @param cacheSize maximum number of cached results, or 0 to disable caching
+   */
+  public EmbeddingBatcher(BatchEmbedding model, int batchSize, long maxWaitMillis,
+      long cacheSize) {
+    this.model = model;
+    this.batchSize = Math.max(1, batchSize);
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    this.cache = cacheSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheSize).build() : null;
+    this.worker = new Thread(this::processBatches, "embedding-batcher");
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  public CompletableFuture<double[]> embed(String text) {
+    if (!running) {
+      return closed();
+    }
+    HashCode key = null;
+    if (cache != null) {
+      key = Hashing.murmur3_128().hashString(text, StandardCharsets.UTF_8);
+      double[] cached = cache.getIfPresent(key);
+      if (cached != null) {
+        return CompletableFuture.completedFuture(cached);
+      }
+    }
+    CompletableFuture<double[]> result = new CompletableFuture<>();
+    synchronized (lock) {
+      if (!running) {
+        return closed();
+      }
+      queue.add(new Request(text, key, result));
+    }
+    return result;
+  }
+
+  private static CompletableFuture<double[]> closed() {
+    CompletableFuture<double[]> result = new CompletableFuture<>();
+    result.completeExceptionally(new IllegalStateException("Embedding batcher is closed"));
+    return result;
+  }
+
+  private static void failAll(Iterable<Request> requests) {
+    IllegalStateException closed = new IllegalStateException("Embedding batcher is closed");
+    for (Request request : requests) {
+      //No-op for requests that have already been completed
+      request.result.completeExceptionally(closed);
+    }
+  }
+
+  private void processBatches() {
+    List<Request> batch = new ArrayList<>(batchSize);
+    while (running) {
+      try {
+        Request first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < batchSize) {
+          long remaining = deadline - System.nanoTime();
+          Request next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+              : queue.poll();
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        runBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } finally {
+        //Fails the requests of a batch that was interrupted before it could run
+        failAll(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void runBatch(List<Request> batch) {
+    List<String> texts = new ArrayList<>(batch.size());
+    for (Request request : batch) {
+      texts.add(request.text);
+    }
+    double[][] embeddings;
+    try {
+      embeddings = model.embed(texts);
+    } catch (Throwable e) {
+      for (Request request : batch) {
+        request.result.completeExceptionally(e);
+      }
+      return;
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      Request request = batch.get(i);
+      if (cache != null) {
+        cache.put(request.key, embeddings[i]);
+      }
+      request.result.complete(embeddings[i]);
+    }
+  }
+
+  /**
+   * Stops the batching thread. Requests that have not been embedded yet, including a batch that
+   * is being collected, are completed exceptionally and subsequent calls to {@link #embed} are
+   * rejected.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    synchronized (lock) {
+      running = false;
+    }
+    worker.interrupt();
+    worker.join();
+    List<Request> pending = new ArrayList<>();
+    queue.drainTo(pending);
+    failAll(pending);
+  }
+}
@@ -0,0 +1,34 @@
+package com.datasqrl.vector;
+
+import org.apache.flink.table.functions.ScalarFunction;
+
+/**
+ * Converts a single precision (float32) or quantized (int8) vector back to a vector
+ */
+public class FloatToVector extends ScalarFunction {
+
+  public FlinkVectorType eval(FlinkFloatVectorType vectorType) {
+    if (vectorType == null) {
+      return null;
+    }
+    float[] value = vectorType.getValue();
+    double[] result = new double[value.length];
+    for (int i = 0; i < value.length; i++) {
+      result[i] = value[i];
+    }
+    return new FlinkVectorType(result);
+  }
+
+  public FlinkVectorType eval(FlinkQuantizedVectorType vectorType) {
+    if (vectorType == null) {
+      return null;
+    }
+    byte[] value = vectorType.getValue();
+    double scale = vectorType.getScale();
+    double[] result = new double[value.length];
+    for (int i = 0; i < value.length; i++) {
+      result[i] = value[i] * scale;
+    }
+    return new FlinkVectorType(result);
+  }
+}
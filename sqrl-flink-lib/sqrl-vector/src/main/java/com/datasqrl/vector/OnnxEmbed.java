@@ -63,6 +63,14 @@ public class OnnxEmbed extends ScalarFunction {
       return runner.run(tokenIds, tokens);
     }
 
+    public double[][] embedd(List<String> texts) throws Exception {
+      long[][] tokenIds = new long[texts.size()][];
+      for (int i = 0; i < tokenIds.length; i++) {
+        tokenIds[i] = tokenizer.tokenIds(tokenizer.tokenize(texts.get(i)));
+      }
+      return runner.run(tokenIds);
+    }
+
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.datasqrl.vector;
+
+import com.datasqrl.type.PostgresBinaryObject;
+
+/**
+ * A pgvector parameter. The binary format is the dimension and an unused flag as int16, followed by
+ * the values as big-endian float4. pgvector stores single precision, so the text fallback also
+ * formats the values as floats.
+ */
+public class PostgresVectorObject extends PostgresBinaryObject {
+
+  public static final String TYPE = "vector";
+
+  private final double[] vector;
+
+  public PostgresVectorObject(double[] vector) {
+    super(TYPE);
+    this.vector = vector;
+  }
+
+  @Override
+  protected String toText() {
+    StringBuilder text = new StringBuilder(vector.length * 12 + 2).append('[');
+    for (int i = 0; i < vector.length; i++) {
+      if (i > 0) {
+        text.append(',');
+      }
+      text.append((float) vector[i]);
+    }
+    return text.append(']').toString();
+  }
+
+  @Override
+  public int lengthInBytes() {
+    return 4 + 4 * vector.length;
+  }
+
+  @Override
+  public void toBytes(byte[] bytes, int offset) {
+    offset = writeShort(bytes, offset, vector.length);
+    offset = writeShort(bytes, offset, 0);
+    for (double value : vector) {
+      int bits = Float.floatToIntBits((float) value);
+      bytes[offset++] = (byte) (bits >>> 24);
+      bytes[offset++] = (byte) (bits >>> 16);
+      bytes[offset++] = (byte) (bits >>> 8);
+      bytes[offset++] = (byte) bits;
+    }
+  }
+
+  private static int writeShort(byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) (value >>> 8);
+    bytes[offset + 1] = (byte) value;
+    return offset + 2;
+  }
+}
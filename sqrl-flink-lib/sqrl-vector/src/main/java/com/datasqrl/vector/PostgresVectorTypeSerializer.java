@@ -2,12 +2,10 @@ package com.datasqrl.vector;
 
 import com.datasqrl.type.JdbcTypeSerializer;
 //import com.google.auto.service.AutoService;
-import java.util.Arrays;
 import org.apache.flink.connector.jdbc.converter.AbstractJdbcRowConverter.JdbcDeserializationConverter;
 import org.apache.flink.connector.jdbc.converter.AbstractJdbcRowConverter.JdbcSerializationConverter;
 import org.apache.flink.table.data.RawValueData;
 import org.apache.flink.table.types.logical.LogicalType;
-import org.postgresql.util.PGobject;
 
 public class PostgresVectorTypeSerializer implements JdbcTypeSerializer {
 
@@ -23,7 +21,7 @@ public class PostgresVectorTypeSerializer implements JdbcTypeSerializer {
 
   @Override
   public String dialectTypeName() {
-    return "vector";
+    return PostgresVectorObject.TYPE;
   }
 
   @Override
@@ -44,10 +42,7 @@ public class PostgresVectorTypeSerializer implements JdbcTypeSerializer {
         FlinkVectorType vec = object.toObject(flinkVectorTypeSerializer);
 
         if (vec != null) {
-          PGobject pgObject = new PGobject();
-          pgObject.setType("vector");
-          pgObject.setValue(Arrays.toString(vec.getValue()));
-          statement.setObject(index, pgObject);
+          statement.setObject(index, new PostgresVectorObject(vec.getValue()));
           return;
         }
       }
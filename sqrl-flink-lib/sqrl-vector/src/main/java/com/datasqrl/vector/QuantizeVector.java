@@ -0,0 +1,40 @@
+package com.datasqrl.vector;
+
+import org.apache.flink.table.functions.ScalarFunction;
+
+/**
+ * Quantizes a vector to int8 elements using symmetric scalar quantization: the scale is chosen so
+ * that the element with the largest magnitude maps to 127.
+ */
+public class QuantizeVector extends ScalarFunction {
+
+  public FlinkQuantizedVectorType eval(FlinkVectorType vectorType) {
+    if (vectorType == null) {
+      return null;
+    }
+    double[] value = vectorType.getValue();
+    double maxAbs = 0;
+    for (double v : value) {
+      maxAbs = Math.max(maxAbs, Math.abs(v));
+    }
+    float scale = maxAbs == 0 ? 1.0f : (float) (maxAbs / Byte.MAX_VALUE);
+    byte[] result = new byte[value.length];
+    for (int i = 0; i < value.length; i++) {
+      result[i] = (byte) Math.round(value[i] / scale);
+    }
+    return new FlinkQuantizedVectorType(result, scale);
+  }
+
+  public FlinkQuantizedVectorType eval(FlinkFloatVectorType vectorType) {
+    if (vectorType == null) {
+      return null;
+    }
+    float[] value = vectorType.getValue();
+    double[] converted = new double[value.length];
+    for (int i = 0; i < value.length; i++) {
+      converted[i] = value[i];
+    }
+    return eval(new FlinkVectorType(converted));
+  }
+
+}
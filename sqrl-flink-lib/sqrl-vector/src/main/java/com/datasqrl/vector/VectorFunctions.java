@@ -15,8 +15,16 @@ public class VectorFunctions {
 
   public static final DoubleToVector DOUBLE_TO_VECTOR = new DoubleToVector();
 
+  public static final VectorToFloat VEC_TO_FLOAT = new VectorToFloat();
+
+  public static final FloatToVector FLOAT_TO_VECTOR = new FloatToVector();
+
+  public static final QuantizeVector QUANTIZE_VECTOR = new QuantizeVector();
+
   public static final OnnxEmbed ONNX_EMBED = new OnnxEmbed();
 
+  public static final AsyncOnnxEmbed ASYNC_ONNX_EMBED = new AsyncOnnxEmbed();
+
   public static final AsciiTextTestEmbed ASCII_TEXT_TEST_EMBED = new AsciiTextTestEmbed();
 
   public static final Center CENTER = new Center();
@@ -27,7 +35,11 @@ public class VectorFunctions {
     EUCLIDEAN_DISTANCE,
     VEC_TO_DOUBLE,
     DOUBLE_TO_VECTOR,
+    VEC_TO_FLOAT,
+    FLOAT_TO_VECTOR,
+    QUANTIZE_VECTOR,
     ONNX_EMBED,
+    ASYNC_ONNX_EMBED,
     ASCII_TEXT_TEST_EMBED,
     CENTER
   );
@@ -0,0 +1,145 @@
+package com.datasqrl.vector;
+
+/**
+ * Allocation-free distance kernels over the raw vector arrays. The loops are unrolled with
+ * independent accumulators so that the JIT can pipeline (and, for the integer kernels, vectorize)
+ * them.
+ *
+ * The module targets Java 11 and therefore cannot use the incubating {@code jdk.incubator.vector}
+ * API.
+ */
+public class VectorKernels {
+
+  public static double dot(double[] a, double[] b) {
+    checkLength(a.length, b.length);
+    double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+    int i = 0;
+    for (int bound = a.length & ~3; i < bound; i += 4) {
+      s0 += a[i] * b[i];
+      s1 += a[i + 1] * b[i + 1];
+      s2 += a[i + 2] * b[i + 2];
+      s3 += a[i + 3] * b[i + 3];
+    }
+    for (; i < a.length; i++) {
+      s0 += a[i] * b[i];
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  public static double squaredDistance(double[] a, double[] b) {
+    checkLength(a.length, b.length);
+    double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+    int i = 0;
+    for (int bound = a.length & ~3; i < bound; i += 4) {
+      double d0 = a[i] - b[i], d1 = a[i + 1] - b[i + 1];
+      double d2 = a[i + 2] - b[i + 2], d3 = a[i + 3] - b[i + 3];
+      s0 += d0 * d0;
+      s1 += d1 * d1;
+      s2 += d2 * d2;
+      s3 += d3 * d3;
+    }
+    for (; i < a.length; i++) {
+      double d = a[i] - b[i];
+      s0 += d * d;
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  public static double cosineSimilarity(double[] a, double[] b) {
+    return dot(a, b) / Math.sqrt(dot(a, a) * dot(b, b));
+  }
+
+  public static double euclideanDistance(double[] a, double[] b) {
+    return Math.sqrt(squaredDistance(a, b));
+  }
+
+  /*
+   * float32 kernels accumulate in double precision
+   */
+
+  public static double dot(float[] a, float[] b) {
+    checkLength(a.length, b.length);
+    double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+    int i = 0;
+    for (int bound = a.length & ~3; i < bound; i += 4) {
+      s0 += a[i] * b[i];
+      s1 += a[i + 1] * b[i + 1];
+      s2 += a[i + 2] * b[i + 2];
+      s3 += a[i + 3] * b[i + 3];
+    }
+    for (; i < a.length; i++) {
+      s0 += a[i] * b[i];
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  public static double squaredDistance(float[] a, float[] b) {
+    checkLength(a.length, b.length);
+    double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+    int i = 0;
+    for (int bound = a.length & ~3; i < bound; i += 4) {
+      float d0 = a[i] - b[i], d1 = a[i + 1] - b[i + 1];
+      float d2 = a[i + 2] - b[i + 2], d3 = a[i + 3] - b[i + 3];
+      s0 += d0 * d0;
+      s1 += d1 * d1;
+      s2 += d2 * d2;
+      s3 += d3 * d3;
+    }
+    for (; i < a.length; i++) {
+      float d = a[i] - b[i];
+      s0 += d * d;
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  public static double cosineSimilarity(float[] a, float[] b) {
+    return dot(a, b) / Math.sqrt(dot(a, a) * dot(b, b));
+  }
+
+  public static double euclideanDistance(float[] a, float[] b) {
+    return Math.sqrt(squaredDistance(a, b));
+  }
+
+  /*
+   * int8 kernels operate on the quantized values and apply the scales at the end
+   */
+
+  public static long dot(byte[] a, byte[] b) {
+    checkLength(a.length, b.length);
+    long sum = 0;
+    for (int i = 0; i < a.length; i++) {
+      sum += a[i] * b[i];
+    }
+    return sum;
+  }
+
+  public static double cosineSimilarity(FlinkQuantizedVectorType a, FlinkQuantizedVectorType b) {
+    //The scales cancel out
+    byte[] va = a.getValue(), vb = b.getValue();
+    return dot(va, vb) / Math.sqrt((double) dot(va, va) * dot(vb, vb));
+  }
+
+  public static double euclideanDistance(FlinkQuantizedVectorType a, FlinkQuantizedVectorType b) {
+    byte[] va = a.getValue(), vb = b.getValue();
+    if (a.getScale() == b.getScale()) {
+      long sum = 0;
+      checkLength(va.length, vb.length);
+      for (int i = 0; i < va.length; i++) {
+        int d = va[i] - vb[i];
+        sum += d * d;
+      }
+      return Math.sqrt(sum) * a.getScale();
+    }
+    // |a|^2 + |b|^2 - 2ab avoids a per element multiplication by the scales
+    double sa = a.getScale(), sb = b.getScale();
+    double squared = dot(va, va) * sa * sa + dot(vb, vb) * sb * sb - 2 * dot(va, vb) * sa * sb;
+    return Math.sqrt(Math.max(0, squared));
+  }
+
+  private static void checkLength(int lengthA, int lengthB) {
+    if (lengthA != lengthB) {
+      throw new IllegalArgumentException(
+          String.format("Vectors have different dimensions: %d vs %d", lengthA, lengthB));
+    }
+  }
+}
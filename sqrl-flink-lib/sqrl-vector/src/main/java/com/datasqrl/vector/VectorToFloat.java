@@ -0,0 +1,35 @@
+package com.datasqrl.vector;
+
+import org.apache.flink.table.functions.ScalarFunction;
+
+/**
+ * Converts a vector to a single precision (float32) vector
+ */
+public class VectorToFloat extends ScalarFunction {
+
+  public FlinkFloatVectorType eval(FlinkVectorType vectorType) {
+    if (vectorType == null) {
+      return null;
+    }
+    double[] value = vectorType.getValue();
+    float[] result = new float[value.length];
+    for (int i = 0; i < value.length; i++) {
+      result[i] = (float) value[i];
+    }
+    return new FlinkFloatVectorType(result);
+  }
+
+  public FlinkFloatVectorType eval(FlinkQuantizedVectorType vectorType) {
+    if (vectorType == null) {
+      return null;
+    }
+    byte[] value = vectorType.getValue();
+    float scale = vectorType.getScale();
+    float[] result = new float[value.length];
+    for (int i = 0; i < value.length; i++) {
+      result[i] = value[i] * scale;
+    }
+    return new FlinkFloatVectorType(result);
+  }
+
+}
@@ -22,8 +22,19 @@ public class OnnxRunner {
   public final int inputSize;
 
   public OnnxRunner(Path modelPath) throws Exception {
+    this(modelPath, 0);
+  }
+
+  /**
+   * @param intraOpThreads number of threads used to parallelize a single inference, or 0 for the
+   *                       ONNX runtime default
+   */
+  public OnnxRunner(Path modelPath, int intraOpThreads) throws Exception {
     env = OrtEnvironment.getEnvironment();
     OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+    if (intraOpThreads > 0) {
+      options.setIntraOpNumThreads(intraOpThreads);
+    }
 
     session = env.createSession(modelPath.toString(), options);
     Map<String, NodeInfo> outputs = session.getOutputInfo();
@@ -61,6 +72,53 @@ public class OnnxRunner {
     return tokenFeatures;
   }
 
+  /**
+   * Runs a single inference for a batch of token id sequences (as produced by
+   * {@link Tokenizer#tokenIds(List)}). Shorter sequences are padded and masked out, and the result
+   * for each sequence is the mean over its token vectors, same as {@link #run(OnnxTensor, List)}.
+   */
+  public double[][] run(long[][] tokenIds) throws Exception {
+    int batchSize = tokenIds.length;
+    int seqLength = 0;
+    for (long[] ids : tokenIds) {
+      seqLength = Math.max(seqLength, ids.length);
+    }
+    long[][] paddedIds = new long[batchSize][seqLength];
+    long[][] mask = new long[batchSize][seqLength];
+    for (int b = 0; b < batchSize; b++) {
+      System.arraycopy(tokenIds[b], 0, paddedIds[b], 0, tokenIds[b].length);
+      Arrays.fill(mask[b], 0, tokenIds[b].length, 1L);
+    }
+    Map<String, OnnxTensor> inputMap = new HashMap<>(3);
+    inputMap.put("input_ids", OnnxTensor.createTensor(env, paddedIds));
+    inputMap.put("attention_mask", OnnxTensor.createTensor(env, mask));
+    if (inputSize>2) {
+      inputMap.put("token_type_ids", OnnxTensor.createTensor(env, new long[batchSize][seqLength]));
+    }
+    try (OrtSession.Result bertOutput = this.session.run(inputMap)) {
+      FloatBuffer buffer = ((OnnxTensor) bertOutput.get(0)).getFloatBuffer();
+      double[][] result = new double[batchSize][];
+      for (int b = 0; b < batchSize; b++) {
+        int numTokens = tokenIds[b].length - 2;
+        //skip the [CLS] token
+        buffer.position((b * seqLength + 1) * dimension);
+        double[] featureValues = new double[dimension];
+        for (int i = 0; i < numTokens; i++) {
+          addFeatures(buffer, dimension, featureValues);
+        }
+        for (int i = 0; i < dimension; i++) {
+          featureValues[i] /= numTokens;
+        }
+        result[b] = featureValues;
+      }
+      return result;
+    } finally {
+      for (OnnxTensor tensor : inputMap.values()) {
+        tensor.close();
+      }
+    }
+  }
+
   private double[] extractCLSVector(OrtSession.Result bertOutput) {
     OnnxTensor tensor = (OnnxTensor) bertOutput.get(0);
     FloatBuffer buffer = tensor.getFloatBuffer();
@@ -45,6 +45,13 @@ public class Tokenizer {
 
 
   public OnnxTensor convertTokens(OrtEnvironment env, List<String> tokens) throws OrtException {
+    return OnnxTensor.createTensor(env,new long[][]{tokenIds(tokens)});
+  }
+
+  /**
+   * Maps the tokens to their ids, framed by the classification and separator token.
+   */
+  public long[] tokenIds(List<String> tokens) {
     int size = tokens.size() + 2; // for [CLS] in beginning and [SEP] in the end
     long[] curTokenIds = new long[size];
 
@@ -60,7 +67,7 @@ public class Tokenizer {
       i++;
     }
     curTokenIds[i] = tokenIDs.get(separatorToken);
-    return OnnxTensor.createTensor(env,new long[][]{curTokenIds});
+    return curTokenIds;
   }
 
 
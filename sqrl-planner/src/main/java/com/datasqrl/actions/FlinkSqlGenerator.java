@@ -49,7 +49,7 @@ public class FlinkSqlGenerator {
   private final BuildPath buildPath;
 
   public FlinkSqlGeneratorResult run(StreamStagePlan physicalPlan,
-      List<StagePlan> stagePlans) {
+      List<StagePlan> stagePlans, Map<String, String> settings) {
     SqrlToFlinkSqlGenerator sqlPlanner = new SqrlToFlinkSqlGenerator(framework);
     SqlResult result = sqlPlanner.plan(physicalPlan.getQueries(), stagePlans);
 
@@ -66,7 +66,7 @@ public class FlinkSqlGenerator {
     flinkSql.add(execute);
 
     SqlNodeToString sqlNodeToString = SqlToStringFactory.get(Dialect.FLINK);
-    Map<String, String> config = new LinkedHashMap<>();
+    Map<String, String> config = new LinkedHashMap<>(settings);
     List<String> plan = new ArrayList<>();
     for (SqlNode sqlNode : flinkSql) {
       if (sqlNode instanceof SqlSet) {
@@ -80,7 +80,7 @@ public class FlinkSqlGenerator {
 
     CompiledPlan compiledPlan = null;
     try {
-      compiledPlan = createCompiledPlan(result, physicalPlan);
+      compiledPlan = createCompiledPlan(result, physicalPlan, config);
       Path path = buildPath.getBuildDir().resolve(COMPILED_PLAN_JSON);
 
       compiledPlan.writeToFile(path.toAbsolutePath().toString(),
@@ -89,16 +89,17 @@ public class FlinkSqlGenerator {
       log.warn("Could not prepare compiled plan: " + e.getMessage());
     }
 
-    return new FlinkSqlGeneratorResult(plan, flinkSql);
+    return new FlinkSqlGeneratorResult(plan, flinkSql, config);
   }
 
-  private CompiledPlan createCompiledPlan(SqlResult result, StreamStagePlan physicalPlan) {
+  private CompiledPlan createCompiledPlan(SqlResult result, StreamStagePlan physicalPlan,
+      Map<String, String> settings) {
     List<SqlNode> stubSchema = result.getStubSchema();
     stubSchema = ListUtils.union(stubSchema, result.getQueries());
 
     URL[] urlArray =  physicalPlan.getJars().toArray(new URL[0]);
     ClassLoader udfClassLoader = new URLClassLoader(urlArray, getClass().getClassLoader());
-    Map<String, String> config = new HashMap<>();
+    Map<String, String> config = new HashMap<>(settings);
     config.put("pipeline.classpaths", physicalPlan.getJars().stream().map(URL::toString)
         .collect(Collectors.joining(",")));
     StreamExecutionEnvironment sEnv = StreamExecutionEnvironment.createLocalEnvironment(Configuration.fromMap(config));
@@ -139,5 +140,9 @@ public class FlinkSqlGenerator {
   public class FlinkSqlGeneratorResult {
     List<String> plan;
     List<SqlNode> flinkSql;
+    /**
+     * The Flink configuration options that the plan requires
+     */
+    Map<String, String> config;
   }
 }
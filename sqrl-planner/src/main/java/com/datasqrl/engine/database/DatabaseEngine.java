@@ -5,6 +5,8 @@ package com.datasqrl.engine.database;
 
 import com.datasqrl.engine.ExecutionEngine;
 import com.datasqrl.plan.global.IndexSelectorConfig;
+import com.datasqrl.plan.global.TimePartitioning;
+import java.util.Optional;
 
 /**
  * A {@link DatabaseEngine} is a {@link ExecutionEngine} that persists data for retrieval and uses
@@ -18,6 +20,14 @@ public interface DatabaseEngine extends ExecutionEngine {
    */
   IndexSelectorConfig getIndexSelectorConfig();
 
+  /**
+   * @return The {@link TimePartitioning} for stream tables that are written to this database or
+   * empty if those tables are not partitioned.
+   */
+  default Optional<TimePartitioning> getTimePartitioning() {
+    return Optional.empty();
+  }
+
   /**
    *
    * @return Whether this database engine supports the given query engine.
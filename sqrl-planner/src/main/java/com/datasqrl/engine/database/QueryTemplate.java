@@ -3,14 +3,26 @@
  */
 package com.datasqrl.engine.database;
 
+import java.util.Map;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.apache.calcite.rel.RelNode;
 
 @Value
+@AllArgsConstructor
 public class QueryTemplate {
   String database;
 
   RelNode relNode;
   //TODO: add parameters
 
+  /**
+   * Session settings the server applies when executing the query
+   */
+  Map<String, String> settings;
+
+  public QueryTemplate(String database, RelNode relNode) {
+    this(database, relNode, Map.of());
+  }
+
 }
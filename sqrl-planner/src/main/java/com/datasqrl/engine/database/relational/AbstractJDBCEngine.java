@@ -34,7 +34,7 @@ import com.datasqrl.util.StreamUtil;
 import com.google.common.base.Preconditions;
 import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +45,8 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
@@ -79,6 +81,13 @@ public abstract class AbstractJDBCEngine extends ExecutionEngine.Base implements
 
   protected abstract JdbcDialect getDialect();
 
+  /**
+   * @return The session settings for executing the given query against the database
+   */
+  protected Map<String, String> getQuerySettings(RelNode relNode) {
+    return Map.of();
+  }
+
   @Override
   public DatabasePhysicalPlan plan(StagePlan plan, List<StageSink> inputs,
       ExecutionPipeline pipeline, List<StagePlan> stagePlans, SqrlFramework framework, ErrorCollector errorCollector) {
@@ -101,6 +110,13 @@ public abstract class AbstractJDBCEngine extends ExecutionEngine.Base implements
               .map(factory::createTable)
               .collect(Collectors.toList()));
 
+      List<EngineSink> partitionedTables = StreamUtil.filterByClass(inputs, EngineSink.class)
+          .filter(sink -> sink.getTimePartitioning().isPresent())
+          .collect(Collectors.toList());
+      if (!partitionedTables.isEmpty()) {
+        ddlStatements.addAll(factory.createTimePartitions(partitionedTables));
+      }
+
       dbPlan.getIndexDefinitions().stream().sorted()
           .map(factory::createIndex)
           .forEach(ddlStatements::add);
@@ -109,7 +125,7 @@ public abstract class AbstractJDBCEngine extends ExecutionEngine.Base implements
 
     Map<IdentifiedQuery, QueryTemplate> databaseQueries = dbPlan.getQueries().stream()
         .collect(Collectors.toMap(ReadQuery::getQuery, q -> new QueryTemplate(
-            getDialect().name().toLowerCase(), q.getRelNode())));
+            getDialect().name().toLowerCase(), q.getRelNode(), getQuerySettings(q.getRelNode()))));
 
     List<DatabaseView> views = new ArrayList<>();
     Optional<DataTypeMapper> upCastingMapper = getUpCastingMapper();
@@ -218,7 +234,7 @@ public abstract class AbstractJDBCEngine extends ExecutionEngine.Base implements
 
   //todo: currently vector specific
   private List<SqlDDLStatement> extractTypeExtensions(RelNode relNode, List<PgExtension> extensions) {
-    Set<SqlDDLStatement> statements = new HashSet<>();
+    Set<SqlDDLStatement> statements = new LinkedHashSet<>();
     //look at relnodes to see if we use a vector type
     for (RelDataTypeField field : relNode.getRowType().getFieldList()) {
 
@@ -233,19 +249,31 @@ public abstract class AbstractJDBCEngine extends ExecutionEngine.Base implements
     CalciteUtil.applyRexShuttleRecursively(relNode, new RexShuttle() {
       @Override
       public RexNode visitCall(RexCall call) {
-        for (PgExtension extension : extensions) {
-          for (String function : extension.operators()) {
-            if (function.equals(
-                Name.system(call.getOperator().getName().toLowerCase()))) {
-              statements.add(extension.getExtensionDdl());
-            }
-          }
-        }
-
+        addOperatorExtensions(call.getOperator().getName(), extensions, statements);
         return super.visitCall(call);
       }
     });
+    //Aggregate functions are not part of the rex tree
+    new RelVisitor() {
+      @Override
+      public void visit(RelNode node, int ordinal, RelNode parent) {
+        if (node instanceof Aggregate) {
+          ((Aggregate) node).getAggCallList().forEach(aggCall -> addOperatorExtensions(
+              aggCall.getAggregation().getName(), extensions, statements));
+        }
+        super.visit(node, ordinal, parent);
+      }
+    }.go(relNode);
 
     return new ArrayList<>(statements);
   }
+
+  private static void addOperatorExtensions(String operatorName, List<PgExtension> extensions,
+      Set<SqlDDLStatement> statements) {
+    for (PgExtension extension : extensions) {
+      if (extension.operators().stream().anyMatch(operatorName::equalsIgnoreCase)) {
+        statements.add(extension.getExtensionDdl());
+      }
+    }
+  }
 }
\ No newline at end of file
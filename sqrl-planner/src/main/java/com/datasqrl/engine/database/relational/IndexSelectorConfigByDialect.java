@@ -6,6 +6,7 @@ package com.datasqrl.engine.database.relational;
 import com.datasqrl.config.JdbcDialect;
 import com.datasqrl.plan.global.IndexDefinition;
 import com.datasqrl.plan.global.IndexSelectorConfig;
+import com.datasqrl.plan.global.VectorIndexOptions;
 import com.datasqrl.function.IndexType;
 import com.google.common.base.Preconditions;
 import lombok.Builder;
@@ -36,6 +37,16 @@ public class IndexSelectorConfigByDialect implements IndexSelectorConfig {
   JdbcDialect dialect;
   @Builder.Default
   int maxIndexColumns = MAX_INDEX_COLUMNS;
+  /**
+   * The maximum number of columns to include in covering indexes, 0 disables covering indexes
+   */
+  @Builder.Default
+  int maxIncludeColumns = 0;
+  @Builder.Default
+  boolean partialIndexes = false;
+  @NonNull
+  @Builder.Default
+  VectorIndexOptions vectorIndexOptions = VectorIndexOptions.DEFAULT;
 
   @Override
   public boolean hasPrimaryKeyIndex() {
@@ -110,6 +121,20 @@ public class IndexSelectorConfigByDialect implements IndexSelectorConfig {
     }
   }
 
+  @Override
+  public int maxIncludeColumns(IndexType indexType) {
+    //Postgres only supports INCLUDE for btree indexes
+    if (dialect == JdbcDialect.Postgres && indexType == BTREE) {
+      return maxIncludeColumns;
+    }
+    return 0;
+  }
+
+  @Override
+  public boolean supportsPartialIndexes() {
+    return dialect == JdbcDialect.Postgres && partialIndexes;
+  }
+
   @Override
   public double relativeIndexCost(IndexDefinition index) {
     switch (index.getType()) {
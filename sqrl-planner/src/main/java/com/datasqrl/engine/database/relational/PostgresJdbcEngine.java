@@ -6,8 +6,16 @@ import com.datasqrl.config.ConnectorFactoryFactory;
 import com.datasqrl.config.JdbcDialect;
 import com.datasqrl.config.PackageJson;
 import com.datasqrl.config.PackageJson.EmptyEngineConfig;
+import com.datasqrl.plan.global.IndexSelectorConfig;
+import com.datasqrl.plan.global.TimePartitioning;
+import com.datasqrl.plan.global.VectorIndexOptions;
+import com.datasqrl.plan.global.VectorSearchFinder;
+import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import java.util.Map;
+import java.util.Optional;
 import lombok.NonNull;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.sql.SqlIdentifier;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.SqlNodeList;
@@ -15,6 +23,11 @@ import org.apache.calcite.sql.parser.SqlParserPos;
 
 public class PostgresJdbcEngine extends AbstractJDBCDatabaseEngine {
 
+  public static final String COVERING_INDEX_COLUMNS_KEY = "covering-index-columns";
+  public static final String PARTIAL_INDEXES_KEY = "partial-indexes";
+  public static final String VECTOR_INDEX_KEY = "vector-index";
+  public static final String PARTITIONING_KEY = "partitioning";
+
   PostgresSqlNodeToString sqlToString = new PostgresSqlNodeToString();
 
   @Inject
@@ -31,6 +44,50 @@ public class PostgresJdbcEngine extends AbstractJDBCDatabaseEngine {
     return JdbcDialect.Postgres;
   }
 
+  @Override
+  public IndexSelectorConfig getIndexSelectorConfig() {
+    Map<String, Object> settings = connectorConfig.toMap();
+    return IndexSelectorConfigByDialect.builder()
+        .dialect(getDialect())
+        .maxIncludeColumns(Integer.parseInt(
+            String.valueOf(settings.getOrDefault(COVERING_INDEX_COLUMNS_KEY, 0))))
+        .partialIndexes(Boolean.parseBoolean(
+            String.valueOf(settings.getOrDefault(PARTIAL_INDEXES_KEY, false))))
+        .vectorIndexOptions(getVectorIndexOptions(settings))
+        .build();
+  }
+
+  private static VectorIndexOptions getVectorIndexOptions(Map<String, Object> settings) {
+    Object options = settings.get(VECTOR_INDEX_KEY);
+    if (options == null) {
+      return VectorIndexOptions.DEFAULT;
+    }
+    Preconditions.checkArgument(options instanceof Map,
+        "Expected [%s] to be an object: %s", VECTOR_INDEX_KEY, options);
+    return VectorIndexOptions.of((Map<String, ?>) options, VectorIndexOptions.DEFAULT);
+  }
+
+  @Override
+  public Optional<TimePartitioning> getTimePartitioning() {
+    Object partitioning = connectorConfig.toMap().get(PARTITIONING_KEY);
+    if (partitioning == null) {
+      return Optional.empty();
+    }
+    Preconditions.checkArgument(partitioning instanceof Map,
+        "Expected [%s] to be an object: %s", PARTITIONING_KEY, partitioning);
+    return Optional.of(TimePartitioning.of((Map<String, ?>) partitioning));
+  }
+
+  @Override
+  protected Map<String, String> getQuerySettings(RelNode relNode) {
+    Map<String, String> settings = getIndexSelectorConfig().getVectorIndexOptions()
+        .getQuerySettings();
+    if (settings.isEmpty() || !VectorSearchFinder.isVectorSearch(relNode)) {
+      return Map.of();
+    }
+    return settings;
+  }
+
   @Override
   protected String createView(SqlIdentifier viewNameIdentifier, SqlParserPos pos,
       SqlNodeList columnList, SqlNode viewSqlNode) {
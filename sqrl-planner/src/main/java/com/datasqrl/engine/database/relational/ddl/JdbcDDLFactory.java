@@ -7,6 +7,7 @@ import com.datasqrl.config.JdbcDialect;
 import com.datasqrl.sql.SqlDDLStatement;
 import com.datasqrl.plan.global.IndexDefinition;
 import com.datasqrl.plan.global.PhysicalDAGPlan.EngineSink;
+import java.util.List;
 
 public interface JdbcDDLFactory {
   JdbcDialect getDialect();
@@ -14,4 +15,11 @@ public interface JdbcDDLFactory {
   SqlDDLStatement createTable(EngineSink table);
 
   SqlDDLStatement createIndex(IndexDefinition indexDefinitions);
+
+  /**
+   * Creates the partitions and their maintenance for the given tables which are partitioned by time
+   */
+  default List<SqlDDLStatement> createTimePartitions(List<EngineSink> tables) {
+    throw new UnsupportedOperationException("Time partitioning is not supported for " + getDialect());
+  }
 }
@@ -14,17 +14,23 @@ import com.datasqrl.engine.database.relational.ddl.statements.notify.ListenQuery
 import com.datasqrl.engine.database.relational.ddl.statements.notify.CreateNotifyTriggerDDL;
 import com.datasqrl.engine.database.relational.ddl.statements.CreateTableDDL;
 import com.datasqrl.engine.database.relational.ddl.statements.notify.Parameter;
+import com.datasqrl.engine.database.relational.ddl.statements.partition.CreateTimePartitionsDDL;
+import com.datasqrl.engine.database.relational.ddl.statements.partition.PartitionMaintenanceDDL;
 import com.datasqrl.plan.global.IndexDefinition;
+import com.datasqrl.plan.global.IndexPredicate;
 import com.datasqrl.plan.global.PhysicalDAGPlan.EngineSink;
+import com.datasqrl.sql.SqlDDLStatement;
 import com.google.auto.service.AutoService;
 
 import com.google.common.base.Preconditions;
+import java.math.BigDecimal;
 import java.util.stream.Collectors;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.calcite.sql.SqlDataTypeSpec;
 import org.apache.calcite.sql.pretty.SqlPrettyWriter;
@@ -55,7 +61,24 @@ public class PostgresDDLFactory implements JdbcDDLFactory {
       RelDataTypeField field = fields.get(pkIdx);
       pk.add(quoteIdentifier(field.getName()));
     }
-    return new CreateTableDDL(table.getNameId(), columns, pk);
+    Optional<String> partitionColumn = table.getTimePartitioning()
+        .map(partitioning -> quoteIdentifier(getTimestampColumn(table)));
+    return new CreateTableDDL(table.getNameId(), columns, pk, partitionColumn);
+  }
+
+  @Override
+  public List<SqlDDLStatement> createTimePartitions(List<EngineSink> tables) {
+    List<SqlDDLStatement> statements = new ArrayList<>();
+    statements.add(new PartitionMaintenanceDDL());
+    for (EngineSink table : tables) {
+      statements.add(new CreateTimePartitionsDDL(table.getNameId(), getTimestampColumn(table),
+          table.getTimePartitioning().get()));
+    }
+    return statements;
+  }
+
+  private static String getTimestampColumn(EngineSink table) {
+    return table.getRowType().getFieldList().get(table.getTimestampIdx().getAsInt()).getName();
   }
 
   public CreateTableDDL createTable(String name, List<RelDataTypeField> fields, List<String> primaryKeys) {
@@ -93,7 +116,29 @@ public class PostgresDDLFactory implements JdbcDDLFactory {
   @Override
   public CreateIndexDDL createIndex(IndexDefinition index) {
     List<String> columns = index.getColumnNames();
-    return new CreateIndexDDL(index.getName(), index.getTableId(), columns, index.getType());
+    List<String> predicates = index.getPredicates().stream()
+        .map(PostgresDDLFactory::toSql)
+        .collect(Collectors.toList());
+    return new CreateIndexDDL(index.getName(), index.getTableId(), columns, index.getType(),
+        index.getIncludeColumnNames(), predicates, index.getVectorOptions());
+  }
+
+  private static String toSql(IndexPredicate predicate) {
+    String column = quoteIdentifier(predicate.getColumnName());
+    switch (predicate.getKind()) {
+      case IS_NOT_NULL:
+        return column + " IS NOT NULL";
+      case EQUALS:
+        Object value = predicate.getValue();
+        if (value instanceof String) {
+          return column + " = '" + ((String) value).replace("'", "''") + "'";
+        } else if (value instanceof BigDecimal) {
+          return column + " = " + ((BigDecimal) value).toPlainString();
+        }
+        return column + " = " + value.toString().toUpperCase();
+      default:
+        throw new UnsupportedOperationException(predicate.getKind().name());
+    }
   }
 
   public CreateNotifyTriggerDDL createNotify(String name, List<String> primaryKeys) {
@@ -7,7 +7,9 @@ import static com.datasqrl.engine.database.relational.ddl.PostgresDDLFactory.quo
 
 import com.datasqrl.sql.SqlDDLStatement;
 import com.datasqrl.function.IndexType;
+import com.datasqrl.plan.global.VectorIndexOptions;
 import com.google.common.base.Preconditions;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.Value;
 
@@ -20,11 +22,46 @@ public class CreateIndexDDL implements SqlDDLStatement {
   String tableName;
   List<String> columns;
   IndexType type;
+  /**
+   * Non-key columns to include in the index (only supported for btree indexes)
+   */
+  List<String> includeColumns;
+  /**
+   * SQL predicates that restrict the index to matching rows
+   */
+  List<String> predicates;
+  /**
+   * Access method and build parameters for vector indexes
+   */
+  VectorIndexOptions vectorOptions;
 
+  public CreateIndexDDL(String indexName, String tableName, List<String> columns, IndexType type) {
+    this(indexName, tableName, columns, type, List.of(), List.of());
+  }
+
+  public CreateIndexDDL(String indexName, String tableName, List<String> columns, IndexType type,
+      List<String> includeColumns, List<String> predicates) {
+    this(indexName, tableName, columns, type, includeColumns, predicates,
+        type.isVectorIndex() ? VectorIndexOptions.DEFAULT : null);
+  }
+
+  public CreateIndexDDL(String indexName, String tableName, List<String> columns, IndexType type,
+      List<String> includeColumns, List<String> predicates, VectorIndexOptions vectorOptions) {
+    Preconditions.checkArgument(includeColumns.isEmpty() || type == IndexType.BTREE,
+        "Only btree indexes can include columns: %s", type);
+    this.indexName = indexName;
+    this.tableName = tableName;
+    this.columns = columns;
+    this.type = type;
+    this.includeColumns = includeColumns;
+    this.predicates = predicates;
+    this.vectorOptions = vectorOptions;
+  }
 
   @Override
   public String getSql() {
     String indexType, columnExpression;
+    String storageParameters = "";
     switch (type) {
       case TEXT:
         columnExpression = String.format("to_tsvector('english', %s )",
@@ -38,26 +75,38 @@ public class CreateIndexDDL implements SqlDDLStatement {
         String indexModifier;
         switch (type) {
           case VEC_COSINE:
-            indexModifier = "vector_l2_ops";
+            indexModifier = "vector_cosine_ops";
             break;
           case VEC_EUCLID:
-            indexModifier = "vector_cosine_ops";
+            indexModifier = "vector_l2_ops";
             break;
           default:
             throw new UnsupportedOperationException(type.toString());
         }
         columnExpression = quoteIdentifier(columns.get(0)) + " " + indexModifier;
-        indexType = "HNSW";
+        indexType = vectorOptions.getMethod().name().toLowerCase();
+        Map<String, Integer> params = vectorOptions.getStorageParameters();
+        if (!params.isEmpty()) {
+          storageParameters = params.entrySet().stream()
+              .map(e -> e.getKey() + " = " + e.getValue())
+              .collect(Collectors.joining(", ", " WITH (", ")"));
+        }
         break;
       default:
         columnExpression = String.join(",", quoteIdentifier(columns));
         indexType = type.name().toLowerCase();
     }
 
-    String createTable = "CREATE INDEX IF NOT EXISTS %s ON %s USING %s (%s);";
-    String sql = String.format(createTable, indexName, tableName, indexType,
-        columnExpression);
-    return sql;
+    StringBuilder sql = new StringBuilder(String.format("CREATE INDEX IF NOT EXISTS %s ON %s USING %s (%s)",
+        indexName, tableName, indexType, columnExpression));
+    if (!includeColumns.isEmpty()) {
+      sql.append(" INCLUDE (").append(String.join(",", quoteIdentifier(includeColumns))).append(")");
+    }
+    sql.append(storageParameters);
+    if (!predicates.isEmpty()) {
+      sql.append(" WHERE ").append(String.join(" AND ", predicates));
+    }
+    return sql.append(";").toString();
   }
 
 }
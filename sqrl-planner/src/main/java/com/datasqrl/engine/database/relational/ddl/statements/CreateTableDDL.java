@@ -4,16 +4,29 @@
 package com.datasqrl.engine.database.relational.ddl.statements;
 
 import com.datasqrl.sql.SqlDDLStatement;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 import java.util.List;
+import java.util.Optional;
 
 @Value
+@AllArgsConstructor
 public class CreateTableDDL implements SqlDDLStatement {
 
   String name;
   List<String> columns;
   List<String> primaryKeys;
+  /**
+   * The (quoted) column by which the table is range partitioned, if any
+   */
+  @JsonIgnore
+  Optional<String> rangePartitionColumn;
+
+  public CreateTableDDL(String name, List<String> columns, List<String> primaryKeys) {
+    this(name, columns, primaryKeys, Optional.empty());
+  }
 
   @Override
   public String getSql() {
@@ -21,9 +34,11 @@ public class CreateTableDDL implements SqlDDLStatement {
     if (!primaryKeys.isEmpty()) {
       primaryKeyStr = String.format(" , PRIMARY KEY (%s)", String.join(",", primaryKeys));
     }
-    String createTable = "CREATE TABLE IF NOT EXISTS %s (%s%s);";
+    String partitionStr = rangePartitionColumn
+        .map(column -> String.format(" PARTITION BY RANGE (%s)", column)).orElse("");
+    String createTable = "CREATE TABLE IF NOT EXISTS %s (%s%s)%s;";
     String sql = String.format(createTable, name,
-        String.join(",", columns), primaryKeyStr);
+        String.join(",", columns), primaryKeyStr, partitionStr);
 
     return sql;
   }
@@ -0,0 +1,37 @@
+package com.datasqrl.engine.database.relational.ddl.statements.partition;
+
+import static com.datasqrl.engine.database.relational.ddl.statements.partition.PartitionMaintenanceDDL.DEFAULT_PARTITION_SUFFIX;
+import static com.datasqrl.engine.database.relational.ddl.statements.partition.PartitionMaintenanceDDL.MAINTENANCE_FUNCTION;
+import static com.datasqrl.engine.database.relational.ddl.statements.partition.PartitionMaintenanceDDL.TABLE_REGISTRY;
+
+import com.datasqrl.plan.global.TimePartitioning;
+import com.datasqrl.sql.SqlDDLStatement;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Creates the default partition of a time-partitioned table, which holds the records outside the
+ * range of the time partitions, registers the table for maintenance and creates the initial
+ * partitions.
+ */
+@Value
+public class CreateTimePartitionsDDL implements SqlDDLStatement {
+
+  @NonNull String tableName;
+  @NonNull String columnName;
+  @NonNull TimePartitioning partitioning;
+
+  @Override
+  public String getSql() {
+    return String.format(
+        "CREATE TABLE IF NOT EXISTS \"%1$s%2$s\" PARTITION OF \"%1$s\" DEFAULT;\n" +
+        "INSERT INTO \"%3$s\" VALUES ('%1$s', '%4$s', '%5$s', %6$d, %7$d)\n" +
+        "ON CONFLICT (\"table_name\") DO UPDATE SET \"column_name\" = EXCLUDED.\"column_name\", "
+            + "\"interval\" = EXCLUDED.\"interval\", \"premake\" = EXCLUDED.\"premake\", "
+            + "\"retention\" = EXCLUDED.\"retention\";\n" +
+        "DO $$ BEGIN PERFORM %8$s(); END $$;",
+        tableName, DEFAULT_PARTITION_SUFFIX, TABLE_REGISTRY, columnName,
+        partitioning.getInterval().getName(), partitioning.getPremake(),
+        partitioning.getRetention(), MAINTENANCE_FUNCTION);
+  }
+}
@@ -0,0 +1,75 @@
+package com.datasqrl.engine.database.relational.ddl.statements.partition;
+
+import com.datasqrl.sql.SqlDDLStatement;
+
+/**
+ * Creates the registry of time-partitioned tables and the function that maintains their
+ * partitions: It creates the partitions within retention and ahead of time, moves records from the
+ * default partition into newly created partitions, and drops partitions and records that are past
+ * retention. The function needs to be invoked periodically, which the server does if the function
+ * exists.
+ */
+public class PartitionMaintenanceDDL implements SqlDDLStatement {
+
+  public static final String MAINTENANCE_FUNCTION = "sqrl_maintain_partitions";
+  public static final String TABLE_REGISTRY = "_sqrl_partitioned_tables";
+  public static final String PARTITION_REGISTRY = "_sqrl_partitions";
+  public static final String DEFAULT_PARTITION_SUFFIX = "_default";
+
+  @Override
+  public String getSql() {
+    return String.format(
+        "CREATE TABLE IF NOT EXISTS \"%2$s\" (\"table_name\" TEXT NOT NULL,\"column_name\" TEXT NOT NULL,"
+            + "\"interval\" TEXT NOT NULL,\"premake\" INTEGER NOT NULL,\"retention\" INTEGER NOT NULL"
+            + " , PRIMARY KEY (\"table_name\"));\n" +
+        "CREATE TABLE IF NOT EXISTS \"%3$s\" (\"partition_name\" TEXT NOT NULL,\"table_name\" TEXT NOT NULL,"
+            + "\"end_time\" TIMESTAMP WITH TIME ZONE NOT NULL , PRIMARY KEY (\"partition_name\"));\n" +
+        "\n" +
+        "CREATE OR REPLACE FUNCTION %1$s()\n" +
+        "RETURNS void AS $$\n" +
+        "DECLARE\n" +
+        "   t RECORD;\n" +
+        "   p RECORD;\n" +
+        "   step INTERVAL;\n" +
+        "   base TIMESTAMP;\n" +
+        "   range_start TIMESTAMP WITH TIME ZONE;\n" +
+        "   range_end TIMESTAMP WITH TIME ZONE;\n" +
+        "   cutoff TIMESTAMP WITH TIME ZONE;\n" +
+        "   new_partition TEXT;\n" +
+        "BEGIN\n" +
+        "   -- Another server is maintaining the partitions concurrently\n" +
+        "   IF NOT pg_try_advisory_xact_lock(hashtext('%1$s')) THEN\n" +
+        "      RETURN;\n" +
+        "   END IF;\n" +
+        "   FOR t IN SELECT * FROM \"%2$s\" LOOP\n" +
+        "      step := ('1 ' || t.\"interval\")::interval;\n" +
+        "      -- Partition boundaries are computed in UTC so they don't depend on the session time zone\n" +
+        "      base := date_trunc(t.\"interval\", now() AT TIME ZONE 'UTC');\n" +
+        "      FOR i IN -t.\"retention\"..t.\"premake\" LOOP\n" +
+        "         range_start := (base + i * step) AT TIME ZONE 'UTC';\n" +
+        "         range_end := (base + (i + 1) * step) AT TIME ZONE 'UTC';\n" +
+        "         new_partition := t.\"table_name\" || '_p' || to_char(base + i * step, 'YYYYMMDDHH24');\n" +
+        "         CONTINUE WHEN to_regclass(quote_ident(new_partition)) IS NOT NULL;\n" +
+        "         EXECUTE format('CREATE TABLE %%I (LIKE %%I INCLUDING DEFAULTS)', new_partition, t.\"table_name\");\n" +
+        "         EXECUTE format('WITH moved AS (DELETE FROM %%I WHERE %%I >= $1 AND %%I < $2 RETURNING *) '\n" +
+        "            'INSERT INTO %%I SELECT * FROM moved', t.\"table_name\" || '%4$s', t.\"column_name\",\n" +
+        "            t.\"column_name\", new_partition) USING range_start, range_end;\n" +
+        "         EXECUTE format('ALTER TABLE %%I ATTACH PARTITION %%I FOR VALUES FROM (%%L) TO (%%L)',\n" +
+        "            t.\"table_name\", new_partition, range_start, range_end);\n" +
+        "         INSERT INTO \"%3$s\" VALUES (new_partition, t.\"table_name\", range_end);\n" +
+        "      END LOOP;\n" +
+        "      IF t.\"retention\" > 0 THEN\n" +
+        "         cutoff := now() - t.\"retention\" * step;\n" +
+        "         FOR p IN SELECT * FROM \"%3$s\" WHERE \"table_name\" = t.\"table_name\" AND \"end_time\" <= cutoff LOOP\n" +
+        "            EXECUTE format('DROP TABLE IF EXISTS %%I', p.\"partition_name\");\n" +
+        "            DELETE FROM \"%3$s\" WHERE \"partition_name\" = p.\"partition_name\";\n" +
+        "         END LOOP;\n" +
+        "         EXECUTE format('DELETE FROM %%I WHERE %%I < $1', t.\"table_name\" || '%4$s',\n" +
+        "            t.\"column_name\") USING cutoff;\n" +
+        "      END IF;\n" +
+        "   END LOOP;\n" +
+        "END;\n" +
+        "$$ LANGUAGE plpgsql;", MAINTENANCE_FUNCTION, TABLE_REGISTRY, PARTITION_REGISTRY,
+        DEFAULT_PARTITION_SUFFIX);
+  }
+}
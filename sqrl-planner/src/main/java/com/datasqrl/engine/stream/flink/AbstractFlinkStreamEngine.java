@@ -14,6 +14,7 @@ import com.datasqrl.engine.EngineFeature;
 import com.datasqrl.engine.ExecutionEngine;
 import com.datasqrl.engine.pipeline.ExecutionPipeline;
 import com.datasqrl.engine.stream.StreamEngine;
+import com.datasqrl.engine.stream.flink.plan.AggregationOptimization;
 import com.datasqrl.engine.stream.flink.plan.FlinkStreamPhysicalPlan;
 import com.datasqrl.error.ErrorCollector;
 import com.datasqrl.plan.global.PhysicalDAGPlan.StagePlan;
@@ -23,6 +24,7 @@ import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -56,8 +58,11 @@ public abstract class AbstractFlinkStreamEngine extends ExecutionEngine.Base imp
     Preconditions.checkArgument(inputs.isEmpty());
     Preconditions.checkArgument(stagePlan instanceof StreamStagePlan);
     StreamStagePlan plan = (StreamStagePlan) stagePlan;
-    FlinkSqlGeneratorResult flinkSql = generator.run(plan, stagePlans);
-    return new FlinkStreamPhysicalPlan(flinkSql.getPlan(), flinkSql.getFlinkSql());
+    Map<String, String> settings = AggregationOptimization.of(config.toMap())
+        .getSettings(plan.getQueries());
+    FlinkSqlGeneratorResult flinkSql = generator.run(plan, stagePlans, settings);
+    return new FlinkStreamPhysicalPlan(flinkSql.getPlan(), flinkSql.getFlinkSql(),
+        flinkSql.getConfig());
   }
 
   @Override
@@ -0,0 +1,91 @@
+package com.datasqrl.engine.stream.flink.connector;
+
+import com.datasqrl.config.TableConfig;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.sql.type.SqlTypeName;
+
+/**
+ * Completes the connector options of tables that Flink reads from a database via JDBC, e.g. to
+ * bootstrap from or to temporal join against database state. Options that are explicitly
+ * configured on the table are never overwritten.
+ *
+ * <ul>
+ *   <li>A table with a single integer primary key and a known primary key range is read with a
+ *   partitioned scan, one partition per {@link #ROWS_PER_PARTITION} rows.</li>
+ *   <li>Lookup joins use a partial lookup cache that is sized by the row count of the table.</li>
+ * </ul>
+ */
+public class JdbcSourceOptions {
+
+  public static final Set<String> JDBC_CONNECTORS = Set.of("jdbc-sqrl", "jdbc");
+
+  public static final long ROWS_PER_PARTITION = 500_000;
+  public static final int MAX_PARTITIONS = 64;
+  public static final long MAX_LOOKUP_CACHE_ROWS = 100_000;
+  public static final String LOOKUP_CACHE_TTL = "1 min";
+
+  public static final String SCAN_PARTITION_COLUMN = "scan.partition.column";
+  public static final String SCAN_PARTITION_NUM = "scan.partition.num";
+  public static final String SCAN_PARTITION_LOWER_BOUND = "scan.partition.lower-bound";
+  public static final String SCAN_PARTITION_UPPER_BOUND = "scan.partition.upper-bound";
+  public static final String LOOKUP_CACHE = "lookup.cache";
+  public static final String LOOKUP_CACHE_MAX_ROWS = "lookup.partial-cache.max-rows";
+  public static final String LOOKUP_CACHE_EXPIRE_AFTER_WRITE = "lookup.partial-cache.expire-after-write";
+  private static final String LEGACY_LOOKUP_CACHE_MAX_ROWS = "lookup.cache.max-rows";
+
+  private static final Set<SqlTypeName> PARTITIONABLE_TYPES = Set.of(SqlTypeName.TINYINT,
+      SqlTypeName.SMALLINT, SqlTypeName.INTEGER, SqlTypeName.BIGINT);
+
+  public static Map<String, Object> of(TableConfig tableConfig, RelDataType rowType) {
+    Map<String, Object> options = new HashMap<>(tableConfig.getConnectorConfig().toMap());
+    Object connector = options.get("connector");
+    if (connector == null || !JDBC_CONNECTORS.contains(connector.toString())) {
+      return options;
+    }
+    TableConfig.TableTableConfig base = tableConfig.getBase();
+    Optional<Long> rowCount = base.getRowCount().or(() -> base.getPrimaryKeyRange()
+        .map(range -> range.get(1) - range.get(0) + 1));
+
+    getPartitionColumn(tableConfig.getPrimaryKeyConstraint(), rowType)
+        .filter(column -> !options.containsKey(SCAN_PARTITION_COLUMN))
+        .ifPresent(column -> base.getPrimaryKeyRange().ifPresent(range -> {
+          int numPartitions = numPartitions(rowCount.get());
+          if (numPartitions > 1) {
+            options.put(SCAN_PARTITION_COLUMN, column);
+            options.put(SCAN_PARTITION_NUM, numPartitions);
+            options.put(SCAN_PARTITION_LOWER_BOUND, range.get(0));
+            options.put(SCAN_PARTITION_UPPER_BOUND, range.get(1));
+          }
+        }));
+
+    if (!options.containsKey(LOOKUP_CACHE) && !options.containsKey(LEGACY_LOOKUP_CACHE_MAX_ROWS)) {
+      options.put(LOOKUP_CACHE, "PARTIAL");
+      options.put(LOOKUP_CACHE_MAX_ROWS, rowCount.map(count -> Math.min(count, MAX_LOOKUP_CACHE_ROWS))
+          .orElse(MAX_LOOKUP_CACHE_ROWS));
+      options.putIfAbsent(LOOKUP_CACHE_EXPIRE_AFTER_WRITE, LOOKUP_CACHE_TTL);
+    }
+    return options;
+  }
+
+  static int numPartitions(long rowCount) {
+    long partitions = (rowCount + ROWS_PER_PARTITION - 1) / ROWS_PER_PARTITION;
+    return (int) Math.max(1, Math.min(partitions, MAX_PARTITIONS));
+  }
+
+  private static Optional<String> getPartitionColumn(List<String> primaryKey, RelDataType rowType) {
+    if (primaryKey == null || primaryKey.size() != 1) {
+      return Optional.empty();
+    }
+    RelDataTypeField field = rowType.getField(primaryKey.get(0), false, false);
+    if (field == null || !PARTITIONABLE_TYPES.contains(field.getType().getSqlTypeName())) {
+      return Optional.empty();
+    }
+    return Optional.of(field.getName());
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.engine.stream.flink.plan;
+
+import com.datasqrl.plan.global.PhysicalDAGPlan.Query;
+import com.datasqrl.plan.global.PhysicalDAGPlan.WriteQuery;
+import com.datasqrl.plan.hints.SkewedKeyHint;
+import com.datasqrl.plan.hints.SlidingAggregationHint;
+import com.datasqrl.plan.hints.SqrlHint;
+import com.datasqrl.plan.hints.TumbleAggregationHint;
+import com.google.common.base.Preconditions;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.sql.SqlKind;
+
+/**
+ * Decides whether Flink executes the non-window (group) aggregations of the pipeline with
+ * mini-batches, in two phases (local-global) and with split distinct aggregates. Those
+ * optimizations trade latency for throughput and protect against hot keys.
+ *
+ * <p>Flink configures those optimizations for the entire job, so they are enabled if any
+ * aggregation qualifies. Aggregations qualify if all their aggregate functions can be merged (which
+ * two-phase aggregation requires) and, depending on the {@link Mode}, if they aggregate on a
+ * column marked with a {@link SkewedKeyHint}.
+ */
+@Value
+@AllArgsConstructor
+public class AggregationOptimization {
+
+  public static final String MODE_KEY = "aggregation-optimization";
+  public static final String LATENCY_KEY = "mini-batch-latency";
+  public static final String SIZE_KEY = "mini-batch-size";
+
+  public static final AggregationOptimization DEFAULT = new AggregationOptimization(Mode.SKEWED,
+      "1 s", 1000);
+
+  /**
+   * Aggregate functions that Flink can merge and hence execute in two phases
+   */
+  private static final EnumSet<SqlKind> MERGEABLE_AGGREGATES = EnumSet.of(SqlKind.COUNT,
+      SqlKind.SUM, SqlKind.SUM0, SqlKind.MIN, SqlKind.MAX, SqlKind.AVG);
+
+  public enum Mode {
+    /**
+     * Never optimize aggregations
+     */
+    NONE,
+    /**
+     * Optimize aggregations on columns that are marked as skewed
+     */
+    SKEWED,
+    /**
+     * Optimize all qualifying aggregations
+     */
+    AUTO;
+  }
+
+  Mode mode;
+  String miniBatchLatency;
+  long miniBatchSize;
+
+  public static AggregationOptimization of(Map<String, Object> config) {
+    Mode mode = DEFAULT.mode;
+    Object modeValue = config.get(MODE_KEY);
+    if (modeValue != null) {
+      try {
+        mode = Mode.valueOf(String.valueOf(modeValue).trim().toUpperCase());
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException(
+            String.format("Unknown value for [%s]: %s", MODE_KEY, modeValue));
+      }
+    }
+    String latency = String.valueOf(config.getOrDefault(LATENCY_KEY, DEFAULT.miniBatchLatency));
+    long size = Long.parseLong(String.valueOf(config.getOrDefault(SIZE_KEY, DEFAULT.miniBatchSize)));
+    Preconditions.checkArgument(size > 0, "[%s] must be positive: %s", SIZE_KEY, size);
+    return new AggregationOptimization(mode, latency, size);
+  }
+
+  /**
+   * @return The Flink configuration options that enable the optimizations for the aggregations in
+   * the given queries or an empty map if no aggregation qualifies.
+   */
+  public Map<String, String> getSettings(List<? extends Query> queries) {
+    Map<String, String> settings = new LinkedHashMap<>();
+    if (mode == Mode.NONE) {
+      return settings;
+    }
+    Finder finder = new Finder();
+    queries.stream().filter(WriteQuery.class::isInstance)
+        .forEach(query -> finder.go(((WriteQuery) query).getExpandedRelNode()));
+    if (finder.twoPhase) {
+      settings.put("table.exec.mini-batch.enabled", "true");
+      settings.put("table.exec.mini-batch.allow-latency", miniBatchLatency);
+      settings.put("table.exec.mini-batch.size", String.valueOf(miniBatchSize));
+      settings.put("table.optimizer.agg-phase-strategy", "TWO_PHASE");
+      if (finder.distinct) {
+        settings.put("table.optimizer.distinct-agg.split.enabled", "true");
+      }
+    }
+    return settings;
+  }
+
+  private class Finder extends RelVisitor {
+
+    boolean twoPhase = false;
+    boolean distinct = false;
+
+    @Override
+    public void visit(RelNode node, int ordinal, RelNode parent) {
+      if (node instanceof Aggregate && qualifies((Aggregate) node)) {
+        twoPhase = true;
+        distinct |= ((Aggregate) node).getAggCallList().stream()
+            .anyMatch(AggregateCall::isDistinct);
+      }
+      super.visit(node, ordinal, parent);
+    }
+
+    private boolean qualifies(Aggregate aggregate) {
+      if (SqrlHint.fromRel(aggregate, TumbleAggregationHint.CONSTRUCTOR).isPresent()
+          || SqrlHint.fromRel(aggregate, SlidingAggregationHint.CONSTRUCTOR).isPresent()) {
+        return false;
+      }
+      if (mode == Mode.SKEWED
+          && SqrlHint.fromRel(aggregate, SkewedKeyHint.CONSTRUCTOR).isEmpty()) {
+        return false;
+      }
+      return !aggregate.getAggCallList().isEmpty() && aggregate.getAggCallList().stream()
+          .allMatch(call -> MERGEABLE_AGGREGATES.contains(call.getAggregation().getKind()));
+    }
+  }
+}
@@ -6,8 +6,11 @@ package com.datasqrl.engine.stream.flink.plan;
 import com.datasqrl.engine.stream.StreamPhysicalPlan;
 import com.datasqrl.plan.global.PhysicalDAGPlan.StreamStagePlan;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.Getter;
 import lombok.Value;
@@ -23,11 +26,17 @@ public class FlinkStreamPhysicalPlan implements StreamPhysicalPlan {
   final List<String> flinkSql;
   private final Set<String> connectors;
   private final Set<String> formats;
+  /**
+   * The Flink configuration options that the planner chose for this plan
+   */
+  @JsonInclude(Include.NON_EMPTY)
+  private final Map<String, String> config;
 
 
   public FlinkStreamPhysicalPlan(List<String> flinkSql,
-      List<SqlNode> sqlNodes) {
+      List<SqlNode> sqlNodes, Map<String, String> config) {
     this.flinkSql = flinkSql;
+    this.config = config;
     this.connectors = extractConnectors(sqlNodes);
     this.formats = extractFormats(sqlNodes);
   }
@@ -10,6 +10,7 @@ import com.datasqrl.datatype.DataTypeMapper;
 import com.datasqrl.engine.EngineFeature;
 import com.datasqrl.engine.stream.flink.connector.CastFunction;
 import com.datasqrl.engine.stream.flink.connector.FlinkConnectorDataTypeMappingFactory;
+import com.datasqrl.engine.stream.flink.connector.JdbcSourceOptions;
 import com.datasqrl.engine.stream.flink.sql.ExtractUniqueSourceVisitor;
 import com.datasqrl.engine.stream.flink.sql.FlinkRelToSqlNode;
 import com.datasqrl.engine.stream.flink.sql.FlinkRelToSqlNode.FlinkSqlNodes;
@@ -18,6 +19,7 @@ import com.datasqrl.engine.stream.flink.sql.rules.ExpandNestedTableFunctionRule.
 import com.datasqrl.engine.stream.flink.sql.rules.ExpandTemporalJoinRule;
 import com.datasqrl.engine.stream.flink.sql.rules.ExpandWindowHintRule.ExpandWindowHintRuleConfig;
 import com.datasqrl.engine.stream.flink.sql.rules.ShapeBushyCorrelateJoinRule.ShapeBushyCorrelateJoinRuleConfig;
+import com.datasqrl.functions.json.JsonExtractSpecialization;
 import com.datasqrl.plan.global.IndexDefinition;
 import com.datasqrl.plan.global.PhysicalDAGPlan.DatabaseStagePlan;
 import com.datasqrl.plan.global.PhysicalDAGPlan.EngineSink;
@@ -72,7 +74,8 @@ public class SqrlToFlinkSqlGenerator {
 
     List<SqlCreateView> queries = new ArrayList<>();
     List<RichSqlInsert> inserts = new ArrayList<>();
-    Map<String, String> downcastClassNames = new HashMap<>();
+    Map<String, String> addedFunctionClassNames = new HashMap<>();
+    JsonExtractSpecialization jsonExtractSpecialization = new JsonExtractSpecialization(framework);
 
     for (WriteQuery query : writeQueries) {
       TableConfig tableConfig = getTableConfig(query.getSink());
@@ -81,8 +84,10 @@ public class SqrlToFlinkSqlGenerator {
       }
       FlinkConnectorDataTypeMappingFactory mappingFactory = new FlinkConnectorDataTypeMappingFactory();
       Optional<DataTypeMapper> connectorMapping = mappingFactory.getConnectorMapping(tableConfig);
+      RelNode expandedRelNode = jsonExtractSpecialization.rewrite(query.getExpandedRelNode(),
+          addedFunctionClassNames);
       RelNode relNode = applyDowncasting(framework.getQueryPlanner().getRelBuilder(),
-          query.getExpandedRelNode(), query.getSink(), downcastClassNames, connectorMapping);
+          expandedRelNode, query.getSink(), addedFunctionClassNames, connectorMapping);
       Pair<List<SqlCreateView>, RichSqlInsert> result = process(query.getSink().getName(), relNode);
       SqlCreateTable sqlCreateTable = registerSinkTable(query.getSink(), relNode, stagePlans);
       SqlCreateTable subSink = extractStubSinks(query.getSink(), relNode, stagePlans);
@@ -92,7 +97,7 @@ public class SqrlToFlinkSqlGenerator {
       inserts.add(result.getValue());
     }
 
-    List<SqlCreateFunction> functions = extractFunctions(writeQueries, downcastClassNames);
+    List<SqlCreateFunction> functions = extractFunctions(writeQueries, addedFunctionClassNames);
     return new SqlResult(sinksAndSources, ListUtils.union(stubSources, stubSinks), inserts, queries, functions);
   }
 
@@ -174,12 +179,12 @@ public class SqrlToFlinkSqlGenerator {
   }
 
   private List<SqlCreateFunction> extractFunctions(List<WriteQuery> writeQueries,
-      Map<String, String> downcastClassNames) {
+      Map<String, String> addedFunctionClassNames) {
     Map<String, String> mutableUdfs = framework.getSchema().getUdf().entrySet().stream()
             .collect(
             Collectors.toMap(Map.Entry::getKey, e -> extractFunctionClass(e.getValue()).getName()));
 
-    mutableUdfs.putAll(downcastClassNames);
+    mutableUdfs.putAll(addedFunctionClassNames);
     mutableUdfs.remove("NOW".toLowerCase());
 
     return mutableUdfs.entrySet().stream()
@@ -210,7 +215,7 @@ public class SqrlToFlinkSqlGenerator {
               .map(Name::getDisplay),
           tableConfig.getMetadataConfig().toMap(),
           tableConfig.getPrimaryKeyConstraint(),
-          new HashMap<>(tableConfig.getConnectorConfig().toMap()),
+          JdbcSourceOptions.of(tableConfig, table.getRowType()),
           e -> framework.getQueryPlanner().parseCall(e)
       );
 
@@ -25,6 +25,8 @@ public class FlinkRelToSqlNode implements RelToSqlNode {
   public FlinkSqlNodes convert(RelNode relNode) {
     FlinkRelToSqlConverter relToSqlConverter = new FlinkRelToSqlConverter(atomicInteger);
     SqlNode sqlNode = relToSqlConverter.visitRoot(relNode).asStatement();
+    relToSqlConverter.addStateTtlHints(sqlNode);
+    relToSqlConverter.getQueries().forEach(q -> relToSqlConverter.addStateTtlHints(q.getNode()));
 
     return new FlinkSqlNodes(sqlNode, relToSqlConverter.getQueries());
   }
@@ -0,0 +1,31 @@
+package com.datasqrl.functions.approx;
+
+import static com.datasqrl.function.CalciteFunctionUtil.lightweightOp;
+
+import com.datasqrl.approx.ApproxFunctions;
+import com.datasqrl.function.translations.PostgresSqlTranslation;
+import com.datasqrl.function.translations.SqlTranslation;
+import com.google.auto.service.AutoService;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlSelectKeyword;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParserPos;
+
+/**
+ * Queries that are executed in the database read all rows, so distinct values are counted exactly.
+ */
+@AutoService(SqlTranslation.class)
+public class ApproxCountDistinctSqlTranslation extends PostgresSqlTranslation {
+
+  public ApproxCountDistinctSqlTranslation() {
+    super(lightweightOp(ApproxFunctions.APPROX_COUNT_DISTINCT));
+  }
+
+  @Override
+  public void unparse(SqlCall call, SqlWriter writer, int leftPrec, int rightPrec) {
+    SqlStdOperatorTable.COUNT.createCall(SqlSelectKeyword.DISTINCT.symbol(SqlParserPos.ZERO),
+            SqlParserPos.ZERO, call.getOperandList())
+        .unparse(writer, leftPrec, rightPrec);
+  }
+}
@@ -0,0 +1,156 @@
+package com.datasqrl.functions.approx;
+
+import static com.datasqrl.function.FlinkUdfNsObject.getFunctionNameFromClass;
+
+import com.datasqrl.approx.DistinctSketchEstimate;
+import com.datasqrl.approx.HyperLogLog;
+import com.datasqrl.approx.MergeDistinctSketch;
+import com.datasqrl.approx.MergeQuantileSketch;
+import com.datasqrl.approx.QuantileSketchValue;
+import com.datasqrl.sql.PgExtension;
+import com.datasqrl.sql.SqlDDLStatement;
+import com.google.auto.service.AutoService;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Creates the functions that merge and finalize the sketches of the approximate aggregation
+ * functions in Postgres, so that partial sketches computed by the stream can be stored and merged
+ * at query time. Distinct sketches are stored as bytea and quantile sketches as jsonb arrays. The
+ * functions mirror the Java implementations in the approx function library.
+ */
+@AutoService(PgExtension.class)
+public class ApproxPgExtension implements PgExtension {
+
+  public static final String HLL_MERGE = "sqrl_hll_merge";
+  public static final String HLL_MERGE_AGG = "sqrl_hll_merge_agg";
+  public static final String HLL_ESTIMATE = "sqrl_hll_estimate";
+  public static final String TDIGEST_MERGE = "sqrl_tdigest_merge";
+  public static final String TDIGEST_MERGE_AGG = "sqrl_tdigest_merge_agg";
+  public static final String TDIGEST_QUANTILE = "sqrl_tdigest_quantile";
+
+  private static final int M = HyperLogLog.NUM_REGISTERS;
+
+  public final SqlDDLStatement ddlStatement = () -> String.format(
+      "CREATE OR REPLACE FUNCTION %1$s(a bytea, b bytea) RETURNS bytea AS $$\n" +
+      "  SELECT CASE WHEN a IS NULL OR length(a) <> %7$d THEN b\n" +
+      "    WHEN b IS NULL OR length(b) <> %7$d THEN a\n" +
+      "    ELSE (SELECT decode(string_agg(lpad(to_hex(greatest(get_byte(a, i), get_byte(b, i))), 2, '0'), '' ORDER BY i), 'hex')\n" +
+      "      FROM generate_series(0, %7$d - 1) AS i) END\n" +
+      "$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;\n" +
+      "CREATE OR REPLACE AGGREGATE %2$s(bytea) (SFUNC = %1$s, STYPE = bytea, COMBINEFUNC = %1$s, PARALLEL = SAFE);\n" +
+      "CREATE OR REPLACE FUNCTION %3$s(sketch bytea) RETURNS bigint AS $$\n" +
+      "  SELECT (CASE WHEN s.zeros > 0 AND s.raw <= 2.5 * %7$d THEN round(%7$d * ln(%7$d.0 / s.zeros))\n" +
+      "    ELSE round(s.raw) END)::bigint\n" +
+      "  FROM (SELECT (0.7213 / (1 + 1.079 / %7$d)) * %7$d * %7$d / sum(power(2.0, -get_byte(sketch, i))) AS raw,\n" +
+      "      count(*) FILTER (WHERE get_byte(sketch, i) = 0) AS zeros\n" +
+      "    FROM generate_series(0, %7$d - 1) AS i WHERE length(sketch) = %7$d) s\n" +
+      "$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE;\n" +
+      "CREATE OR REPLACE FUNCTION %4$s(a jsonb, b jsonb) RETURNS jsonb AS $$\n" +
+      "DECLARE\n" +
+      "   compression float8;\n" +
+      "   total float8;\n" +
+      "   so_far float8 := 0;\n" +
+      "   cur_mean float8;\n" +
+      "   cur_weight float8;\n" +
+      "   proposed float8;\n" +
+      "   q float8;\n" +
+      "   c RECORD;\n" +
+      "   result jsonb;\n" +
+      "BEGIN\n" +
+      "   IF a IS NULL OR jsonb_typeof(a) <> 'array' OR jsonb_array_length(a) < 3 THEN RETURN b; END IF;\n" +
+      "   IF b IS NULL OR jsonb_typeof(b) <> 'array' OR jsonb_array_length(b) < 3 THEN RETURN a; END IF;\n" +
+      "   compression := greatest((a->>0)::float8, (b->>0)::float8);\n" +
+      "   result := jsonb_build_array(compression, least((a->>1)::float8, (b->>1)::float8),\n" +
+      "      greatest((a->>2)::float8, (b->>2)::float8));\n" +
+      "   SELECT sum((s->>(4 + 2 * i))::float8) INTO total\n" +
+      "      FROM (VALUES (a), (b)) AS t(s), generate_series(0, (jsonb_array_length(s) - 3) / 2 - 1) AS i;\n" +
+      "   -- Merge neighboring centroids while the merged weight stays below 4 * total * q * (1 - q) / compression\n" +
+      "   FOR c IN SELECT (s->>(3 + 2 * i))::float8 AS mean, (s->>(4 + 2 * i))::float8 AS weight\n" +
+      "      FROM (VALUES (a), (b)) AS t(s), generate_series(0, (jsonb_array_length(s) - 3) / 2 - 1) AS i\n" +
+      "      ORDER BY 1 LOOP\n" +
+      "      IF cur_weight IS NULL THEN\n" +
+      "         cur_mean := c.mean;\n" +
+      "         cur_weight := c.weight;\n" +
+      "         CONTINUE;\n" +
+      "      END IF;\n" +
+      "      proposed := cur_weight + c.weight;\n" +
+      "      q := (so_far + proposed / 2) / total;\n" +
+      "      IF proposed <= 4 * total * q * (1 - q) / compression THEN\n" +
+      "         cur_mean := cur_mean + (c.mean - cur_mean) * c.weight / proposed;\n" +
+      "         cur_weight := proposed;\n" +
+      "      ELSE\n" +
+      "         result := result || jsonb_build_array(cur_mean, cur_weight);\n" +
+      "         so_far := so_far + cur_weight;\n" +
+      "         cur_mean := c.mean;\n" +
+      "         cur_weight := c.weight;\n" +
+      "      END IF;\n" +
+      "   END LOOP;\n" +
+      "   IF cur_weight IS NOT NULL THEN\n" +
+      "      result := result || jsonb_build_array(cur_mean, cur_weight);\n" +
+      "   END IF;\n" +
+      "   RETURN result;\n" +
+      "END;\n" +
+      "$$ LANGUAGE plpgsql IMMUTABLE PARALLEL SAFE;\n" +
+      "CREATE OR REPLACE AGGREGATE %5$s(jsonb) (SFUNC = %4$s, STYPE = jsonb, COMBINEFUNC = %4$s, PARALLEL = SAFE);\n" +
+      "CREATE OR REPLACE FUNCTION %6$s(sketch jsonb, quantile float8) RETURNS float8 AS $$\n" +
+      "DECLARE\n" +
+      "   n int;\n" +
+      "   total float8 := 0;\n" +
+      "   idx float8;\n" +
+      "   pos float8 := 0;\n" +
+      "   prev_pos float8 := 0;\n" +
+      "   prev_value float8;\n" +
+      "   center float8;\n" +
+      "   mean float8;\n" +
+      "   weight float8;\n" +
+      "BEGIN\n" +
+      "   IF jsonb_typeof(sketch) <> 'array' OR jsonb_array_length(sketch) < 5 THEN RETURN NULL; END IF;\n" +
+      "   n := (jsonb_array_length(sketch) - 3) / 2;\n" +
+      "   FOR i IN 0..n - 1 LOOP\n" +
+      "      total := total + (sketch->>(4 + 2 * i))::float8;\n" +
+      "   END LOOP;\n" +
+      "   idx := greatest(0, least(1, quantile)) * total;\n" +
+      "   -- Interpolate between the centers of the centroids, and the minimum and maximum at the ends\n" +
+      "   prev_value := (sketch->>1)::float8;\n" +
+      "   FOR i IN 0..n - 1 LOOP\n" +
+      "      mean := (sketch->>(3 + 2 * i))::float8;\n" +
+      "      weight := (sketch->>(4 + 2 * i))::float8;\n" +
+      "      center := pos + weight / 2;\n" +
+      "      IF idx <= center THEN\n" +
+      "         IF center <= prev_pos THEN RETURN mean; END IF;\n" +
+      "         RETURN prev_value + (mean - prev_value) * (idx - prev_pos) / (center - prev_pos);\n" +
+      "      END IF;\n" +
+      "      pos := pos + weight;\n" +
+      "      prev_pos := center;\n" +
+      "      prev_value := mean;\n" +
+      "   END LOOP;\n" +
+      "   IF total <= prev_pos THEN RETURN (sketch->>2)::float8; END IF;\n" +
+      "   RETURN prev_value + ((sketch->>2)::float8 - prev_value) * (idx - prev_pos) / (total - prev_pos);\n" +
+      "END;\n" +
+      "$$ LANGUAGE plpgsql IMMUTABLE STRICT PARALLEL SAFE;",
+      HLL_MERGE, HLL_MERGE_AGG, HLL_ESTIMATE, TDIGEST_MERGE, TDIGEST_MERGE_AGG, TDIGEST_QUANTILE, M);
+
+  /**
+   * Sketches are stored as standard types, so the functions are only required when they are
+   * invoked.
+   */
+  @Override
+  public Class typeClass() {
+    return null;
+  }
+
+  @Override
+  public Set<String> operators() {
+    return Stream.of(MergeDistinctSketch.class, DistinctSketchEstimate.class,
+            MergeQuantileSketch.class, QuantileSketchValue.class)
+        .map(clazz -> getFunctionNameFromClass(clazz).getDisplay())
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public SqlDDLStatement getExtensionDdl() {
+    return ddlStatement;
+  }
+}
@@ -0,0 +1,35 @@
+package com.datasqrl.functions.approx;
+
+import static com.datasqrl.function.CalciteFunctionUtil.lightweightOp;
+
+import com.datasqrl.approx.ApproxFunctions;
+import com.datasqrl.function.translations.PostgresSqlTranslation;
+import com.datasqrl.function.translations.SqlTranslation;
+import com.google.auto.service.AutoService;
+import java.util.List;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParserPos;
+
+/**
+ * Translates to the exact PERCENTILE_CONT(quantile) WITHIN GROUP (ORDER BY value) since the
+ * database reads all rows of the query.
+ */
+@AutoService(SqlTranslation.class)
+public class ApproxQuantileSqlTranslation extends PostgresSqlTranslation {
+
+  public ApproxQuantileSqlTranslation() {
+    super(lightweightOp(ApproxFunctions.APPROX_QUANTILE));
+  }
+
+  @Override
+  public void unparse(SqlCall call, SqlWriter writer, int leftPrec, int rightPrec) {
+    SqlStdOperatorTable.WITHIN_GROUP.createCall(SqlParserPos.ZERO,
+            SqlStdOperatorTable.PERCENTILE_CONT.createCall(SqlParserPos.ZERO,
+                call.getOperandList().get(1)),
+            new SqlNodeList(List.of(call.getOperandList().get(0)), SqlParserPos.ZERO))
+        .unparse(writer, leftPrec, rightPrec);
+  }
+}
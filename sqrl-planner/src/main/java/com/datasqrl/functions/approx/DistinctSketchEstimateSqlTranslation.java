@@ -0,0 +1,25 @@
+package com.datasqrl.functions.approx;
+
+import static com.datasqrl.function.CalciteFunctionUtil.lightweightOp;
+
+import com.datasqrl.approx.ApproxFunctions;
+import com.datasqrl.function.translations.PostgresSqlTranslation;
+import com.datasqrl.function.translations.SqlTranslation;
+import com.google.auto.service.AutoService;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.parser.SqlParserPos;
+
+@AutoService(SqlTranslation.class)
+public class DistinctSketchEstimateSqlTranslation extends PostgresSqlTranslation {
+
+  public DistinctSketchEstimateSqlTranslation() {
+    super(lightweightOp(ApproxFunctions.DISTINCT_SKETCH_ESTIMATE));
+  }
+
+  @Override
+  public void unparse(SqlCall call, SqlWriter writer, int leftPrec, int rightPrec) {
+    lightweightOp(ApproxPgExtension.HLL_ESTIMATE).createCall(SqlParserPos.ZERO, call.getOperandList())
+        .unparse(writer, leftPrec, rightPrec);
+  }
+}
@@ -0,0 +1,26 @@
+package com.datasqrl.functions.approx;
+
+import static com.datasqrl.function.CalciteFunctionUtil.lightweightAggOp;
+import static com.datasqrl.function.CalciteFunctionUtil.lightweightOp;
+
+import com.datasqrl.approx.ApproxFunctions;
+import com.datasqrl.function.translations.PostgresSqlTranslation;
+import com.datasqrl.function.translations.SqlTranslation;
+import com.google.auto.service.AutoService;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.parser.SqlParserPos;
+
+@AutoService(SqlTranslation.class)
+public class MergeDistinctSketchSqlTranslation extends PostgresSqlTranslation {
+
+  public MergeDistinctSketchSqlTranslation() {
+    super(lightweightOp(ApproxFunctions.MERGE_DISTINCT_SKETCH));
+  }
+
+  @Override
+  public void unparse(SqlCall call, SqlWriter writer, int leftPrec, int rightPrec) {
+    lightweightAggOp(ApproxPgExtension.HLL_MERGE_AGG).createCall(SqlParserPos.ZERO, call.getOperandList())
+        .unparse(writer, leftPrec, rightPrec);
+  }
+}
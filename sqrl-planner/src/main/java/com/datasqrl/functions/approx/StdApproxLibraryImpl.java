@@ -0,0 +1,50 @@
+package com.datasqrl.functions.approx;
+
+import static com.datasqrl.approx.ApproxFunctions.APPROX_COUNT_DISTINCT;
+import static com.datasqrl.approx.ApproxFunctions.APPROX_QUANTILE;
+import static com.datasqrl.approx.ApproxFunctions.APPROX_TOP_K;
+import static com.datasqrl.approx.ApproxFunctions.DISTINCT_SKETCH;
+import static com.datasqrl.approx.ApproxFunctions.DISTINCT_SKETCH_ESTIMATE;
+import static com.datasqrl.approx.ApproxFunctions.MERGE_DISTINCT_SKETCH;
+import static com.datasqrl.approx.ApproxFunctions.MERGE_QUANTILE_SKETCH;
+import static com.datasqrl.approx.ApproxFunctions.QUANTILE_SKETCH;
+import static com.datasqrl.approx.ApproxFunctions.QUANTILE_SKETCH_VALUE;
+
+import com.datasqrl.NamespaceObjectUtil;
+import com.datasqrl.canonicalizer.NamePath;
+import com.datasqrl.function.AbstractFunctionModule;
+import com.datasqrl.function.StdLibrary;
+import com.google.auto.service.AutoService;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.flink.table.functions.FunctionDefinition;
+
+@AutoService(StdLibrary.class)
+public class StdApproxLibraryImpl extends AbstractFunctionModule implements StdLibrary {
+
+  public static final NamePath LIB_NAME = NamePath.of("approx");
+
+  public static final List<FunctionDefinition> SQRL_FUNCTIONS = List.of(
+      APPROX_COUNT_DISTINCT,
+      DISTINCT_SKETCH,
+      MERGE_DISTINCT_SKETCH,
+      DISTINCT_SKETCH_ESTIMATE,
+      APPROX_QUANTILE,
+      QUANTILE_SKETCH,
+      MERGE_QUANTILE_SKETCH,
+      QUANTILE_SKETCH_VALUE,
+      APPROX_TOP_K
+  );
+
+  public StdApproxLibraryImpl() {
+    super(SQRL_FUNCTIONS.stream()
+        .map(NamespaceObjectUtil::createNsObject)
+        .collect(Collectors.toList()));
+  }
+
+  @Override
+  public NamePath getPath() {
+    return LIB_NAME;
+  }
+
+}
@@ -0,0 +1,162 @@
+package com.datasqrl.functions.json;
+
+import com.datasqrl.calcite.SqrlFramework;
+import com.datasqrl.calcite.convert.SimpleCallTransform.SimpleCallTransformConfig;
+import com.datasqrl.function.FlinkUdfNsObject;
+import com.datasqrl.json.JsonExtract;
+import com.datasqrl.json.JsonExtractField;
+import com.datasqrl.json.JsonFieldPath;
+import com.datasqrl.util.FunctionUtil;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.sql.SqlFunctionCategory;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.SqlSyntax;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.validate.SqlNameMatchers;
+import org.apache.calcite.tools.Programs;
+import org.apache.flink.table.catalog.UnresolvedIdentifier;
+
+/**
+ * Rewrites {@code jsonExtract} calls with literal paths that only access object fields (e.g.
+ * {@code $.a.b}) to {@link JsonExtractField} with the pre-parsed field names, so that Flink does
+ * not have to resolve the JSON path for every record. Calls with a boolean or numeric default value
+ * are rewritten to the typed variants which return the value without converting through a string.
+ *
+ * Calls with non-literal or complex paths, or a string default, are left unchanged.
+ *
+ * The function is not part of the json library. It is registered with Flink when the first call
+ * is rewritten, unless the script defines a function of the same name.
+ */
+@RequiredArgsConstructor
+public class JsonExtractSpecialization {
+
+  private static final Set<SqlTypeName> TYPED_DEFAULTS = Set.of(SqlTypeName.BOOLEAN,
+      SqlTypeName.DOUBLE, SqlTypeName.BIGINT, SqlTypeName.INTEGER);
+
+  private final SqrlFramework framework;
+  //Whether this rewrite registered the function with Flink
+  private boolean registered = false;
+
+  /**
+   * @param functionClassNames collects the functions that need to be registered with Flink
+   */
+  public RelNode rewrite(RelNode relNode, Map<String, String> functionClassNames) {
+    Set<SqlOperator> jsonExtractOperators = findJsonExtractOperators(relNode);
+    if (jsonExtractOperators.isEmpty()) {
+      return relNode;
+    }
+
+    String name = FlinkUdfNsObject.getFunctionNameFromClass(JsonExtractField.class).getDisplay();
+    UnresolvedIdentifier identifier = UnresolvedIdentifier.of(name);
+    if (!registered) {
+      if (framework.getFlinkFunctionCatalog().lookupFunction(identifier).isPresent()) {
+        //The script defines a function of the same name, don't shadow or drop it
+        return relNode;
+      }
+      framework.getFlinkFunctionCatalog()
+          .registerCatalogFunction(identifier, JsonExtractField.class, true);
+    }
+    List<SqlOperator> list = new ArrayList<>();
+    framework.getSqrlOperatorTable()
+        .lookupOperatorOverloads(new SqlIdentifier(name, SqlParserPos.ZERO),
+            SqlFunctionCategory.USER_DEFINED_FUNCTION, SqlSyntax.FUNCTION, list,
+            SqlNameMatchers.liberal());
+    if (list.isEmpty()) {
+      return relNode;
+    }
+    SqlOperator extractField = list.get(0);
+
+    AtomicBoolean hasRewritten = new AtomicBoolean(false);
+    List<RelRule> rules = jsonExtractOperators.stream()
+        .map(op -> (RelRule) SimpleCallTransformConfig.createConfig(op,
+            (relBuilder, call) -> {
+              RexNode newCall = rewriteCall(relBuilder.getRexBuilder(), extractField, call);
+              if (newCall != call) {
+                hasRewritten.set(true);
+              }
+              return newCall;
+            })
+            .toRule())
+        .collect(Collectors.toList());
+    RelNode rewritten = Programs.hep(rules, false, null)
+        .run(null, relNode, relNode.getTraitSet(), List.of(), List.of());
+    if (!hasRewritten.get()) {
+      //The planner copies the relnodes even if no call was rewritten
+      if (!registered) {
+        framework.getFlinkFunctionCatalog().dropCatalogFunction(identifier, true);
+      }
+      return relNode;
+    }
+    registered = true;
+    functionClassNames.put(name, JsonExtractField.class.getName());
+    return rewritten;
+  }
+
+  private RexNode rewriteCall(RexBuilder rexBuilder, SqlOperator extractField, RexCall call) {
+    List<RexNode> operands = call.getOperands();
+    if (operands.size() < 2 || operands.size() > 3 || !(operands.get(1) instanceof RexLiteral)) {
+      return call;
+    }
+    Optional<String[]> fieldNames = JsonFieldPath.parse(
+        ((RexLiteral) operands.get(1)).getValueAs(String.class));
+    if (fieldNames.isEmpty()) {
+      return call;
+    }
+
+    List<RexNode> newOperands = new ArrayList<>();
+    newOperands.add(operands.get(0));
+    if (operands.size() == 3) {
+      if (!TYPED_DEFAULTS.contains(operands.get(2).getType().getSqlTypeName())) {
+        return call;
+      }
+      newOperands.add(operands.get(2));
+    }
+    for (String fieldName : fieldNames.get()) {
+      newOperands.add(rexBuilder.makeLiteral(fieldName));
+    }
+
+    RexNode newCall = rexBuilder.makeCall(extractField, newOperands);
+    if (!newCall.getType().equals(call.getType())) {
+      return call;
+    }
+    return newCall;
+  }
+
+  private Set<SqlOperator> findJsonExtractOperators(RelNode relNode) {
+    Set<SqlOperator> operators = new HashSet<>();
+    relNode.accept(new RelShuttleImpl() {
+      @Override
+      protected RelNode visitChild(RelNode parent, int i, RelNode child) {
+        parent.accept(new RexShuttle() {
+          @Override
+          public RexNode visitCall(RexCall call) {
+            FunctionUtil.getBridgedFunction(call.getOperator())
+                .filter(JsonExtract.class::isInstance)
+                .ifPresent(f -> operators.add(call.getOperator()));
+            return super.visitCall(call);
+          }
+        });
+        return super.visitChild(parent, i, child);
+      }
+    });
+    return operators;
+  }
+}
@@ -20,7 +20,9 @@ public class StdSecureLibraryImpl extends AbstractFunctionModule implements StdL
   public static final NamePath LIB_NAME = NamePath.of("secure");
   public static final List<FunctionDefinition> SQRL_FUNCTIONS = List.of(
       SecureFunctions.RANDOM_ID,
-      SecureFunctions.UUID
+      SecureFunctions.UUID,
+      SecureFunctions.UUID_V7,
+      SecureFunctions.ULID
   );
 
   private static List<NamespaceObject> SQL_FUNCTIONS = List.of(
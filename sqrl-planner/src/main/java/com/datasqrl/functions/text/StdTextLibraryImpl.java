@@ -21,6 +21,7 @@ public class StdTextLibraryImpl extends AbstractFunctionModule implements StdLib
   public static final List<FunctionDefinition> SQRL_FUNCTIONS = List.of(
       TextFunctions.SPLIT,
       TextFunctions.TEXT_SEARCH,
+      TextFunctions.TEXT_SEARCH_BM25,
       TextFunctions.FORMAT,
       TextFunctions.BANNED_WORDS_FILTER
   );
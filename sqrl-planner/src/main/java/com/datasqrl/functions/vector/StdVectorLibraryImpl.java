@@ -1,12 +1,16 @@
 package com.datasqrl.functions.vector;
 
 import static com.datasqrl.vector.VectorFunctions.ASCII_TEXT_TEST_EMBED;
+import static com.datasqrl.vector.VectorFunctions.ASYNC_ONNX_EMBED;
 import static com.datasqrl.vector.VectorFunctions.CENTER;
 import static com.datasqrl.vector.VectorFunctions.COSINE_DISTANCE;
 import static com.datasqrl.vector.VectorFunctions.COSINE_SIMILARITY;
 import static com.datasqrl.vector.VectorFunctions.EUCLIDEAN_DISTANCE;
+import static com.datasqrl.vector.VectorFunctions.FLOAT_TO_VECTOR;
 import static com.datasqrl.vector.VectorFunctions.ONNX_EMBED;
+import static com.datasqrl.vector.VectorFunctions.QUANTIZE_VECTOR;
 import static com.datasqrl.vector.VectorFunctions.VEC_TO_DOUBLE;
+import static com.datasqrl.vector.VectorFunctions.VEC_TO_FLOAT;
 
 import com.datasqrl.NamespaceObjectUtil;
 import com.datasqrl.canonicalizer.NamePath;
@@ -28,7 +32,11 @@ public class StdVectorLibraryImpl extends AbstractFunctionModule implements StdL
       COSINE_DISTANCE,
       EUCLIDEAN_DISTANCE,
       VEC_TO_DOUBLE,
+      VEC_TO_FLOAT,
+      FLOAT_TO_VECTOR,
+      QUANTIZE_VECTOR,
       ONNX_EMBED,
+      ASYNC_ONNX_EMBED,
       ASCII_TEXT_TEST_EMBED,
       CENTER
   );
@@ -263,7 +263,8 @@ public class GraphqlModelGenerator extends SchemaWalker {
         switch (entry.getValue().getDatabase().toLowerCase()) {
           case "postgres":
           default:
-            queryBase = new PagedJdbcQuery(queryStr, query.getParameters());
+            queryBase = new PagedJdbcQuery(queryStr, query.getParameters(),
+                entry.getValue().getSettings());
             break;
           case "duckdb":
             queryBase = new PagedDuckDbQuery(queryStr, query.getParameters());
@@ -276,7 +277,8 @@ public class GraphqlModelGenerator extends SchemaWalker {
         switch (entry.getValue().getDatabase().toLowerCase()) {
           case "postgres":
           default:
-            queryBase = new JdbcQuery(queryStr, query.getParameters());
+            queryBase = new JdbcQuery(queryStr, query.getParameters(),
+                entry.getValue().getSettings());
             break;
           case "duckdb":
             queryBase = new DuckDbQuery(queryStr, query.getParameters());
@@ -29,7 +29,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.apache.calcite.rel.type.RelDataType;
@@ -49,8 +48,6 @@ import org.apache.commons.lang3.tuple.Pair;
 @AllArgsConstructor
 public class GraphqlQueryBuilder {
 
-  private final AtomicInteger queryCounter = new AtomicInteger();
-
   SqrlFramework framework;
   APIConnectorManager apiManager;
   SqlNameUtil nameUtil;
@@ -62,7 +59,7 @@ public class GraphqlQueryBuilder {
     SqlUserDefinedTableFunction operator = operatorPair.getLeft();
     boolean allowPermutation = operatorPair.getRight();
 
-    String nameId = generateQueryNameId(parentName, fieldDefinition);
+    String nameId = generateQueryNameId(parentName, fieldDefinition, arg);
 
     QueryBuilderHelper queryBuilderHelper = new QueryBuilderHelper(framework.getQueryPlanner(),
         framework.getQueryPlanner().getRelBuilder(),
@@ -146,9 +143,17 @@ public class GraphqlQueryBuilder {
     return query;
   }
 
-  private String generateQueryNameId(String parentName, FieldDefinition fieldDefinition) {
-    return parentName + "." + fieldDefinition.getName() + "-"
-        + queryCounter.incrementAndGet();
+  /**
+   * Identifies the query by its GraphQL type, field and the (sorted) names of the arguments it is
+   * called with, e.g. {@code Query.orders-customerid-limit}, so the identifier is stable across
+   * compilations and does not depend on the order in which queries are generated.
+   */
+  private String generateQueryNameId(String parentName, FieldDefinition fieldDefinition,
+      List<ArgCombination> arg) {
+    return parentName + "." + fieldDefinition.getName() + arg.stream()
+        .map(c -> "-" + c.getDefinition().getName())
+        .sorted()
+        .collect(Collectors.joining());
   }
 
   private boolean isLimitOrOffset(ArgCombination c) {
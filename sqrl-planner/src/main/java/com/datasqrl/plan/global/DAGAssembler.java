@@ -2,6 +2,7 @@ package com.datasqrl.plan.global;
 
 import com.datasqrl.calcite.SqrlFramework;
 import com.datasqrl.config.EngineFactory.Type;
+import com.datasqrl.config.PackageJson.CompilerConfig;
 import com.datasqrl.engine.database.DatabaseEngine;
 import com.datasqrl.engine.log.Log;
 import com.datasqrl.engine.log.LogManager;
@@ -18,13 +19,16 @@ import com.datasqrl.plan.global.PhysicalDAGPlan.StreamStagePlan.TableDefinition;
 import com.datasqrl.plan.global.SqrlDAG.ExportNode;
 import com.datasqrl.plan.global.SqrlDAG.SqrlNode;
 import com.datasqrl.plan.global.SqrlDAG.TableNode;
+import com.datasqrl.plan.hints.StateTtlHint;
 import com.datasqrl.plan.hints.TimestampHint;
 import com.datasqrl.plan.local.generate.QueryTableFunction;
 import com.datasqrl.plan.rules.AnnotatedLP;
 import com.datasqrl.plan.rules.SQRLConverter;
 import com.datasqrl.plan.rules.SqrlConverterConfig;
 import com.datasqrl.plan.table.PhysicalRelationalTable;
+import com.datasqrl.plan.table.NowFilter;
 import com.datasqrl.plan.table.PhysicalTable;
+import com.datasqrl.plan.util.TimePredicate;
 import com.datasqrl.util.CalciteUtil;
 import com.datasqrl.calcite.SqrlRexUtil;
 import com.google.common.base.Preconditions;
@@ -37,11 +41,13 @@ import org.apache.calcite.rel.RelShuttleImpl;
 import org.apache.calcite.rel.core.TableFunctionScan;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.hint.Hintable;
+import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.tools.RelBuilder;
 
 import java.net.URL;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.datasqrl.error.ErrorCode.PRIMARY_KEY_NULLABLE;
@@ -54,6 +60,7 @@ public class DAGAssembler {
   private final ExecutionPipeline pipeline;
   private final LogManager logManager;
   private final ErrorCollector errors;
+  private final CompilerConfig compilerConfig;
 
   public PhysicalDAGPlan assemble(SqrlDAG dag, Set<URL> jars) {
     //We make the assumption that there is a single stream stage
@@ -105,6 +112,8 @@ public class DAGAssembler {
           .sorted().collect(Collectors.toList());
 
       //Second, all tables that need to be written in denormalized form
+      Optional<TimePartitioning> timePartitioning = ((DatabaseEngine) database.getEngine()).getTimePartitioning();
+      Map<PhysicalRelationalTable, TimePartitioning> partitionedTables = new HashMap<>();
       for (PhysicalRelationalTable materializedTable : materializedTables) {
         List<String> nullablePks = CalciteUtil.identifyNullableFields(materializedTable.getRowType(), materializedTable.getPrimaryKey().asList());
         errors.checkFatal(nullablePks.isEmpty(), PRIMARY_KEY_NULLABLE, "Cannot materialize table [%s] with nullable primary key: %s", materializedTable, nullablePks);
@@ -114,30 +123,49 @@ public class DAGAssembler {
 
         OptionalInt timestampIdx = materializedTable.getTimestamp().getOnlyCandidateOptional();
         RelNode processedRelnode = produceWriteTree(materializedTable.getPlannedRelNode(), timestampIdx);
+        int[] primaryKeys = materializedTable.getPrimaryKey().getPkIndexes();
+        //Only streams are partitioned by timestamp since their records never change partition
+        Optional<TimePartitioning> tablePartitioning = timePartitioning.filter(
+            p -> materializedTable.getType() == TableType.STREAM && timestampIdx.isPresent());
+        if (tablePartitioning.isPresent()) {
+          partitionedTables.put(materializedTable, tablePartitioning.get());
+          //The partition column must be part of the primary key
+          primaryKeys = IntStream.concat(IntStream.of(primaryKeys),
+              IntStream.of(timestampIdx.getAsInt())).distinct().toArray();
+        }
         streamQueries.add(new PhysicalDAGPlan.WriteQuery(
-            new EngineSink(materializedTable.getNameId(), materializedTable.getPrimaryKey().getPkIndexes(),
-                materializedTable.getRowType(), timestampIdx, database),
+            new EngineSink(materializedTable.getNameId(), primaryKeys,
+                materializedTable.getRowType(), timestampIdx, database, tablePartitioning),
             processedRelnode, materializedTable.getPlannedRelNode(), materializedTable.getType()));
 
       }
 
       //Third, pick index structures for materialized tables
-      //Pick index structures for database tables based on the database queries
+      //Pick index structures for database tables based on the database queries weighted by the workload
       IndexSelector indexSelector = new IndexSelector(framework,
-          ((DatabaseEngine) database.getEngine()).getIndexSelectorConfig());
+          ((DatabaseEngine) database.getEngine()).getIndexSelectorConfig(),
+          WorkloadProfile.of(compilerConfig));
       Map<String, List<IndexDefinition>> indexHintsByTable = new LinkedHashMap<>();
 
-      Collection<QueryIndexSummary> queryIndexSummaries = databaseQueries.stream().map(indexSelector::getIndexSelection)
-          .flatMap(List::stream).collect(Collectors.toList());
-      List<IndexDefinition> indexDefinitions = new ArrayList<>(indexSelector.optimizeIndexes(queryIndexSummaries)
-          .keySet());
+      Collection<QueryIndexSummary> queryIndexSummaries = indexSelector.getIndexSelection(
+          databaseQueries, ParallelPlanning.of(compilerConfig));
+      Map<IndexDefinition, Double> indexCostReductions = new HashMap<>(
+          indexSelector.optimizeIndexes(queryIndexSummaries));
+      List<IndexDefinition> indexDefinitions = new ArrayList<>(indexCostReductions.keySet());
       materializedTables.forEach(table -> indexSelector.getIndexHints(table).ifPresent(indexHints -> {
         //First, remove all generated indexes for that table...
         indexDefinitions.removeIf(idx -> idx.getTableId().equals(table.getNameId()));
+        indexCostReductions.keySet().removeIf(idx -> idx.getTableId().equals(table.getNameId()));
         //and overwrite with the specified ones
         indexDefinitions.addAll(indexHints);
       }));
-      databasePlans.add(new PhysicalDAGPlan.DatabaseStagePlan(database, databaseQueries, indexDefinitions));
+      //Finally, restrict queries on partitioned tables to the retained data so the database can prune partitions
+      List<PhysicalDAGPlan.ReadQuery> prunedQueries = databaseQueries.stream()
+          .map(query -> new PhysicalDAGPlan.ReadQuery(query.getQuery(),
+              addRetentionFilters(query.getRelNode(), partitionedTables)))
+          .collect(Collectors.toList());
+      databasePlans.add(new PhysicalDAGPlan.DatabaseStagePlan(database, prunedQueries, indexDefinitions,
+          indexCostReductions));
     }
 
 
@@ -181,6 +209,11 @@ public class DAGAssembler {
       if (node instanceof TableNode) {
         PhysicalTable table = ((TableNode) node).getTable();
         streamTables.add(new TableDefinition(table.getNameId(), table.getPlannedRelNode()));
+        if (node.getChosenStage().equals(streamStage) && table.getType() != TableType.STATIC) {
+          UnboundedStateFinder.find(table.getPlannedRelNode()).forEach(state -> errors.warn(
+              "Table [%s] keeps unbounded state in a %s. Add a [%s] hint to expire state.",
+              table.getTableName(), state, StateTtlHint.HINT_NAME));
+        }
       }
     }
     PhysicalDAGPlan.StagePlan streamPlan = new StreamStagePlan(streamStage, streamQueries,
@@ -234,6 +267,31 @@ public class DAGAssembler {
     return expandedRelNode;
   }
 
+  /**
+   * Adds a filter on the timestamp to all scans of partitioned tables with retention that
+   * excludes the records that are past retention.
+   */
+  private RelNode addRetentionFilters(RelNode relNode,
+      Map<PhysicalRelationalTable, TimePartitioning> partitionedTables) {
+    if (partitionedTables.values().stream().noneMatch(TimePartitioning::hasRetention)) {
+      return relNode;
+    }
+    return relNode.accept(new RelShuttleImpl() {
+      @Override
+      public RelNode visit(TableScan scan) {
+        PhysicalRelationalTable table = scan.getTable().unwrap(PhysicalRelationalTable.class);
+        TimePartitioning partitioning = partitionedTables.get(table);
+        if (partitioning == null || !partitioning.hasRetention()) {
+          return scan;
+        }
+        TimePredicate retention = new TimePredicate(TimePredicate.NOW_INDEX,
+            table.getTimestamp().getOnlyCandidate(), SqlKind.LESS_THAN_OR_EQUAL,
+            partitioning.getRetentionDuration().toMillis());
+        RelBuilder relBuilder = framework.getQueryPlanner().getRelBuilder().push(scan);
+        return NowFilter.of(retention).addFilterTo(relBuilder).build();
+      }
+    });
+  }
 
   /**
    *
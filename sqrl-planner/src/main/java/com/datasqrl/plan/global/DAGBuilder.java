@@ -11,6 +11,7 @@ import com.datasqrl.plan.rules.SQRLConverter;
 import com.datasqrl.plan.rules.SQRLConverter.TablePlan;
 import com.datasqrl.plan.rules.SqrlConverterConfig;
 import com.datasqrl.plan.rules.SimpleCostModel;
+import com.datasqrl.plan.rules.StatisticsCostModel;
 import com.datasqrl.plan.global.SqrlDAG.ExportNode;
 import com.datasqrl.plan.global.SqrlDAG.QueryNode;
 import com.datasqrl.plan.global.SqrlDAG.SqrlNode;
@@ -19,6 +20,7 @@ import com.datasqrl.plan.global.StageAnalysis.Cost;
 import com.datasqrl.plan.local.generate.ResolvedExport;
 import com.datasqrl.plan.table.PhysicalRelationalTable;
 import com.datasqrl.plan.table.PhysicalTable;
+import com.datasqrl.plan.table.TableStatisticsProvider;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.inject.Inject;
@@ -47,6 +49,7 @@ public class DAGBuilder {
   private SQRLConverter sqrlConverter;
   private ExecutionPipeline pipeline;
   private ErrorCollector errors;
+  private TableStatisticsProvider statistics;
 
   public SqrlDAG build(Collection<AnalyzedAPIQuery> queries,
       Collection<AnalyzedExport> exports) {
@@ -117,7 +120,7 @@ public class DAGBuilder {
       StageAnalysis result;
       try {
         TablePlan plan = planner.apply(stage);
-        ComputeCost cost = SimpleCostModel.of(stage, plan.getRelNode());
+        ComputeCost cost = computeCost(stage, plan.getRelNode());
         result = new Cost(stage, cost, true, plan.getRelNode());
       } catch (ExecutionAnalysis.CapabilityException ex) {
         result = StageAnalysis.of(ex);
@@ -127,5 +130,17 @@ public class DAGBuilder {
     return stageAnalysis;
   }
 
+  /**
+   * Uses the statistics-driven cost model if statistics are provided and the simple cost model
+   * otherwise.
+   */
+  private ComputeCost computeCost(ExecutionStage stage, RelNode relNode) {
+    if (statistics.isEmpty()) {
+      return SimpleCostModel.of(stage, relNode);
+    }
+    return StatisticsCostModel.of(stage, relNode,
+        statistics.getQueryRate().orElse(StatisticsCostModel.DEFAULT_QUERY_RATE));
+  }
+
 
 }
@@ -4,17 +4,22 @@
 package com.datasqrl.plan.global;
 
 import com.datasqrl.calcite.OperatorTable;
+import com.datasqrl.calcite.QueryPlanner;
 import com.datasqrl.calcite.SqrlFramework;
+import com.datasqrl.config.PackageJson.CompilerConfig;
 import com.datasqrl.engine.pipeline.ExecutionPipeline;
 import com.datasqrl.engine.pipeline.ExecutionStage;
+import com.datasqrl.error.ErrorCollection;
 import com.datasqrl.error.ErrorCollector;
 import com.datasqrl.graphql.APIConnectorManager;
 import com.datasqrl.plan.local.generate.ResolvedExport;
 import com.datasqrl.plan.rules.SqrlConverterConfig;
+import com.datasqrl.util.CalciteHacks;
 import com.datasqrl.util.FunctionUtil;
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
 import com.datasqrl.plan.rules.SQRLConverter;
+import com.datasqrl.plan.rules.SQRLConverter.TablePlan;
 import com.datasqrl.plan.table.PhysicalTable;
 import org.apache.flink.table.functions.UserDefinedFunction;
 
@@ -25,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.apache.calcite.sql.SqlOperator;
 import org.apache.flink.table.functions.FunctionDefinition;
@@ -44,13 +50,14 @@ public class DAGPlanner {
   private final DAGBuilder dagBuilder;
   private final DAGPreparation dagPreparation;
   private final SQRLConverter sqrlConverter;
+  private final CompilerConfig compilerConfig;
 
   public SqrlDAG build(Collection<ResolvedExport> exports) {
     //Prepare the inputs
     DAGPreparation.Result prepResult = dagPreparation.prepareInputs(framework.getSchema(), exports);
 
     //Assemble DAG
-    SqrlDAG dag = new DAGBuilder(sqrlConverter, pipeline, errors).build(prepResult.getQueries(), prepResult.getExports());
+    SqrlDAG dag = dagBuilder.build(prepResult.getQueries(), prepResult.getExports());
     for (SqrlDAG.SqrlNode node : dag) {
       if (!node.hasViableStage()) {
         errors.fatal("Could not find execution stage for [%s]. Stage analysis below.\n%s",node.getName(), node.toString());
@@ -82,11 +89,55 @@ public class DAGPlanner {
       }
     }
     //Plan final version of all tables
-    dag.allNodesByClass(SqrlDAG.TableNode.class).forEach( tableNode -> {
-      PhysicalTable table = tableNode.getTable();
-      SqrlConverterConfig config = table.getBaseConfig().build();
-      table.setPlannedRelNode(sqrlConverter.convert(table, config, errors.onlyErrors()));
+    List<PhysicalTable> tables = dag.allNodesByClass(SqrlDAG.TableNode.class)
+        .map(SqrlDAG.TableNode::getTable).collect(Collectors.toList());
+    ParallelPlanning parallel = ParallelPlanning.of(compilerConfig);
+    if (parallel.isParallel(tables.size()) && tables.stream().allMatch(SQRLConverter::isCopyable)) {
+      planTablesInParallel(tables, parallel);
+    } else {
+      tables.forEach(table -> {
+        SqrlConverterConfig config = table.getBaseConfig().build();
+        table.setPlannedRelNode(sqrlConverter.convert(table, config, errors.onlyErrors()));
+      });
+    }
+  }
+
+  /**
+   * The tables are planned independently of each other once their stages are assigned. Each table
+   * is copied into its own cluster with its own planner, since neither is thread-safe, and collects
+   * its errors separately.
+   * The plans and errors are added in the order of the tables so the outcome is deterministic.
+   */
+  private void planTablesInParallel(List<PhysicalTable> tables, ParallelPlanning parallel) {
+    QueryPlanner queryPlanner = framework.getQueryPlanner();
+    List<TablePlanResult> results = parallel.map(tables, table -> {
+      //The metadata provider is set per thread
+      CalciteHacks.resetToSqrlMetadataProvider();
+      SQRLConverter converter = new SQRLConverter(queryPlanner.getRelBuilder(
+          queryPlanner.createCluster()), pipeline);
+      ErrorCollection tableErrors = new ErrorCollection();
+      try {
+        return new TablePlanResult(converter.convertCopy(table, table.getBaseConfig().build(),
+            tableErrors.asCollector(errors.getLocation()).onlyErrors()), tableErrors, null);
+      } catch (RuntimeException e) {
+        return new TablePlanResult(null, tableErrors, e);
+      }
     });
+    for (int i = 0; i < tables.size(); i++) {
+      TablePlanResult result = results.get(i);
+      errors.getErrors().addAll(result.errors, errors.getLocation());
+      if (result.exception != null) {
+        throw result.exception;
+      }
+      tables.get(i).setPlannedRelNode(result.plan);
+    }
+  }
+
+  @AllArgsConstructor
+  private static class TablePlanResult {
+    TablePlan plan;
+    ErrorCollection errors;
+    RuntimeException exception;
   }
 
   public PhysicalDAGPlan assemble(SqrlDAG logicalDag,
@@ -20,9 +20,35 @@ public class IndexDefinition implements Comparable<IndexDefinition> {
   List<String> columnNames;
   int partitionOffset;
   IndexType type;
+  /**
+   * Non-key columns that are stored in the index so queries can be answered from the index alone
+   */
+  List<Integer> includeColumns;
+  List<String> includeColumnNames;
+  /**
+   * Constant predicates that restrict the indexed rows for partial indexes
+   */
+  List<IndexPredicate> predicates;
+  /**
+   * The access method and parameters of vector indexes, null for all other index types
+   */
+  VectorIndexOptions vectorOptions;
 
   public IndexDefinition(String tableId, List<Integer> columns, List<String> allFieldNames,
       int partitionOffset, IndexType type) {
+    this(tableId, columns, allFieldNames, partitionOffset, type, List.of(), List.of());
+  }
+
+  public IndexDefinition(String tableId, List<Integer> columns, List<String> allFieldNames,
+      int partitionOffset, IndexType type, List<Integer> includeColumns,
+      List<IndexPredicate> predicates) {
+    this(tableId, columns, allFieldNames, partitionOffset, type, includeColumns, predicates,
+        type.isVectorIndex() ? VectorIndexOptions.DEFAULT : null);
+  }
+
+  public IndexDefinition(String tableId, List<Integer> columns, List<String> allFieldNames,
+      int partitionOffset, IndexType type, List<Integer> includeColumns,
+      List<IndexPredicate> predicates, VectorIndexOptions vectorOptions) {
     Preconditions.checkArgument(type.isPartitioned() ^ partitionOffset < 0, "Index must be partitioned XOR partition offset must be negative: %s | %s", type, partitionOffset);
     Preconditions.checkArgument(partitionOffset<=columns.size(), "Invalid partition offset: %s | %s", partitionOffset, columns.size());
     this.tableId = tableId;
@@ -31,11 +57,25 @@ public class IndexDefinition implements Comparable<IndexDefinition> {
     this.columnNames = columns.stream().map(allFieldNames::get)
         .collect(Collectors.toList());
     this.type = type;
+    this.includeColumns = includeColumns;
+    this.includeColumnNames = includeColumns.stream().map(allFieldNames::get)
+        .collect(Collectors.toList());
+    this.predicates = predicates;
+    Preconditions.checkArgument(type.isVectorIndex() == (vectorOptions != null),
+        "Vector options are required for and only apply to vector indexes: %s", type);
+    this.vectorOptions = vectorOptions;
   }
 
   public String getName() {
-    return tableId + "_" + type.name().toLowerCase() + "_" +
+    String name = tableId + "_" + type.name().toLowerCase() + "_" +
         columns.stream().map(i -> "c" + i).collect(Collectors.joining());
+    if (!includeColumns.isEmpty()) {
+      name += "_" + includeColumns.stream().map(i -> "i" + i).collect(Collectors.joining());
+    }
+    if (!predicates.isEmpty()) {
+      name += "_partial";
+    }
+    return name;
   }
 
   public static IndexDefinition getPrimaryKeyIndex(String tableId, List<Integer> primaryKeys,
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.global;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.Value;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeFamily;
+
+/**
+ * A constant predicate on a single column of a query, i.e. {@code column = constant} or
+ * {@code column IS NOT NULL}. If all queries against a table share a constant predicate,
+ * it can be used to restrict the rows of a partial index.
+ */
+@Value
+public class IndexPredicate {
+
+  public enum Kind {EQUALS, IS_NOT_NULL}
+
+  int column;
+  String columnName;
+  Kind kind;
+  /**
+   * The constant of an {@link Kind#EQUALS} predicate which is either a {@link String},
+   * {@link BigDecimal}, or {@link Boolean}. Null for {@link Kind#IS_NOT_NULL}.
+   */
+  Object value;
+
+  public static Optional<IndexPredicate> of(@NonNull RexNode conjunction, List<String> fieldNames) {
+    if (!(conjunction instanceof RexCall)) {
+      return Optional.empty();
+    }
+    RexCall call = (RexCall) conjunction;
+    List<RexNode> operands = call.getOperands();
+    if (call.isA(SqlKind.IS_NOT_NULL) && operands.get(0) instanceof RexInputRef) {
+      int column = ((RexInputRef) operands.get(0)).getIndex();
+      return Optional.of(new IndexPredicate(column, fieldNames.get(column), Kind.IS_NOT_NULL, null));
+    }
+    if (call.isA(SqlKind.EQUALS)) {
+      for (int i = 0; i < 2; i++) {
+        if (operands.get(i) instanceof RexInputRef && operands.get(1 - i) instanceof RexLiteral) {
+          int column = ((RexInputRef) operands.get(i)).getIndex();
+          return getConstant((RexLiteral) operands.get(1 - i)).map(value ->
+              new IndexPredicate(column, fieldNames.get(column), Kind.EQUALS, value));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static Optional<Object> getConstant(RexLiteral literal) {
+    SqlTypeFamily family = literal.getTypeName().getFamily();
+    if (literal.isNull() || family == null) {
+      return Optional.empty();
+    }
+    switch (family) {
+      case CHARACTER:
+        return Optional.ofNullable(literal.getValueAs(String.class));
+      case NUMERIC:
+        return Optional.ofNullable(literal.getValueAs(BigDecimal.class));
+      case BOOLEAN:
+        return Optional.ofNullable(literal.getValueAs(Boolean.class));
+      default:
+        return Optional.empty();
+    }
+  }
+}
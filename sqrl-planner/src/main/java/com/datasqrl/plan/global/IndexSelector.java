@@ -3,6 +3,7 @@
  */
 package com.datasqrl.plan.global;
 
+import com.datasqrl.calcite.QueryPlanner;
 import com.datasqrl.calcite.SqrlFramework;
 import com.datasqrl.function.IndexType;
 import com.datasqrl.plan.OptimizationStage;
@@ -12,18 +13,25 @@ import com.datasqrl.plan.hints.IndexHint;
 import com.datasqrl.plan.table.PhysicalRelationalTable;
 import com.datasqrl.plan.table.PhysicalTable;
 import com.datasqrl.plan.table.QueryRelationalTable;
+import com.datasqrl.plan.util.RelClusterCopier;
 import com.datasqrl.util.ArrayUtil;
+import com.datasqrl.util.CalciteHacks;
 import com.datasqrl.calcite.SqrlRexUtil;
 import com.datasqrl.util.StreamUtil;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Sets;
 import com.google.common.primitives.Ints;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableFilter;
 import org.apache.calcite.adapter.enumerable.EnumerableNestedLoopJoin;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelVisitor;
@@ -48,38 +56,134 @@ public class IndexSelector {
 
   private final SqrlFramework framework;
   private final IndexSelectorConfig config;
+  private final WorkloadProfile workload;
 
   public List<QueryIndexSummary> getIndexSelection(PhysicalDAGPlan.ReadQuery query) {
-    RelNode optimized = RelStageRunner.runStage(READ_QUERY_OPTIMIZATION, query.getRelNode(), framework.getQueryPlanner()
-        .getPlanner());
-    IndexFinder indexFinder = new IndexFinder();
-    return indexFinder.find(optimized);
+    return getIndexSelection(query, query.getRelNode(), framework.getQueryPlanner().getPlanner());
   }
 
+  /**
+   * Computes the index selection for all queries. If planning is parallel, the queries are
+   * optimized concurrently, each in a copy with its own cluster and planner, so the result does
+   * not depend on the order in which the queries are optimized.
+   */
+  public List<QueryIndexSummary> getIndexSelection(List<PhysicalDAGPlan.ReadQuery> queries,
+      ParallelPlanning parallel) {
+    if (!parallel.isParallel(queries.size()) || !queries.stream()
+        .allMatch(query -> RelClusterCopier.isSupported(query.getRelNode()))) {
+      return queries.stream().map(this::getIndexSelection).flatMap(List::stream)
+          .collect(Collectors.toList());
+    }
+    QueryPlanner queryPlanner = framework.getQueryPlanner();
+    return parallel.map(queries, query -> {
+      //The metadata provider is set per thread
+      CalciteHacks.resetToSqrlMetadataProvider();
+      RelOptCluster cluster = queryPlanner.createCluster();
+      return getIndexSelection(query, RelClusterCopier.copy(query.getRelNode(), cluster),
+          cluster.getPlanner());
+    }).stream().flatMap(List::stream).collect(Collectors.toList());
+  }
+
+  private List<QueryIndexSummary> getIndexSelection(PhysicalDAGPlan.ReadQuery query,
+      RelNode relNode, RelOptPlanner planner) {
+    RelNode optimized = RelStageRunner.runStage(READ_QUERY_OPTIMIZATION, relNode, planner);
+    IndexFinder indexFinder = new IndexFinder(planner);
+    List<QueryIndexSummary> summaries = indexFinder.find(optimized);
+    double weight = workload.getWeight(query.getQuery());
+    summaries.forEach(idx -> idx.count = weight);
+    return summaries;
+  }
+
+  /**
+   * Selects the indexes for the given query summaries.
+   *
+   * @return the chosen indexes with the expected reduction in (frequency weighted) cost for each index.
+   * The reduction is 0 or NaN for indexes that are chosen heuristically when a table has too many
+   * distinct query summaries to minimize cost.
+   */
   public Map<IndexDefinition, Double> optimizeIndexes(Collection<QueryIndexSummary> queryIndexSummaries) {
     //Prune down to database indexes and remove duplicates
     Map<IndexDefinition, Double> optIndexes = new HashMap<>();
     LinkedHashMultimap<PhysicalRelationalTable, QueryIndexSummary> callsByTable = LinkedHashMultimap.create();
+    Map<QueryIndexSummary, QueryIndexSummary> distinct = new HashMap<>();
+    //Constant predicates that all queries against a table have in common
+    Map<PhysicalRelationalTable, Set<IndexPredicate>> commonPredicates = new HashMap<>();
     queryIndexSummaries.forEach(idx -> {
-      //TODO: Add up counts so we preserve relative frequency
-      callsByTable.put(idx.getTable(), idx);
+      commonPredicates.merge(idx.getTable(), idx.getConstantPredicates(),
+          (common, predicates) -> Sets.intersection(common, predicates).immutableCopy());
+      QueryIndexSummary existing = distinct.putIfAbsent(idx, idx);
+      if (existing == null) {
+        callsByTable.put(idx.getTable(), idx);
+      } else {
+        if (!workload.isEmpty()) {
+          //Add up counts so we preserve relative frequency
+          existing.count += idx.count;
+        }
+        existing.referencedColumns = existing.referencedColumns == null || idx.referencedColumns == null
+            ? null : Sets.union(existing.referencedColumns, idx.referencedColumns).immutableCopy();
+      }
     });
 
     for (PhysicalRelationalTable table : callsByTable.keySet()) {
-      optIndexes.putAll(optimizeIndexes(table, callsByTable.get(table)));
+      Set<QueryIndexSummary> tableSummaries = callsByTable.get(table);
+      List<IndexPredicate> predicates = config.supportsPartialIndexes()
+          ? List.copyOf(commonPredicates.get(table)) : List.of();
+      optimizeIndexes(table, tableSummaries).forEach((index, costReduction) ->
+          optIndexes.put(coverAndRestrict(index, table, tableSummaries, predicates), costReduction));
     }
     return optIndexes;
   }
 
-  private static IndexDefinition getIndexFromHint(PhysicalRelationalTable table, IndexHint hint) {
+  /**
+   * Includes the columns that the queries served by the index reference, if those are few enough,
+   * so that the database can answer the queries with index-only scans.
+   * Restricts the index to the given constant predicates that all queries against the table share.
+   */
+  private IndexDefinition coverAndRestrict(IndexDefinition index, PhysicalRelationalTable table,
+      Set<QueryIndexSummary> queryIndexSummaries, List<IndexPredicate> predicates) {
+    List<Integer> includeColumns = getIncludeColumns(index, queryIndexSummaries);
+    if (includeColumns.isEmpty() && predicates.isEmpty()) {
+      return index;
+    }
+    return new IndexDefinition(index.getTableId(), index.getColumns(),
+        table.getRowType().getFieldNames(), index.getPartitionOffset(), index.getType(),
+        includeColumns, predicates, index.getVectorOptions());
+  }
+
+  private List<Integer> getIncludeColumns(IndexDefinition index,
+      Set<QueryIndexSummary> queryIndexSummaries) {
+    int maxIncludeColumns = config.maxIncludeColumns(index.getType());
+    if (maxIncludeColumns <= 0) {
+      return List.of();
+    }
+    Set<Integer> includeColumns = new TreeSet<>();
+    for (QueryIndexSummary summary : queryIndexSummaries) {
+      if (summary.getCost(index) >= summary.getBaseCost()) {
+        continue; //The index does not serve this query
+      }
+      if (summary.getReferencedColumns() == null) {
+        return List.of();
+      }
+      includeColumns.addAll(summary.getReferencedColumns());
+    }
+    includeColumns.removeAll(index.getColumns());
+    if (includeColumns.size() > maxIncludeColumns) {
+      return List.of();
+    }
+    return List.copyOf(includeColumns);
+  }
+
+  private IndexDefinition getIndexFromHint(PhysicalRelationalTable table, IndexHint hint) {
     List<String> colNames = hint.getColumnNames();
     List<Integer> colIdx = hint.getColumnNames().stream().map(colName -> {
       RelDataTypeField field = table.getRowType().getField(colName, false, true);
       Preconditions.checkArgument(field!=null, "Could not find indexed field %s for table %s in index hint %s", colName, table, hint);
       return field.getIndex();
     }).collect(Collectors.toUnmodifiableList());
+    IndexType indexType = hint.getIndexType();
     return new IndexDefinition(table.getNameId(), colIdx, table.getRowType().getFieldNames(),
-        hint.getIndexType().isPartitioned()? colNames.size() : -1, hint.getIndexType());
+        indexType.isPartitioned()? colNames.size() : -1, indexType, List.of(), List.of(),
+        indexType.isVectorIndex()? VectorIndexOptions.of(hint.getOptions(), config.getVectorIndexOptions()) : null);
   }
 
   public Optional<List<IndexDefinition>> getIndexHints(PhysicalRelationalTable table) {
@@ -129,7 +233,8 @@ public class IndexSelector {
     Optional<IndexType> specialType = config.getPreferredSpecialIndexType(fcall.getFunction()
         .getSupportedIndexes());
     return specialType.map(idxType -> new IndexDefinition(table.getNameId(), fcall.getColumnIndexes(),
-        table.getRowType().getFieldNames(), -1, idxType));
+        table.getRowType().getFieldNames(), -1, idxType, List.of(), List.of(),
+        idxType.isVectorIndex()? config.getVectorIndexOptions() : null));
   }
 
   private Map<IndexDefinition, Double> optimizeIndexesWithCostMinimization(
@@ -150,7 +255,7 @@ public class IndexSelector {
     //Set initial costs
     Map<QueryIndexSummary, Double> currentCost = new HashMap<>();
     for (QueryIndexSummary idx : indexes) {
-      currentCost.put(idx, initialCost.apply(idx));
+      currentCost.put(idx, idx.getCount() * initialCost.apply(idx));
     }
     //Determine which index candidates reduce the cost the most
     double beforeTotal = total(currentCost);
@@ -164,7 +269,7 @@ public class IndexSelector {
       for (IndexDefinition candidate : candidates) {
         Map<QueryIndexSummary, Double> costs = new HashMap<>();
         currentCost.forEach((call, cost) -> {
-          double newcost = call.getCost(candidate);
+          double newcost = call.getCount() * call.getCost(candidate);
             if (newcost > cost) {
                 newcost = cost;
             }
@@ -303,10 +408,15 @@ public class IndexSelector {
 
     private static final int PARAM_OFFSET = 10000;
 
+    final RelOptPlanner planner;
     List<QueryIndexSummary> queryIndexSummaries = new ArrayList<>();
     int paramIndex = PARAM_OFFSET;
     SqrlRexUtil rexUtil = new SqrlRexUtil(framework.getTypeFactory());
 
+    IndexFinder(RelOptPlanner planner) {
+      this.planner = planner;
+    }
+
     @Override
     public void visit(RelNode node, int ordinal, RelNode parent) {
       if (node instanceof EnumerableNestedLoopJoin) {
@@ -316,9 +426,21 @@ public class IndexSelector {
         //Push join filter into right
         RexNode nestedCondition = pushJoinConditionIntoRight(join);
         right = EnumerableFilter.create(right, nestedCondition);
-        right = RelStageRunner.runStage(OptimizationStage.PUSH_DOWN_FILTERS, right, framework.getQueryPlanner()
-            .getPlanner());
+        right = RelStageRunner.runStage(OptimizationStage.PUSH_DOWN_FILTERS, right, planner);
         visit(right, 1, node);
+      } else if (node instanceof Project && node.getInput(0) instanceof Filter
+          && node.getInput(0).getInput(0) instanceof TableScan) {
+        PhysicalRelationalTable table = ((TableScan) node.getInput(0).getInput(0)).getTable()
+            .unwrap(PhysicalRelationalTable.class);
+        Filter filter = (Filter) node.getInput(0);
+        //Keep track of the referenced columns to determine if an index can cover the query
+        Set<Integer> referencedColumns = ImmutableSet.copyOf(
+            RelOptUtil.InputFinder.bits(((Project) node).getProjects(), null)
+                .union(RelOptUtil.InputFinder.bits(filter.getCondition())));
+        QueryIndexSummary.ofFilter(table, filter.getCondition(), rexUtil).ifPresent(idx -> {
+          idx.referencedColumns = referencedColumns;
+          queryIndexSummaries.add(idx);
+        });
       } else if (node instanceof TableScan && parent instanceof Filter) {
         PhysicalRelationalTable table = ((TableScan) node).getTable()
             .unwrap(PhysicalRelationalTable.class);
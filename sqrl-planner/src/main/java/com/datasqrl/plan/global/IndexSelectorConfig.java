@@ -64,6 +64,36 @@ public interface IndexSelectorConfig {
    */
   double relativeIndexCost(IndexDefinition index);
 
+  /**
+   * The maximum number of non-key columns that an index of this type can include so the database
+   * can answer queries from the index alone. Covering indexes are not generated if this is 0.
+   *
+   * @param indexType
+   * @return
+   */
+  default int maxIncludeColumns(IndexType indexType) {
+    return 0;
+  }
+
+  /**
+   * If the database supports partial indexes which only index the rows that match a predicate.
+   *
+   * @return
+   */
+  default boolean supportsPartialIndexes() {
+    return false;
+  }
+
+  /**
+   * The access method and parameters for vector indexes unless those are overwritten by an
+   * index hint.
+   *
+   * @return
+   */
+  default VectorIndexOptions getVectorIndexOptions() {
+    return VectorIndexOptions.DEFAULT;
+  }
+
   public static final IndexType[] PREFERRED_GENERIC_INDEX = {IndexType.BTREE, IndexType.HASH};
 
   default IndexType getPreferredGenericIndexType() {
@@ -0,0 +1,81 @@
+package com.datasqrl.plan.global;
+
+import com.datasqrl.config.PackageJson.CompilerConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * Runs independent planning tasks on multiple threads and returns their results in the order of
+ * the tasks, so the plan does not depend on how the tasks are scheduled.
+ *
+ * Calcite's clusters, planners and relbuilders are not thread-safe. Hence, tasks must not share
+ * them but create their own.
+ */
+@Value
+public class ParallelPlanning {
+
+  int numThreads;
+
+  public static ParallelPlanning of(CompilerConfig config) {
+    int threads = config.getPlanningThreads();
+    return new ParallelPlanning(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+  }
+
+  public boolean isParallel(int numTasks) {
+    return numThreads > 1 && numTasks > 1;
+  }
+
+  /**
+   * Applies the function to all tasks.
+   *
+   * @return the results in the order of the tasks
+   * @throws RuntimeException the exception of the first task (in order) that failed
+   */
+  public <T, R> List<R> map(List<T> tasks, Function<T, R> function) {
+    if (!isParallel(tasks.size())) {
+      return tasks.stream().map(function).collect(Collectors.toList());
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(numThreads, tasks.size()),
+        runnable -> {
+          Thread thread = new Thread(runnable, "sqrl-planner");
+          thread.setDaemon(true);
+          return thread;
+        });
+    try {
+      List<Future<R>> futures = tasks.stream()
+          .map(task -> executor.submit(() -> function.apply(task)))
+          .collect(Collectors.toList());
+      List<R> results = new ArrayList<>(tasks.size());
+      for (Future<R> future : futures) {
+        results.add(getResult(future));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static <R> R getResult(Future<R> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Planning was interrupted", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
@@ -14,6 +14,7 @@ import java.net.URL;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -95,6 +96,12 @@ public class PhysicalDAGPlan {
     List<ReadQuery> queries;
     @NonNull
     Collection<IndexDefinition> indexDefinitions;
+    /**
+     * The expected cost reduction of the selected index definitions as estimated by the
+     * {@link IndexSelector}. Indexes that are specified by hint are not included.
+     */
+    @NonNull
+    Map<IndexDefinition, Double> indexCostReductions;
 
   }
 
@@ -162,6 +169,15 @@ public class PhysicalDAGPlan {
     RelDataType rowType;
     OptionalInt timestampIdx;
     ExecutionStage stage;
+    /**
+     * The range partitioning of the table by its timestamp, if the table is partitioned
+     */
+    Optional<TimePartitioning> timePartitioning;
+
+    public EngineSink(String nameId, int[] primaryKeys, RelDataType rowType,
+        OptionalInt timestampIdx, ExecutionStage stage) {
+      this(nameId, primaryKeys, rowType, timestampIdx, stage, Optional.empty());
+    }
 
     @Override
     public String getName() {
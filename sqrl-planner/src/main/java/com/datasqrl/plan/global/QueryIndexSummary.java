@@ -35,7 +35,7 @@ import java.util.*;
 public class QueryIndexSummary {
 
   private static final QueryIndexSummary EMPTY = new QueryIndexSummary(null, Set.of(), Set.of(),
-      Set.of(), 1.0);
+      Set.of(), 1.0, Set.of(), null);
 
   public static final String INDEX_NAME = "_index_";
 
@@ -55,13 +55,26 @@ public class QueryIndexSummary {
    */
   double count = 1.0;
 
+  /**
+   * The constant predicates of the query on this table, which are candidates for partial indexes
+   */
+  Set<IndexPredicate> constantPredicates;
+
+  /**
+   * All columns of the table that the query references or null if those are unknown.
+   * Used to determine the columns an index needs to include to cover the query.
+   */
+  Set<Integer> referencedColumns;
+
   public static Optional<QueryIndexSummary> ofFilter(@NonNull PhysicalRelationalTable table, RexNode filter,
       SqrlRexUtil rexUtil) {
     List<RexNode> conjunctions = rexUtil.getConjunctions(filter);
     Set<Integer> equalityColumns = new HashSet<>();
     Set<Integer> inequalityColumns = new HashSet<>();
     Set<IndexableFunctionCall> functionCalls = new HashSet<>();
+    Set<IndexPredicate> constantPredicates = new HashSet<>();
     for (RexNode conj : conjunctions) {
+      IndexPredicate.of(conj, table.getRowType().getFieldNames()).ifPresent(constantPredicates::add);
       if (conj instanceof RexCall) {
         RexCall call = (RexCall) conj;
         IndexableFinder idxFinder = new IndexableFinder();
@@ -80,7 +93,8 @@ public class QueryIndexSummary {
     } else {
       inequalityColumns.removeAll(equalityColumns); //only keep distinct inequalities
       return Optional.of(new QueryIndexSummary(table, ImmutableSet.copyOf(equalityColumns),
-          ImmutableSet.copyOf(inequalityColumns), ImmutableSet.copyOf(functionCalls), 1.0));
+          ImmutableSet.copyOf(inequalityColumns), ImmutableSet.copyOf(functionCalls), 1.0,
+          ImmutableSet.copyOf(constantPredicates), null));
     }
   }
 
@@ -91,14 +105,15 @@ public class QueryIndexSummary {
       call.accept(idxFinder);
       if (idxFinder.isIndexable && idxFinder.idxCall!=null) {
         return Optional.of(new QueryIndexSummary(table, Set.of(),
-            Set.of(), ImmutableSet.of(idxFinder.idxCall), 1.0));
+            Set.of(), ImmutableSet.of(idxFinder.idxCall), 1.0, Set.of(), null));
       }
     }
     return Optional.empty();
   }
 
   public static Optional<QueryIndexSummary> ofSort(@NonNull PhysicalRelationalTable table, int columnIndex) {
-    return Optional.of(new QueryIndexSummary(table, Set.of(), ImmutableSet.of(columnIndex), Set.of(), 1.0));
+    return Optional.of(new QueryIndexSummary(table, Set.of(), ImmutableSet.of(columnIndex), Set.of(), 1.0,
+        Set.of(), null));
   }
 
   public double getCost(@NonNull IndexDefinition indexDef) {
@@ -121,7 +136,8 @@ public class QueryIndexSummary {
         //This index requires a constraint on all columns to be invocable
         coveredConjunction = EMPTY;
       } else {
-        coveredConjunction = new QueryIndexSummary(this.table, equalityCols, inequalityCols, Set.of(), this.count);
+        coveredConjunction = new QueryIndexSummary(this.table, equalityCols, inequalityCols, Set.of(), this.count,
+            Set.of(), null);
       }
     } else {
       //See which of the indexable function calls are covered
@@ -137,7 +153,8 @@ public class QueryIndexSummary {
       if (coveredCalls.isEmpty()) {
         coveredConjunction = EMPTY;
       } else {
-        coveredConjunction = new QueryIndexSummary(this.table, Set.of(), Set.of(), ImmutableSet.copyOf(coveredCalls), this.count);
+        coveredConjunction = new QueryIndexSummary(this.table, Set.of(), Set.of(), ImmutableSet.copyOf(coveredCalls), this.count,
+            Set.of(), null);
       }
     }
     return SqrlRelMdRowCount.getRowCount(table, coveredConjunction);
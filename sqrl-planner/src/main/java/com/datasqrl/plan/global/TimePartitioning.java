@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.global;
+
+import java.time.Duration;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Range partitioning of append-only (stream) tables by their timestamp. Partitions span one
+ * {@link Interval}, are created {@link #premake} intervals ahead of time and dropped once they
+ * are older than {@link #retention} intervals.
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class TimePartitioning {
+
+  public static final String INTERVAL_KEY = "interval";
+  public static final String PREMAKE_KEY = "premake";
+  public static final String RETENTION_KEY = "retention";
+
+  public enum Interval {
+    HOUR(Duration.ofHours(1)), DAY(Duration.ofDays(1)), WEEK(Duration.ofDays(7)),
+    //Upper bound on the length of a month
+    MONTH(Duration.ofDays(31));
+
+    private final Duration maxDuration;
+
+    Interval(Duration maxDuration) {
+      this.maxDuration = maxDuration;
+    }
+
+    public String getName() {
+      return name().toLowerCase();
+    }
+  }
+
+  @NonNull
+  @Builder.Default
+  Interval interval = Interval.DAY;
+  /**
+   * The number of partitions to create ahead of the current one
+   */
+  @Builder.Default
+  int premake = 4;
+  /**
+   * The number of intervals to keep data for or 0 to keep all data
+   */
+  @Builder.Default
+  int retention = 0;
+
+  public boolean hasRetention() {
+    return retention > 0;
+  }
+
+  /**
+   * @return The maximum age of records that are retained. Records may be retained for up to one
+   * additional interval until their partition is dropped.
+   */
+  public Duration getRetentionDuration() {
+    return interval.maxDuration.multipliedBy(retention);
+  }
+
+  /**
+   * Parses the partitioning from a map with the keys above.
+   *
+   * @throws IllegalArgumentException if a key or value is invalid
+   */
+  public static TimePartitioning of(@NonNull Map<String, ?> config) {
+    TimePartitioningBuilder builder = TimePartitioning.builder();
+    config.forEach((key, value) -> {
+      String strValue = String.valueOf(value).trim();
+      switch (key) {
+        case INTERVAL_KEY:
+          builder.interval(parseInterval(strValue));
+          break;
+        case PREMAKE_KEY:
+          builder.premake(parseInt(key, strValue, 1));
+          break;
+        case RETENTION_KEY:
+          builder.retention(parseInt(key, strValue, 0));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown partitioning option: " + key);
+      }
+    });
+    return builder.build();
+  }
+
+  private static Interval parseInterval(String value) {
+    for (Interval interval : Interval.values()) {
+      if (interval.name().equalsIgnoreCase(value)) {
+        return interval;
+      }
+    }
+    throw new IllegalArgumentException("Unknown partitioning interval: " + value);
+  }
+
+  private static int parseInt(String key, String value, int minimum) {
+    int result;
+    try {
+      result = Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          String.format("Partitioning option [%s] must be an integer: %s", key, value));
+    }
+    if (result < minimum) {
+      throw new IllegalArgumentException(
+          String.format("Partitioning option [%s] must be at least %s: %s", key, minimum, value));
+    }
+    return result;
+  }
+}
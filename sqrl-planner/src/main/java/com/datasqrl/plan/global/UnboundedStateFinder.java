@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.global;
+
+import com.datasqrl.io.tables.TableType;
+import com.datasqrl.plan.hints.JoinCostHint;
+import com.datasqrl.plan.hints.SlidingAggregationHint;
+import com.datasqrl.plan.hints.SqrlHint;
+import com.datasqrl.plan.hints.StateTtlHint;
+import com.datasqrl.plan.hints.TumbleAggregationHint;
+import com.datasqrl.plan.rules.StatisticsCostModel;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.TableScan;
+
+/**
+ * Finds the operators in the plan of a table computed in the stream that keep state which is never
+ * cleaned up: regular joins on streams or state tables and group aggregations that are not time
+ * windowed, unless a state ttl has been configured for them. The state of those operators grows
+ * with the input, which we estimate from the table statistics.
+ *
+ * This analysis only looks at the operators of the table itself and stops at the scans of other
+ * tables, which are analyzed separately.
+ */
+public class UnboundedStateFinder extends RelVisitor {
+
+  @Value
+  public static class UnboundedState {
+
+    String operator;
+    String estimatedGrowth;
+
+    @Override
+    public String toString() {
+      return operator + " (" + estimatedGrowth + ")";
+    }
+  }
+
+  private final List<UnboundedState> found = new ArrayList<>();
+
+  public static List<UnboundedState> find(RelNode relNode) {
+    UnboundedStateFinder finder = new UnboundedStateFinder();
+    finder.go(relNode);
+    return finder.found;
+  }
+
+  @Override
+  public void visit(RelNode node, int ordinal, RelNode parent) {
+    if (node instanceof TableScan) {
+      return;
+    }
+    if (SqrlHint.fromRel(node, StateTtlHint.CONSTRUCTOR).isEmpty()) {
+      if (node instanceof Join) {
+        SqrlHint.fromRel(node, JoinCostHint.CONSTRUCTOR)
+            .filter(hint -> hint.getLeftType() != TableType.STATIC
+                || hint.getRightType() != TableType.STATIC)
+            .ifPresent(hint -> found.add(new UnboundedState(
+                String.format("regular join of %s and %s", name(hint.getLeftType()),
+                    name(hint.getRightType())),
+                joinGrowth((Join) node, hint))));
+      } else if (node instanceof Aggregate
+          && SqrlHint.fromRel(node, TumbleAggregationHint.CONSTRUCTOR).isEmpty()
+          && SqrlHint.fromRel(node, SlidingAggregationHint.CONSTRUCTOR).isEmpty()) {
+        found.add(new UnboundedState("group aggregation", aggregateGrowth((Aggregate) node)));
+      }
+    }
+    super.visit(node, ordinal, parent);
+  }
+
+  private static String joinGrowth(Join join, JoinCostHint hint) {
+    double updateRate = 0;
+    if (hint.getLeftType() != TableType.STATIC) {
+      updateRate += StatisticsCostModel.getUpdateRate(join.getLeft());
+    }
+    if (hint.getRightType() != TableType.STATIC) {
+      updateRate += StatisticsCostModel.getUpdateRate(join.getRight());
+    }
+    if (Double.isNaN(updateRate)) {
+      return "state grows with every input record";
+    }
+    return String.format("state grows by an estimated %.0f records per day",
+        updateRate * 24 * 3600);
+  }
+
+  private static String aggregateGrowth(Aggregate aggregate) {
+    Double groups = aggregate.getCluster().getMetadataQuery().getRowCount(aggregate);
+    if (groups == null || groups.isInfinite() || groups.isNaN()) {
+      return "state grows with the number of groups";
+    }
+    return String.format("state grows with the number of groups, estimated at %.0f", groups);
+  }
+
+  private static String name(TableType type) {
+    return type.name().toLowerCase();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.global;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The access method and tuning parameters of approximate nearest neighbor indexes on vector
+ * columns. Build parameters ({@code m}, {@code ef_construction}, {@code lists}) are applied when
+ * the index is created, search parameters ({@code ef_search}, {@code probes}) are set on the
+ * database session for each top-k query. Parameters that are not set use the database default.
+ */
+@Value
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class VectorIndexOptions {
+
+  public static final VectorIndexOptions DEFAULT = VectorIndexOptions.builder().build();
+
+  public static final String METHOD_KEY = "method";
+  public static final String M_KEY = "m";
+  public static final String EF_CONSTRUCTION_KEY = "ef_construction";
+  public static final String LISTS_KEY = "lists";
+  public static final String EF_SEARCH_KEY = "ef_search";
+  public static final String PROBES_KEY = "probes";
+
+  public static final Set<String> BUILD_KEYS = Set.of(METHOD_KEY, M_KEY, EF_CONSTRUCTION_KEY,
+      LISTS_KEY);
+
+  public static final String HNSW_EF_SEARCH_SETTING = "hnsw.ef_search";
+  public static final String IVFFLAT_PROBES_SETTING = "ivfflat.probes";
+
+  public enum Method {HNSW, IVFFLAT}
+
+  @NonNull
+  @Builder.Default
+  Method method = Method.HNSW;
+  /**
+   * Maximum number of connections per layer of an HNSW index
+   */
+  Integer m;
+  /**
+   * Size of the candidate list when building an HNSW index
+   */
+  Integer efConstruction;
+  /**
+   * Number of inverted lists of an IVFFlat index
+   */
+  Integer lists;
+  /**
+   * Size of the candidate list when searching an HNSW index
+   */
+  Integer efSearch;
+  /**
+   * Number of lists to probe when searching an IVFFlat index
+   */
+  Integer probes;
+
+  /**
+   * Parses the options from a map with the keys above. Keys may also use '-' instead of '_'.
+   * The options that are not part of the map are taken from the given defaults.
+   *
+   * @throws IllegalArgumentException if a key or value is invalid
+   */
+  public static VectorIndexOptions of(@NonNull Map<String, ?> options,
+      @NonNull VectorIndexOptions defaults) {
+    VectorIndexOptionsBuilder builder = defaults.toBuilder();
+    options.forEach((key, value) -> {
+      String strValue = String.valueOf(value).trim();
+      switch (key.trim().toLowerCase().replace('-', '_')) {
+        case METHOD_KEY:
+          builder.method(parseMethod(strValue));
+          break;
+        case M_KEY:
+          builder.m(parsePositive(key, strValue));
+          break;
+        case EF_CONSTRUCTION_KEY:
+          builder.efConstruction(parsePositive(key, strValue));
+          break;
+        case LISTS_KEY:
+          builder.lists(parsePositive(key, strValue));
+          break;
+        case EF_SEARCH_KEY:
+          builder.efSearch(parsePositive(key, strValue));
+          break;
+        case PROBES_KEY:
+          builder.probes(parsePositive(key, strValue));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown vector index option: " + key);
+      }
+    });
+    return builder.build();
+  }
+
+  /**
+   * @return The storage parameters of the index, i.e. the build parameters that apply to the
+   * access method
+   */
+  public Map<String, Integer> getStorageParameters() {
+    Map<String, Integer> params = new LinkedHashMap<>();
+    switch (method) {
+      case HNSW:
+        Optional.ofNullable(m).ifPresent(v -> params.put(M_KEY, v));
+        Optional.ofNullable(efConstruction).ifPresent(v -> params.put(EF_CONSTRUCTION_KEY, v));
+        break;
+      case IVFFLAT:
+        Optional.ofNullable(lists).ifPresent(v -> params.put(LISTS_KEY, v));
+        break;
+    }
+    return params;
+  }
+
+  /**
+   * @return The session settings that need to be set for top-k queries against vector indexes
+   */
+  public Map<String, String> getQuerySettings() {
+    Map<String, String> settings = new LinkedHashMap<>();
+    Optional.ofNullable(efSearch).ifPresent(v -> settings.put(HNSW_EF_SEARCH_SETTING, v.toString()));
+    Optional.ofNullable(probes).ifPresent(v -> settings.put(IVFFLAT_PROBES_SETTING, v.toString()));
+    return settings;
+  }
+
+  private static Method parseMethod(String value) {
+    for (Method method : Method.values()) {
+      if (method.name().equalsIgnoreCase(value)) {
+        return method;
+      }
+    }
+    throw new IllegalArgumentException("Unknown vector index method: " + value);
+  }
+
+  private static int parsePositive(String key, String value) {
+    int result;
+    try {
+      result = Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          String.format("Vector index option [%s] must be an integer: %s", key, value));
+    }
+    if (result <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Vector index option [%s] must be positive: %s", key, value));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.global;
+
+import com.datasqrl.function.IndexType;
+import com.datasqrl.function.IndexableFunction;
+import com.datasqrl.util.FunctionUtil;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexVisitorImpl;
+
+/**
+ * Determines whether a query is a (top-k) nearest neighbor search, i.e. if it orders by the result
+ * of a function that can be answered with a vector index. The limit of such queries is either part
+ * of the query or added by the server for paged queries.
+ */
+public class VectorSearchFinder extends RelVisitor {
+
+  private boolean found = false;
+
+  public static boolean isVectorSearch(RelNode relNode) {
+    VectorSearchFinder finder = new VectorSearchFinder();
+    finder.go(relNode);
+    return finder.found;
+  }
+
+  @Override
+  public void visit(RelNode node, int ordinal, RelNode parent) {
+    if (found) {
+      return;
+    }
+    if (node instanceof Sort && node.getInput(0) instanceof Project) {
+      Project project = (Project) node.getInput(0);
+      for (RelFieldCollation collation : ((Sort) node).getCollation().getFieldCollations()) {
+        if (isVectorFunction(project.getProjects().get(collation.getFieldIndex()))) {
+          found = true;
+          return;
+        }
+      }
+    }
+    super.visit(node, ordinal, parent);
+  }
+
+  private static boolean isVectorFunction(RexNode node) {
+    boolean[] result = {false};
+    node.accept(new RexVisitorImpl<Void>(true) {
+      @Override
+      public Void visitCall(RexCall call) {
+        FunctionUtil.getBridgedFunction(call.getOperator())
+            .flatMap(fct -> FunctionUtil.getFunctionMetaData(fct, IndexableFunction.class))
+            .filter(fct -> fct.getSupportedIndexes().stream().anyMatch(IndexType::isVectorIndex))
+            .ifPresent(fct -> result[0] = true);
+        return super.visitCall(call);
+      }
+    });
+    return result[0];
+  }
+}
@@ -0,0 +1,50 @@
+package com.datasqrl.plan.global;
+
+import com.datasqrl.config.PackageJson.CompilerConfig;
+import com.datasqrl.plan.queries.IdentifiedQuery;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The relative frequency with which the API queries are executed, used to weigh the queries when
+ * selecting indexes. Weights are configured per {@code Type.field} in the compiler configuration,
+ * which can be imported from server metrics as a separate configuration file. Each of the
+ * argument variants of a field (with identifiers {@code Type.field-arg1-arg2} for the sorted
+ * argument names) is weighted by the weight of the field unless the variant is configured
+ * explicitly.
+ * Queries that are not part of the profile have a weight of 1.
+ */
+@AllArgsConstructor
+public class WorkloadProfile {
+
+  public static final WorkloadProfile NONE = new WorkloadProfile(Map.of());
+
+  public static final double DEFAULT_WEIGHT = 1.0;
+
+  private static final Pattern VARIANT_SUFFIX = Pattern.compile("-[^.]*$");
+
+  @NonNull
+  private final Map<String, Double> weights;
+
+  public static WorkloadProfile of(CompilerConfig compilerConfig) {
+    return new WorkloadProfile(compilerConfig.getWorkload());
+  }
+
+  public boolean isEmpty() {
+    return weights.isEmpty();
+  }
+
+  public double getWeight(IdentifiedQuery query) {
+    return getWeight(query.getNameId());
+  }
+
+  public double getWeight(String queryId) {
+    Double weight = weights.get(queryId);
+    if (weight == null) {
+      weight = weights.get(VARIANT_SUFFIX.matcher(queryId).replaceFirst(""));
+    }
+    return weight == null ? DEFAULT_WEIGHT : weight;
+  }
+}
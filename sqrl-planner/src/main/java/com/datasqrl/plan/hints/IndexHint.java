@@ -2,8 +2,12 @@ package com.datasqrl.plan.hints;
 
 import com.datasqrl.error.ErrorCollector;
 import com.datasqrl.function.IndexType;
+import com.datasqrl.plan.global.VectorIndexOptions;
 import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.Value;
 
@@ -13,15 +17,20 @@ public class IndexHint implements OptimizerHint {
   public static final String PARTITION_KEY_HINT = "partition_key";
   public static final String INDEX_HINT = "index";
 
-  public static final IndexHint NONE = new IndexHint(null, List.of());
+  public static final IndexHint NONE = new IndexHint(null, List.of(), Map.of());
 
   IndexType indexType;
   List<String> columnNames;
+  /**
+   * Index options given as {@code key=value} arguments, e.g. the build parameters of vector indexes
+   */
+  Map<String, String> options;
 
   public static IndexHint of(String hintName, List<String> arguments, ErrorCollector errors) {
     if (arguments==null || arguments.isEmpty()) return NONE;
     List<String> columnNames;
     IndexType indexType;
+    Map<String, String> options = new LinkedHashMap<>();
     if (hintName.equalsIgnoreCase(PARTITION_KEY_HINT)) {
       indexType = IndexType.PBTREE;
       columnNames = arguments;
@@ -30,12 +39,31 @@ public class IndexHint implements OptimizerHint {
       Optional<IndexType> optIndex = IndexType.fromName(arguments.get(0));
       errors.checkFatal(optIndex.isPresent(), "Unknown index type: %s", arguments.get(0));
       indexType = optIndex.get();
-      columnNames = arguments.subList(1, arguments.size());
+      columnNames = new ArrayList<>();
+      for (String argument : arguments.subList(1, arguments.size())) {
+        int separator = argument.indexOf('=');
+        if (separator < 0) {
+          columnNames.add(argument);
+        } else {
+          options.put(argument.substring(0, separator).trim().toLowerCase().replace('-', '_'),
+              argument.substring(separator + 1).trim());
+        }
+      }
+      if (!options.isEmpty()) {
+        errors.checkFatal(indexType.isVectorIndex(), "Index options are only supported for vector indexes: %s", options);
+        errors.checkFatal(VectorIndexOptions.BUILD_KEYS.containsAll(options.keySet()),
+            "Vector index hint only supports the options %s but got: %s", VectorIndexOptions.BUILD_KEYS, options.keySet());
+        try {
+          VectorIndexOptions.of(options, VectorIndexOptions.DEFAULT);
+        } catch (IllegalArgumentException e) {
+          errors.fatal(e.getMessage());
+        }
+      }
     } else {
       throw new IllegalArgumentException("Unknown hint: " + hintName);
     }
     errors.checkFatal(!columnNames.isEmpty(), "Index hint requires at least one column.");
-    return new IndexHint(indexType, columnNames);
+    return new IndexHint(indexType, columnNames, Map.copyOf(options));
   }
 
   public IndexType getIndexType() {
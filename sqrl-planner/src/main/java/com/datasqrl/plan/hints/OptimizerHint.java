@@ -47,6 +47,13 @@ public interface OptimizerHint {
           optHints.add(new PrimaryKeyHint(options));
         } else if (hintname.equalsIgnoreCase(FilteredDistinctOrderHint.HINT_NAME)) {
           optHints.add(new FilteredDistinctOrderHint());
+        } else if (hintname.equalsIgnoreCase(StateTtlHint.HINT_NAME)) {
+          optHints.add(StateTtlHint.of(hint.getOptionList(), errors));
+        } else if (hintname.equalsIgnoreCase(SkewedKeyHint.HINT_NAME)) {
+          List<String> options = hint.getOptionList();
+          errors.checkFatal(options != null && !options.isEmpty(),
+              "%s hint requires at least one column as argument", SkewedKeyHint.HINT_NAME);
+          optHints.add(new SkewedKeyHint(options));
         } else {
           otherHints.add(hint);
         }
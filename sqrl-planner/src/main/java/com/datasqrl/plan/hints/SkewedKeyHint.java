@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.hints;
+
+import com.datasqrl.error.ErrorCollector;
+import com.datasqrl.plan.rules.SqrlConverterConfig.SqrlConverterConfigBuilder;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.calcite.rel.hint.RelHint;
+
+/**
+ * Marks group-by columns whose values are skewed, i.e. a few keys receive most of the records.
+ * Aggregations on those columns are executed with mini-batches and in two phases (local
+ * pre-aggregation followed by a global aggregation) so a hot key does not bottleneck a single
+ * subtask.
+ */
+@AllArgsConstructor
+@Getter
+public class SkewedKeyHint implements OptimizerHint.ConverterHint, SqrlHint {
+
+  public static final String HINT_NAME = "skewed_key";
+
+  final List<String> columnNames;
+
+  @Override
+  public void add2Config(SqrlConverterConfigBuilder configBuilder, ErrorCollector errors) {
+    errors.checkFatal(!columnNames.isEmpty(), "%s hint requires at least one column as argument",
+        HINT_NAME);
+    configBuilder.skewedKeyNames(columnNames);
+  }
+
+  @Override
+  public RelHint getHint() {
+    return RelHint.builder(getHintName()).hintOptions(columnNames).build();
+  }
+
+  @Override
+  public String getHintName() {
+    return HINT_NAME;
+  }
+
+  public static final Constructor CONSTRUCTOR = new Constructor();
+
+  public static final class Constructor implements SqrlHint.Constructor<SkewedKeyHint> {
+
+    @Override
+    public boolean validName(String name) {
+      return name.equalsIgnoreCase(HINT_NAME);
+    }
+
+    @Override
+    public SkewedKeyHint fromHint(RelHint hint) {
+      return new SkewedKeyHint(hint.listOptions);
+    }
+  }
+
+}
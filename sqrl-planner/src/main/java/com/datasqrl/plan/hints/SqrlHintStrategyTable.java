@@ -27,6 +27,8 @@ public class SqrlHintStrategyTable {
       .hintStrategy(INTERVAL_JOIN.getHintName(), HintPredicates.JOIN)
       .hintStrategy(DedupHint.HINT_NAME, HintPredicates.PROJECT)
       .hintStrategy(TimestampHint.HINT_NAME, HintPredicates.PROJECT)
+      .hintStrategy(StateTtlHint.HINT_NAME, HintPredicates.or(HintPredicates.JOIN, HintPredicates.AGGREGATE))
+      .hintStrategy(SkewedKeyHint.HINT_NAME, HintPredicates.AGGREGATE)
       .build();
 
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.hints;
+
+import com.datasqrl.error.ErrorCollector;
+import com.datasqrl.plan.rules.SqrlConverterConfig.SqrlConverterConfigBuilder;
+import com.google.common.base.Preconditions;
+import java.time.Duration;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.calcite.rel.hint.RelHint;
+import org.apache.flink.util.TimeUtils;
+
+/**
+ * Sets the time-to-live for the state of regular joins and group aggregations, i.e. the operators
+ * that keep state which is never cleaned up otherwise. State that has not been accessed for the
+ * given duration is expired, which bounds the state size at the cost of correctness for records
+ * that arrive after the state of their key has expired.
+ *
+ * The hint is added to the config when parsed from SQL and attached to the joins and aggregations
+ * of the logical plan, from where it is translated to Flink's {@code STATE_TTL} hint.
+ */
+@AllArgsConstructor
+@Getter
+public class StateTtlHint implements OptimizerHint.ConverterHint, SqrlHint {
+
+  public static final String HINT_NAME = "state_ttl";
+
+  final long ttlMillis;
+
+  public static StateTtlHint of(List<String> options, ErrorCollector errors) {
+    errors.checkFatal(options != null && options.size() == 1,
+        "Expected a single duration as option for [%s] hint but found: %s", HINT_NAME, options);
+    Duration ttl;
+    try {
+      ttl = TimeUtils.parseDuration(options.get(0).trim());
+    } catch (IllegalArgumentException e) {
+      throw errors.exception("Invalid duration for [%s] hint: %s", HINT_NAME, e.getMessage());
+    }
+    errors.checkFatal(!ttl.isNegative() && !ttl.isZero(),
+        "Duration for [%s] hint must be positive: %s", HINT_NAME, options.get(0));
+    return new StateTtlHint(ttl.toMillis());
+  }
+
+  @Override
+  public void add2Config(SqrlConverterConfigBuilder configBuilder, ErrorCollector errors) {
+    configBuilder.stateTtlMillis(ttlMillis);
+  }
+
+  @Override
+  public RelHint getHint() {
+    return RelHint.builder(getHintName())
+        .hintOptions(List.of(String.valueOf(ttlMillis))).build();
+  }
+
+  @Override
+  public String getHintName() {
+    return HINT_NAME;
+  }
+
+  public static final Constructor CONSTRUCTOR = new Constructor();
+
+  public static final class Constructor implements SqrlHint.Constructor<StateTtlHint> {
+
+    @Override
+    public boolean validName(String name) {
+      return name.equalsIgnoreCase(HINT_NAME);
+    }
+
+    @Override
+    public StateTtlHint fromHint(RelHint hint) {
+      List<String> options = hint.listOptions;
+      Preconditions.checkArgument(options.size() == 1, "Invalid hint: %s", hint);
+      return new StateTtlHint(Long.parseLong(options.get(0)));
+    }
+  }
+
+}
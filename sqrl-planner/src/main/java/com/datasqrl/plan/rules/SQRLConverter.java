@@ -12,10 +12,12 @@ import com.datasqrl.plan.table.ProxyImportRelationalTable;
 import com.datasqrl.plan.table.PullupOperator;
 import com.datasqrl.plan.table.PullupOperator.Container;
 import com.datasqrl.plan.table.QueryRelationalTable;
+import com.datasqrl.plan.util.RelClusterCopier;
 import com.datasqrl.plan.util.SelectIndexMap;
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
@@ -65,6 +67,22 @@ public class SQRLConverter {
   }
 
   public TablePlan convert(PhysicalTable table, SqrlConverterConfig config, ErrorCollector errors) {
+    return convert(table, config, errors, UnaryOperator.identity());
+  }
+
+  /**
+   * Converts the table like {@link #convert(PhysicalTable, SqrlConverterConfig, ErrorCollector)}
+   * but copies the table's query into the cluster of this converter's relbuilder first, so that
+   * converters with separate clusters can convert tables concurrently.
+   * The table must be {@link #isCopyable(PhysicalTable)}.
+   */
+  public TablePlan convertCopy(PhysicalTable table, SqrlConverterConfig config, ErrorCollector errors) {
+    return convert(table, config, errors,
+        relNode -> RelClusterCopier.copy(relNode, relBuilder.getCluster()));
+  }
+
+  private TablePlan convert(PhysicalTable table, SqrlConverterConfig config, ErrorCollector errors,
+      UnaryOperator<RelNode> prepareQuery) {
     RelBuilder builder;
     ExecutionAnalysis exec = ExecutionAnalysis.of(config.getStage());
     PhysicalRelationalTable physicalTable;
@@ -74,9 +92,8 @@ public class SQRLConverter {
       physicalTable = (PhysicalRelationalTable)table;
       builder = relBuilder.scan(((ProxyImportRelationalTable)table).getBaseTable().getNameId());
     } else { //either QueryRelationalTable or QueryTableFunction
-      QueryRelationalTable queryTable = (table instanceof QueryTableFunction)
-          ?((QueryTableFunction)table).getQueryTable():(QueryRelationalTable) table;
-      AnnotatedLP alp = convert(queryTable.getOriginalRelnode(), config, errors);
+      QueryRelationalTable queryTable = getQueryTable(table);
+      AnnotatedLP alp = convert(prepareQuery.apply(queryTable.getOriginalRelnode()), config, errors);
       builder = relBuilder.push(alp.getRelNode());
       physicalTable = queryTable;
       pullups = alp.getPullups();
@@ -96,6 +113,21 @@ public class SQRLConverter {
     return new TablePlan(builder.build(), pullups);
   }
 
+  /**
+   * @return true if the table can be converted by a converter whose relbuilder has a different
+   * cluster than the one the table was planned in, i.e. if the table's query can be copied
+   * with {@link RelClusterCopier}.
+   */
+  public static boolean isCopyable(PhysicalTable table) {
+    return table instanceof ProxyImportRelationalTable
+        || RelClusterCopier.isSupported(getQueryTable(table).getOriginalRelnode());
+  }
+
+  private static QueryRelationalTable getQueryTable(PhysicalTable table) {
+    return (table instanceof QueryTableFunction)
+        ?((QueryTableFunction)table).getQueryTable():(QueryRelationalTable) table;
+  }
+
   public static final int DEFAULT_SLIDING_WINDOW_PANES = 50;
 
 }
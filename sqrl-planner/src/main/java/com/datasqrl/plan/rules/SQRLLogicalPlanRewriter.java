@@ -826,6 +826,9 @@ public class SQRLLogicalPlanRewriter extends AbstractSqrlRelShuttle<AnnotatedLP>
     //Default joins without primary key constraints or interval bounds can be expensive, so we create a hint for the cost model
     new JoinCostHint(leftInputF.type, rightInputF.type, eqDecomp.getEqualities().size(), singletonSide).addTo(
         relB);
+    if (config.hasStateTtl() && (leftInputF.type != TableType.STATIC || rightInputF.type != TableType.STATIC)) {
+      new StateTtlHint(config.getStateTtlMillis()).addTo(relB);
+    }
 
     //Determine timestamps for each side and add the max of those two as the resulting timestamp
     Timestamps.TimestampsBuilder joinTimestamp = Timestamps.build(Timestamps.Type.AND);
@@ -1197,6 +1200,26 @@ public class SQRLLogicalPlanRewriter extends AbstractSqrlRelShuttle<AnnotatedLP>
 
 
     relB.aggregate(relB.groupKey(Ints.toArray(groupByIdx)), aggregateCalls);
+    if (config.hasStateTtl() && resultType != TableType.STATIC) {
+      new StateTtlHint(config.getStateTtlMillis()).addTo(relB);
+    }
+    if (config.getSkewedKeyNames() != null && resultType != TableType.STATIC) {
+      RelNode inputRel = input.relNode;
+      Set<String> groupByNames = groupByIdx.stream()
+          .map(idx -> rexUtil.getFieldName(idx, inputRel).toLowerCase())
+          .collect(Collectors.toSet());
+      List<String> skewedKeys = new ArrayList<>();
+      for (String name : config.getSkewedKeyNames()) {
+        if (groupByNames.contains(name.toLowerCase())) {
+          skewedKeys.add(name);
+        } else {
+          errors.warn("Skewed key [%s] is not a group-by column of the aggregation", name);
+        }
+      }
+      if (!skewedKeys.isEmpty()) {
+        new SkewedKeyHint(skewedKeys).addTo(relB);
+      }
+    }
     PkAndSelect pkSelect = aggregatePkAndSelect(groupByIdx, selectLength);
     return AnnotatedLP.build(relB.build(), resultType, pkSelect.pk,
         resultTimestamp, pkSelect.select, input).build();
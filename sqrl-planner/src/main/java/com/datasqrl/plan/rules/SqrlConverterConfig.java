@@ -61,6 +61,22 @@ public class SqrlConverterConfig {
   @Builder.Default
   boolean filterDistinctOrder = false;
 
+  /**
+   * The time-to-live in milliseconds for the state of regular joins and group aggregations
+   * or 0 if state is kept indefinitely.
+   */
+  @Builder.Default
+  long stateTtlMillis = 0;
+
+  /**
+   * The group-by columns with skewed values for which aggregations are executed in two phases
+   */
+  List<String> skewedKeyNames;
+
+  public boolean hasStateTtl() {
+    return stateTtlMillis > 0;
+  }
+
   public SqrlConverterConfig withStage(ExecutionStage stage) {
     return toBuilder().stage(stage).build();
   }
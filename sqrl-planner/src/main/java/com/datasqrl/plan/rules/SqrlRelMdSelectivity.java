@@ -26,9 +26,13 @@ public class SqrlRelMdSelectivity extends RelMdSelectivity
 
   public static Double getSelectivity(ScriptRelationalTable table,
                                       QueryIndexSummary constraints) {
-    //TODO: use actual selectivity statistics from table
     double selectivity = 1.0d;
-    selectivity *= Math.pow(0.05,constraints.getEqualityColumns().size());
+    //Use the number of distinct values of a column for equality constraints where known
+    for (int colIndex : constraints.getEqualityColumns()) {
+      String columnName = table.getRowType().getFieldList().get(colIndex).getName();
+      selectivity *= table.getTableStatistic().getDistinctCount(columnName)
+          .map(distinct -> 1.0 / distinct).orElse(0.05);
+    }
     selectivity *= Math.pow(0.5,constraints.getInequalityColumns().size());
     for (IndexableFunctionCall fcall : constraints.getFunctionCalls()) {
       selectivity *= fcall.getFunction().estimateSelectivity();
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.rules;
+
+import com.datasqrl.engine.database.AnalyticDatabaseEngine;
+import com.datasqrl.engine.pipeline.ExecutionStage;
+import com.datasqrl.plan.table.PhysicalRelationalTable;
+import com.datasqrl.plan.table.TableStatistic;
+import com.google.common.base.Preconditions;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.Value;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+
+/**
+ * A cost model that estimates the number of rows that are processed per second based on the
+ * statistics of the source tables and the query rate:
+ * <ul>
+ *   <li>Computing a table or query in the database or server processes all rows of the
+ *   (relational) plan for each query.</li>
+ *   <li>Pre-computing a table in the stream processes the rows of the plan that are affected by each
+ *   update, i.e. the update rate of the input tables multiplied by the number of rows that each
+ *   input row produces in the plan.</li>
+ * </ul>
+ * The relative efficiency of the engines is accounted for with the same factors as
+ * {@link SimpleCostModel}.
+ */
+@Value
+public class StatisticsCostModel implements ComputeCost {
+
+  public static final double DEFAULT_QUERY_RATE = 1.0;
+  public static final double DEFAULT_UPDATE_RATE = 1.0;
+
+  double cost;
+
+  public static StatisticsCostModel of(ExecutionStage executionStage, RelNode relNode,
+      double queryRate) {
+    RelMetadataQuery mq = relNode.getCluster().getMetadataQuery();
+    double processedRows = getProcessedRows(relNode, mq);
+    double cost;
+    switch (executionStage.getEngine().getType()) {
+      case DATABASE:
+        cost = queryRate * processedRows;
+        if (executionStage.getEngine() instanceof AnalyticDatabaseEngine) {
+          cost = cost * 1.3;
+        }
+        break;
+      case STREAMS:
+        double updateRate = getUpdateRate(relNode);
+        if (Double.isNaN(updateRate)) {
+          updateRate = DEFAULT_UPDATE_RATE;
+        }
+        double rowsPerUpdate = Math.max(1.0, processedRows / Math.max(1.0, getInputRows(relNode, mq)));
+        cost = updateRate * rowsPerUpdate;
+        break;
+      case SERVER:
+        cost = queryRate * processedRows * 2;
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported engine type: " + executionStage.getEngine().getType());
+    }
+    return new StatisticsCostModel(cost);
+  }
+
+  @Override
+  public int compareTo(@NonNull ComputeCost o) {
+    Preconditions.checkArgument(o instanceof StatisticsCostModel);
+    return Double.compare(cost, ((StatisticsCostModel) o).cost);
+  }
+
+  /**
+   * @return The sum of the update rates of the tables that are scanned by the given relnode or NaN
+   * if none of them have a known update rate.
+   */
+  public static double getUpdateRate(RelNode relNode) {
+    double[] updateRate = {Double.NaN};
+    forEachScannedTable(relNode, table -> {
+      TableStatistic statistic = table.getTableStatistic();
+      if (statistic.hasUpdateRate()) {
+        updateRate[0] = Double.isNaN(updateRate[0]) ? statistic.getUpdateRate()
+            : updateRate[0] + statistic.getUpdateRate();
+      }
+    });
+    return updateRate[0];
+  }
+
+  private static double getInputRows(RelNode relNode, RelMetadataQuery mq) {
+    double[] rows = {0.0};
+    new RelVisitor() {
+      @Override
+      public void visit(RelNode node, int ordinal, RelNode parent) {
+        if (node instanceof TableScan) {
+          rows[0] += rowCount(node, mq);
+        }
+        super.visit(node, ordinal, parent);
+      }
+    }.go(relNode);
+    return rows[0];
+  }
+
+  /**
+   * The number of rows that are processed by all operators in the plan
+   */
+  private static double getProcessedRows(RelNode relNode, RelMetadataQuery mq) {
+    double[] rows = {0.0};
+    new RelVisitor() {
+      @Override
+      public void visit(RelNode node, int ordinal, RelNode parent) {
+        rows[0] += rowCount(node, mq);
+        super.visit(node, ordinal, parent);
+      }
+    }.go(relNode);
+    return rows[0];
+  }
+
+  private static double rowCount(RelNode node, RelMetadataQuery mq) {
+    Double rowCount = mq.getRowCount(node);
+    return rowCount == null || rowCount.isNaN() ? 1.0 : rowCount;
+  }
+
+  private static void forEachScannedTable(RelNode relNode,
+      Consumer<PhysicalRelationalTable> consumer) {
+    new RelVisitor() {
+      @Override
+      public void visit(RelNode node, int ordinal, RelNode parent) {
+        if (node instanceof TableScan) {
+          PhysicalRelationalTable table = node.getTable().unwrap(PhysicalRelationalTable.class);
+          if (table != null) {
+            consumer.accept(table);
+          }
+        }
+        super.visit(node, ordinal, parent);
+      }
+    }.go(relNode);
+  }
+}
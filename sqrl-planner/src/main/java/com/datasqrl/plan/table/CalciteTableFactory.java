@@ -22,10 +22,11 @@ public class CalciteTableFactory {
 
   private final TableIdFactory tableIdFactory;
   private final TableConverter tableConverter;
+  private final TableStatisticsProvider statisticsProvider;
 
   public CalciteTableFactory(SqrlFramework framework, ModuleLoader moduleLoader) {
     this(new TableIdFactory(framework.getSchema().getTableNameToIdMap()),
-        new TableConverter(framework.getTypeFactory(), framework));
+        new TableConverter(framework.getTypeFactory(), framework), TableStatisticsProvider.NONE);
   }
 
   public ImportedRelationalTableImpl createImportedTable(RelDataType rootType,
@@ -43,10 +44,25 @@ public class CalciteTableFactory {
         timestampIndex.map(Timestamps::ofFixed).orElse(Timestamps.UNDEFINED),
         rootType, tableType, primaryKey,
         importedTable,
-        TableStatistic.of(1000)
+        getStatistic(importedTable, tablePath.getLast())
     );
   }
 
+  /**
+   * The statistics of the statistics provider take precedence over the row count in the table
+   * configuration.
+   */
+  private TableStatistic getStatistic(ImportedRelationalTableImpl importedTable, Name alias) {
+    TableSource tableSource = importedTable.getTableSource();
+    TableStatistic statistic = tableSource.getConfiguration().getBase().getRowCount()
+        .map(TableStatistic::of)
+        .orElse(TableStatistic.of(1000));
+    return statisticsProvider.getStatistic(tableSource.getName())
+        .or(() -> statisticsProvider.getStatistic(alias))
+        .map(statistic::merge)
+        .orElse(statistic);
+  }
+
   public PhysicalRelationalTable createPhysicalRelTable(NamePath tablePath, LPAnalysis analyzedLP) {
     Name tableId = tableIdFactory.createTableId(tablePath.getLast());
     return new QueryRelationalTable(tableId, tablePath, analyzedLP);
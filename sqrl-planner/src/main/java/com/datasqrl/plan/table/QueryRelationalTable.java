@@ -8,6 +8,7 @@ import com.datasqrl.canonicalizer.Name;
 import com.datasqrl.plan.hints.OptimizerHint;
 import com.datasqrl.plan.rules.LPAnalysis;
 import com.datasqrl.plan.rules.SqrlConverterConfig;
+import com.datasqrl.plan.rules.StatisticsCostModel;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,7 +32,8 @@ public class QueryRelationalTable extends PhysicalRelationalTable {
         analyzedLP.getConvertedRelnode().getTimestamp(),
         PrimaryKey.of(analyzedLP.getConvertedRelnode().getPrimaryKey()),
         analyzedLP.getConvertedRelnode().getPullups(),
-        TableStatistic.of(analyzedLP.getConvertedRelnode().estimateRowCount()));
+        TableStatistic.of(analyzedLP.getConvertedRelnode().estimateRowCount(),
+            StatisticsCostModel.getUpdateRate(analyzedLP.getConvertedRelnode().getRelNode())));
     Preconditions.checkArgument(analyzedLP.getConvertedRelnode().select.isIdentity(), "We assume an identity select");
     this.analyzedLP = analyzedLP;
     this.streamRoot = analyzedLP.getConvertedRelnode().getStreamRoot();
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.table;
+
+import com.datasqrl.canonicalizer.Name;
+import com.datasqrl.config.BuildPath;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.inject.Inject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import lombok.AllArgsConstructor;
+
+/**
+ * Reads the table statistics from the {@link #STATISTICS_FILE} in the build directory, which
+ * has the following structure:
+ * <pre>
+ * {
+ *   "queries-per-second": 100,
+ *   "tables": {
+ *     "orders": {
+ *       "row-count": 1000000,
+ *       "update-rate": 20,
+ *       "distinct-counts": { "customerid": 5000, "id": -1 }
+ *     }
+ *   }
+ * }
+ * </pre>
+ * Negative distinct counts are a fraction of the row count (as in Postgres' {@code pg_stats}), so a
+ * snapshot of the statistics of a running database can be used directly.
+ */
+public class StatisticsFileProvider implements TableStatisticsProvider {
+
+  public static final String STATISTICS_FILE = "statistics.json";
+
+  public static final String QUERY_RATE_KEY = "queries-per-second";
+  public static final String TABLES_KEY = "tables";
+  public static final String ROW_COUNT_KEY = "row-count";
+  public static final String UPDATE_RATE_KEY = "update-rate";
+  public static final String DISTINCT_COUNTS_KEY = "distinct-counts";
+
+  /**
+   * The file is read on first access since it is copied to the build directory during
+   * preprocessing
+   */
+  private final Supplier<Statistics> statistics;
+
+  @Inject
+  public StatisticsFileProvider(BuildPath buildPath) {
+    Path file = buildPath.getBuildDir().resolve(STATISTICS_FILE);
+    this.statistics = Suppliers.memoize(() ->
+        Statistics.of(Files.isRegularFile(file) ? readFile(file) : null));
+  }
+
+  private StatisticsFileProvider(Statistics statistics) {
+    this.statistics = () -> statistics;
+  }
+
+  public static StatisticsFileProvider of(JsonNode root) {
+    return new StatisticsFileProvider(Statistics.of(root));
+  }
+
+  @Override
+  public Optional<TableStatistic> getStatistic(Name tableName) {
+    return Optional.ofNullable(statistics.get().tables.get(tableName));
+  }
+
+  @Override
+  public OptionalDouble getQueryRate() {
+    return statistics.get().queryRate;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return statistics.get().tables.isEmpty() && statistics.get().queryRate.isEmpty();
+  }
+
+  @AllArgsConstructor
+  private static class Statistics {
+
+    final Map<Name, TableStatistic> tables;
+    final OptionalDouble queryRate;
+
+    static Statistics of(JsonNode root) {
+      if (root == null) {
+        return new Statistics(Map.of(), OptionalDouble.empty());
+      }
+      return new Statistics(parseTables(root.path(TABLES_KEY)),
+          root.hasNonNull(QUERY_RATE_KEY)
+              ? OptionalDouble.of(nonNegative(root.get(QUERY_RATE_KEY), QUERY_RATE_KEY))
+              : OptionalDouble.empty());
+    }
+  }
+
+  private static JsonNode readFile(Path file) {
+    try {
+      return new ObjectMapper().readTree(file.toFile());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read statistics file: " + file, e);
+    }
+  }
+
+  private static Map<Name, TableStatistic> parseTables(JsonNode tables) {
+    Map<Name, TableStatistic> result = new HashMap<>();
+    Iterator<Entry<String, JsonNode>> fields = tables.fields();
+    while (fields.hasNext()) {
+      Entry<String, JsonNode> table = fields.next();
+      result.put(Name.system(table.getKey()), parseTable(table.getValue()));
+    }
+    return result;
+  }
+
+  private static TableStatistic parseTable(JsonNode table) {
+    //Postgres reports a negative row count for tables that have not been analyzed
+    double rowCount = table.hasNonNull(ROW_COUNT_KEY) && table.get(ROW_COUNT_KEY).asDouble() >= 0
+        ? nonNegative(table.get(ROW_COUNT_KEY), ROW_COUNT_KEY) : Double.NaN;
+    double updateRate = table.hasNonNull(UPDATE_RATE_KEY)
+        ? nonNegative(table.get(UPDATE_RATE_KEY), UPDATE_RATE_KEY) : Double.NaN;
+    Map<String, Double> distinctCounts = new HashMap<>();
+    Iterator<Entry<String, JsonNode>> columns = table.path(DISTINCT_COUNTS_KEY).fields();
+    while (columns.hasNext()) {
+      Entry<String, JsonNode> column = columns.next();
+      double distinct = column.getValue().asDouble();
+      if (distinct < 0) {
+        Preconditions.checkArgument(!Double.isNaN(rowCount) && distinct >= -1,
+            "Fractional distinct count of [%s] requires a row count and must be in [-1,0)",
+            column.getKey());
+        distinct = -distinct * rowCount;
+      }
+      distinctCounts.put(column.getKey().toLowerCase(), Math.max(1.0, distinct));
+    }
+    return new TableStatistic(rowCount, distinctCounts, updateRate);
+  }
+
+  private static double nonNegative(JsonNode value, String key) {
+    Preconditions.checkArgument(value.isNumber() && value.asDouble() >= 0,
+        "Statistic [%s] must be a non-negative number: %s", key, value);
+    return value.asDouble();
+  }
+}
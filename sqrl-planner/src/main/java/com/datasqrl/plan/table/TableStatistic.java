@@ -3,9 +3,13 @@
  */
 package com.datasqrl.plan.table;
 
+import java.util.Map;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 @Value
+@AllArgsConstructor
 public class TableStatistic {
 
   private static final double DEFAULT_ROW_COUNT = 1e15;
@@ -14,11 +18,27 @@ public class TableStatistic {
   public static final double DEFAULT_NESTED_MULTIPLIER = 2.0;
 
   private final double rowCount;
+  /**
+   * The number of distinct values by (lowercase) column name
+   */
+  private final Map<String, Double> distinctCounts;
+  /**
+   * The number of records that are added or updated per second, NaN if unknown
+   */
+  private final double updateRate;
+
+  private TableStatistic(double rowCount) {
+    this(rowCount, Map.of(), Double.NaN);
+  }
 
   public static TableStatistic of(double rowCount) {
     return new TableStatistic(rowCount);
   }
 
+  public static TableStatistic of(double rowCount, double updateRate) {
+    return new TableStatistic(rowCount, Map.of(), updateRate);
+  }
+
   @Override
   public String toString() {
     return "Stats=" + rowCount;
@@ -28,6 +48,23 @@ public class TableStatistic {
     return Double.isNaN(rowCount);
   }
 
+  public boolean hasUpdateRate() {
+    return !Double.isNaN(updateRate);
+  }
+
+  public Optional<Double> getDistinctCount(String columnName) {
+    return Optional.ofNullable(distinctCounts.get(columnName.toLowerCase()));
+  }
+
+  /**
+   * Overwrites the statistics of this table with those that are known in the given statistic
+   */
+  public TableStatistic merge(TableStatistic other) {
+    return new TableStatistic(other.isUnknown() ? rowCount : other.rowCount,
+        other.distinctCounts.isEmpty() ? distinctCounts : other.distinctCounts,
+        other.hasUpdateRate() ? other.updateRate : updateRate);
+  }
+
   public TableStatistic nested() {
     return nested(DEFAULT_NESTED_MULTIPLIER);
   }
@@ -36,7 +73,7 @@ public class TableStatistic {
     if (isUnknown()) {
       return UNKNOWN;
     }
-    return new TableStatistic(rowCount * multiplier);
+    return new TableStatistic(rowCount * multiplier, Map.of(), updateRate * multiplier);
   }
 
   public double getRowCount() {
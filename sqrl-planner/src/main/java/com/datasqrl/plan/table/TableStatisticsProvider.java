@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021, DataSQRL. All rights reserved. Use is subject to license terms.
+ */
+package com.datasqrl.plan.table;
+
+import com.datasqrl.canonicalizer.Name;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Provides statistics about the data in source tables (i.e. row counts, distinct counts and update
+ * rates) and the rate of API queries. Those statistics are used by the planner to estimate the cost
+ * of computing tables and queries in the different stages of the pipeline.
+ */
+public interface TableStatisticsProvider {
+
+  TableStatisticsProvider NONE = new TableStatisticsProvider() {
+    @Override
+    public Optional<TableStatistic> getStatistic(Name tableName) {
+      return Optional.empty();
+    }
+
+    @Override
+    public OptionalDouble getQueryRate() {
+      return OptionalDouble.empty();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return true;
+    }
+  };
+
+  /**
+   * @return the statistic for the source table with the given name, if known
+   */
+  Optional<TableStatistic> getStatistic(Name tableName);
+
+  /**
+   * @return the total number of API queries per second, if known
+   */
+  OptionalDouble getQueryRate();
+
+  /**
+   * @return true if this provider does not provide any statistics
+   */
+  boolean isEmpty();
+
+}
@@ -0,0 +1,204 @@
+package com.datasqrl.plan.util;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.TableFunctionScan;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalCalc;
+import org.apache.calcite.rel.logical.LogicalCorrelate;
+import org.apache.calcite.rel.logical.LogicalExchange;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalIntersect;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.logical.LogicalMatch;
+import org.apache.calcite.rel.logical.LogicalMinus;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.logical.LogicalTableFunctionScan;
+import org.apache.calcite.rel.logical.LogicalTableModify;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.logical.LogicalUnion;
+import org.apache.calcite.rel.logical.LogicalValues;
+import org.apache.calcite.rex.RexUtil.SubQueryFinder;
+import org.apache.calcite.util.Util;
+import org.apache.flink.calcite.shaded.com.google.common.collect.ImmutableList;
+import org.apache.flink.calcite.shaded.com.google.common.collect.ImmutableSet;
+
+/**
+ * Copies a logical plan into another {@link RelOptCluster}, so it can be planned independently of
+ * the cluster it was created in (e.g. on another thread).
+ * The copy shares the tables, types and expressions with the original plan.
+ *
+ * Only the logical operators without sub-queries are supported, use {@link #isSupported(RelNode)}
+ * to check a plan before copying it.
+ */
+@AllArgsConstructor
+public class RelClusterCopier extends RelShuttleImpl {
+
+  private static final Set<Class<? extends RelNode>> SUPPORTED = Set.of(LogicalTableScan.class,
+      LogicalTableFunctionScan.class, LogicalValues.class, LogicalFilter.class,
+      LogicalProject.class, LogicalJoin.class, LogicalCorrelate.class, LogicalAggregate.class,
+      LogicalSort.class, LogicalUnion.class, LogicalIntersect.class, LogicalMinus.class);
+
+  @NonNull
+  private final RelOptCluster cluster;
+
+  public static RelNode copy(RelNode relNode, RelOptCluster cluster) {
+    return relNode.accept(new RelClusterCopier(cluster));
+  }
+
+  public static boolean isSupported(RelNode relNode) {
+    try {
+      new RelVisitor() {
+        @Override
+        public void visit(RelNode node, int ordinal, RelNode parent) {
+          if (!SUPPORTED.contains(node.getClass()) || containsSubQuery(node)) {
+            throw Util.FoundOne.NULL;
+          }
+          super.visit(node, ordinal, parent);
+        }
+      }.go(relNode);
+      return true;
+    } catch (Util.FoundOne e) {
+      return false;
+    }
+  }
+
+  private static boolean containsSubQuery(RelNode node) {
+    if (node instanceof LogicalProject) {
+      return SubQueryFinder.containsSubQuery((LogicalProject) node);
+    } else if (node instanceof LogicalFilter) {
+      return SubQueryFinder.containsSubQuery((LogicalFilter) node);
+    } else if (node instanceof LogicalJoin) {
+      return SubQueryFinder.containsSubQuery((LogicalJoin) node);
+    }
+    return false;
+  }
+
+  private List<RelNode> copyInputs(RelNode node) {
+    return node.getInputs().stream().map(input -> input.accept(this))
+        .collect(Collectors.toList());
+  }
+
+  private RelNode copyInput(RelNode node) {
+    return node.getInput(0).accept(this);
+  }
+
+  @Override
+  public RelNode visit(TableScan scan) {
+    checkSupported(scan);
+    return LogicalTableScan.create(cluster, scan.getTable(), scan.getHints());
+  }
+
+  @Override
+  public RelNode visit(TableFunctionScan scan) {
+    checkSupported(scan);
+    return LogicalTableFunctionScan.create(cluster, copyInputs(scan), scan.getCall(),
+        scan.getElementType(), scan.getRowType(), scan.getColumnMappings());
+  }
+
+  @Override
+  public RelNode visit(LogicalValues values) {
+    return LogicalValues.create(cluster, values.getRowType(), values.getTuples());
+  }
+
+  @Override
+  public RelNode visit(LogicalFilter filter) {
+    return LogicalFilter.create(copyInput(filter), filter.getCondition(),
+        ImmutableSet.copyOf(filter.getVariablesSet()));
+  }
+
+  @Override
+  public RelNode visit(LogicalProject project) {
+    return LogicalProject.create(copyInput(project), project.getHints(), project.getProjects(),
+        project.getRowType());
+  }
+
+  @Override
+  public RelNode visit(LogicalJoin join) {
+    List<RelNode> inputs = copyInputs(join);
+    return LogicalJoin.create(inputs.get(0), inputs.get(1), join.getHints(), join.getCondition(),
+        join.getVariablesSet(), join.getJoinType(), join.isSemiJoinDone(),
+        ImmutableList.copyOf(join.getSystemFieldList()));
+  }
+
+  @Override
+  public RelNode visit(LogicalCorrelate correlate) {
+    List<RelNode> inputs = copyInputs(correlate);
+    return LogicalCorrelate.create(inputs.get(0), inputs.get(1), correlate.getCorrelationId(),
+        correlate.getRequiredColumns(), correlate.getJoinType());
+  }
+
+  @Override
+  public RelNode visit(LogicalAggregate aggregate) {
+    return LogicalAggregate.create(copyInput(aggregate), aggregate.getHints(),
+        aggregate.getGroupSet(), aggregate.getGroupSets(), aggregate.getAggCallList());
+  }
+
+  @Override
+  public RelNode visit(LogicalSort sort) {
+    return LogicalSort.create(copyInput(sort), sort.getCollation(), sort.offset, sort.fetch);
+  }
+
+  @Override
+  public RelNode visit(LogicalUnion union) {
+    return LogicalUnion.create(copyInputs(union), union.all);
+  }
+
+  @Override
+  public RelNode visit(LogicalIntersect intersect) {
+    return LogicalIntersect.create(copyInputs(intersect), intersect.all);
+  }
+
+  @Override
+  public RelNode visit(LogicalMinus minus) {
+    return LogicalMinus.create(copyInputs(minus), minus.all);
+  }
+
+  @Override
+  public RelNode visit(LogicalCalc calc) {
+    return visit((RelNode) calc);
+  }
+
+  @Override
+  public RelNode visit(LogicalMatch match) {
+    return visit((RelNode) match);
+  }
+
+  @Override
+  public RelNode visit(LogicalExchange exchange) {
+    return visit((RelNode) exchange);
+  }
+
+  @Override
+  public RelNode visit(LogicalTableModify modify) {
+    return visit((RelNode) modify);
+  }
+
+  @Override
+  public RelNode visit(RelNode other) {
+    if (other instanceof TableFunctionScan) {
+      return visit((TableFunctionScan) other);
+    }
+    throw unsupported(other);
+  }
+
+  private static void checkSupported(RelNode node) {
+    if (!SUPPORTED.contains(node.getClass())) {
+      throw unsupported(node);
+    }
+  }
+
+  private static UnsupportedOperationException unsupported(RelNode node) {
+    return new UnsupportedOperationException(
+        "Cannot copy relational operator: " + node.getRelTypeName());
+  }
+}
@@ -2,14 +2,22 @@ package org.apache.calcite.rel.rel2sql;
 
 import com.datasqrl.engine.stream.flink.sql.calcite.FlinkDialect;
 import com.datasqrl.engine.stream.flink.sql.model.QueryPipelineItem;
+import com.datasqrl.plan.hints.SqrlHint;
+import com.datasqrl.plan.hints.StateTtlHint;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.CorrelationId;
 import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Join;
 import org.apache.calcite.rel.core.Project;
 import org.apache.calcite.rel.core.Snapshot;
 import org.apache.calcite.rel.core.TableFunctionScan;
@@ -27,15 +35,19 @@ import org.apache.calcite.sql.JoinType;
 import org.apache.calcite.sql.SqlBasicCall;
 import org.apache.calcite.sql.SqlCall;
 import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.SqlHint;
+import org.apache.calcite.sql.SqlHint.HintOptionFormat;
 import org.apache.calcite.sql.SqlIdentifier;
 import org.apache.calcite.sql.SqlJoin;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlLiteral;
 import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
 import org.apache.calcite.sql.SqlSelect;
 import org.apache.calcite.sql.SqlSnapshot;
 import org.apache.calcite.sql.fun.SqlStdOperatorTable;
 import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
 import org.apache.flink.calcite.shaded.com.google.common.collect.ImmutableList;
 import org.apache.flink.table.planner.calcite.FlinkTypeFactory;
 import org.apache.flink.table.planner.calcite.FlinkTypeSystem;
@@ -43,10 +55,17 @@ import org.apache.flink.table.planner.functions.sql.FlinkSqlOperatorTable;
 import org.apache.flink.table.planner.plan.nodes.calcite.LogicalWatermarkAssigner;
 
 @Getter
+@Slf4j
 public class FlinkRelToSqlConverter extends RelToSqlConverter {
 
   private final AtomicInteger uniqueTableId;
   List<QueryPipelineItem> queries = new ArrayList<>();
+  /**
+   * The state ttl of the joins and aggregations that have a {@link StateTtlHint}, keyed by the
+   * sql node they were converted to. The ttl is added as a {@code STATE_TTL} hint to the query
+   * block that contains the node once the statement is complete, see {@link #addStateTtlHints}.
+   */
+  private final Map<SqlNode, Long> stateTtls = new IdentityHashMap<>();
 
   public FlinkRelToSqlConverter(AtomicInteger uniqueTableId) {
     super(FlinkDialect.DEFAULT);
@@ -194,6 +213,112 @@ public class FlinkRelToSqlConverter extends RelToSqlConverter {
     return result(join, leftResult2, rightResult);
   }
 
+  @Override
+  public Result visit(Join e) {
+    Result result = super.visit(e);
+    getStateTtl(e).ifPresent(ttl -> stateTtls.put(result.node, ttl));
+    return result;
+  }
+
+  @Override
+  public Result visit(Aggregate e) {
+    Result result = super.visit(e);
+    getStateTtl(e).ifPresent(ttl -> stateTtls.put(result.node, ttl));
+    return result;
+  }
+
+  private static Optional<Long> getStateTtl(RelNode node) {
+    return SqrlHint.fromRel(node, StateTtlHint.CONSTRUCTOR).map(StateTtlHint::getTtlMillis);
+  }
+
+  /**
+   * Adds a {@code STATE_TTL} hint to all query blocks in the given statement that contain a join
+   * or aggregation with a state ttl. Flink matches the keys of the hint against the inputs of the
+   * joins and the aggregation in the query block, hence the ttl is set for each input by its alias:
+   * all join inputs if the query block joins, otherwise the single input of the aggregation.
+   */
+  public void addStateTtlHints(SqlNode statement) {
+    if (stateTtls.isEmpty()) {
+      return;
+    }
+    statement.accept(new SqlBasicVisitor<Void>() {
+      @Override
+      public Void visit(SqlCall call) {
+        if (call instanceof SqlSelect) {
+          addStateTtlHint((SqlSelect) call);
+        }
+        return super.visit(call);
+      }
+    });
+  }
+
+  private void addStateTtlHint(SqlSelect select) {
+    Long aggregateTtl = stateTtls.remove(select);
+    SqlNode from = select.getFrom();
+    Long ttl;
+    if (from instanceof SqlJoin) {
+      ttl = removeJoinTtl(from);
+      if (aggregateTtl != null) {
+        //The input of an aggregation over a join in the same query block has no alias, so the ttl
+        //only applies to the joins
+        log.warn("Cannot set the state ttl of an aggregation over a join in query block: {}",
+            select);
+      }
+    } else {
+      ttl = aggregateTtl;
+    }
+    if (ttl == null) {
+      return;
+    }
+    List<String> aliases = new ArrayList<>();
+    collectAliases(from, aliases);
+    if (aliases.isEmpty()) {
+      return;
+    }
+    SqlNodeList options = new SqlNodeList(POS);
+    for (String alias : aliases) {
+      options.add(SqlLiteral.createCharString(alias, POS));
+      options.add(SqlLiteral.createCharString(ttl + " ms", POS));
+    }
+    SqlNodeList hints = select.getHints() == null ? new SqlNodeList(POS) : select.getHints();
+    hints.add(new SqlHint(POS, new SqlIdentifier("STATE_TTL", POS), options,
+        HintOptionFormat.KV_LIST));
+    select.setHints(hints);
+  }
+
+  /**
+   * Removes the ttl of the (nested) joins in the from clause of a query block and returns the
+   * largest, since the hint of the query block applies to all of them.
+   */
+  private Long removeJoinTtl(SqlNode from) {
+    if (!(from instanceof SqlJoin)) {
+      return null;
+    }
+    Long ttl = stateTtls.remove(from);
+    for (SqlNode input : List.of(((SqlJoin) from).getLeft(), ((SqlJoin) from).getRight())) {
+      Long inputTtl = removeJoinTtl(input);
+      if (inputTtl != null) {
+        ttl = ttl == null ? inputTtl : Math.max(ttl, inputTtl);
+      }
+    }
+    return ttl;
+  }
+
+  private static void collectAliases(SqlNode from, List<String> aliases) {
+    if (from instanceof SqlJoin) {
+      collectAliases(((SqlJoin) from).getLeft(), aliases);
+      collectAliases(((SqlJoin) from).getRight(), aliases);
+    } else if (from != null && from.getKind() == SqlKind.AS) {
+      SqlNode alias = ((SqlCall) from).operand(1);
+      if (alias instanceof SqlIdentifier) {
+        aliases.add(((SqlIdentifier) alias).getSimple());
+      }
+    } else if (from instanceof SqlIdentifier) {
+      List<String> names = ((SqlIdentifier) from).names;
+      aliases.add(names.get(names.size() - 1));
+    }
+  }
+
   public Result visit(LogicalWatermarkAssigner e) {
     return dispatch(e.getInput());
   }
@@ -23,6 +23,8 @@ import com.datasqrl.module.resolver.FileResourceResolver;
 import com.datasqrl.module.resolver.ResourceResolver;
 import com.datasqrl.plan.MainScript;
 import com.datasqrl.plan.SqrlPlanningTableFactory;
+import com.datasqrl.plan.table.StatisticsFileProvider;
+import com.datasqrl.plan.table.TableStatisticsProvider;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.name.Named;
@@ -61,6 +63,7 @@ public class MockSqrlInjector extends AbstractModule {
     bind(CompilerConfig.class).to(SqrlCompilerConfiguration.class);
     bind(SqrlTableFactory.class).to(SqrlPlanningTableFactory.class);
     bind(RelBuilder.class).to(SqrlRelBuilder.class);
+    bind(TableStatisticsProvider.class).to(StatisticsFileProvider.class);
     bind(ModuleLoader.class).to(ModuleLoaderImpl.class);
   }
 
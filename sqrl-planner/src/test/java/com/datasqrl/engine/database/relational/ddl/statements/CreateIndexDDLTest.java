@@ -0,0 +1,82 @@
+package com.datasqrl.engine.database.relational.ddl.statements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.datasqrl.engine.database.relational.ddl.PostgresDDLFactory;
+import com.datasqrl.function.IndexType;
+import com.datasqrl.plan.global.IndexDefinition;
+import com.datasqrl.plan.global.IndexPredicate;
+import com.datasqrl.plan.global.IndexPredicate.Kind;
+import com.datasqrl.plan.global.VectorIndexOptions;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class CreateIndexDDLTest {
+
+  private static final List<String> FIELDS = List.of("id", "customerid", "status", "total", "time");
+
+  @Test
+  public void testPlainIndex() {
+    IndexDefinition index = new IndexDefinition("orders_1", List.of(1, 4), FIELDS, -1,
+        IndexType.BTREE);
+    assertEquals("CREATE INDEX IF NOT EXISTS orders_1_btree_c1c4 ON orders_1 USING btree "
+        + "(\"customerid\",\"time\");", new PostgresDDLFactory().createIndex(index).getSql());
+  }
+
+  @Test
+  public void testCoveringPartialIndex() {
+    IndexDefinition index = new IndexDefinition("orders_1", List.of(1), FIELDS, -1,
+        IndexType.BTREE, List.of(3, 4),
+        List.of(new IndexPredicate(2, "status", Kind.EQUALS, "won't ship"),
+            new IndexPredicate(3, "total", Kind.EQUALS, new BigDecimal("10.50")),
+            new IndexPredicate(4, "time", Kind.IS_NOT_NULL, null)));
+    assertEquals("orders_1_btree_c1_i3i4_partial", index.getName());
+    assertEquals("CREATE INDEX IF NOT EXISTS orders_1_btree_c1_i3i4_partial ON orders_1 USING btree "
+            + "(\"customerid\") INCLUDE (\"total\",\"time\") WHERE \"status\" = 'won''t ship' "
+            + "AND \"total\" = 10.50 AND \"time\" IS NOT NULL;",
+        new PostgresDDLFactory().createIndex(index).getSql());
+  }
+
+  @Test
+  public void testVectorOperatorClasses() {
+    assertEquals("CREATE INDEX IF NOT EXISTS docs_cos ON docs USING hnsw "
+            + "(\"embedding\" vector_cosine_ops);",
+        new CreateIndexDDL("docs_cos", "docs", List.of("embedding"), IndexType.VEC_COSINE).getSql());
+    assertEquals("CREATE INDEX IF NOT EXISTS docs_l2 ON docs USING hnsw "
+            + "(\"embedding\" vector_l2_ops);",
+        new CreateIndexDDL("docs_l2", "docs", List.of("embedding"), IndexType.VEC_EUCLID).getSql());
+  }
+
+  @Test
+  public void testVectorIndexOptions() {
+    VectorIndexOptions hnsw = VectorIndexOptions.of(
+        Map.of("m", 16, "ef-construction", "64", "ef_search", 100, "lists", 10),
+        VectorIndexOptions.DEFAULT);
+    IndexDefinition index = new IndexDefinition("docs_1", List.of(1), FIELDS, -1,
+        IndexType.VEC_COSINE, List.of(), List.of(), hnsw);
+    assertEquals("CREATE INDEX IF NOT EXISTS docs_1_vec_cosine_c1 ON docs_1 USING hnsw "
+            + "(\"customerid\" vector_cosine_ops) WITH (m = 16, ef_construction = 64);",
+        new PostgresDDLFactory().createIndex(index).getSql());
+    assertEquals(Map.of(VectorIndexOptions.HNSW_EF_SEARCH_SETTING, "100"), hnsw.getQuerySettings());
+
+    VectorIndexOptions ivfflat = VectorIndexOptions.of(Map.of("method", "IVFFlat"), hnsw);
+    assertEquals("CREATE INDEX IF NOT EXISTS docs_l2 ON docs USING ivfflat "
+            + "(\"embedding\" vector_l2_ops) WITH (lists = 10);",
+        new CreateIndexDDL("docs_l2", "docs", List.of("embedding"), IndexType.VEC_EUCLID,
+            List.of(), List.of(), ivfflat).getSql());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> VectorIndexOptions.of(Map.of("m", 0), VectorIndexOptions.DEFAULT));
+    assertThrows(IllegalArgumentException.class,
+        () -> VectorIndexOptions.of(Map.of("method", "diskann"), VectorIndexOptions.DEFAULT));
+  }
+
+  @Test
+  public void testIncludeRequiresBtree() {
+    assertThrows(IllegalArgumentException.class, () -> new CreateIndexDDL("idx", "orders",
+        List.of("customerid"), IndexType.HASH, List.of("total"), List.of()));
+  }
+}
@@ -0,0 +1,57 @@
+package com.datasqrl.engine.database.relational.ddl.statements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datasqrl.engine.database.relational.ddl.statements.partition.CreateTimePartitionsDDL;
+import com.datasqrl.plan.global.TimePartitioning;
+import com.datasqrl.plan.global.TimePartitioning.Interval;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class CreateTimePartitionsDDLTest {
+
+  @Test
+  public void testPartitionedTable() {
+    CreateTableDDL table = new CreateTableDDL("orders_1", List.of("\"id\" BIGINT NOT NULL",
+        "\"time\" TIMESTAMP WITH TIME ZONE NOT NULL"), List.of("\"id\"", "\"time\""),
+        Optional.of("\"time\""));
+    assertEquals("CREATE TABLE IF NOT EXISTS orders_1 (\"id\" BIGINT NOT NULL,"
+        + "\"time\" TIMESTAMP WITH TIME ZONE NOT NULL , PRIMARY KEY (\"id\",\"time\"))"
+        + " PARTITION BY RANGE (\"time\");", table.getSql());
+  }
+
+  @Test
+  public void testPartitions() {
+    TimePartitioning partitioning = TimePartitioning.of(
+        Map.of("interval", "hour", "premake", 2, "retention", 48));
+    String sql = new CreateTimePartitionsDDL("orders_1", "time", partitioning).getSql();
+    assertTrue(sql.startsWith(
+        "CREATE TABLE IF NOT EXISTS \"orders_1_default\" PARTITION OF \"orders_1\" DEFAULT;"));
+    assertTrue(sql.contains("VALUES ('orders_1', 'time', 'hour', 2, 48)"));
+    assertTrue(sql.endsWith("PERFORM sqrl_maintain_partitions(); END $$;"));
+  }
+
+  @Test
+  public void testPartitioningConfig() {
+    TimePartitioning defaults = TimePartitioning.of(Map.of());
+    assertEquals(Interval.DAY, defaults.getInterval());
+    assertEquals(4, defaults.getPremake());
+    assertFalse(defaults.hasRetention());
+
+    TimePartitioning weekly = TimePartitioning.of(Map.of("interval", "WEEK", "retention", "2"));
+    assertEquals(Duration.ofDays(14), weekly.getRetentionDuration());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> TimePartitioning.of(Map.of("interval", "minute")));
+    assertThrows(IllegalArgumentException.class,
+        () -> TimePartitioning.of(Map.of("premake", 0)));
+    assertThrows(IllegalArgumentException.class,
+        () -> TimePartitioning.of(Map.of("retention-days", 5)));
+  }
+}
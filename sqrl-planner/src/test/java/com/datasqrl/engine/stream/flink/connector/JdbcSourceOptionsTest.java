@@ -0,0 +1,85 @@
+package com.datasqrl.engine.stream.flink.connector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datasqrl.config.TableConfig;
+import com.datasqrl.config.TableConfig.ConnectorConfig;
+import com.datasqrl.config.TableConfig.TableTableConfig;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelDataTypeSystem;
+import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.Test;
+
+class JdbcSourceOptionsTest {
+
+  private final RelDataTypeFactory typeFactory = new SqlTypeFactoryImpl(RelDataTypeSystem.DEFAULT);
+  private final RelDataType rowType = typeFactory.builder()
+      .add("id", SqlTypeName.BIGINT)
+      .add("name", SqlTypeName.VARCHAR)
+      .build();
+
+  private TableConfig tableConfig(Map<String, Object> connector, List<String> primaryKey,
+      Optional<Long> rowCount, Optional<List<Long>> range) {
+    ConnectorConfig connectorConfig = mock(ConnectorConfig.class);
+    when(connectorConfig.toMap()).thenReturn(connector);
+    TableTableConfig base = mock(TableTableConfig.class);
+    when(base.getRowCount()).thenReturn(rowCount);
+    when(base.getPrimaryKeyRange()).thenReturn(range);
+    TableConfig config = mock(TableConfig.class);
+    when(config.getConnectorConfig()).thenReturn(connectorConfig);
+    when(config.getBase()).thenReturn(base);
+    when(config.getPrimaryKeyConstraint()).thenReturn(primaryKey);
+    return config;
+  }
+
+  @Test
+  void partitionsScanByPrimaryKeyRange() {
+    Map<String, Object> options = JdbcSourceOptions.of(tableConfig(
+        Map.of("connector", "jdbc-sqrl"), List.of("id"), Optional.of(2_000_000L),
+        Optional.of(List.of(1L, 4_000_000L))), rowType);
+
+    assertEquals("id", options.get(JdbcSourceOptions.SCAN_PARTITION_COLUMN));
+    assertEquals(4, options.get(JdbcSourceOptions.SCAN_PARTITION_NUM));
+    assertEquals(1L, options.get(JdbcSourceOptions.SCAN_PARTITION_LOWER_BOUND));
+    assertEquals(4_000_000L, options.get(JdbcSourceOptions.SCAN_PARTITION_UPPER_BOUND));
+    assertEquals("PARTIAL", options.get(JdbcSourceOptions.LOOKUP_CACHE));
+    assertEquals(JdbcSourceOptions.MAX_LOOKUP_CACHE_ROWS,
+        options.get(JdbcSourceOptions.LOOKUP_CACHE_MAX_ROWS));
+  }
+
+  @Test
+  void sizesLookupCacheForSmallTables() {
+    Map<String, Object> options = JdbcSourceOptions.of(tableConfig(
+        Map.of("connector", "jdbc-sqrl"), List.of("id"), Optional.empty(),
+        Optional.of(List.of(1L, 1000L))), rowType);
+
+    assertFalse(options.containsKey(JdbcSourceOptions.SCAN_PARTITION_COLUMN));
+    assertEquals(1000L, options.get(JdbcSourceOptions.LOOKUP_CACHE_MAX_ROWS));
+  }
+
+  @Test
+  void keepsConfiguredOptions() {
+    Map<String, Object> options = JdbcSourceOptions.of(tableConfig(
+        Map.of("connector", "jdbc-sqrl", "lookup.cache", "NONE"), List.of("name"),
+        Optional.of(2_000_000L), Optional.of(List.of(1L, 4_000_000L))), rowType);
+
+    assertFalse(options.containsKey(JdbcSourceOptions.SCAN_PARTITION_COLUMN));
+    assertEquals("NONE", options.get(JdbcSourceOptions.LOOKUP_CACHE));
+    assertFalse(options.containsKey(JdbcSourceOptions.LOOKUP_CACHE_MAX_ROWS));
+  }
+
+  @Test
+  void ignoresOtherConnectors() {
+    Map<String, Object> connector = Map.of("connector", "kafka");
+    assertEquals(connector, JdbcSourceOptions.of(tableConfig(connector, List.of("id"),
+        Optional.of(2_000_000L), Optional.of(List.of(1L, 4_000_000L))), rowType));
+  }
+}
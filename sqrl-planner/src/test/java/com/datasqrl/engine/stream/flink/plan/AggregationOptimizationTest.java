@@ -0,0 +1,79 @@
+package com.datasqrl.engine.stream.flink.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datasqrl.engine.stream.flink.plan.AggregationOptimization.Mode;
+import com.datasqrl.io.tables.TableType;
+import com.datasqrl.plan.global.PhysicalDAGPlan.WriteQuery;
+import com.datasqrl.plan.hints.SkewedKeyHint;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.adapter.java.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.tools.RelBuilder;
+import org.junit.jupiter.api.Test;
+
+class AggregationOptimizationTest {
+
+  private final RelBuilder relBuilder = RelFactories.LOGICAL_BUILDER.create(
+      RelOptCluster.create(new HepPlanner(HepProgram.builder().build()),
+          new RexBuilder(new JavaTypeFactoryImpl())), null);
+
+  @Test
+  public void testConfig() {
+    assertEquals(AggregationOptimization.DEFAULT, AggregationOptimization.of(Map.of()));
+    AggregationOptimization optimization = AggregationOptimization.of(
+        Map.of("aggregation-optimization", "auto", "mini-batch-latency", "5 s",
+            "mini-batch-size", 100));
+    assertEquals(Mode.AUTO, optimization.getMode());
+    assertEquals("5 s", optimization.getMiniBatchLatency());
+    assertEquals(100, optimization.getMiniBatchSize());
+    assertThrows(IllegalArgumentException.class,
+        () -> AggregationOptimization.of(Map.of("aggregation-optimization", "always")));
+  }
+
+  @Test
+  public void testSkewedAggregation() {
+    RelNode skewed = aggregate(false, true);
+    assertTrue(AggregationOptimization.DEFAULT.getSettings(queries(aggregate(false, false)))
+        .isEmpty());
+    Map<String, String> settings = AggregationOptimization.DEFAULT.getSettings(queries(skewed));
+    assertEquals("true", settings.get("table.exec.mini-batch.enabled"));
+    assertEquals("1 s", settings.get("table.exec.mini-batch.allow-latency"));
+    assertEquals("TWO_PHASE", settings.get("table.optimizer.agg-phase-strategy"));
+    assertFalse(settings.containsKey("table.optimizer.distinct-agg.split.enabled"));
+    assertTrue(new AggregationOptimization(Mode.NONE, "1 s", 1000)
+        .getSettings(queries(skewed)).isEmpty());
+  }
+
+  @Test
+  public void testAutoDistinctAggregation() {
+    Map<String, String> settings = new AggregationOptimization(Mode.AUTO, "1 s", 1000)
+        .getSettings(queries(aggregate(true, false)));
+    assertEquals("TWO_PHASE", settings.get("table.optimizer.agg-phase-strategy"));
+    assertEquals("true", settings.get("table.optimizer.distinct-agg.split.enabled"));
+  }
+
+  private RelNode aggregate(boolean distinct, boolean skewed) {
+    relBuilder.values(new String[]{"tenantid", "amount"}, 1, 10, 2, 20)
+        .aggregate(relBuilder.groupKey(0),
+            relBuilder.count(distinct, "cnt", relBuilder.field(1)),
+            relBuilder.sum(false, "total", relBuilder.field(1)));
+    if (skewed) {
+      new SkewedKeyHint(List.of("tenantid")).addTo(relBuilder);
+    }
+    return relBuilder.build();
+  }
+
+  private static List<WriteQuery> queries(RelNode relNode) {
+    return List.of(new WriteQuery(null, relNode, relNode, TableType.STATE));
+  }
+}
@@ -1,8 +1,10 @@
 package com.datasqrl.functions.secure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datasqrl.secure.SecureFunctions;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 public class StdSecureLibraryTest {
@@ -17,4 +19,35 @@ public class StdSecureLibraryTest {
     assertEquals(36, SecureFunctions.UUID.eval().length());
   }
 
+  @Test
+  public void testUuidV7() {
+    long before = System.currentTimeMillis();
+    UUID uuid = UUID.fromString(SecureFunctions.UUID_V7.eval());
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+    long millis = uuid.getMostSignificantBits() >>> 16;
+    assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1);
+  }
+
+  @Test
+  public void testUlid() {
+    String ulid = SecureFunctions.ULID.eval();
+    assertEquals(26, ulid.length());
+    assertTrue(ulid.matches("[0-7][0-9A-HJKMNP-TV-Z]{25}"), ulid);
+  }
+
+  @Test
+  public void testTimeOrderedIdsAreIncreasing() {
+    String previousUuid = SecureFunctions.UUID_V7.eval();
+    String previousUlid = SecureFunctions.ULID.eval();
+    for (int i = 0; i < 100_000; i++) {
+      String uuid = SecureFunctions.UUID_V7.eval();
+      String ulid = SecureFunctions.ULID.eval();
+      assertTrue(uuid.compareTo(previousUuid) > 0, uuid);
+      assertTrue(ulid.compareTo(previousUlid) > 0, ulid);
+      previousUuid = uuid;
+      previousUlid = ulid;
+    }
+  }
+
 }
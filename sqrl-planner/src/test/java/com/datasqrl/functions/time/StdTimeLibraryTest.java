@@ -47,6 +47,9 @@ public class StdTimeLibraryTest {
     Assertions.assertEquals(t("2023-03-11T23:59:59.999999999Z"), END_OF_DAY.eval(TIME1, 10L));
     Assertions.assertEquals(t("2023-03-09T02:59:59.999999999Z"), END_OF_DAY.eval(TIME1, 1L, 3L));
     Assertions.assertEquals(t("2023-01-01T01:59:59.999999999Z"), END_OF_DAY.eval(TIME4, 10L, 2L));
+    Assertions.assertEquals(t("1969-12-31T23:59:59.999999999Z"), END_OF_DAY.eval(t("1969-12-31T23:00:00Z")));
+    Assertions.assertEquals(t("1969-12-31T23:59:59.999999999Z"), END_OF_HOUR.eval(t("1969-12-31T23:30:00.5Z"), 2L));
+    Assertions.assertEquals(t("2024-02-29T23:59:59.999999999Z"), END_OF_DAY.eval(t("2024-02-29T12:00:00Z"), 3L));
     Assertions.assertEquals(t("2023-03-12T23:59:59.999999999Z"), END_OF_WEEK.eval(TIME1));
     Assertions.assertEquals(t("2023-03-12T23:59:59.999999999Z"), END_OF_WEEK.eval(TIME2));
     Assertions.assertEquals(t("2023-03-12T23:59:59.999999999Z"), END_OF_WEEK.eval(TIME3));
@@ -76,6 +79,20 @@ public class StdTimeLibraryTest {
     assertEquals(offset, spec.getWindowOffsetMillis());
   }
 
+  @Test
+  public void testIsoTimestampConversion() {
+    Assertions.assertEquals(TIME1, STRING_TO_TIMESTAMP.eval(TIME1_STR));
+    Assertions.assertEquals(TIME1_STR, TIMESTAMP_TO_STRING.eval(TIME1));
+    Assertions.assertEquals("2023-03-12T18:23:34.083Z", TIMESTAMP_TO_STRING.eval(TIME2));
+    Assertions.assertEquals("2023-03-12T18:23:34Z", TIMESTAMP_TO_STRING.eval(TIME2.truncatedTo(ChronoUnit.SECONDS)));
+    Assertions.assertEquals(t("2023-03-08T16:23:34.083704Z"), STRING_TO_TIMESTAMP.eval("2023-03-08T18:23:34.083704+02:00"));
+    Assertions.assertEquals(t("2023-03-08T18:23:00Z"), STRING_TO_TIMESTAMP.eval("2023-03-08 18:23z"));
+    Assertions.assertEquals(t("2023-03-08T18:23:34.1Z"), STRING_TO_TIMESTAMP.eval("2023-03-08t18:23:34.1Z"));
+    Assertions.assertNull(STRING_TO_TIMESTAMP.eval("2023-02-29T18:23:34Z"));
+    Assertions.assertNull(STRING_TO_TIMESTAMP.eval("not a timestamp"));
+    Assertions.assertNull(STRING_TO_TIMESTAMP.eval("2023-03-08 18:23", "yyyy-MM-dd hh:mm:ss"));
+  }
+
   @Test
   @Disabled//utc issue in build runner
   public void testTimeConversion() {
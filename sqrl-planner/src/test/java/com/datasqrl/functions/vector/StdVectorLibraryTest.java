@@ -1,13 +1,32 @@
 package com.datasqrl.functions.vector;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datasqrl.vector.CenterAccumulator;
+import com.datasqrl.vector.EmbeddingBatcher;
+import com.datasqrl.vector.FlinkFloatVectorType;
+import com.datasqrl.vector.FlinkFloatVectorTypeSerializer;
+import com.datasqrl.vector.FlinkQuantizedVectorType;
+import com.datasqrl.vector.FlinkQuantizedVectorTypeSerializer;
 import com.datasqrl.vector.FlinkVectorType;
+import com.datasqrl.vector.FlinkVectorTypeSerializer;
+import com.datasqrl.vector.PostgresVectorObject;
 import com.datasqrl.vector.VectorFunctions;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -86,4 +105,118 @@ public class StdVectorLibraryTest {
   }
 
 
+  @Test
+  public void testFloatAndQuantizedVectors() {
+    FlinkVectorType[] vectors = new FlinkVectorType[VECTORS.length];
+    FlinkFloatVectorType[] floats = new FlinkFloatVectorType[VECTORS.length];
+    FlinkQuantizedVectorType[] quantized = new FlinkQuantizedVectorType[VECTORS.length];
+    for (int i = 0; i < VECTORS.length; i++) {
+      vectors[i] = VectorFunctions.DOUBLE_TO_VECTOR.eval(VECTORS[i]);
+      floats[i] = VectorFunctions.VEC_TO_FLOAT.eval(vectors[i]);
+      quantized[i] = VectorFunctions.QUANTIZE_VECTOR.eval(vectors[i]);
+    }
+    assertArrayEquals(VECTORS[0], VectorFunctions.FLOAT_TO_VECTOR.eval(floats[0]).getValue(), 1e-6);
+    assertArrayEquals(VECTORS[0], VectorFunctions.FLOAT_TO_VECTOR.eval(quantized[0]).getValue(),
+        quantized[0].getScale());
+
+    for (int i = 0; i < VECTORS.length; i++) {
+      for (int j = 0; j < i; j++) {
+        double cosine = VectorFunctions.COSINE_SIMILARITY.eval(vectors[i], vectors[j]);
+        double euclid = VectorFunctions.EUCLIDEAN_DISTANCE.eval(vectors[i], vectors[j]);
+        assertEquals(cosine, VectorFunctions.COSINE_SIMILARITY.eval(floats[i], floats[j]), 1e-6);
+        assertEquals(euclid, VectorFunctions.EUCLIDEAN_DISTANCE.eval(floats[i], floats[j]), 1e-6);
+        assertEquals(1 - cosine, VectorFunctions.COSINE_DISTANCE.eval(floats[i], floats[j]), 1e-6);
+        assertEquals(cosine, VectorFunctions.COSINE_SIMILARITY.eval(quantized[i], quantized[j]),
+            0.01);
+        assertEquals(euclid, VectorFunctions.EUCLIDEAN_DISTANCE.eval(quantized[i], quantized[j]),
+            0.05);
+      }
+    }
+  }
+
+  @Test
+  public void testSerializerRoundTrip() throws IOException {
+    FlinkVectorType vector = VectorFunctions.DOUBLE_TO_VECTOR.eval(VECTORS[0]);
+    FlinkFloatVectorType floats = VectorFunctions.VEC_TO_FLOAT.eval(vector);
+    FlinkQuantizedVectorType quantized = VectorFunctions.QUANTIZE_VECTOR.eval(vector);
+
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    new FlinkVectorTypeSerializer().serialize(vector, out);
+    new FlinkFloatVectorTypeSerializer().serialize(floats, out);
+    new FlinkQuantizedVectorTypeSerializer().serialize(quantized, out);
+
+    DataInputDeserializer in = new DataInputDeserializer(out.getCopyOfBuffer());
+    assertArrayEquals(vector.getValue(),
+        new FlinkVectorTypeSerializer().deserialize(in).getValue());
+    assertArrayEquals(floats.getValue(),
+        new FlinkFloatVectorTypeSerializer().deserialize(in).getValue());
+    FlinkQuantizedVectorType quantizedCopy = new FlinkQuantizedVectorTypeSerializer().deserialize(in);
+    assertArrayEquals(quantized.getValue(), quantizedCopy.getValue());
+    assertEquals(quantized.getScale(), quantizedCopy.getScale());
+
+    DataOutputSerializer copied = new DataOutputSerializer(out.length());
+    new FlinkVectorTypeSerializer().copy(
+        new DataInputDeserializer(out.getCopyOfBuffer()), copied);
+    assertArrayEquals(vector.getValue(), new FlinkVectorTypeSerializer().deserialize(
+        new DataInputDeserializer(copied.getCopyOfBuffer())).getValue());
+  }
+
+  @Test
+  public void testEmbeddingBatcher() throws Exception {
+    List<Integer> batchSizes = new ArrayList<>();
+    EmbeddingBatcher.BatchEmbedding model = texts -> {
+      batchSizes.add(texts.size());
+      return texts.stream().map(text -> new double[]{text.length()}).toArray(double[][]::new);
+    };
+    try (EmbeddingBatcher batcher = new EmbeddingBatcher(model, 4, 1000, 10)) {
+      List<CompletableFuture<double[]>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(batcher.embed("x".repeat(i)));
+      }
+      for (int i = 0; i < 8; i++) {
+        assertEquals(i, results.get(i).get()[0]);
+      }
+      assertEquals(List.of(4, 4), batchSizes);
+      //cached
+      assertEquals(3, batcher.embed("xxx").getNow(null)[0]);
+      //waits at most the max wait time for a partial batch
+      assertEquals(9, batcher.embed("x".repeat(9)).get()[0]);
+      assertEquals(List.of(4, 4, 1), batchSizes);
+    }
+  }
+
+  @Test
+  public void testEmbeddingBatcherClose() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    EmbeddingBatcher.BatchEmbedding model = texts -> {
+      started.countDown();
+      new CountDownLatch(1).await();
+      return new double[0][];
+    };
+    EmbeddingBatcher batcher = new EmbeddingBatcher(model, 1, 0, 0);
+    CompletableFuture<double[]> inFlight = batcher.embed("a");
+    started.await();
+    CompletableFuture<double[]> pending = batcher.embed("b");
+    batcher.close();
+    assertThrows(ExecutionException.class, () -> inFlight.get(10, TimeUnit.SECONDS));
+    assertThrows(ExecutionException.class, () -> pending.get(10, TimeUnit.SECONDS));
+    assertTrue(batcher.embed("c").isCompletedExceptionally());
+  }
+
+  @Test
+  public void testPostgresVectorObject() {
+    PostgresVectorObject vector = new PostgresVectorObject(new double[]{1.5, -2, 0.1});
+    assertEquals("[1.5,-2.0,0.1]", vector.getValue());
+
+    byte[] bytes = new byte[vector.lengthInBytes() + 2];
+    vector.toBytes(bytes, 2);
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, vector.lengthInBytes());
+    assertEquals(3, buffer.getShort());
+    assertEquals(0, buffer.getShort());
+    assertEquals(1.5f, buffer.getFloat());
+    assertEquals(-2f, buffer.getFloat());
+    assertEquals(0.1f, buffer.getFloat());
+    assertEquals(0, buffer.remaining());
+  }
+
 }
@@ -0,0 +1,65 @@
+package com.datasqrl.plan.global;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ParallelPlanningTest {
+
+  private final List<Integer> tasks = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+  @Test
+  public void testResultsInTaskOrder() {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    List<Integer> results = new ParallelPlanning(4).map(tasks, task -> {
+      threads.add(Thread.currentThread().getName());
+      //Finish later tasks first
+      sleep((100 - task) / 10);
+      return task * 2;
+    });
+    assertEquals(tasks.stream().map(task -> task * 2).collect(Collectors.toList()), results);
+    assertFalse(threads.contains(Thread.currentThread().getName()));
+  }
+
+  @Test
+  public void testSequential() {
+    ParallelPlanning sequential = new ParallelPlanning(1);
+    assertFalse(sequential.isParallel(tasks.size()));
+    assertFalse(new ParallelPlanning(4).isParallel(1));
+    assertTrue(new ParallelPlanning(4).isParallel(2));
+    String thread = Thread.currentThread().getName();
+    assertEquals(tasks, sequential.map(tasks, task -> {
+      assertEquals(thread, Thread.currentThread().getName());
+      return task;
+    }));
+  }
+
+  @Test
+  public void testFirstFailureIsThrown() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> new ParallelPlanning(4).map(tasks, task -> {
+          if (task % 10 == 3) {
+            sleep((100 - task) / 10);
+            throw new IllegalArgumentException("task " + task);
+          }
+          return task;
+        }));
+    assertEquals("task 3", exception.getMessage());
+  }
+
+  private static void sleep(int millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
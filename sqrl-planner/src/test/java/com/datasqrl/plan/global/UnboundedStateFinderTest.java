@@ -0,0 +1,85 @@
+package com.datasqrl.plan.global;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datasqrl.io.tables.TableType;
+import com.datasqrl.plan.global.UnboundedStateFinder.UnboundedState;
+import com.datasqrl.plan.hints.JoinCostHint;
+import com.datasqrl.plan.hints.StateTtlHint;
+import com.datasqrl.plan.hints.TumbleAggregationHint;
+import com.datasqrl.plan.rules.JoinAnalysis.Side;
+import java.util.List;
+import org.apache.calcite.adapter.java.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.tools.RelBuilder;
+import org.junit.jupiter.api.Test;
+
+class UnboundedStateFinderTest {
+
+  private final RelBuilder relBuilder = RelFactories.LOGICAL_BUILDER.create(
+      RelOptCluster.create(new HepPlanner(HepProgram.builder().build()),
+          new RexBuilder(new JavaTypeFactoryImpl())), null);
+
+  @Test
+  public void testRegularJoin() {
+    join(TableType.STREAM, TableType.STATE);
+    List<UnboundedState> found = UnboundedStateFinder.find(relBuilder.build());
+    assertEquals(1, found.size(), found::toString);
+    assertEquals("regular join of stream and state", found.get(0).getOperator());
+    //Values have no statistics
+    assertEquals("state grows with every input record", found.get(0).getEstimatedGrowth());
+  }
+
+  @Test
+  public void testStaticJoin() {
+    join(TableType.STATIC, TableType.STATIC);
+    assertTrue(UnboundedStateFinder.find(relBuilder.build()).isEmpty());
+  }
+
+  @Test
+  public void testGroupAggregation() {
+    join(TableType.STATIC, TableType.STATIC);
+    aggregate();
+    List<UnboundedState> found = UnboundedStateFinder.find(relBuilder.build());
+    assertEquals(1, found.size(), found::toString);
+    assertEquals("group aggregation", found.get(0).getOperator());
+    assertTrue(found.get(0).getEstimatedGrowth()
+        .startsWith("state grows with the number of groups"));
+  }
+
+  @Test
+  public void testWindowedAggregation() {
+    relBuilder.values(new String[]{"customerid", "time"}, 1, 10, 2, 20);
+    aggregate();
+    TumbleAggregationHint.instantOf(1).addTo(relBuilder);
+    assertTrue(UnboundedStateFinder.find(relBuilder.build()).isEmpty());
+  }
+
+  @Test
+  public void testStateTtl() {
+    join(TableType.STREAM, TableType.STREAM);
+    new StateTtlHint(60_000).addTo(relBuilder);
+    aggregate();
+    new StateTtlHint(60_000).addTo(relBuilder);
+    assertTrue(UnboundedStateFinder.find(relBuilder.build()).isEmpty());
+  }
+
+  private void join(TableType leftType, TableType rightType) {
+    relBuilder.values(new String[]{"id", "customerid"}, 1, 10, 2, 20)
+        .values(new String[]{"customerid", "amount"}, 10, 5, 20, 7)
+        .join(JoinRelType.INNER, relBuilder.equals(relBuilder.field(2, 0, 1),
+            relBuilder.field(2, 1, 0)));
+    new JoinCostHint(leftType, rightType, 1, Side.NONE).addTo(relBuilder);
+  }
+
+  private void aggregate() {
+    relBuilder.aggregate(relBuilder.groupKey(relBuilder.field("customerid")),
+        relBuilder.count(false, "cnt"));
+  }
+}
@@ -0,0 +1,31 @@
+package com.datasqrl.plan.global;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class WorkloadProfileTest {
+
+  private final WorkloadProfile profile = new WorkloadProfile(
+      Map.of("Query.orders", 500.0, "Query.orders-customerid-limit", 10.0, "Query.customer", 0.0));
+
+  @Test
+  public void testWeights() {
+    assertFalse(profile.isEmpty());
+    assertEquals(500.0, profile.getWeight("Query.orders"));
+    assertEquals(500.0, profile.getWeight("Query.orders-customerid"));
+    assertEquals(10.0, profile.getWeight("Query.orders-customerid-limit"));
+    assertEquals(0.0, profile.getWeight("Query.customer-id"));
+    assertEquals(WorkloadProfile.DEFAULT_WEIGHT, profile.getWeight("Query.products-limit"));
+    assertEquals(WorkloadProfile.DEFAULT_WEIGHT, profile.getWeight("orders$2"));
+  }
+
+  @Test
+  public void testEmptyProfile() {
+    assertTrue(WorkloadProfile.NONE.isEmpty());
+    assertEquals(WorkloadProfile.DEFAULT_WEIGHT, WorkloadProfile.NONE.getWeight("Query.orders-limit"));
+  }
+}
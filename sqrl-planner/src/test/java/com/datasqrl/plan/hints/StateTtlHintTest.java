@@ -0,0 +1,139 @@
+package com.datasqrl.plan.hints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datasqrl.error.CollectedException;
+import com.datasqrl.error.ErrorCollector;
+import com.datasqrl.plan.rules.SqrlConverterConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.calcite.adapter.java.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.rel2sql.FlinkRelToSqlConverter;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.SqlHint;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlSelect;
+import org.apache.calcite.tools.RelBuilder;
+import org.junit.jupiter.api.Test;
+
+class StateTtlHintTest {
+
+  private final RelBuilder relBuilder = RelFactories.LOGICAL_BUILDER.create(
+      RelOptCluster.create(new HepPlanner(HepProgram.builder().build()),
+          new RexBuilder(new JavaTypeFactoryImpl())), null);
+
+  @Test
+  public void testParse() {
+    ErrorCollector errors = ErrorCollector.root();
+    assertEquals(Duration.ofDays(7).toMillis(),
+        StateTtlHint.of(List.of("7 d"), errors).getTtlMillis());
+    assertEquals(Duration.ofHours(12).toMillis(),
+        StateTtlHint.of(List.of(" 12h "), errors).getTtlMillis());
+  }
+
+  @Test
+  public void testInvalid() {
+    assertThrows(CollectedException.class,
+        () -> StateTtlHint.of(List.of("7 fortnights"), ErrorCollector.root()));
+    assertThrows(CollectedException.class,
+        () -> StateTtlHint.of(List.of("0 s"), ErrorCollector.root()));
+    assertThrows(CollectedException.class,
+        () -> StateTtlHint.of(List.of("1 d", "2 d"), ErrorCollector.root()));
+  }
+
+  @Test
+  public void testConfigAndRelHint() {
+    StateTtlHint hint = new StateTtlHint(60_000);
+    SqrlConverterConfig.SqrlConverterConfigBuilder builder = SqrlConverterConfig.builder();
+    hint.add2Config(builder, ErrorCollector.root());
+    SqrlConverterConfig config = builder.build();
+    assertTrue(config.hasStateTtl());
+    assertEquals(60_000, config.getStateTtlMillis());
+    assertEquals(60_000, StateTtlHint.CONSTRUCTOR.fromHint(hint.getHint()).getTtlMillis());
+  }
+
+  @Test
+  public void testJoinSqlHint() {
+    join(60_000L);
+    Map<String, String> options = getStateTtlOptions(relBuilder.build());
+    //One option for each side of the join
+    assertEquals(2, options.size(), options::toString);
+    options.values().forEach(ttl -> assertEquals("60000 ms", ttl));
+  }
+
+  @Test
+  public void testAggregateSqlHint() {
+    relBuilder.values(new String[]{"customerid", "amount"}, 1, 10, 2, 20);
+    aggregate(60_000L);
+    Map<String, String> options = getStateTtlOptions(relBuilder.build());
+    //Only the input of the aggregation
+    assertEquals(1, options.size(), options::toString);
+    assertEquals("60000 ms", options.values().iterator().next());
+  }
+
+  @Test
+  public void testJoinAndAggregateSqlHint() {
+    join(60_000L);
+    aggregate(120_000L);
+    Map<String, String> options = getStateTtlOptions(relBuilder.build());
+    //The ttl of the aggregation cannot be set on the inputs of the join
+    assertEquals(2, options.size(), options::toString);
+    options.values().forEach(ttl -> assertEquals("60000 ms", ttl));
+  }
+
+  @Test
+  public void testNoSqlHint() {
+    join(null);
+    aggregate(null);
+    assertNull(getStateTtlOptions(relBuilder.build()));
+  }
+
+  private void join(Long ttl) {
+    relBuilder.values(new String[]{"id", "customerid"}, 1, 10, 2, 20)
+        .values(new String[]{"customerid", "amount"}, 10, 5, 20, 7)
+        .join(JoinRelType.INNER, relBuilder.equals(relBuilder.field(2, 0, 1),
+            relBuilder.field(2, 1, 0)));
+    if (ttl != null) {
+      new StateTtlHint(ttl).addTo(relBuilder);
+    }
+  }
+
+  private void aggregate(Long ttl) {
+    relBuilder.aggregate(relBuilder.groupKey(relBuilder.field("customerid")),
+        relBuilder.count(false, "cnt"));
+    if (ttl != null) {
+      new StateTtlHint(ttl).addTo(relBuilder);
+    }
+  }
+
+  /**
+   * Converts the plan to SQL and returns the options of the {@code STATE_TTL} hint on the top
+   * query block, or null if it has none.
+   */
+  private static Map<String, String> getStateTtlOptions(RelNode relNode) {
+    FlinkRelToSqlConverter converter = new FlinkRelToSqlConverter(new AtomicInteger());
+    SqlNode statement = converter.visitRoot(relNode).asStatement();
+    converter.addStateTtlHints(statement);
+    SqlNodeList hints = ((SqlSelect) statement).getHints();
+    if (hints == null) {
+      return null;
+    }
+    return hints.getList().stream()
+        .map(SqlHint.class::cast)
+        .filter(hint -> hint.getName().equalsIgnoreCase("STATE_TTL"))
+        .map(SqlHint::getOptionKVPairs)
+        .findFirst().orElse(null);
+  }
+}
@@ -0,0 +1,62 @@
+package com.datasqrl.plan.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datasqrl.canonicalizer.Name;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+class StatisticsFileProviderTest {
+
+  @Test
+  public void testStatistics() {
+    StatisticsFileProvider provider = parse("{\"queries-per-second\": 50, \"tables\": {"
+        + "\"Orders\": {\"row-count\": 10000, \"update-rate\": 2.5, "
+        + "\"distinct-counts\": {\"customerId\": 100, \"id\": -1, \"status\": 0}},"
+        + "\"customer\": {\"row-count\": -1}}}");
+    assertFalse(provider.isEmpty());
+    assertEquals(50.0, provider.getQueryRate().getAsDouble());
+
+    TableStatistic orders = provider.getStatistic(Name.system("orders")).get();
+    assertEquals(10000.0, orders.getRowCount());
+    assertEquals(2.5, orders.getUpdateRate());
+    assertEquals(Optional.of(100.0), orders.getDistinctCount("customerid"));
+    assertEquals(Optional.of(10000.0), orders.getDistinctCount("id"));
+    assertEquals(Optional.of(1.0), orders.getDistinctCount("status"));
+    assertEquals(Optional.empty(), orders.getDistinctCount("time"));
+
+    //Tables that Postgres has not analyzed have an unknown row count
+    TableStatistic customer = provider.getStatistic(Name.system("customer")).get();
+    assertTrue(customer.isUnknown());
+    assertFalse(customer.hasUpdateRate());
+    assertTrue(provider.getStatistic(Name.system("product")).isEmpty());
+  }
+
+  @Test
+  public void testMerge() {
+    TableStatistic configured = TableStatistic.of(1000);
+    TableStatistic merged = configured.merge(parse("{\"tables\": {\"orders\": {\"update-rate\": 4}}}")
+        .getStatistic(Name.system("orders")).get());
+    assertEquals(1000.0, merged.getRowCount());
+    assertEquals(4.0, merged.getUpdateRate());
+  }
+
+  @Test
+  public void testInvalidStatistics() {
+    assertThrows(IllegalArgumentException.class,
+        () -> parse("{\"tables\": {\"orders\": {\"update-rate\": -1}}}"));
+    assertThrows(IllegalArgumentException.class,
+        () -> parse("{\"tables\": {\"orders\": {\"distinct-counts\": {\"id\": -0.5}}}}"));
+    assertTrue(parse("{}").isEmpty());
+  }
+
+  @SneakyThrows
+  private static StatisticsFileProvider parse(String json) {
+    return StatisticsFileProvider.of(new ObjectMapper().readTree(json));
+  }
+}
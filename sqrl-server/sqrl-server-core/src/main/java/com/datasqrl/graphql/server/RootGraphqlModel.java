@@ -5,6 +5,8 @@ package com.datasqrl.graphql.server;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonSubTypes.Type;
@@ -329,6 +331,16 @@ public class RootGraphqlModel {
     String sql;
     @Singular
     List<JdbcParameterHandler> parameters;
+    /**
+     * Session settings (e.g. search parameters of vector indexes) that are set for the
+     * duration of the query
+     */
+    @JsonInclude(Include.NON_EMPTY)
+    Map<String, String> settings = Map.of();
+
+    public JdbcQuery(String sql, List<JdbcParameterHandler> parameters) {
+      this(sql, parameters, Map.of());
+    }
 
     @Override
     public <R, C> R accept(QueryBaseVisitor<R, C> visitor, C context) {
@@ -378,6 +390,12 @@ public class RootGraphqlModel {
     @Singular
     List<JdbcParameterHandler> parameters;
 
+    public PagedJdbcQuery(String sql, List<JdbcParameterHandler> parameters,
+        Map<String, String> settings) {
+      this(sql, parameters);
+      this.settings = settings;
+    }
+
     @Override
     public <R, C> R accept(QueryBaseVisitor<R, C> visitor, C context) {
       return visitor.visitPagedJdbcQuery(this, context);
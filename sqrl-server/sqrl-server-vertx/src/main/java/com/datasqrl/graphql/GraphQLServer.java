@@ -8,6 +8,9 @@ import com.datasqrl.graphql.config.CorsHandlerOptions;
 import com.datasqrl.graphql.config.ServerConfig;
 import com.datasqrl.graphql.server.GraphQLEngineBuilder;
 import com.datasqrl.graphql.server.RootGraphqlModel;
+import com.datasqrl.graphql.server.RootGraphqlModel.ArgumentLookupCoords;
+import com.datasqrl.graphql.server.RootGraphqlModel.ArgumentSet;
+import com.datasqrl.graphql.server.RootGraphqlModel.JdbcQuery;
 import com.datasqrl.graphql.type.SqrlVertxScalars;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -56,6 +59,9 @@ import org.duckdb.DuckDBDriver;
 @Slf4j
 public class GraphQLServer extends AbstractVerticle {
 
+  private static final String PARTITION_MAINTENANCE_FUNCTION = "sqrl_maintain_partitions";
+  private static final long PARTITION_MAINTENANCE_INTERVAL_MS = 15 * 60 * 1000;
+
   private final RootGraphqlModel model;
   private final NameCanonicalizer canonicalizer;
   private final Optional<String> snowflakeUrl;
@@ -217,6 +223,7 @@ public class GraphQLServer extends AbstractVerticle {
     clients.put("postgres", client);
     clients.put("duckdb", getDuckdbSqlClient());
     snowflakeUrl.map(s-> clients.put("snowflake", getSnowflakeClient(s)));
+    schedulePartitionMaintenance(client);
 
     GraphQL graphQL = createGraphQL(clients, startPromise);
 
@@ -318,11 +325,48 @@ public class GraphQLServer extends AbstractVerticle {
   }
 
   private SqlClient getPostgresSqlClient() {
+    if (hasQuerySettings(model)) {
+      //Query settings are applied in a transaction, which requires a (non-pipelined) pool
+      return PgPool.pool(vertx, this.config.getPgConnectOptions(),
+          new PgPoolOptions(this.config.getPoolOptions()));
+    }
     return PgPool.client(vertx, this.config.getPgConnectOptions(),
         new PgPoolOptions(this.config.getPoolOptions())
             .setPipelined(true));
   }
 
+  /**
+   * If the database has time-partitioned tables, their partitions are maintained periodically
+   * (i.e. created ahead of time and dropped after retention) by invoking the maintenance function
+   * that is created with the tables.
+   */
+  private void schedulePartitionMaintenance(SqlClient client) {
+    client.query("SELECT to_regproc('" + PARTITION_MAINTENANCE_FUNCTION + "') IS NOT NULL")
+        .execute()
+        .onFailure(e -> log.warn("Could not check for partitioned tables", e))
+        .onSuccess(rows -> {
+          if (rows.iterator().hasNext() && Boolean.TRUE.equals(rows.iterator().next().getBoolean(0))) {
+            maintainPartitions(client);
+            vertx.setPeriodic(PARTITION_MAINTENANCE_INTERVAL_MS, id -> maintainPartitions(client));
+          }
+        });
+  }
+
+  private void maintainPartitions(SqlClient client) {
+    client.query("SELECT " + PARTITION_MAINTENANCE_FUNCTION + "()")
+        .execute()
+        .onFailure(e -> log.error("Partition maintenance failed", e));
+  }
+
+  private static boolean hasQuerySettings(RootGraphqlModel model) {
+    return model.getCoords() != null && model.getCoords().stream()
+        .filter(ArgumentLookupCoords.class::isInstance)
+        .flatMap(coords -> ((ArgumentLookupCoords) coords).getMatchs().stream())
+        .map(ArgumentSet::getQuery)
+        .anyMatch(query -> query instanceof JdbcQuery
+            && !((JdbcQuery) query).getSettings().isEmpty());
+  }
+
   public GraphQL createGraphQL(Map<String, SqlClient> client, Promise<Void> startPromise) {
     try {
       VertxJdbcClient vertxJdbcClient = new VertxJdbcClient(client);
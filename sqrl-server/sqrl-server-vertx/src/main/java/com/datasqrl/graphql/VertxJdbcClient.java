@@ -13,6 +13,7 @@ import com.datasqrl.graphql.server.RootGraphqlModel.ResolvedJdbcQuery;
 import com.datasqrl.graphql.server.RootGraphqlModel.ResolvedQuery;
 import com.datasqrl.graphql.server.RootGraphqlModel.SnowflakeDbQuery;
 import io.vertx.core.Future;
+import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
@@ -20,8 +21,10 @@ import io.vertx.sqlclient.SqlClient;
 import io.vertx.sqlclient.Tuple;
 import java.util.Map;
 import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.internal.google.api.Page;
 
+@Slf4j
 @Value
 public class VertxJdbcClient implements JdbcClient {
   Map<String, SqlClient> clients;
@@ -77,6 +80,32 @@ public class VertxJdbcClient implements JdbcClient {
     return execute(database, sqlClient.preparedQuery(query), tup);
   }
 
+  /**
+   * Executes the query with the given session settings. The settings are set locally in a
+   * transaction around the query, so they don't leak to other queries on the same connection.
+   * That requires a connection pool, other clients execute the query without the settings.
+   */
+  public Future<RowSet<Row>> execute(String database, String query, Tuple tup,
+      Map<String, String> settings) {
+    if (settings == null || settings.isEmpty()) {
+      return execute(database, query, tup);
+    }
+    SqlClient sqlClient = clients.get(database);
+    if (!(sqlClient instanceof Pool)) {
+      log.warn("Database client for [{}] does not support transactions, ignoring query settings: {}",
+          database, settings);
+      return execute(database, query, tup);
+    }
+    return ((Pool) sqlClient).withTransaction(conn -> {
+      Future<RowSet<Row>> future = Future.succeededFuture();
+      for (Map.Entry<String, String> setting : settings.entrySet()) {
+        future = future.compose(r -> conn.preparedQuery("SELECT set_config($1, $2, true)")
+            .execute(Tuple.of(setting.getKey(), setting.getValue())));
+      }
+      return future.compose(r -> conn.preparedQuery(query).execute(tup));
+    });
+  }
+
   @Value
   public static class PreparedSqrlQueryImpl
       implements PreparedSqrlQuery<PreparedQuery<RowSet<Row>>> {
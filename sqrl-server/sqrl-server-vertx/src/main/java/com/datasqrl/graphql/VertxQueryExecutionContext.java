@@ -25,7 +25,9 @@ import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.SqlClient;
 import io.vertx.sqlclient.Tuple;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -38,6 +40,11 @@ import lombok.Value;
 @Value
 public class VertxQueryExecutionContext implements QueryExecutionContext,
     ParameterHandlerVisitor<Object, QueryExecutionContext> {
+
+  private static final String HNSW_EF_SEARCH = "hnsw.ef_search";
+  //Upper bound of hnsw.ef_search in pgvector
+  private static final int MAX_EF_SEARCH = 1000;
+
   VertxContext context;
   DataFetchingEnvironment environment;
   Set<Argument> arguments;
@@ -56,8 +63,12 @@ public class VertxQueryExecutionContext implements QueryExecutionContext,
     String database = getDatabaseName(pgQuery.getQuery());
 
     PreparedSqrlQueryImpl preparedQueryContainer = (PreparedSqrlQueryImpl) pgQuery.getPreparedQueryContainer();
+    Map<String, String> settings = pgQuery.getQuery().getSettings();
     Future<RowSet<Row>> future;
-    if (preparedQueryContainer == null) {
+    if (settings != null && !settings.isEmpty()) {
+      future = this.context.getSqlClient().execute(database,
+          pgQuery.getQuery().getSql(), Tuple.from(paramObj), settings);
+    } else if (preparedQueryContainer == null) {
       future = this.context.getSqlClient().execute(database,
           pgQuery.getQuery().getSql(), Tuple.from(paramObj));
     } else {
@@ -98,8 +109,11 @@ public class VertxQueryExecutionContext implements QueryExecutionContext,
 
     String database = getDatabaseName(databaseQuery.getQuery());
 
+    Map<String, String> settings = getPagedSettings(databaseQuery.getQuery().getSettings(),
+        limit.map(l -> l + offset.orElse(0)));
+
     Future<RowSet<Row>> future = this.context.getSqlClient().execute(database,
-        query,Tuple.from(paramObj));
+        query, Tuple.from(paramObj), settings);
 
     future
       .map(r -> resultMapper(r, isList))
@@ -112,6 +126,24 @@ public class VertxQueryExecutionContext implements QueryExecutionContext,
     return new CompletableFuture();
   }
 
+  /**
+   * An HNSW index search returns at most ef_search results, so we raise it to the number of
+   * requested results for paged queries.
+   */
+  private static Map<String, String> getPagedSettings(Map<String, String> settings,
+      Optional<Integer> numResults) {
+    if (settings == null || !settings.containsKey(HNSW_EF_SEARCH) || numResults.isEmpty()) {
+      return settings;
+    }
+    int efSearch = Integer.parseInt(settings.get(HNSW_EF_SEARCH));
+    if (efSearch >= numResults.get()) {
+      return settings;
+    }
+    Map<String, String> result = new LinkedHashMap<>(settings);
+    result.put(HNSW_EF_SEARCH, String.valueOf(Math.min(numResults.get(), MAX_EF_SEARCH)));
+    return result;
+  }
+
   private Object resultMapper(RowSet<Row> r, boolean isList) {
     List<JsonObject> o = StreamSupport.stream(r.spliterator(), false)
         .map(Row::toJson)
@@ -1,13 +1,21 @@
 package com.datasqrl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datasqrl.cmd.AssertStatusHook;
 import com.datasqrl.util.SnapshotTest.Snapshot;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -36,6 +44,75 @@ public class DAGPlannerTest extends AbstractAssetSnapshotTest {
     }
   }
 
+  @Test
+  void testJsonExtractSpecialization() throws Exception {
+    AssertStatusHook hook = execute(SCRIPT_DIR, "compile", "jsonExtractSpecializationTest.sqrl",
+        "-t", deployDir.toString());
+    assertFalse(hook.isFailed(), hook.getFailMessage());
+    String flinkPlan = Files.readString(buildDir.resolve("plan").resolve("flink.json"));
+    //Literal field paths are specialized, complex paths are not
+    assertTrue(flinkPlan.contains("`jsonExtractField` AS 'com.datasqrl.json.JsonExtractField'"));
+    assertTrue(flinkPlan.contains("`jsonExtractField`("));
+    assertTrue(flinkPlan.contains("'a', 'b')"));
+    assertTrue(flinkPlan.contains("`jsonExtract`("));
+  }
+
+  @Test
+  void testNoJsonExtractSpecialization() throws Exception {
+    AssertStatusHook hook = execute(SCRIPT_DIR, "compile", "jsonInStreamTest.sqrl",
+        "-t", deployDir.toString());
+    assertFalse(hook.isFailed(), hook.getFailMessage());
+    //The path is not a literal, so the function must not be added
+    assertFalse(Files.readString(buildDir.resolve("plan").resolve("flink.json"))
+        .contains("jsonExtractField"));
+  }
+
+  @Test
+  void testStateTtl() throws Exception {
+    AssertStatusHook hook = execute(SCRIPT_DIR, "compile", "stateTtlTest.sqrl",
+        "-t", deployDir.toString());
+    assertFalse(hook.isFailed(), hook.getFailMessage());
+    String flinkPlan = Files.readString(buildDir.resolve("plan").resolve("flink.json"));
+    //Join, aggregation and the join of the aggregation over a join
+    assertTrue(flinkPlan.contains("STATE_TTL"));
+    assertTrue(flinkPlan.contains("'604800000 ms'"));
+    assertTrue(flinkPlan.contains("'86400000 ms'"));
+    assertTrue(flinkPlan.contains("'43200000 ms'"));
+  }
+
+  @Test
+  void testParallelPlanningIsDeterministic() throws Exception {
+    //Multiple tables and database queries, so tables and index selection are planned in parallel
+    String script = "tableStateJoinTest.sqrl";
+    Map<String, String> sequential = compileAndReadPlans(script, "package.json");
+    Map<String, String> parallel = compileAndReadPlans(script, "package.json",
+        "parallelPlanning.json");
+    assertFalse(sequential.isEmpty());
+    assertEquals(sequential, parallel);
+    //The parallel build must also match the snapshot of the sequential build
+    this.snapshot = Snapshot.of(getDisplayName(SCRIPT_DIR.resolve(script)), getClass());
+    createSnapshot();
+  }
+
+  private Map<String, String> compileAndReadPlans(String script, String... configs)
+      throws IOException {
+    List<String> args = new ArrayList<>(List.of("compile", script, "-t", deployDir.toString()));
+    for (String config : configs) {
+      args.add("-c");
+      args.add(config);
+    }
+    AssertStatusHook hook = execute(SCRIPT_DIR, args);
+    assertFalse(hook.isFailed(), hook.getFailMessage());
+    Map<String, String> plans = new TreeMap<>();
+    plans.put("pipeline_explain.txt", Files.readString(buildDir.resolve("pipeline_explain.txt")));
+    try (Stream<Path> files = Files.list(buildDir.resolve("plan"))) {
+      for (Path file : files.collect(Collectors.toList())) {
+        plans.put(file.getFileName().toString(), Files.readString(file));
+      }
+    }
+    return plans;
+  }
+
   @Override
   public Predicate<Path> getBuildDirFilter() {
     return file -> {
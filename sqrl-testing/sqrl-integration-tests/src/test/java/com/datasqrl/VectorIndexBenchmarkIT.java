@@ -0,0 +1,206 @@
+package com.datasqrl;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datasqrl.engine.database.relational.ddl.statements.CreateIndexDDL;
+import com.datasqrl.function.IndexType;
+import com.datasqrl.plan.global.VectorIndexOptions;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Measures recall and latency of top-k queries against the vector indexes that are generated for
+ * Postgres with different access methods and parameters. Recall is measured against the exact
+ * nearest neighbors on a random data set.
+ */
+@Slf4j
+public class VectorIndexBenchmarkIT {
+
+  private static final int NUM_VECTORS = 20_000;
+  private static final int NUM_QUERIES = 100;
+  private static final int DIMENSIONS = 64;
+  private static final int K = 10;
+
+  private static final PostgreSQLContainer<?> testDatabase =
+      new PostgreSQLContainer<>(DockerImageName.parse("ankane/pgvector:v0.5.0")
+          .asCompatibleSubstituteFor("postgres"))
+          .withDatabaseName("datasqrl")
+          .withUsername("foo")
+          .withPassword("secret");
+
+  private static Connection connection;
+  private static float[][] vectors;
+  private static float[][] queries;
+  private static List<Set<Integer>> exactNeighbors;
+
+  @BeforeAll
+  @SneakyThrows
+  public static void setup() {
+    testDatabase.start();
+    connection = testDatabase.createConnection("");
+    Random random = new Random(42);
+    vectors = randomVectors(random, NUM_VECTORS);
+    queries = randomVectors(random, NUM_QUERIES);
+    exactNeighbors = Arrays.stream(queries).map(VectorIndexBenchmarkIT::exactNeighbors)
+        .collect(Collectors.toList());
+
+    try (Statement stmt = connection.createStatement()) {
+      stmt.execute("CREATE EXTENSION IF NOT EXISTS vector");
+      stmt.execute(String.format("CREATE TABLE docs (\"id\" INTEGER PRIMARY KEY, "
+          + "\"embedding\" vector(%d) NOT NULL)", DIMENSIONS));
+    }
+    connection.setAutoCommit(false);
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO docs VALUES (?, ?::vector)")) {
+      for (int i = 0; i < vectors.length; i++) {
+        insert.setInt(1, i);
+        insert.setString(2, toSql(vectors[i]));
+        insert.addBatch();
+      }
+      insert.executeBatch();
+    }
+    connection.commit();
+  }
+
+  @AfterAll
+  @SneakyThrows
+  public static void tearDown() {
+    if (connection != null) {
+      connection.close();
+    }
+    testDatabase.stop();
+  }
+
+  @Test
+  public void benchmarkHnsw() {
+    VectorIndexOptions options = VectorIndexOptions.of(Map.of("m", 16, "ef_construction", 64),
+        VectorIndexOptions.DEFAULT);
+    createIndex(options);
+    double recall = 0;
+    for (int efSearch : new int[]{10, 40, 100, 200}) {
+      recall = run(options.toBuilder().efSearch(efSearch).build());
+    }
+    assertTrue(recall >= 0.8, "Recall of hnsw index is too low: " + recall);
+  }
+
+  @Test
+  public void benchmarkIvfflat() {
+    VectorIndexOptions options = VectorIndexOptions.of(Map.of("method", "ivfflat", "lists", 100),
+        VectorIndexOptions.DEFAULT);
+    createIndex(options);
+    double recall = 0;
+    for (int probes : new int[]{1, 10, 40, 100}) {
+      recall = run(options.toBuilder().probes(probes).build());
+    }
+    //Probing all lists is an exact search
+    assertTrue(recall >= 0.99, "Recall of ivfflat index is too low: " + recall);
+  }
+
+  @SneakyThrows
+  private void createIndex(VectorIndexOptions options) {
+    CreateIndexDDL ddl = new CreateIndexDDL("docs_embedding", "docs", List.of("embedding"),
+        IndexType.VEC_COSINE, List.of(), List.of(), options);
+    try (Statement stmt = connection.createStatement()) {
+      stmt.execute("DROP INDEX IF EXISTS docs_embedding");
+      long start = System.nanoTime();
+      stmt.execute(ddl.getSql());
+      stmt.execute("ANALYZE docs");
+      connection.commit();
+      log.info("Built index in {} ms: {}", (System.nanoTime() - start) / 1_000_000, ddl.getSql());
+    }
+  }
+
+  /**
+   * Runs all queries with the query settings of the given options like the server does and
+   * returns the average recall
+   */
+  @SneakyThrows
+  private double run(VectorIndexOptions options) {
+    double totalRecall = 0;
+    long[] latencies = new long[NUM_QUERIES];
+    for (int q = 0; q < NUM_QUERIES; q++) {
+      long start = System.nanoTime();
+      for (Map.Entry<String, String> setting : options.getQuerySettings().entrySet()) {
+        try (PreparedStatement set = connection.prepareStatement(
+            "SELECT set_config(?, ?, true)")) {
+          set.setString(1, setting.getKey());
+          set.setString(2, setting.getValue());
+          set.execute();
+        }
+      }
+      Set<Integer> result = new HashSet<>();
+      try (PreparedStatement query = connection.prepareStatement(
+          "SELECT \"id\" FROM docs ORDER BY \"embedding\" <=> ?::vector LIMIT " + K)) {
+        query.setString(1, toSql(queries[q]));
+        try (ResultSet rs = query.executeQuery()) {
+          while (rs.next()) {
+            result.add(rs.getInt(1));
+          }
+        }
+      }
+      connection.commit();
+      latencies[q] = System.nanoTime() - start;
+      result.retainAll(exactNeighbors.get(q));
+      totalRecall += (double) result.size() / K;
+    }
+    Arrays.sort(latencies);
+    double recall = totalRecall / NUM_QUERIES;
+    log.info("{} {}: recall@{}={}, p50={} us, p99={} us", options.getMethod(),
+        options.getQuerySettings(), K, String.format("%.3f", recall),
+        latencies[NUM_QUERIES / 2] / 1000, latencies[NUM_QUERIES * 99 / 100] / 1000);
+    return recall;
+  }
+
+  private static Set<Integer> exactNeighbors(float[] query) {
+    return IntStream.range(0, NUM_VECTORS).boxed()
+        .sorted(Comparator.comparingDouble(i -> cosineDistance(query, vectors[i])))
+        .limit(K).collect(Collectors.toSet());
+  }
+
+  private static double cosineDistance(float[] a, float[] b) {
+    double dot = 0, normA = 0, normB = 0;
+    for (int i = 0; i < a.length; i++) {
+      dot += a[i] * b[i];
+      normA += a[i] * a[i];
+      normB += b[i] * b[i];
+    }
+    return 1 - dot / Math.sqrt(normA * normB);
+  }
+
+  private static float[][] randomVectors(Random random, int count) {
+    float[][] result = new float[count][DIMENSIONS];
+    for (float[] vector : result) {
+      for (int i = 0; i < DIMENSIONS; i++) {
+        vector[i] = (float) random.nextGaussian();
+      }
+    }
+    return result;
+  }
+
+  private static String toSql(float[] vector) {
+    List<String> values = new ArrayList<>(vector.length);
+    for (float v : vector) {
+      values.add(Float.toString(v));
+    }
+    return "[" + String.join(",", values) + "]";
+  }
+}
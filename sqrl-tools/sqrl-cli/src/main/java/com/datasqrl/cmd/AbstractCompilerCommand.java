@@ -8,6 +8,7 @@ import static com.datasqrl.packager.Packager.PACKAGE_JSON;
 
 import com.datasqrl.calcite.type.TypeFactory;
 import com.datasqrl.canonicalizer.NameCanonicalizer;
+import com.datasqrl.compile.CompilationCache;
 import com.datasqrl.compile.CompilationProcess;
 import com.datasqrl.compile.DirectoryManager;
 import com.datasqrl.compile.TestPlan;
@@ -35,9 +36,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.calcite.jdbc.SqrlSchema;
@@ -104,9 +105,21 @@ public abstract class AbstractCompilerCommand extends AbstractCommand {
       return;
     }
 
-    CompilationProcess compilationProcess = injector.getInstance(CompilationProcess.class);
     testsPath.ifPresent(this::validateTestPath);
 
+    CompilationCache cache = injector.getInstance(CompilationCache.class);
+    Optional<String> cacheKey = cache.isEnabled() ? cache.computeKey(testsPath) : Optional.empty();
+    Optional<Map<String, Object>> cachedPlans = cacheKey.flatMap(cache::restore);
+    if (cachedPlans.isPresent()) {
+      log.info("Project is unchanged, using cached plan {}", cacheKey.get());
+      if (isGenerateGraphql()) {
+        cache.getGraphqlSchema(cacheKey.get()).ifPresent(schema -> writeGraphql(schema, root.rootDir));
+      }
+      postprocess(sqrlConfig, packager, getTargetDir(), cachedPlans.get(), snapshotPath, errors);
+      return;
+    }
+
+    CompilationProcess compilationProcess = injector.getInstance(CompilationProcess.class);
     Pair<PhysicalPlan, TestPlan> plan = compilationProcess.executeCompilation(testsPath);
 
     if (errors.hasErrors()) {
@@ -114,10 +127,14 @@ public abstract class AbstractCompilerCommand extends AbstractCommand {
     }
 
     if (isGenerateGraphql()) {
-      addGraphql(plan.getLeft(), root.rootDir);
+      getGraphqlSchema(plan.getLeft()).ifPresent(schema -> writeGraphql(schema, root.rootDir));
     }
 
-    postprocess(sqrlConfig, packager, getTargetDir(), plan.getLeft(), plan.getRight(), snapshotPath, errors);
+    Map<String, Object> plans = packager.writePlans(getTargetDir(), plan.getLeft(), plan.getRight());
+    postprocess(sqrlConfig, packager, getTargetDir(), plans, snapshotPath, errors);
+    if (!errors.hasErrors()) {
+      cacheKey.ifPresent(key -> cache.store(key, getGraphqlSchema(plan.getLeft())));
+    }
   }
 
   private void validateTestPath(Path path) {
@@ -126,10 +143,14 @@ public abstract class AbstractCompilerCommand extends AbstractCommand {
     }
   }
 
+  /**
+   * Creates the deployment artifacts from the serialized plans keyed by stage name. This is called
+   * for compiled and cached plans alike.
+   */
   protected void postprocess(PackageJson sqrlConfig, Packager packager, Path targetDir,
-      PhysicalPlan plan, TestPlan testPlan, Path snapshotPath, ErrorCollector errors) {
+      Map<String, Object> plans, Path snapshotPath, ErrorCollector errors) {
 
-    packager.postprocess(sqrlConfig, root.rootDir, getTargetDir(), plan, testPlan,
+    packager.postprocess(sqrlConfig, root.rootDir, getTargetDir(), plans,
         sqrlConfig.getProfiles());
   }
 
@@ -140,18 +161,16 @@ public abstract class AbstractCompilerCommand extends AbstractCommand {
     return false;
   }
 
-  @SneakyThrows
-  protected void addGraphql(PhysicalPlan plan, Path rootDir) {
-    List<ServerPhysicalPlan> plans = plan.getPlans(ServerPhysicalPlan.class)
-        .collect(Collectors.toList());
-    if (plans.isEmpty()) {
-      return;
-    }
+  protected Optional<String> getGraphqlSchema(PhysicalPlan plan) {
+    return plan.getPlans(ServerPhysicalPlan.class).findFirst()
+        .map(serverPlan -> ((StringSchema) serverPlan.getModel().getSchema()).getSchema());
+  }
 
+  @SneakyThrows
+  protected void writeGraphql(String schema, Path rootDir) {
     Path path = rootDir.resolve(GRAPHQL_NORMALIZED_FILE_NAME);
     Files.deleteIfExists(path);
-    StringSchema stringSchema = (StringSchema)plans.get(0).getModel().getSchema();
-    Files.writeString(path, stringSchema.getSchema(), StandardOpenOption.CREATE);
+    Files.writeString(path, schema, StandardOpenOption.CREATE);
   }
 
   private Path getTargetDir() {
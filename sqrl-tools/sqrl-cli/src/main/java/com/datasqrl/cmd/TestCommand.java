@@ -3,14 +3,13 @@
  */
 package com.datasqrl.cmd;
 
-import com.datasqrl.compile.TestPlan;
 import com.datasqrl.config.PackageJson;
-import com.datasqrl.engine.PhysicalPlan;
 import com.datasqrl.error.ErrorCollector;
 import com.datasqrl.packager.Packager;
 import com.datasqrl.plan.validate.ExecutionGoal;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -41,8 +40,8 @@ public class TestCommand extends AbstractCompilerCommand {
   @SneakyThrows
   @Override
   protected void postprocess(PackageJson sqrlConfig, Packager packager, Path targetDir,
-      PhysicalPlan plan, TestPlan testPlan, Path snapshotPath, ErrorCollector errors) {
-    super.postprocess(sqrlConfig, packager, targetDir, plan, testPlan, snapshotPath, errors);
+      Map<String, Object> plans, Path snapshotPath, ErrorCollector errors) {
+    super.postprocess(sqrlConfig, packager, targetDir, plans, snapshotPath, errors);
   }
 
   @Override
@@ -1,5 +1,7 @@
 package com.datasqrl.config;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 
@@ -26,6 +28,39 @@ public class CompilerConfigImpl implements PackageJson.CompilerConfig {
     return sqrlConfig.hasKey("logger") ? sqrlConfig.asString("logger").get() : "print";
   }
 
+  /**
+   * The workload is nested by type and field name, i.e. {@code "workload": {"Query": {"orders": 100}}},
+   * since the configuration uses "." as the key delimiter.
+   */
+  @Override
+  public Map<String, Double> getWorkload() {
+    Map<String, Double> workload = new LinkedHashMap<>();
+    if (sqrlConfig.hasSubConfig("workload")) {
+      SqrlConfig workloadConfig = sqrlConfig.getSubConfig("workload");
+      for (String type : workloadConfig.getKeys()) {
+        workloadConfig.asMap(type, Double.class).get().forEach((field, weight) -> {
+          sqrlConfig.getErrorCollector().checkFatal(weight >= 0,
+              "Workload weight of [%s.%s] must be non-negative: %s", type, field, weight);
+          workload.put(type + "." + field, weight);
+        });
+      }
+    }
+    return workload;
+  }
+
+  @Override
+  public boolean isCache() {
+    return sqrlConfig.asBool("cache").getOptional().orElse(false);
+  }
+
+  @Override
+  public int getPlanningThreads() {
+    int threads = sqrlConfig.asInt("planningThreads").getOptional().orElse(1);
+    sqrlConfig.getErrorCollector().checkFatal(threads >= 0,
+        "Number of planning threads must be non-negative: %s", threads);
+    return threads;
+  }
+
   public ExplainConfigImpl getExplain() {
     return new ExplainConfigImpl(sqrlConfig.getSubConfig("explain"));
   }
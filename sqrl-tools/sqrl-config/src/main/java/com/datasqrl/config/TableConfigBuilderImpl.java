@@ -46,6 +46,12 @@ public class TableConfigBuilderImpl implements TableConfig.TableConfigBuilder {
     return this;
   }
 
+  public TableConfig.TableConfigBuilder setRowCount(long rowCount) {
+    Preconditions.checkArgument(rowCount >= 0, "Invalid row count: %s", rowCount);
+    getBaseConfig().setProperty(TableTableConfigImpl.ROW_COUNT_KEY, rowCount);
+    return this;
+  }
+
   @Override
   public void setPartitionKey(List<String> partitionKeys) {
     getBaseConfig().setProperty(TableTableConfigImpl.PARTITIONKEY_KEY, partitionKeys);
@@ -14,6 +14,8 @@ public class TableTableConfigImpl implements TableConfig.TableTableConfig {
   public static final String WATERMARK_KEY = "watermark-millis";
   public static String PRIMARYKEY_KEY = "primary-key";
   public static String PARTITIONKEY_KEY = "partition-key";
+  public static final String ROW_COUNT_KEY = "row-count";
+  public static final String PRIMARYKEY_RANGE_KEY = "primary-key-range";
 
   public ExternalDataType getType() {
     return SqrlConfig.getEnum(sqrlConfig.asString(TYPE_KEY), ExternalDataType.class,
@@ -46,4 +48,15 @@ public class TableTableConfigImpl implements TableConfig.TableTableConfig {
     }
     return Optional.of(sqrlConfig.asList(PARTITIONKEY_KEY, String.class).get());
   }
+
+  public Optional<Long> getRowCount() {
+    return sqrlConfig.asLong(ROW_COUNT_KEY).getOptional();
+  }
+
+  public Optional<List<Long>> getPrimaryKeyRange() {
+    return sqrlConfig.asList(PRIMARYKEY_RANGE_KEY, Long.class)
+        .validate(range -> range.size() == 2 && range.get(0) <= range.get(1),
+            "Expected [min, max] range for primary key")
+        .getOptional();
+  }
 }
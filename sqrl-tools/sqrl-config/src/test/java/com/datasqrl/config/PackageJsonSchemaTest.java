@@ -2,11 +2,14 @@ package com.datasqrl.config;
 
 import static com.datasqrl.config.ConfigurationTest.CONFIG_DIR;
 import static com.datasqrl.config.ConfigurationTest.testForErrors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.datasqrl.error.ErrorCollector;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -22,7 +25,8 @@ public class PackageJsonSchemaTest {
       "validDependencies.json",
       "missingProfilesField.json",
       "validPackageWithUrls.json",
-      "onlyVersionFieldExists.json"
+      "onlyVersionFieldExists.json",
+      "validWorkload.json"
   })
   public void testValidConfigFile(String configFileName) {
     ErrorCollector errors = ErrorCollector.root();
@@ -50,4 +54,15 @@ public class PackageJsonSchemaTest {
     testForErrors(errors -> SqrlConfigCommons.fromFilesPackageJson(errors,
         List.of(CONFIG_DIR.resolve(configFileName))));
   }
+
+  @Test
+  public void testWorkload() {
+    PackageJson packageJson = SqrlConfigCommons.fromFilesPackageJson(ErrorCollector.root(),
+        List.of(TEST_CASES.resolve("validWorkload.json")));
+    assertEquals(Map.of("Query.Orders", 5000.0, "Query.Customer", 20.5,
+            "Subscription.OrderUpdates", 0.0),
+        packageJson.getCompilerConfig().getWorkload());
+    assertEquals(Map.of(), SqrlConfigCommons.fromFilesPackageJson(ErrorCollector.root(),
+        List.of(TEST_CASES.resolve("validDependencies.json"))).getCompilerConfig().getWorkload());
+  }
 }
@@ -141,6 +141,8 @@ public class FlexibleSchemaInferencePreprocessor implements DiscoveryPreprocesso
           Map.of("format",reader.get().getFormat(),
               "filename", file.getFileName().toString(),
               "primary-key", primaryKey)));
+      //The number of records in the file is an estimate of the table size for the planner
+      table = table.toBuilder().setRowCount(statistics.get().getCount()).build();
       TableSource tableSource = TableSource.create(table, processorContext.getName().orElse(
           NamePath.ROOT), schemaHolder);
       //6. Write files and add
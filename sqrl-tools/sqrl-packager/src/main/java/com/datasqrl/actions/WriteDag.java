@@ -3,10 +3,14 @@ package com.datasqrl.actions;
 import com.datasqrl.config.BuildPath;
 import com.datasqrl.config.PackageJson.CompilerConfig;
 import com.datasqrl.config.PackageJson.ExplainConfig;
+import com.datasqrl.plan.global.IndexDefinition;
+import com.datasqrl.plan.global.PhysicalDAGPlan;
+import com.datasqrl.plan.global.PhysicalDAGPlan.DatabaseStagePlan;
 import com.datasqrl.plan.global.SqrlDAG;
 import com.datasqrl.plan.global.SqrlDAGExporter;
 import com.datasqrl.plan.global.SqrlDAGExporter.Node;
 import com.datasqrl.serializer.Deserializer;
+import com.datasqrl.util.StreamUtil;
 import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
 import com.google.inject.Inject;
@@ -16,6 +20,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
@@ -28,6 +33,7 @@ public class WriteDag {
   public static final String EXPLAIN_TEXT_FILENAME = "pipeline_explain.txt";
   public static final String EXPLAIN_VISUAL_FILENAME = "pipeline_visual.html";
   public static final String EXPLAIN_JSON_FILENAME = "pipeline_explain.json";
+  public static final String INDEX_SELECTION_FILENAME = "index_selection.txt";
 
   public static final String VISUAL_HTML_FILENAME = "visualize_dag.html";
 
@@ -36,8 +42,9 @@ public class WriteDag {
   private final BuildPath buildDir;
   private final CompilerConfig compilerConfig;
 
-  public void run(SqrlDAG dag) {
+  public void run(SqrlDAG dag, PhysicalDAGPlan dagPlan) {
     writeExplain(dag);
+    writeIndexSelection(dagPlan);
   }
 
   @SneakyThrows
@@ -76,6 +83,36 @@ public class WriteDag {
     }
   }
 
+  /**
+   * Writes the indexes chosen for each database stage together with the expected
+   * (workload weighted) cost reduction of each index.
+   */
+  private void writeIndexSelection(PhysicalDAGPlan dagPlan) {
+    if (!compilerConfig.getExplain().isText()) {
+      return;
+    }
+    StringBuilder report = new StringBuilder();
+    StreamUtil.filterByClass(dagPlan.getStagePlans().stream(), DatabaseStagePlan.class)
+        .forEach(dbPlan -> {
+          report.append("=== ").append(dbPlan.getStage().getName()).append("\n");
+          Map<IndexDefinition, Double> costReductions = dbPlan.getIndexCostReductions();
+          dbPlan.getIndexDefinitions().stream().sorted().forEach(index -> {
+            report.append(index.getName()).append(": ").append(index.getType())
+                .append(" ").append(index.getColumnNames());
+            Double reduction = costReductions.get(index);
+            if (reduction == null) {
+              report.append(" - from hint");
+            } else if (reduction.isNaN() || reduction == 0.0) {
+              report.append(" - heuristic");
+            } else {
+              report.append(String.format(" - cost reduction %.2f", reduction));
+            }
+            report.append("\n");
+          });
+        });
+    writeFile(buildDir.getBuildDir().resolve(INDEX_SELECTION_FILENAME), report.toString());
+  }
+
   @SneakyThrows
   private void writeFile(Path filePath, String content) {
     Files.deleteIfExists(filePath);
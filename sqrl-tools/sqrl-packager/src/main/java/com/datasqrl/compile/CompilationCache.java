@@ -0,0 +1,239 @@
+package com.datasqrl.compile;
+
+import static com.datasqrl.actions.FlinkSqlGenerator.COMPILED_PLAN_JSON;
+import static com.datasqrl.actions.WriteDag.EXPLAIN_JSON_FILENAME;
+import static com.datasqrl.actions.WriteDag.EXPLAIN_TEXT_FILENAME;
+import static com.datasqrl.actions.WriteDag.EXPLAIN_VISUAL_FILENAME;
+import static com.datasqrl.actions.WriteDag.INDEX_SELECTION_FILENAME;
+
+import com.datasqrl.config.BuildPath;
+import com.datasqrl.config.PackageJson;
+import com.datasqrl.plan.validate.ExecutionGoal;
+import com.datasqrl.util.SqrlObjectMapper;
+import com.google.inject.Inject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Content-addressed cache of compilation results in the build directory, so that recompiling an
+ * unchanged project skips planning altogether.
+ * <p>
+ * This is an unchanged-project cache, not an incremental compiler: the key is computed from all
+ * files of the preprocessed build directory (the scripts, the modules and dependencies, the
+ * configuration, GraphQL schema and statistics), the tests and the compiler build. Any change to
+ * those inputs causes a full compilation, even if it only affects a single statement. Statements
+ * are not validated incrementally and the plans of unchanged DAG nodes are not reused, since that
+ * would require serializing the planner state, which is kept in memory.
+ * <p>
+ * An entry stores the serialized physical plans and the compilation artifacts that are written to
+ * the build directory. The most recently used {@link #MAX_ENTRIES} entries are kept.
+ */
+@Slf4j
+@AllArgsConstructor(onConstructor_=@Inject)
+public class CompilationCache {
+
+  public static final String CACHE_DIR = ".sqrl-cache";
+  public static final String PLAN_DIR = "plan";
+  public static final int MAX_ENTRIES = 5;
+
+  private static final String GRAPHQL_SCHEMA_FILE = "schema.graphqls";
+  private static final List<String> ARTIFACTS = List.of(COMPILED_PLAN_JSON,
+      EXPLAIN_TEXT_FILENAME, EXPLAIN_VISUAL_FILENAME, EXPLAIN_JSON_FILENAME,
+      INDEX_SELECTION_FILENAME);
+
+  private final BuildPath buildPath;
+  private final PackageJson config;
+  private final ExecutionGoal goal;
+
+  public boolean isEnabled() {
+    return config.getCompilerConfig().isCache();
+  }
+
+  /**
+   * Computes the cache key of the preprocessed build directory.
+   *
+   * @return the key or empty if the build directory cannot be read or the compiler build cannot be
+   * identified, in which case the project is compiled without the cache
+   */
+  public Optional<String> computeKey(Optional<Path> testsPath) {
+    Optional<String> compilerVersion = getCompilerVersion();
+    if (compilerVersion.isEmpty()) {
+      log.info("Compilation cache is disabled since the compiler build cannot be identified");
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(hash(compilerVersion.get(), testsPath));
+    } catch (Exception e) {
+      log.debug("Could not compute compilation cache key", e);
+      return Optional.empty();
+    }
+  }
+
+  private String hash(String compilerVersion, Optional<Path> testsPath) throws Exception {
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    update(digest, compilerVersion);
+    update(digest, goal.name());
+    hashDirectory(digest, buildPath.getBuildDir());
+    if (testsPath.isPresent()) {
+      hashDirectory(digest, testsPath.get());
+    }
+    return toHex(digest.digest());
+  }
+
+  /**
+   * Identifies the compiler build so that entries of other builds are not reused. A compiler that
+   * is loaded from a jar is identified by its version and the size and modification time of the
+   * jar, since snapshot and development builds don't change the version. Otherwise, only release
+   * versions identify the build.
+   */
+  protected Optional<String> getCompilerVersion() {
+    String version = getClass().getPackage().getImplementationVersion();
+    try {
+      Path location = Path.of(getClass().getProtectionDomain().getCodeSource().getLocation()
+          .toURI());
+      if (Files.isRegularFile(location)) {
+        return Optional.of(version + ":" + location.getFileName() + ":" + Files.size(location)
+            + ":" + Files.getLastModifiedTime(location).toMillis());
+      }
+    } catch (Exception e) {
+      log.debug("Could not locate compiler jar", e);
+    }
+    return Optional.ofNullable(version).filter(v -> !v.endsWith("-SNAPSHOT"));
+  }
+
+  /**
+   * Restores the artifacts of the cache entry to the build directory.
+   *
+   * @return the serialized plans keyed by stage name if the cache contains the key
+   */
+  @SneakyThrows
+  public Optional<Map<String, Object>> restore(String key) {
+    Path entry = getCacheDir().resolve(key);
+    if (!Files.isDirectory(entry)) {
+      return Optional.empty();
+    }
+    Path buildDir = buildPath.getBuildDir();
+    FileUtils.copyDirectory(entry.resolve(PLAN_DIR).toFile(), buildDir.resolve(PLAN_DIR).toFile());
+    for (String artifact : ARTIFACTS) {
+      if (Files.isRegularFile(entry.resolve(artifact))) {
+        Files.copy(entry.resolve(artifact), buildDir.resolve(artifact),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+
+    Map<String, Object> plans = new HashMap<>();
+    try (Stream<Path> files = Files.list(buildDir.resolve(PLAN_DIR))) {
+      for (Path file : files.filter(f -> f.toString().endsWith(".json"))
+          .collect(Collectors.toList())) {
+        String name = file.getFileName().toString();
+        plans.put(name.substring(0, name.length() - ".json".length()),
+            SqrlObjectMapper.INSTANCE.readValue(file.toFile(), Map.class));
+      }
+    }
+    return Optional.of(plans);
+  }
+
+  /**
+   * @return the GraphQL schema that was stored with the cache entry
+   */
+  @SneakyThrows
+  public Optional<String> getGraphqlSchema(String key) {
+    Path schema = getCacheDir().resolve(key).resolve(GRAPHQL_SCHEMA_FILE);
+    return Files.isRegularFile(schema) ? Optional.of(Files.readString(schema)) : Optional.empty();
+  }
+
+  /**
+   * Stores the plans and artifacts in the build directory under the given key and evicts the
+   * least recently used entries.
+   */
+  @SneakyThrows
+  public void store(String key, Optional<String> graphqlSchema) {
+    Path buildDir = buildPath.getBuildDir();
+    if (!Files.isDirectory(buildDir.resolve(PLAN_DIR))) {
+      return;
+    }
+    Path cacheDir = getCacheDir();
+    Files.createDirectories(cacheDir);
+    //Write to a temporary directory first so concurrent builds never read a partial entry
+    Path tmpEntry = Files.createTempDirectory(cacheDir, key);
+    FileUtils.copyDirectory(buildDir.resolve(PLAN_DIR).toFile(), tmpEntry.resolve(PLAN_DIR).toFile());
+    for (String artifact : ARTIFACTS) {
+      if (Files.isRegularFile(buildDir.resolve(artifact))) {
+        Files.copy(buildDir.resolve(artifact), tmpEntry.resolve(artifact));
+      }
+    }
+    if (graphqlSchema.isPresent()) {
+      Files.writeString(tmpEntry.resolve(GRAPHQL_SCHEMA_FILE), graphqlSchema.get());
+    }
+    Path entry = cacheDir.resolve(key);
+    FileUtils.deleteDirectory(entry.toFile());
+    Files.move(tmpEntry, entry, StandardCopyOption.ATOMIC_MOVE);
+    evict(cacheDir);
+  }
+
+  private void evict(Path cacheDir) throws IOException {
+    List<Path> entries;
+    try (Stream<Path> files = Files.list(cacheDir)) {
+      entries = files.filter(Files::isDirectory)
+          .sorted(Comparator.comparing(this::lastModified).reversed())
+          .collect(Collectors.toList());
+    }
+    for (Path entry : entries.subList(Math.min(MAX_ENTRIES, entries.size()), entries.size())) {
+      FileUtils.deleteDirectory(entry.toFile());
+    }
+  }
+
+  @SneakyThrows
+  private FileTime lastModified(Path path) {
+    return Files.getLastModifiedTime(path);
+  }
+
+  private Path getCacheDir() {
+    return buildPath.getBuildDir().resolve(CACHE_DIR);
+  }
+
+  private void hashDirectory(MessageDigest digest, Path dir) throws IOException {
+    Path cacheDir = getCacheDir();
+    List<Path> files;
+    try (Stream<Path> stream = Files.walk(dir)) {
+      files = stream.filter(Files::isRegularFile)
+          .filter(file -> !file.startsWith(cacheDir))
+          .sorted().collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      update(digest, dir.relativize(file).toString());
+      digest.update(Files.readAllBytes(file));
+    }
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    //Separator so that concatenated values are unambiguous
+    digest.update((byte) 0);
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder();
+    for (byte b : bytes) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+}
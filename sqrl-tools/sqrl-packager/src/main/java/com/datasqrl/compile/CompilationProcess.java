@@ -74,7 +74,7 @@ public class CompilationProcess {
     } else {
       testPlan = null;
     }
-    writeDeploymentArtifactsHook.run(dag);
+    writeDeploymentArtifactsHook.run(dag, dagPlan);
     return Pair.of(physicalPlan, testPlan);
   }
 
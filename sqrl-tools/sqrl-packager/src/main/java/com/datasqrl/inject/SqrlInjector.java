@@ -35,6 +35,7 @@ import com.datasqrl.packager.preprocess.FlinkSqlPreprocessor;
 import com.datasqrl.packager.preprocess.JarPreprocessor;
 import com.datasqrl.packager.preprocess.Preprocessor;
 import com.datasqrl.packager.preprocess.ScriptPreprocessor;
+import com.datasqrl.packager.preprocess.StatisticsPreprocessor;
 import com.datasqrl.packager.preprocess.TablePreprocessor;
 import com.datasqrl.packager.repository.Repository;
 import com.datasqrl.plan.CreateTableResolver;
@@ -42,6 +43,8 @@ import com.datasqrl.plan.CreateTableResolverImpl;
 import com.datasqrl.plan.MainScript;
 import com.datasqrl.plan.SqrlPlanningTableFactory;
 import com.datasqrl.plan.validate.ExecutionGoal;
+import com.datasqrl.plan.table.StatisticsFileProvider;
+import com.datasqrl.plan.table.TableStatisticsProvider;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
@@ -83,6 +86,7 @@ public class SqrlInjector extends AbstractModule {
     bind(CompilerConfig.class).to(SqrlCompilerConfiguration.class);
     bind(SqrlTableFactory.class).to(SqrlPlanningTableFactory.class);
     bind(RelBuilder.class).to(SqrlRelBuilder.class);
+    bind(TableStatisticsProvider.class).to(StatisticsFileProvider.class);
     bind(TableConfigLoader.class).to(TableConfigLoaderImpl.class);
     bind(ConnectorFactoryFactory.class).to(ConnectorFactoryFactoryImpl.class);
     bind(CreateTableResolver.class).to(CreateTableResolverImpl.class);
@@ -98,6 +102,7 @@ public class SqrlInjector extends AbstractModule {
     binder.addBinding().to(FlexibleSchemaPreprocessor.class);
     binder.addBinding().to(AvroSchemaPreprocessor.class);
     binder.addBinding().to(FlexibleSchemaInferencePreprocessor.class);
+    binder.addBinding().to(StatisticsPreprocessor.class);
   }
 
   @Provides
@@ -5,6 +5,7 @@ package com.datasqrl.packager;
 
 import com.datasqrl.canonicalizer.NamePath;
 import com.datasqrl.cmd.PackageBootstrap;
+import com.datasqrl.compile.CompilationCache;
 import com.datasqrl.compile.TestPlan;
 import com.datasqrl.config.BuildPath;
 import com.datasqrl.config.DependenciesConfigImpl;
@@ -232,7 +233,10 @@ public class Packager {
 
   public static void cleanBuildDir(Path buildDir) throws IOException {
     if (Files.exists(buildDir) && Files.isDirectory(buildDir)) {
+      Path cacheDir = buildDir.resolve(CompilationCache.CACHE_DIR);
       Files.walk(buildDir)
+          //The compilation cache is kept across builds
+          .filter(path -> !path.startsWith(cacheDir) && !path.equals(buildDir))
           // Sort the paths in reverse order so that directories are deleted last
           .sorted(Comparator.reverseOrder())
           .map(Path::toFile)
@@ -295,10 +299,14 @@ public class Packager {
     return targetPath;
   }
 
+  /**
+   * Writes the plans of all stages and the test plan to the build directory.
+   *
+   * @return the serialized plans keyed by stage name
+   */
   @SneakyThrows
-  public void postprocess(PackageJson sqrlConfig, Path rootDir, Path targetDir, PhysicalPlan plan,
-      TestPlan testPlan, List<String> profiles) {
-    Path planDir = buildDir.getBuildDir().resolve("plan");
+  public Map<String, Object> writePlans(Path targetDir, PhysicalPlan plan, TestPlan testPlan) {
+    Path planDir = buildDir.getBuildDir().resolve(CompilationCache.PLAN_DIR);
 
     Map<String, Object> plans = new HashMap<>();
     // We'll write a single asset for each folder in the physical plan stage
@@ -315,7 +323,16 @@ public class Packager {
       Map map = SqrlObjectMapper.INSTANCE.readValue(path.toFile(), Map.class);
       plans.put("test", map);
     }
+    return plans;
+  }
 
+  /**
+   * Creates the deployment artifacts from the serialized plans, keyed by stage name, that have
+   * been written to the build directory.
+   */
+  @SneakyThrows
+  public void postprocess(PackageJson sqrlConfig, Path rootDir, Path targetDir,
+      Map<String, Object> plans, List<String> profiles) {
     // Copy profiles
     Collections.reverse(profiles); //Reversing profiles so last one wins
     for (String profile : profiles) {
@@ -323,7 +340,7 @@ public class Packager {
           ? rootDir.resolve(profile)
           : namepath2Path(buildDir.getBuildDir(), NamePath.parse(profile));
 
-      copyToDeploy(targetDir, profilePath, plan, testPlan, sqrlConfig, plans);
+      copyToDeploy(targetDir, profilePath, sqrlConfig, plans);
     }
 
     copyDataFiles(buildDir.getBuildDir());
@@ -416,8 +433,8 @@ public class Packager {
   }
 
   @SneakyThrows
-  private void copyToDeploy(Path targetDir, Path profile, PhysicalPlan plan, TestPlan testPlan,
-      PackageJson sqrlConfig, Map<String, Object> plans) {
+  private void copyToDeploy(Path targetDir, Path profile, PackageJson sqrlConfig,
+      Map<String, Object> plans) {
     if (!Files.exists(targetDir)) {
       Files.createDirectories(targetDir);
     }
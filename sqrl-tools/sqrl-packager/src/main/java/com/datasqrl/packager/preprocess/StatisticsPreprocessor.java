@@ -0,0 +1,29 @@
+package com.datasqrl.packager.preprocess;
+
+import com.datasqrl.error.ErrorCollector;
+import com.datasqrl.plan.table.StatisticsFileProvider;
+import com.datasqrl.util.FileUtil;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * Copies the table statistics file in the root directory to the build directory where the planner
+ * reads it.
+ */
+public class StatisticsPreprocessor implements Preprocessor {
+
+  protected static final Pattern STATISTICS_FILE_REGEX = Pattern.compile(
+      FileUtil.toRegex(StatisticsFileProvider.STATISTICS_FILE));
+
+  @Override
+  public Pattern getPattern() {
+    return STATISTICS_FILE_REGEX;
+  }
+
+  @Override
+  public void processFile(Path path, ProcessorContext processorContext, ErrorCollector errors) {
+    if (path.toAbsolutePath().getParent().equals(processorContext.getRootDir().toAbsolutePath())) {
+      processorContext.addDependency(path);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.datasqrl.compile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datasqrl.config.BuildPath;
+import com.datasqrl.config.PackageJsonImpl;
+import com.datasqrl.packager.Packager;
+import com.datasqrl.plan.validate.ExecutionGoal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompilationCacheTest {
+
+  private static final String SCRIPT = "IMPORT mymodule.Orders;\n"
+      + "IMPORT time.*;\n"
+      + "Totals := SELECT COUNT(*) AS cnt FROM Orders;\n";
+
+  @TempDir
+  Path buildDir;
+  CompilationCache cache;
+
+  @BeforeEach
+  @SneakyThrows
+  public void setUp() {
+    Files.writeString(buildDir.resolve("main.sqrl"), SCRIPT);
+    Files.writeString(buildDir.resolve("package.json"), "{}");
+    Files.createDirectories(buildDir.resolve("mymodule"));
+    Files.writeString(buildDir.resolve("mymodule").resolve("orders.table.json"), "{\"v\": 1}");
+    cache = createCache("1.0.0");
+  }
+
+  @Test
+  @SneakyThrows
+  public void testKeyDependsOnBuildDirectory() {
+    String key = cache.computeKey(Optional.empty()).get();
+    assertEquals(key, cache.computeKey(Optional.empty()).get());
+
+    //The cache itself is not part of the key
+    Files.createDirectories(buildDir.resolve(CompilationCache.CACHE_DIR).resolve("entry"));
+    Files.writeString(buildDir.resolve(CompilationCache.CACHE_DIR).resolve("entry")
+        .resolve("flink.json"), "{}");
+    assertEquals(key, cache.computeKey(Optional.empty()).get());
+
+    //Any file in the build directory changes the key, whether it is referenced or not
+    Files.createDirectories(buildDir.resolve("othermodule"));
+    Files.writeString(buildDir.resolve("othermodule").resolve("other.table.json"), "{}");
+    String otherKey = cache.computeKey(Optional.empty()).get();
+    assertNotEquals(key, otherKey);
+
+    Files.writeString(buildDir.resolve("mymodule").resolve("orders.table.json"), "{\"v\": 2}");
+    String moduleKey = cache.computeKey(Optional.empty()).get();
+    assertNotEquals(otherKey, moduleKey);
+
+    Files.writeString(buildDir.resolve("main.sqrl"), SCRIPT.replace("cnt", "num"));
+    String scriptKey = cache.computeKey(Optional.empty()).get();
+    assertNotEquals(moduleKey, scriptKey);
+
+    Files.writeString(buildDir.resolve("package.json"), "{\"compiler\": {}}");
+    assertNotEquals(scriptKey, cache.computeKey(Optional.empty()).get());
+  }
+
+  @Test
+  public void testKeyDependsOnCompilerVersion() {
+    assertNotEquals(cache.computeKey(Optional.empty()),
+        createCache("1.0.1").computeKey(Optional.empty()));
+  }
+
+  @Test
+  public void testUnidentifiedCompilerHasNoKey() {
+    assertTrue(createCache(null).computeKey(Optional.empty()).isEmpty());
+  }
+
+  @Test
+  @SneakyThrows
+  public void testStoreAndRestore() {
+    String key = cache.computeKey(Optional.empty()).get();
+    assertTrue(cache.restore(key).isEmpty());
+
+    Path planDir = buildDir.resolve(CompilationCache.PLAN_DIR);
+    Files.createDirectories(planDir);
+    Files.writeString(planDir.resolve("flink.json"), "{\"flinkSql\": [\"SELECT 1\"]}");
+    Files.writeString(buildDir.resolve("compiled-plan.json"), "{}");
+    cache.store(key, Optional.of("type Query { a: Int }"));
+
+    //Cleaning the build directory keeps the cache
+    Packager.cleanBuildDir(buildDir);
+    assertFalse(Files.exists(planDir));
+    assertFalse(Files.exists(buildDir.resolve("main.sqrl")));
+
+    Optional<Map<String, Object>> plans = cache.restore(key);
+    assertTrue(plans.isPresent());
+    assertEquals(Map.of("flink", Map.of("flinkSql", List.of("SELECT 1"))), plans.get());
+    assertTrue(Files.isRegularFile(buildDir.resolve("compiled-plan.json")));
+    assertEquals(Optional.of("type Query { a: Int }"), cache.getGraphqlSchema(key));
+  }
+
+  private CompilationCache createCache(String compilerVersion) {
+    return new CompilationCache(new BuildPath(buildDir), new PackageJsonImpl(),
+        ExecutionGoal.COMPILE) {
+      @Override
+      protected Optional<String> getCompilerVersion() {
+        return Optional.ofNullable(compilerVersion);
+      }
+    };
+  }
+}
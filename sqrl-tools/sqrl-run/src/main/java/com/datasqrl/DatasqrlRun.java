@@ -143,6 +143,18 @@ public class DatasqrlRun {
       }
     }
 
+    Path flinkPath = path.resolve("flink.json");
+    if (!flinkPath.toFile().exists()) {
+      throw new RuntimeException("Could not find flink plan.");
+    }
+
+    Map map = objectMapper.readValue(flinkPath.toFile(), Map.class);
+    //Options chosen by the planner, the configured values take precedence
+    Object planConfig = map.get("config");
+    if (planConfig instanceof Map) {
+      ((Map<String, String>) planConfig).forEach(config::putIfAbsent);
+    }
+
     config.putIfAbsent("table.exec.source.idle-timeout", "1 s");
     config.putIfAbsent("taskmanager.network.memory.max", "800m");
     config.putIfAbsent("execution.checkpointing.interval", "30 s");
@@ -207,12 +219,6 @@ public class DatasqrlRun {
     StreamTableEnvironment tEnv = StreamTableEnvironment.create(sEnv, tEnvConfig);
     TableResult tableResult = null;
 
-    Path flinkPath = path.resolve("flink.json");
-    if (!flinkPath.toFile().exists()) {
-      throw new RuntimeException("Could not find flink plan.");
-    }
-
-    Map map = objectMapper.readValue(path.resolve("flink.json").toFile(), Map.class);
     List<String> statements = (List<String>) map.get("flinkSql");
 
     for (int i = 0; i < statements.size()-1; i++) {